@@ -166,6 +166,8 @@ abstract class AbstractOperationContext implements OperationContext {
     private final Supplier<SecurityIdentity> securityIdentitySupplier;
     /** Whether operation execution has begun; i.e. whether completeStep() has been called */
     private boolean executing;
+    /** The committed persistence of the configuration changes, awaited once the controller lock is released */
+    private ConfigurationPersister.PersistenceResource committedPersistence;
     /** First response node provided to addStep  */
     ModelNode initialResponse;
     /** Operation provided to addStep along with initialResponse */
@@ -466,6 +468,11 @@ abstract class AbstractOperationContext implements OperationContext {
 
             processStages();
 
+            if (committedPersistence != null) {
+                // The steps released their locks, so other operations can run while the changes are written
+                committedPersistence.awaitCommitted();
+            }
+
             if (resultAction == ResultAction.KEEP) {
                 report(MessageSeverity.INFO, ControllerLogger.ROOT_LOGGER.operationSucceeded());
             } else {
@@ -853,6 +860,7 @@ abstract class AbstractOperationContext implements OperationContext {
                     persistenceResource.rollback();
                 } else {
                     persistenceResource.commit();
+                    committedPersistence = persistenceResource;
                 }
             }
         } catch (Throwable t) {
@@ -65,24 +65,27 @@ import org.jboss.msc.service.ServiceName;
  */
 public final class CapabilityRegistry implements ImmutableCapabilityRegistry, PossibleCapabilityRegistry, RuntimeCapabilityRegistry {
 
-    private final Map<CapabilityId, RuntimeCapabilityRegistration> capabilities = new HashMap<>();
+    private final Map<CapabilityId, RuntimeCapabilityRegistration> capabilities = new ConcurrentHashMap<>();
     private final Map<CapabilityId, RuntimeCapabilityRegistration> pendingRemoveCapabilities = new HashMap<>();
-    private final Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> requirements = new HashMap<>();
+    private final Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> requirements = new ConcurrentHashMap<>();
     private final Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> pendingRemoveRequirements = new HashMap<>();
-    private final Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> runtimeOnlyRequirements = new HashMap<>();
+    private final Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> runtimeOnlyRequirements = new ConcurrentHashMap<>();
     private final boolean forServer;
     private final Set<CapabilityScope> knownContexts;
     private final ResolutionContextImpl resolutionContext = new ResolutionContextImpl();
     private final Map<CapabilityId, CapabilityRegistration<?>> possibleCapabilities = new ConcurrentHashMap<>();
-    private final Set<CapabilityId> reloadCapabilities = new HashSet<>();
-    private final Set<CapabilityId> restartCapabilities = new HashSet<>();
+    private final Set<CapabilityId> reloadCapabilities = ConcurrentHashMap.newKeySet();
+    private final Set<CapabilityId> restartCapabilities = ConcurrentHashMap.newKeySet();
 
+    // Capabilities and requirements are registered concurrently, e.g. by the subsystems booting in parallel, so the
+    // registrations and lookups only take the shared lock and update the concurrent maps atomically per capability.
+    // Removals, resolution, copies, publication and rollback work on the registry as a whole, and take the exclusive lock.
     private final ReentrantReadWriteLock reentrantReadWriteLock = new ReentrantReadWriteLock();
-    private final ReentrantReadWriteLock.ReadLock readLock = reentrantReadWriteLock.readLock();
-    private final ReentrantReadWriteLock.WriteLock writeLock = reentrantReadWriteLock.writeLock();
+    private final ReentrantReadWriteLock.ReadLock sharedLock = reentrantReadWriteLock.readLock();
+    private final ReentrantReadWriteLock.WriteLock exclusiveLock = reentrantReadWriteLock.writeLock();
     //holds reference to parent published registry
     private final CapabilityRegistry publishedFullRegistry;
-    private boolean modified = false;
+    private volatile boolean modified = false;
 
     public CapabilityRegistry(boolean forServer) {
         this(forServer, null);
@@ -90,7 +93,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
 
     private CapabilityRegistry(boolean forServer, CapabilityRegistry parent) {//for published view
         this.forServer = forServer;
-        this.knownContexts = forServer ? null : new HashSet<>();
+        this.knownContexts = forServer ? null : ConcurrentHashMap.newKeySet();
         this.publishedFullRegistry = parent;
     }
 
@@ -102,16 +105,16 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
      */
     CapabilityRegistry createShadowCopy() {
         CapabilityRegistry result = new CapabilityRegistry(forServer, this);
-        readLock.lock();
+        exclusiveLock.lock();
         try {
             try {
-                result.writeLock.lock();
+                result.exclusiveLock.lock();
                 copy(this, result);
             } finally {
-                result.writeLock.unlock();
+                result.exclusiveLock.unlock();
             }
         } finally {
-            readLock.unlock();
+            exclusiveLock.unlock();
         }
         return result;
     }
@@ -126,7 +129,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     private static void copyRequirements(Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> source,
                                          Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> dest) {
         for (Map.Entry<CapabilityId, Map<String, RuntimeRequirementRegistration>> entry : source.entrySet()) {
-            Map<String, RuntimeRequirementRegistration> mapCopy = new HashMap<>();
+            Map<String, RuntimeRequirementRegistration> mapCopy = new ConcurrentHashMap<>();
             for (Map.Entry<String, RuntimeRequirementRegistration> innerEntry : entry.getValue().entrySet()) {
                 mapCopy.put(innerEntry.getKey(), new RuntimeRequirementRegistration(innerEntry.getValue()));
             }
@@ -145,12 +148,15 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
      */
     @Override
     public void registerCapability(RuntimeCapabilityRegistration capabilityRegistration) {
-        writeLock.lock();
+        sharedLock.lock();
         try {
             CapabilityId capabilityId = capabilityRegistration.getCapabilityId();
             RegistrationPoint rp = capabilityRegistration.getOldestRegistrationPoint();
-            RuntimeCapabilityRegistration currentRegistration = capabilities.get(capabilityId);
-            if (currentRegistration != null) {
+            // Atomic per capability, so concurrent registrations of the same capability are checked against each other
+            capabilities.compute(capabilityId, (id, currentRegistration) -> {
+                if (currentRegistration == null) {
+                    return capabilityRegistration;
+                }
                 // The actual capability must be the same, the capability must allow multiple registrations
                 // and we must not already have a registration from this same resource
                 if (!Objects.equals(capabilityRegistration.getCapability(), currentRegistration.getCapability())
@@ -160,9 +166,8 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
                                 rp, capabilityId.getScope().getName(), currentRegistration.getRegistrationPoints());
                 }
                 // else it was ok, and we just recorded the additional registration point
-            } else {
-                capabilities.put(capabilityId, capabilityRegistration);
-            }
+                return currentRegistration;
+            });
 
             // Add any hard requirements
             for (String req : capabilityRegistration.getCapability().getRequirements()) {
@@ -176,7 +181,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
             }
             modified = true;
         } finally {
-            writeLock.unlock();
+            sharedLock.unlock();
         }
     }
 
@@ -193,20 +198,20 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
      */
     @Override
     public void registerAdditionalCapabilityRequirement(RuntimeRequirementRegistration requirement) {
-        writeLock.lock();
+        sharedLock.lock();
         try {
             registerRequirement(requirement);
         } finally {
-            writeLock.unlock();
+            sharedLock.unlock();
         }
     }
 
     /**
-     * This must be called with the write lock held.
+     * This must be called with the shared lock held.
      * @param requirement the requirement
      */
     private void registerRequirement(RuntimeRequirementRegistration requirement) {
-        assert writeLock.isHeldByCurrentThread();
+        assert reentrantReadWriteLock.getReadHoldCount() > 0;
         CapabilityId dependentId = requirement.getDependentId();
         if (!capabilities.containsKey(dependentId)) {
             throw ControllerLogger.MGMT_OP_LOGGER.unknownCapabilityInContext(dependentId.getName(),
@@ -215,17 +220,11 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> requirementMap =
                 requirement.isRuntimeOnly() ? runtimeOnlyRequirements : requirements;
 
-        Map<String, RuntimeRequirementRegistration> dependents = requirementMap.get(dependentId);
-        if (dependents == null) {
-            dependents = new HashMap<>();
-            requirementMap.put(dependentId, dependents);
-        }
-        RuntimeRequirementRegistration existing = dependents.get(requirement.getRequiredName());
-        if (existing == null) {
-            dependents.put(requirement.getRequiredName(), requirement);
-        } else {
-            existing.addRegistrationPoint(requirement.getOldestRegistrationPoint());
-        }
+        Map<String, RuntimeRequirementRegistration> dependents = requirementMap.computeIfAbsent(dependentId, id -> new ConcurrentHashMap<>());
+        dependents.merge(requirement.getRequiredName(), requirement, (existing, added) -> {
+            existing.addRegistrationPoint(added.getOldestRegistrationPoint());
+            return existing;
+        });
         modified = true;
     }
 
@@ -239,12 +238,12 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     public void removeCapabilityRequirement(RuntimeRequirementRegistration requirementRegistration) {
         // We don't know if this got registered as an runtime-only requirement or a hard one
         // so clean it from both maps
-        writeLock.lock();
+        exclusiveLock.lock();
         try {
             removeRequirement(requirementRegistration, false);
             removeRequirement(requirementRegistration, true);
         } finally {
-            writeLock.unlock();
+            exclusiveLock.unlock();
         }
     }
 
@@ -260,7 +259,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     @Override
     public RuntimeCapabilityRegistration removeCapability(String capabilityName, CapabilityScope scope,
                                                           PathAddress registrationPoint) {
-        writeLock.lock();
+        exclusiveLock.lock();
         try {
             CapabilityId capabilityId = new CapabilityId(capabilityName, scope);
             RuntimeCapabilityRegistration removed = null;
@@ -317,12 +316,12 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
             }
             return removed;
         } finally {
-            writeLock.unlock();
+            exclusiveLock.unlock();
         }
     }
 
     private RuntimeRequirementRegistration removeRequirement(RuntimeRequirementRegistration requirementRegistration, boolean optional) {
-        assert writeLock.isHeldByCurrentThread();
+        assert exclusiveLock.isHeldByCurrentThread();
         Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> requirementMap = optional ? runtimeOnlyRequirements : requirements;
         Map<String, RuntimeRequirementRegistration> dependents = requirementMap.get(requirementRegistration.getDependentId());
         RuntimeRequirementRegistration result = null;
@@ -344,7 +343,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
 
     @Override
     public Map<CapabilityId, RuntimeStatus> getRuntimeStatus(PathAddress address, ImmutableManagementResourceRegistration resourceRegistration) {
-        readLock.lock();
+        sharedLock.lock();
         try {
             Map<CapabilityId, RuntimeStatus> result;
             Set<CapabilityId> ids = getCapabilitiesForAddress(address, resourceRegistration);
@@ -365,7 +364,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
             }
             return result;
         } finally {
-            readLock.unlock();
+            sharedLock.unlock();
         }
     }
 
@@ -439,21 +438,21 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
 
     @Override
     public void capabilityReloadRequired(PathAddress address, ImmutableManagementResourceRegistration resourceRegistration) {
-        writeLock.lock();
+        sharedLock.lock();
         try {
             reloadCapabilities.addAll(getCapabilitiesForAddress(address, resourceRegistration));
         } finally {
-            writeLock.unlock();
+            sharedLock.unlock();
         }
     }
 
     @Override
     public void capabilityRestartRequired(PathAddress address, ImmutableManagementResourceRegistration resourceRegistration) {
-        writeLock.lock();
+        sharedLock.lock();
         try {
             restartCapabilities.addAll(getCapabilitiesForAddress(address, resourceRegistration));
         } finally {
-            writeLock.unlock();
+            sharedLock.unlock();
         }
     }
 
@@ -564,9 +563,12 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         final CapabilityId capabilityId = new CapabilityId(capability.getName(), CapabilityScope.GLOBAL);
         RegistrationPoint point = new RegistrationPoint(registrationPoint, null);
         CapabilityRegistration<?> capabilityRegistration = new CapabilityRegistration<>(capability, CapabilityScope.GLOBAL, point);
-        writeLock.lock();
+        sharedLock.lock();
         try {
-            possibleCapabilities.computeIfPresent(capabilityId, (capabilityId1, currentRegistration) -> {
+            possibleCapabilities.compute(capabilityId, (capabilityId1, currentRegistration) -> {
+                if (currentRegistration == null) {
+                    return capabilityRegistration;
+                }
                 RegistrationPoint rp = capabilityRegistration.getOldestRegistrationPoint();
                 // The actual capability must be the same, and we must not already have a registration
                 // from this resource
@@ -577,10 +579,9 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
                 }
                 return currentRegistration;
             });
-            possibleCapabilities.putIfAbsent(capabilityId, capabilityRegistration);
             modified = true;
         } finally {
-            writeLock.unlock();
+            sharedLock.unlock();
         }
     }
 
@@ -597,7 +598,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     public CapabilityRegistration<?> removePossibleCapability(Capability capability, PathAddress registrationPoint) {
         CapabilityId capabilityId = new CapabilityId(capability.getName(), CapabilityScope.GLOBAL);
         CapabilityRegistration<?> removed = null;
-        writeLock.lock();
+        exclusiveLock.lock();
         try {
             CapabilityRegistration<?> candidate = possibleCapabilities.get(capabilityId);
             if (candidate != null) {
@@ -616,7 +617,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
             }
             return removed;
         } finally {
-            writeLock.unlock();
+            exclusiveLock.unlock();
         }
     }
 
@@ -625,11 +626,11 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
 
     @Override
     public boolean hasCapability(String capabilityName, CapabilityScope scope) {
-        readLock.lock();
+        sharedLock.lock();
         try {
             return findSatisfactoryCapability(capabilityName, scope, !forServer) != null;
         } finally {
-            readLock.unlock();
+            sharedLock.unlock();
         }
     }
 
@@ -637,7 +638,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     public <T> T getCapabilityRuntimeAPI(String capabilityName, CapabilityScope scope, Class<T> apiType) {
         // Here we can't know the dependent name. So this can only be called when resolution is complete.
         assert resolutionContext.resolutionComplete;
-        readLock.lock();
+        sharedLock.lock();
         try {
             RuntimeCapabilityRegistration reg = getCapabilityRegistration(capabilityName, scope);
             Object api = reg.getCapability().getRuntimeAPI();
@@ -646,27 +647,27 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
             }
             return apiType.cast(api);
         } finally {
-            readLock.unlock();
+            sharedLock.unlock();
         }
     }
 
     @Override
     public Set<CapabilityRegistration<?>> getCapabilities() {
-        readLock.lock();
+        sharedLock.lock();
         try {
             return Collections.unmodifiableSet(new TreeSet<>(capabilities.values()));
         } finally {
-            readLock.unlock();
+            sharedLock.unlock();
         }
     }
 
     @Override
     public Set<CapabilityRegistration<?>> getPossibleCapabilities() {
-        readLock.lock();
+        sharedLock.lock();
         try {
             return Collections.unmodifiableSet(new TreeSet<>(possibleCapabilities.values()));
         } finally {
-            readLock.unlock();
+            sharedLock.unlock();
         }
     }
 
@@ -674,20 +675,20 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     public ServiceName getCapabilityServiceName(String capabilityName, CapabilityScope scope, Class<?> serviceType) {
         // Here we can't know the dependent name. So this can only be called when resolution is complete.
         assert resolutionContext.resolutionComplete;
-        readLock.lock();
+        sharedLock.lock();
         try {
             RuntimeCapabilityRegistration reg = getCapabilityRegistration(capabilityName, scope);
             RuntimeCapability<?> cap = reg.getCapability();
             return cap.getCapabilityServiceName(serviceType);
         } finally {
-            readLock.unlock();
+            sharedLock.unlock();
         }
     }
 
     @Override
     public Set<PathAddress> getPossibleProviderPoints(CapabilityId capabilityId) {
         Set<PathAddress> result = new LinkedHashSet<>();
-        readLock.lock();
+        sharedLock.lock();
         try {
             final CapabilityId capId = capabilityId.getScope() == CapabilityScope.GLOBAL ? capabilityId : new CapabilityId(capabilityId.getName(), CapabilityScope.GLOBAL); //possible registry is only in global scope
             CapabilityRegistration<?> reg =  possibleCapabilities.get(capId);
@@ -715,19 +716,19 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
             }
 
         } finally {
-            readLock.unlock();
+            sharedLock.unlock();
         }
         return result;
     }
 
     @Override
     public CapabilityRegistration<?> getCapability(CapabilityId capabilityId){
-        readLock.lock();
+        sharedLock.lock();
         try {
             CapabilityRegistration<?> reg = capabilities.get(capabilityId);
             return reg != null ? new CapabilityRegistration<>(reg) : null;
         } finally {
-            readLock.unlock();
+            sharedLock.unlock();
         }
 
     }
@@ -740,12 +741,12 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     void publish() {
         assert publishedFullRegistry != null : "Cannot write directly to main registry";
 
-        writeLock.lock();
+        exclusiveLock.lock();
         try {
             if (!modified) {
                 return;
             }
-            publishedFullRegistry.writeLock.lock();
+            publishedFullRegistry.exclusiveLock.lock();
             try {
                 publishedFullRegistry.clear(true);
                 copy(this, publishedFullRegistry);
@@ -753,10 +754,10 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
                 pendingRemoveRequirements.clear();
                 modified = false;
             } finally {
-                publishedFullRegistry.writeLock.unlock();
+                publishedFullRegistry.exclusiveLock.unlock();
             }
         } finally {
-            writeLock.unlock();
+            exclusiveLock.unlock();
         }
     }
 
@@ -767,32 +768,27 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         if (publishedFullRegistry == null) {
             return;
         }
-        writeLock.lock();
+        exclusiveLock.lock();
         try {
-            publishedFullRegistry.readLock.lock();
+            publishedFullRegistry.exclusiveLock.lock();
             try {
                 clear(true);
                 copy(publishedFullRegistry, this);
                 modified = false;
             } finally {
-                publishedFullRegistry.readLock.unlock();
+                publishedFullRegistry.exclusiveLock.unlock();
             }
         } finally {
-            writeLock.unlock();
+            exclusiveLock.unlock();
         }
     }
 
     boolean isModified() {
-        readLock.lock();
-        try {
-            return modified;
-        } finally {
-            readLock.unlock();
-        }
+        return modified;
     }
 
     private void copy(CapabilityRegistry source, CapabilityRegistry target) {
-        assert target.writeLock.isHeldByCurrentThread();
+        assert target.exclusiveLock.isHeldByCurrentThread();
         copyCapabilities(source.capabilities, target.capabilities);
         for (Map.Entry<CapabilityId, CapabilityRegistration<?>> entry : source.possibleCapabilities.entrySet()) {
             target.possibleCapabilities.put(entry.getKey(), new CapabilityRegistration<>(entry.getValue()));
@@ -815,7 +811,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     }
 
     private void clear(boolean restartRequired) {
-        writeLock.lock();
+        exclusiveLock.lock();
         try {
             capabilities.clear();
             pendingRemoveCapabilities.clear();
@@ -829,13 +825,14 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
             }
             modified = true;
         } finally {
-            writeLock.unlock();
+            exclusiveLock.unlock();
         }
     }
 
 
     CapabilityValidation resolveCapabilities(Resource rootResource, boolean hostXmlOnly) {
-        readLock.lock();
+        // Exclusive, as the resolution context is reset and the requirements must not change while being resolved
+        exclusiveLock.lock();
         try {
             resolutionContext.setRootResource(rootResource);
             assert resolutionContext.rootResource != null;
@@ -904,7 +901,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
 
             return CapabilityValidation.OK;
         } finally {
-            readLock.unlock();
+            exclusiveLock.unlock();
         }
     }
 
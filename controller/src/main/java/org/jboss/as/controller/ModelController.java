@@ -109,6 +109,17 @@ public interface ModelController {
     @Deprecated
     NotificationHandlerRegistration getNotificationRegistry();
 
+    /**
+     * Gets the generation of the management model. The generation advances whenever a modification of the
+     * resource tree is committed, so two reads of the same generation see the same persistent configuration.
+     * Runtime state is not covered, and neither are resources proxied to other processes.
+     *
+     * @return the generation of the model, or {@code -1} if this controller doesn't track it
+     */
+    default long getModelGeneration() {
+        return -1;
+    }
+
     /**
      * A callback interface for the operation's completion status.  Implemented in order to control whether a complete
      * operation is committed or rolled back after it is prepared.
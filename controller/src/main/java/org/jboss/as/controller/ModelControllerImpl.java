@@ -64,6 +64,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
@@ -83,6 +84,7 @@ import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.notification.NotificationSupport;
 import org.jboss.as.controller.persistence.ConfigurationPersistenceException;
 import org.jboss.as.controller.persistence.ConfigurationPersister;
+import org.jboss.as.controller.registry.CopyOnWriteResources;
 import org.jboss.as.controller.registry.DelegatingResource;
 import org.jboss.as.controller.registry.ImmutableManagementResourceRegistration;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
@@ -120,6 +122,7 @@ class ModelControllerImpl implements ModelController {
     private final ModelControllerLock controllerLock = new ModelControllerLock();
     private final ContainerStateMonitor stateMonitor;
     private final AtomicReference<ManagementModelImpl> managementModel = new AtomicReference<>();
+    private final AtomicLong modelGeneration = new AtomicLong();
     private final ConfigurationPersister persister;
     private final ProcessType processType;
     private final RunningModeControl runningModeControl;
@@ -719,6 +722,9 @@ class ModelControllerImpl implements ModelController {
                                                           final boolean resourceRegistrationModified) throws ConfigurationPersistenceException {
         final ConfigurationPersister.PersistenceResource delegate;
         if (resourceTreeModified) {
+            // The modified tree is complete. Freeze it so reading it for persistence doesn't copy it and
+            // so the next write only copies what it modifies
+            CopyOnWriteResources.freeze(model.rootResource);
             // Don't do an expensive Resource.Tools.readModel if the persister isn't going to use the result
             if (persister.isPersisting()) {
                 ControllerLogger.MGMT_OP_LOGGER.tracef("persisting %s from %s", model.rootResource, model);
@@ -756,6 +762,13 @@ class ModelControllerImpl implements ModelController {
                 }
             }
 
+            @Override
+            public void awaitCommitted() {
+                if (delegate != null) {
+                    delegate.awaitCommitted();
+                }
+            }
+
             @Override
             public void rollback() {
                 // Don't discard the model here; let that happen via finally block calls to MCI.discardModel
@@ -890,6 +903,11 @@ class ModelControllerImpl implements ModelController {
         return notificationSupport.getNotificationRegistry();
     }
 
+    @Override
+    public long getModelGeneration() {
+        return modelGeneration.get();
+    }
+
     NotificationSupport getNotificationSupport() {
         return notificationSupport;
     }
@@ -1273,6 +1291,7 @@ class ModelControllerImpl implements ModelController {
         }
         private void publish() {
             ModelControllerImpl.this.managementModel.set(this);
+            ModelControllerImpl.this.modelGeneration.incrementAndGet();
             published = true;
             ControllerLogger.MGMT_OP_LOGGER.tracef("published %s", this);
         }
@@ -0,0 +1,133 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.controller.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free queue with many producers and a single consumer.
+ * <p>
+ * Each slot has a sequence number telling whether it is free for the producer claiming position {@code p}
+ * ({@code sequence == p}) or holds the element at position {@code p} for the consumer ({@code sequence == p + 1}).
+ * Producers claim positions with a CAS on the tail, so a full buffer is detected without blocking.
+ *
+ * @param <E> the element type
+ */
+final class AuditLogRingBuffer<E> {
+
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    /** Only written by the consumer thread */
+    private volatile long head;
+
+    /**
+     * Creates a new buffer.
+     *
+     * @param capacity the minimum capacity, rounded up to a power of two
+     */
+    AuditLogRingBuffer(final int capacity) {
+        final int size = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.elements = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+    }
+
+    int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Adds an element, if the buffer isn't full. Can be called from any thread.
+     *
+     * @param element the element
+     * @return {@code true} if the element was added, {@code false} if the buffer is full
+     */
+    boolean offer(final E element) {
+        long position = tail.get();
+        for (;;) {
+            final int index = (int) (position & mask);
+            final long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    // Publishes the element to the consumer
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // The slot still holds the element of the previous lap
+                return false;
+            } else {
+                // Another producer claimed the position
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Moves the available elements to a list. Must only be called from the consumer thread.
+     *
+     * @param target the list receiving the elements
+     * @param maxElements the maximum number of elements to move
+     * @return the number of elements moved
+     */
+    @SuppressWarnings("unchecked")
+    int drainTo(final List<? super E> target, final int maxElements) {
+        long position = head;
+        int count = 0;
+        while (count < maxElements) {
+            final int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                // Not published yet
+                break;
+            }
+            target.add((E) elements[index]);
+            elements[index] = null;
+            // Frees the slot for the producers of the next lap
+            sequences.set(index, position + elements.length);
+            position++;
+            count++;
+        }
+        head = position;
+        return count;
+    }
+
+    /**
+     * Gets the number of elements claimed by producers and not yet consumed.
+     */
+    int size() {
+        final long size = tail.get() - head;
+        return size < 0 ? 0 : (int) Math.min(size, elements.length);
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -200,6 +200,36 @@ public interface ManagedAuditLogger extends AuditLogger {
         return Collections.emptyList();
     }
 
+    /**
+     * Sets whether the log items are written by a background thread, instead of the thread performing the
+     * logged operation. Items are queued in a bounded buffer, and written in batches. Items logged while the audit logger
+     * is not {@link Status#LOGGING logging} are always handled synchronously.
+     *
+     * @param async whether to write the log items asynchronously
+     * @param queueSize the maximum number of log items waiting to be written
+     * @param overflowPolicy what to do with log items when the queue is full
+     */
+    default void setAsync(boolean async, int queueSize, AsyncOverflowPolicy overflowPolicy) {
+    }
+
+    /**
+     * Gets the number of log items waiting to be written asynchronously
+     *
+     * @return the number of queued log items
+     */
+    default int getAsyncQueueDepth() {
+        return 0;
+    }
+
+    /**
+     * Gets the number of log items discarded because the asynchronous queue was full
+     *
+     * @return the number of discarded log items
+     */
+    default long getAsyncDiscardedCount() {
+        return 0;
+    }
+
     /**
      * Callback for the controller to call before the controller is booted
      */
@@ -210,6 +240,16 @@ public interface ManagedAuditLogger extends AuditLogger {
      */
     void bootDone();
 
+    /**
+     * What to do with the log items logged while the asynchronous queue is full
+     */
+    enum AsyncOverflowPolicy {
+        /** Wait until the writer thread makes room in the queue */
+        BLOCK,
+        /** Discard the log item, and count it in {@link #getAsyncDiscardedCount()} */
+        DISCARD
+    }
+
     /**
      * <p>The audit log handler updater. Additive changes will be used for the audit log record as a result of
      * management operations causing updates here. Removals and updates will not take effect until the current audit log
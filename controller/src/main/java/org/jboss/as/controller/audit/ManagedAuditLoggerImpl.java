@@ -24,8 +24,11 @@
 
 package org.jboss.as.controller.audit;
 
+import static java.security.AccessController.doPrivileged;
+
 import java.io.IOException;
 import java.net.InetAddress;
+import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -33,9 +36,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 import org.jboss.as.controller.OperationContext.ResultAction;
 import org.jboss.as.controller.PathAddress;
@@ -44,6 +52,7 @@ import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.core.security.AccessMechanism;
 import org.jboss.dmr.ModelNode;
+import org.jboss.threads.JBossThreadFactory;
 
 /**
  * Audit logger wrapper
@@ -55,6 +64,15 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
     /** Maximum number of consecutive logging failures before we stop logging */
     private static final short MAX_FAILURE_COUNT = 10;
 
+    /** The maximum number of log items the asynchronous writer writes while holding the lock */
+    private static final int MAX_ASYNC_BATCH_SIZE = 256;
+
+    /** How long a thread logging asynchronously waits before checking again whether the full queue has room */
+    private static final long FULL_QUEUE_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /** How long, in seconds, stopping the asynchronous writer waits for it to write the queued log items */
+    private static final long ASYNC_CLOSE_TIMEOUT = 10;
+
     private final List<ManagedAuditLoggerImpl> childImpls;
 
     /** If we are the core audit logger, list the children */
@@ -75,6 +93,18 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
       * Must be reset to false when handler updates need to be performed */
     private final AtomicBoolean runDisabledFastPath = new AtomicBoolean(false);
 
+    /** Whether {@link #handlerUpdateTask} is set. Only change with lock held */
+    private volatile boolean handlerUpdatesPending;
+
+    /** The writer of the log items when logging asynchronously, {@code null} when logging synchronously */
+    private volatile AsyncLogWriter asyncWriter;
+
+    /** Guards the replacement of {@link #asyncWriter} */
+    private final Object asyncWriterLock = new Object();
+
+    /** The number of log items discarded because the asynchronous queue was full */
+    private final LongAdder asyncDiscardedCount = new LongAdder();
+
     public ManagedAuditLoggerImpl(String asVersion, boolean server) {
         config = new CoreAuditLogConfiguration(asVersion, server);
         childImpls = new ArrayList<ManagedAuditLoggerImpl>();
@@ -92,6 +122,13 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
         if (runDisabledFastPath.get())
             return;
 
+        final AsyncLogWriter asyncWriter = this.asyncWriter;
+        if (asyncWriter != null && logAsync(asyncWriter, readOnly,
+                () -> AuditLogItem.createModelControllerItem(config.getAsVersion(), readOnly, config.isBooting(), resultAction, userId, domainUUID,
+                        accessMechanism, remoteAddress, resultantModel, operations))) {
+            return;
+        }
+
         config.lock();
         try {
             if (skipLogging(readOnly)) {
@@ -114,6 +151,13 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
         if (runDisabledFastPath.get())
             return;
 
+        final AsyncLogWriter asyncWriter = this.asyncWriter;
+        if (asyncWriter != null && logAsync(asyncWriter, readOnly,
+                () -> AuditLogItem.createMethodAccessItem(config.getAsVersion(), readOnly, config.isBooting(), userId, domainUUID, accessMechanism,
+                        remoteAddress, methodName, methodSignature, methodParams, error))) {
+            return;
+        }
+
         config.lock();
         try {
             if (skipLogging(readOnly)) {
@@ -130,6 +174,63 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
         }
     }
 
+    /**
+     * Queues a log item for the asynchronous writer. The handler updates scheduled since the last log item are queued
+     * with it, so that they are applied once it has been written.
+     *
+     * @return {@code false} if the item must be logged synchronously
+     */
+    private boolean logAsync(AsyncLogWriter asyncWriter, boolean readOnly, Supplier<AuditLogItem> itemFactory) {
+        // Queueing and disabling need the lock, and are rare
+        if (config.getLoggerStatus() != Status.LOGGING) {
+            return false;
+        }
+        HandlerUpdateTask updates = null;
+        if (handlerUpdatesPending) {
+            config.lock();
+            try {
+                if (config.getLoggerStatus() != Status.LOGGING) {
+                    return false;
+                }
+                updates = handlerUpdateTask;
+                handlerUpdateTask = null;
+                handlerUpdatesPending = false;
+            } finally {
+                config.unlock();
+            }
+        }
+        final boolean skip = config.isBooting() && !config.isLogBoot() || readOnly && !config.isLogReadOnly();
+        if (skip && updates == null) {
+            return true;
+        }
+        final QueuedLogItem queued = new QueuedLogItem(skip ? null : itemFactory.get(), updates);
+        if (!asyncWriter.offer(queued)) {
+            // The writer was closed meanwhile
+            config.lock();
+            try {
+                writeQueuedLogItem(queued);
+            } finally {
+                config.unlock();
+            }
+        }
+        return true;
+    }
+
+    /** protected by config's audit lock */
+    private void writeQueuedLogItem(QueuedLogItem queued) {
+        try {
+            if (queued.item != null) {
+                writeLogItem(queued.item);
+            }
+        } catch (Exception e) {
+            handleLoggingException(e);
+        } finally {
+            if (queued.updates != null) {
+                queued.updates.applyChanges();
+            }
+        }
+    }
+
     private boolean skipLogging(boolean readOnly) {
         if (config.isBooting() && !isLogBoot() || readOnly && !isLogReadOnly()) {
             if (getLoggerStatus() == Status.DISABLED) {
@@ -238,6 +339,35 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
     }
 
 
+    @Override
+    public void setAsync(boolean async, int queueSize, AsyncOverflowPolicy overflowPolicy) {
+        synchronized (asyncWriterLock) {
+            final AsyncLogWriter current = asyncWriter;
+            if (async && current != null && current.matches(queueSize, overflowPolicy) || !async && current == null) {
+                return;
+            }
+            // Items logged while the current writer finishes are written synchronously
+            asyncWriter = null;
+            if (current != null) {
+                current.close();
+            }
+            if (async) {
+                asyncWriter = new AsyncLogWriter(queueSize, overflowPolicy);
+            }
+        }
+    }
+
+    @Override
+    public int getAsyncQueueDepth() {
+        final AsyncLogWriter asyncWriter = this.asyncWriter;
+        return asyncWriter == null ? 0 : asyncWriter.buffer.size();
+    }
+
+    @Override
+    public long getAsyncDiscardedCount() {
+        return asyncDiscardedCount.sum();
+    }
+
     /** protected by config's audit lock */
     private void storeLogItem(AuditLogItem item) throws IOException {
         switch (getLoggerStatus()) {
@@ -290,10 +420,7 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
     public void addHandler(AuditLogHandler handler) {
         config.lock();
         try {
-            if (handlerUpdateTask == null){
-                handlerUpdateTask = new HandlerUpdateTask();
-            }
-            handlerUpdateTask.addHandler(handler);
+            getHandlerUpdateTask().addHandler(handler);
             runDisabledFastPath.set(false);
         } finally {
             config.unlock();
@@ -306,10 +433,7 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
         try {
             AuditLogHandler existing = config.getConfiguredHandler(handler.getName());
             if (handler.isDifferent(existing)){
-                if (handlerUpdateTask == null){
-                    handlerUpdateTask = new HandlerUpdateTask();
-                }
-                handlerUpdateTask.replaceHandler(handler);
+                getHandlerUpdateTask().replaceHandler(handler);
                 runDisabledFastPath.set(false);
             }
         } finally {
@@ -321,10 +445,7 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
     public void removeHandler(String name) {
         config.lock();
         try {
-            if (handlerUpdateTask == null){
-                handlerUpdateTask = new HandlerUpdateTask();
-            }
-            handlerUpdateTask.removeHandler(name);
+            getHandlerUpdateTask().removeHandler(name);
             runDisabledFastPath.set(false);
         } finally {
             config.unlock();
@@ -335,10 +456,7 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
     public void addHandlerReference(PathAddress referenceAddress) {
         config.lock();
         try {
-            if (handlerUpdateTask == null){
-                handlerUpdateTask = new HandlerUpdateTask();
-            }
-            handlerUpdateTask.addHandlerReference(referenceAddress);
+            getHandlerUpdateTask().addHandlerReference(referenceAddress);
             runDisabledFastPath.set(false);
         } finally {
             config.unlock();
@@ -349,10 +467,7 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
     public void removeHandlerReference(PathAddress referenceAddress) {
         config.lock();
         try {
-            if (handlerUpdateTask == null){
-                handlerUpdateTask = new HandlerUpdateTask();
-            }
-            handlerUpdateTask.removeHandlerReference(referenceAddress);
+            getHandlerUpdateTask().removeHandlerReference(referenceAddress);
             runDisabledFastPath.set(false);
         } finally {
             config.unlock();
@@ -366,6 +481,7 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
             if (handlerUpdateTask != null){
                 handlerUpdateTask.rollbackChanges();
                 handlerUpdateTask = null;
+                handlerUpdatesPending = false;
             }
         } finally {
             config.unlock();
@@ -386,11 +502,21 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
         }
     }
 
+    /** Call with lock taken */
+    private HandlerUpdateTask getHandlerUpdateTask() {
+        if (handlerUpdateTask == null) {
+            handlerUpdateTask = new HandlerUpdateTask();
+            handlerUpdatesPending = true;
+        }
+        return handlerUpdateTask;
+    }
+
     /** Call with lock taken */
     private void applyHandlerUpdates() {
         if (handlerUpdateTask != null) {
             handlerUpdateTask.applyChanges();
             handlerUpdateTask = null;
+            handlerUpdatesPending = false;
         }
     }
 
@@ -748,8 +874,8 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
         /** Guarded by auditLock - the handlers configured in the global file-handlers and syslog-handlers section */
         private final Map<String, AuditLogHandler> configuredHandlers = new HashMap<String, AuditLogHandler>();
 
-        /** Guarded by auditLock - whether we are boothing or not */
-        private boolean booting = true;
+        /** Written with auditLock taken - whether we are boothing or not. Read without the lock when logging asynchronously */
+        private volatile boolean booting = true;
 
 
         SharedConfiguration(String asVersion, boolean server) {
@@ -817,6 +943,171 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
     }
 
 
+    /**
+     * A log item waiting to be written asynchronously, with the handler updates to apply once it has been written.
+     */
+    private static final class QueuedLogItem {
+        /** {@code null} if the item was skipped, and only the updates need to be applied */
+        private final AuditLogItem item;
+        private final HandlerUpdateTask updates;
+
+        QueuedLogItem(AuditLogItem item, HandlerUpdateTask updates) {
+            this.item = item;
+            this.updates = updates;
+        }
+    }
+
+    /**
+     * Writes the queued log items on a dedicated thread. The thread takes the audit lock once for each batch of
+     * items, rather than once for each item, and writes them in the order they were logged.
+     */
+    private final class AsyncLogWriter implements Runnable {
+        private final AuditLogRingBuffer<QueuedLogItem> buffer;
+        private final int queueSize;
+        private final AsyncOverflowPolicy overflowPolicy;
+        private final Thread thread;
+        /** Writes the queued items before the JVM exits, as the writer thread is a daemon */
+        private final Thread shutdownHook;
+        /** The number of threads currently offering items, which the writer must wait for when closed */
+        private final AtomicInteger producers = new AtomicInteger();
+        private volatile boolean closed;
+        private volatile boolean parked;
+
+        AsyncLogWriter(int queueSize, AsyncOverflowPolicy overflowPolicy) {
+            this.buffer = new AuditLogRingBuffer<>(queueSize);
+            this.queueSize = queueSize;
+            this.overflowPolicy = overflowPolicy;
+            final JBossThreadFactory threadFactory = doPrivileged(new PrivilegedAction<JBossThreadFactory>() {
+                public JBossThreadFactory run() {
+                    return new JBossThreadFactory(new ThreadGroup("audit-log-threads"), Boolean.TRUE, null, "%G - %t", null, null);
+                }
+            });
+            this.thread = threadFactory.newThread(this);
+            this.shutdownHook = new Thread(this::close, "Management audit log shutdown");
+            thread.start();
+            doPrivileged(new PrivilegedAction<Void>() {
+                public Void run() {
+                    Runtime.getRuntime().addShutdownHook(shutdownHook);
+                    return null;
+                }
+            });
+        }
+
+        boolean matches(int queueSize, AsyncOverflowPolicy overflowPolicy) {
+            return this.queueSize == queueSize && this.overflowPolicy == overflowPolicy;
+        }
+
+        /**
+         * Queues an item, waiting for room or discarding it if the queue is full, depending on the overflow policy.
+         * Items carrying handler updates are never discarded.
+         *
+         * @return {@code false} if the writer is closed, and the item must be written by the caller
+         */
+        boolean offer(QueuedLogItem queued) {
+            producers.incrementAndGet();
+            try {
+                while (!closed) {
+                    if (buffer.offer(queued)) {
+                        if (parked) {
+                            LockSupport.unpark(thread);
+                        }
+                        return true;
+                    }
+                    if (overflowPolicy == AsyncOverflowPolicy.DISCARD && queued.updates == null) {
+                        asyncDiscardedCount.increment();
+                        return true;
+                    }
+                    LockSupport.unpark(thread);
+                    LockSupport.parkNanos(this, FULL_QUEUE_WAIT_NANOS);
+                }
+                return false;
+            } finally {
+                producers.decrementAndGet();
+            }
+        }
+
+        /**
+         * Stops the writer, once it has written the queued items. Waits at most {@link #ASYNC_CLOSE_TIMEOUT} seconds
+         * for them to be written; if a handler blocks for longer, the writer thread writes the remaining items in the
+         * background.
+         */
+        void close() {
+            closed = true;
+            LockSupport.unpark(thread);
+            if (Thread.currentThread() != shutdownHook) {
+                doPrivileged(new PrivilegedAction<Void>() {
+                    public Void run() {
+                        try {
+                            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+                        } catch (IllegalStateException e) {
+                            // The JVM is shutting down, the hook waits for the writer too
+                        }
+                        return null;
+                    }
+                });
+            }
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(ASYNC_CLOSE_TIMEOUT);
+            boolean interrupted = false;
+            try {
+                long remaining;
+                while (thread.isAlive() && (remaining = deadline - System.nanoTime()) > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.timedJoin(thread, remaining);
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+                if (thread.isAlive()) {
+                    ControllerLogger.MGMT_OP_LOGGER.timeoutWritingQueuedAuditLogItems(ASYNC_CLOSE_TIMEOUT, buffer.size());
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            final List<QueuedLogItem> batch = new ArrayList<>(MAX_ASYNC_BATCH_SIZE);
+            while (true) {
+                if (buffer.drainTo(batch, MAX_ASYNC_BATCH_SIZE) > 0) {
+                    write(batch);
+                    batch.clear();
+                } else if (closed) {
+                    // Producers which saw the writer open may still be adding items
+                    if (producers.get() == 0 && buffer.isEmpty()) {
+                        return;
+                    }
+                    Thread.yield();
+                } else {
+                    parked = true;
+                    // Recheck after publishing the flag, so that an item offered meanwhile is not missed
+                    if (buffer.isEmpty() && !closed) {
+                        LockSupport.park(this);
+                    }
+                    parked = false;
+                }
+            }
+        }
+
+        private void write(List<QueuedLogItem> batch) {
+            config.lock();
+            try {
+                for (QueuedLogItem queued : batch) {
+                    try {
+                        writeQueuedLogItem(queued);
+                    } catch (RuntimeException e) {
+                        // Don't let the writer thread die, the next items would no longer be written
+                        ControllerLogger.MGMT_OP_LOGGER.failedToUpdateAuditLog(e);
+                    }
+                }
+            } finally {
+                config.unlock();
+            }
+        }
+    }
+
     /**
      * When we add a handler(reference) we want that to be part of the current write.
      * If we remove/change and handler, and or reference, we don't want that to take effect until the next write.
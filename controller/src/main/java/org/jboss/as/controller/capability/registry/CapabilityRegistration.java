@@ -61,7 +61,9 @@ public class CapabilityRegistration<C extends Capability> implements Comparable<
      */
     public CapabilityRegistration(CapabilityRegistration<C> toCopy) {
         this(toCopy.getCapability(), toCopy.getCapabilityScope());
-        this.registrationPoints.putAll(toCopy.registrationPoints);
+        synchronized (toCopy) {
+            this.registrationPoints.putAll(toCopy.registrationPoints);
+        }
     }
 
     /**
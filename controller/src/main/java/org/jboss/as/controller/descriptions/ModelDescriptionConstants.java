@@ -69,6 +69,11 @@ public class ModelDescriptionConstants {
     public static final String APPLIES_TO = "applies-to";
     public static final String APPLY_REMOTE_DOMAIN_MODEL = "apply-remote-domain-model";
     public static final String ARCHIVE = "archive";
+    public static final String ASYNC = "async";
+    public static final String ASYNC_DISCARDED_COUNT = "async-discarded-count";
+    public static final String ASYNC_OVERFLOW_POLICY = "async-overflow-policy";
+    public static final String ASYNC_QUEUE_DEPTH = "async-queue-depth";
+    public static final String ASYNC_QUEUE_SIZE = "async-queue-size";
     public static final String ATTACHED_STREAMS = "attached-streams";
     public static final String ATTRIBUTE = "attribute";
     public static final String ATTRIBUTE_GROUP = "attribute-group";
@@ -3621,4 +3621,8 @@ public interface ControllerLogger extends BasicLogger {
     @Message(id = 474, value = "No marker file found indicating that the server has been restarted following execution of the additional commands from the CLI script")
     void noRestartMarkerFile();
 
+    @LogMessage(level = WARN)
+    @Message(id = 475, value = "Timed out after %d seconds waiting for the management operation audit log writer to stop; %d queued log items are still being written")
+    void timeoutWritingQueuedAuditLogItems(long timeout, int queued);
+
 }
@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.controller.operations.common;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationDefinition;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.descriptions.common.ControllerResolver;
+import org.jboss.as.controller.persistence.ConfigurationPersister;
+import org.jboss.as.controller.persistence.XmlConfigurationPersister;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * An operation that reads the statistics of the pipelined persistence of the configuration file.
+ *
+ * @see XmlConfigurationPersister#PIPELINED_PERSISTENCE_PROPERTY
+ */
+public class ConfigurationPersistenceStatisticsHandler implements OperationStepHandler {
+
+    private static final String OPERATION_NAME = "read-configuration-persistence-statistics";
+
+    static final String PIPELINED = "pipelined";
+    static final String WRITES = "writes";
+    static final String COALESCED_COMMITS = "coalesced-commits";
+    static final String AVERAGE_PERSISTENCE_LATENCY = "average-persistence-latency";
+    static final String MAX_PERSISTENCE_LATENCY = "max-persistence-latency";
+
+    private static final AttributeDefinition PIPELINED_DEFINITION = new SimpleAttributeDefinitionBuilder(PIPELINED, ModelType.BOOLEAN)
+            .build();
+    private static final AttributeDefinition WRITES_DEFINITION = new SimpleAttributeDefinitionBuilder(WRITES, ModelType.LONG)
+            .build();
+    private static final AttributeDefinition COALESCED_COMMITS_DEFINITION = new SimpleAttributeDefinitionBuilder(COALESCED_COMMITS, ModelType.LONG)
+            .build();
+    private static final AttributeDefinition AVERAGE_PERSISTENCE_LATENCY_DEFINITION = new SimpleAttributeDefinitionBuilder(AVERAGE_PERSISTENCE_LATENCY, ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .build();
+    private static final AttributeDefinition MAX_PERSISTENCE_LATENCY_DEFINITION = new SimpleAttributeDefinitionBuilder(MAX_PERSISTENCE_LATENCY, ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .build();
+
+    public static final OperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder(OPERATION_NAME, ControllerResolver.getResolver("persistence"))
+            .setReadOnly()
+            .setRuntimeOnly()
+            .setReplyType(ModelType.OBJECT)
+            .setReplyParameters(PIPELINED_DEFINITION, WRITES_DEFINITION, COALESCED_COMMITS_DEFINITION,
+                    AVERAGE_PERSISTENCE_LATENCY_DEFINITION, MAX_PERSISTENCE_LATENCY_DEFINITION)
+            .build();
+
+    private final ConfigurationPersister persister;
+
+    public ConfigurationPersistenceStatisticsHandler(ConfigurationPersister persister) {
+        this.persister = persister;
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final ModelNode result = context.getResult();
+        if (persister instanceof XmlConfigurationPersister) {
+            final XmlConfigurationPersister xmlPersister = (XmlConfigurationPersister) persister;
+            result.get(PIPELINED).set(xmlPersister.isPipelined());
+            result.get(WRITES).set(xmlPersister.getPipelinedWriteCount());
+            result.get(COALESCED_COMMITS).set(xmlPersister.getCoalescedCommitCount());
+            result.get(AVERAGE_PERSISTENCE_LATENCY).set(xmlPersister.getAveragePersistenceLatency());
+            result.get(MAX_PERSISTENCE_LATENCY).set(xmlPersister.getMaxPersistenceLatency());
+        } else {
+            result.get(PIPELINED).set(false);
+            result.get(WRITES).set(0L);
+            result.get(COALESCED_COMMITS).set(0L);
+            result.get(AVERAGE_PERSISTENCE_LATENCY).set(0L);
+            result.get(MAX_PERSISTENCE_LATENCY).set(0L);
+        }
+    }
+}
@@ -51,6 +51,9 @@ public enum Attribute {
     APPLICATION("application"),
     ARCHIVE("archive"),
     ASSIGN_GROUPS("assign-groups"),
+    ASYNC("async"),
+    ASYNC_OVERFLOW_POLICY("async-overflow-policy"),
+    ASYNC_QUEUE_SIZE("async-queue-size"),
     ATTRIBUTE("attribute"),
     AUTHENTICATION_CONTEXT("authentication-context"),
     AUTO_START("auto-start"),
@@ -117,9 +117,18 @@ public class BackupXmlConfigurationPersister extends XmlConfigurationPersister {
                 }
             };
         }
+        if (isPipelined()) {
+            return getPipelinedWriter().store(this, model);
+        }
         return new ConfigurationFilePersistenceResource(model, configurationFile, this);
     }
 
+    @Override
+    PipelinedPersistenceWriter createPipelinedWriter() {
+        return new PipelinedPersistenceWriter(configurationFile.getMainFile().getName(),
+                in -> ConfigurationFilePersistenceResource.write(in, configurationFile, true));
+    }
+
     @Override
     public String snapshot(String name, String comment) throws ConfigurationPersistenceException {
         return configurationFile.snapshot(name, comment);
@@ -50,6 +50,19 @@ public class ConfigurationFilePersistenceResource extends AbstractFilePersistenc
 
     @Override
     protected void doCommit(InputStream in) {
+        write(in, configurationFile, false);
+    }
+
+    /**
+     * Writes the marshalled configuration to the main file of a configuration, backing up the previous version and
+     * logging any failure.
+     *
+     * @param in the marshalled configuration
+     * @param configurationFile the configuration to update
+     * @param sync {@code true} if the main file must have reached the storage device when this method returns
+     */
+    static void write(InputStream in, ConfigurationFile configurationFile, boolean sync) {
+        final File fileName = configurationFile.getMainFile();
         final File tempFileName;
 
         if ( FilePersistenceUtils.isParentFolderWritable(fileName) ){
@@ -61,6 +74,9 @@ public class ConfigurationFilePersistenceResource extends AbstractFilePersistenc
         try {
             try {
                 FilePersistenceUtils.writeToTempFile(in, tempFileName, fileName);
+                if (sync) {
+                    FilePersistenceUtils.sync(tempFileName);
+                }
             } catch (Exception e) {
                 MGMT_OP_LOGGER.failedToStoreConfiguration(e, fileName.getName());
                 return;
@@ -70,6 +86,9 @@ public class ConfigurationFilePersistenceResource extends AbstractFilePersistenc
             } finally {
                 configurationFile.commitTempFile(tempFileName);
             }
+            if (sync) {
+                FilePersistenceUtils.syncDirectory(fileName.getParentFile());
+            }
             configurationFile.fileWritten();
         } catch (ConfigurationPersistenceException e) {
            MGMT_OP_LOGGER.errorf(e, e.toString());
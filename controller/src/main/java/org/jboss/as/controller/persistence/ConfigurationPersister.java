@@ -52,6 +52,16 @@ public interface ConfigurationPersister {
          * Discard the changes.
          */
         void rollback();
+
+        /**
+         * Waits for the model flushed by {@link #commit()} to be on permanent storage, for implementations whose
+         * {@code commit()} only schedules the flush. Callers invoke this after {@code commit()}, once they no
+         * longer hold the controller lock, so that other operations can proceed while the model is written.
+         * <p>
+         * The default implementation does nothing.
+         */
+        default void awaitCommitted() {
+        }
     }
 
     /**
@@ -46,10 +46,27 @@ public class FilePersistenceResource extends AbstractFilePersistenceResource {
 
     @Override
     protected void doCommit(InputStream in) {
+        write(in, fileName, false);
+    }
+
+    /**
+     * Writes the marshalled configuration to a file, logging any failure.
+     *
+     * @param in the marshalled configuration
+     * @param fileName the file to write
+     * @param sync {@code true} if the file must have reached the storage device when this method returns
+     */
+    static void write(InputStream in, File fileName, boolean sync) {
         final File tempFileName = FilePersistenceUtils.createTempFile(fileName);
         try {
             FilePersistenceUtils.writeToTempFile(in, tempFileName, fileName);
+            if (sync) {
+                FilePersistenceUtils.sync(tempFileName);
+            }
             FilePersistenceUtils.moveTempFileToMain(tempFileName, fileName);
+            if (sync) {
+                FilePersistenceUtils.syncDirectory(fileName.getParentFile());
+            }
         } catch (Exception e) {
             MGMT_OP_LOGGER.failedToStoreConfiguration(e, fileName.getName());
         } finally {
@@ -25,10 +25,12 @@ import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.nio.file.FileStore;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.AclEntry;
 import java.nio.file.attribute.AclFileAttributeView;
 import java.nio.file.attribute.FileAttribute;
@@ -134,6 +136,30 @@ class FilePersistenceUtils {
         return tempFileName;
     }
 
+    /**
+     * Forces the content of a file to the storage device.
+     */
+    static void sync(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Forces the entries of a directory, e.g. a renamed file, to the storage device. Not all platforms allow
+     * opening a directory, in which case this does nothing.
+     */
+    static void syncDirectory(File directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory.toPath(), StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            ControllerLogger.ROOT_LOGGER.tracef(e, "Cannot sync directory %s", directory);
+        }
+    }
+
     static Path createTempFileWithAttributes(Path tempFilePath, File fileName) throws IOException {
         Path exisitingFilePath = fileName.toPath();
         List<FileAttribute> attributes = new ArrayList<>(2);
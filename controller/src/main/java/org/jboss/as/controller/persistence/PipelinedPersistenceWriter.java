@@ -0,0 +1,227 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.controller.persistence;
+
+import static java.security.AccessController.doPrivileged;
+import static org.jboss.as.controller.logging.ControllerLogger.MGMT_OP_LOGGER;
+
+import java.io.InputStream;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.jboss.as.controller.logging.ControllerLogger;
+import org.jboss.dmr.ModelNode;
+import org.jboss.threads.JBossThreadFactory;
+
+/**
+ * Marshals and writes a configuration file on background threads.
+ * <p>
+ * {@link #store(AbstractConfigurationPersister, ModelNode)} starts marshalling the model as soon as it is called, so
+ * marshalling runs while the operation completes. The model passed to {@code store} is a snapshot which is not
+ * modified afterwards.
+ * {@link ConfigurationPersister.PersistenceResource#commit()} queues the write and returns, so the controller lock
+ * is not held while the file is written. {@link ConfigurationPersister.PersistenceResource#awaitCommitted()} blocks
+ * until the file, or a file written from a later snapshot, has been forced to the storage device. Commits which are
+ * queued while a write is in progress, by the operations which got the controller lock meanwhile, are coalesced into
+ * a single write of the latest snapshot.
+ * <p>
+ * Failures to marshal the model are logged, like failures to write the file, instead of failing the operation.
+ */
+final class PipelinedPersistenceWriter {
+
+    private final String name;
+    private final Consumer<InputStream> fileWriter;
+    private final ThreadPoolExecutor marshallingExecutor;
+    private final ThreadPoolExecutor writingExecutor;
+    /** The committed resources waiting for the next write, in commit order */
+    private final List<PipelinedPersistenceResource> committed = new ArrayList<>();
+    private boolean writeScheduled;
+
+    private final LongAdder writeCount = new LongAdder();
+    private final LongAdder coalescedCommitCount = new LongAdder();
+    private final LongAdder commitCount = new LongAdder();
+    private final LongAdder totalCommitLatency = new LongAdder();
+    private final LongAccumulator maxCommitLatency = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Creates a new writer.
+     *
+     * @param name the name of the written file, for logging
+     * @param fileWriter writes and syncs the marshalled configuration, logging any failure
+     */
+    PipelinedPersistenceWriter(final String name, final Consumer<InputStream> fileWriter) {
+        this.name = name;
+        this.fileWriter = fileWriter;
+        final ThreadFactory threadFactory = doPrivileged(new PrivilegedAction<JBossThreadFactory>() {
+            public JBossThreadFactory run() {
+                return new JBossThreadFactory(new ThreadGroup("configuration-persistence-threads"), Boolean.TRUE, null, "%G - %t", null, null);
+            }
+        });
+        // Writes wait for marshalling tasks, so they can't share a thread. A snapshot can be marshalled while
+        // the previous one is being written.
+        this.marshallingExecutor = createExecutor(threadFactory);
+        this.writingExecutor = createExecutor(threadFactory);
+    }
+
+    private static ThreadPoolExecutor createExecutor(final ThreadFactory threadFactory) {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    ConfigurationPersister.PersistenceResource store(final AbstractConfigurationPersister persister, final ModelNode model) {
+        return new PipelinedPersistenceResource(marshallingExecutor.submit(() -> FilePersistenceUtils.marshalXml(persister, model)));
+    }
+
+    /**
+     * Gets the number of configuration files written.
+     */
+    long getWriteCount() {
+        return writeCount.sum();
+    }
+
+    /**
+     * Gets the number of commits which did not need their own write, because a later snapshot was written instead.
+     */
+    long getCoalescedCommitCount() {
+        return coalescedCommitCount.sum();
+    }
+
+    /**
+     * Gets the average time, in milliseconds, a commit waited for the configuration to be durable.
+     */
+    long getAverageCommitLatency() {
+        final long commits = commitCount.sum();
+        return commits == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalCommitLatency.sum() / commits);
+    }
+
+    /**
+     * Gets the longest time, in milliseconds, a commit waited for the configuration to be durable.
+     */
+    long getMaxCommitLatency() {
+        return TimeUnit.NANOSECONDS.toMillis(maxCommitLatency.get());
+    }
+
+    private void commit(final PipelinedPersistenceResource resource) {
+        synchronized (committed) {
+            committed.add(resource);
+            if (!writeScheduled) {
+                writeScheduled = true;
+                writingExecutor.execute(this::write);
+            }
+        }
+    }
+
+    private void write() {
+        final List<PipelinedPersistenceResource> batch;
+        synchronized (committed) {
+            batch = new ArrayList<>(committed);
+            committed.clear();
+            writeScheduled = false;
+        }
+        // The last commit holds the latest snapshot, which includes the changes of the earlier ones
+        final PipelinedPersistenceResource latest = batch.get(batch.size() - 1);
+        try {
+            try (InputStream in = latest.marshalled.get().getInputStream()) {
+                fileWriter.accept(in);
+            }
+        } catch (ExecutionException e) {
+            MGMT_OP_LOGGER.failedToStoreConfiguration(e.getCause(), name);
+        } catch (Exception e) {
+            MGMT_OP_LOGGER.failedToStoreConfiguration(e, name);
+        } finally {
+            writeCount.increment();
+            coalescedCommitCount.add(batch.size() - 1);
+            final long now = System.nanoTime();
+            for (PipelinedPersistenceResource resource : batch) {
+                final long latency = now - resource.commitTime;
+                commitCount.increment();
+                totalCommitLatency.add(latency);
+                maxCommitLatency.accumulate(latency);
+                resource.durable.countDown();
+            }
+        }
+    }
+
+    private class PipelinedPersistenceResource implements ConfigurationPersister.PersistenceResource {
+
+        private final Future<ExposedByteArrayOutputStream> marshalled;
+        private final CountDownLatch durable = new CountDownLatch(1);
+        private volatile boolean rolledBack;
+        private volatile boolean committed;
+        private volatile long commitTime;
+
+        private PipelinedPersistenceResource(final Future<ExposedByteArrayOutputStream> marshalled) {
+            this.marshalled = marshalled;
+        }
+
+        @Override
+        public void commit() {
+            if (rolledBack) {
+                throw ControllerLogger.ROOT_LOGGER.rollbackAlreadyInvoked();
+            }
+            commitTime = System.nanoTime();
+            committed = true;
+            PipelinedPersistenceWriter.this.commit(this);
+        }
+
+        @Override
+        public void awaitCommitted() {
+            if (!committed) {
+                return;
+            }
+            // Don't report success before the file is durable, even if the operation gets cancelled meanwhile
+            boolean interrupted = false;
+            try {
+                while (true) {
+                    try {
+                        durable.await();
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void rollback() {
+            rolledBack = true;
+            marshalled.cancel(false);
+        }
+    }
+}
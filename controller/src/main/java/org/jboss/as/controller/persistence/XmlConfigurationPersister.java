@@ -47,6 +47,7 @@ import org.jboss.staxmapper.XMLElementWriter;
 import org.jboss.staxmapper.XMLMapper;
 import org.projectodd.vdx.core.XMLStreamValidationException;
 import org.projectodd.vdx.wildfly.WildFlyErrorReporter;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * A configuration persister which uses an XML file for backing storage.
@@ -55,11 +56,19 @@ import org.projectodd.vdx.wildfly.WildFlyErrorReporter;
  */
 public class XmlConfigurationPersister extends AbstractConfigurationPersister {
 
+    /**
+     * System property enabling the pipelined persistence mode, where the configuration is marshalled and written by a
+     * background thread. See {@link PipelinedPersistenceWriter}.
+     */
+    public static final String PIPELINED_PERSISTENCE_PROPERTY = "jboss.config.pipelined-persistence";
+
     private final File fileName;
     private final QName rootElement;
     private final XMLElementReader<List<ModelNode>> rootParser;
     private final Map<QName, XMLElementReader<List<ModelNode>>> additionalParsers;
     private final boolean suppressLoad;
+    private final boolean pipelined;
+    private PipelinedPersistenceWriter pipelinedWriter;
 
     /**
      * Construct a new instance.
@@ -89,6 +98,7 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
         this.rootParser = rootParser;
         this.additionalParsers = new HashMap<QName, XMLElementReader<List<ModelNode>>>();
         this.suppressLoad = suppressLoad;
+        this.pipelined = Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(PIPELINED_PERSISTENCE_PROPERTY, "false"));
     }
 
     public void registerAdditionalRootElement(final QName anotherRoot, final XMLElementReader<List<ModelNode>> parser){
@@ -100,9 +110,77 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
     /** {@inheritDoc} */
     @Override
     public PersistenceResource store(final ModelNode model, Set<PathAddress> affectedAddresses) throws ConfigurationPersistenceException {
+        if (pipelined) {
+            return getPipelinedWriter().store(this, model);
+        }
         return new FilePersistenceResource(model, fileName, this);
     }
 
+    /**
+     * Gets whether the configuration is marshalled and written by a background thread, as enabled by the
+     * {@link #PIPELINED_PERSISTENCE_PROPERTY} system property. The operations still wait for the file to be durable.
+     *
+     * @return {@code true} if the configuration is persisted by a background thread
+     */
+    public boolean isPipelined() {
+        return pipelined;
+    }
+
+    /**
+     * Gets the number of configuration files written in pipelined mode.
+     *
+     * @return the number of writes
+     */
+    public long getPipelinedWriteCount() {
+        final PipelinedPersistenceWriter writer = getExistingPipelinedWriter();
+        return writer == null ? 0 : writer.getWriteCount();
+    }
+
+    /**
+     * Gets the number of commits in pipelined mode which were coalesced into the write of a later snapshot.
+     *
+     * @return the number of coalesced commits
+     */
+    public long getCoalescedCommitCount() {
+        final PipelinedPersistenceWriter writer = getExistingPipelinedWriter();
+        return writer == null ? 0 : writer.getCoalescedCommitCount();
+    }
+
+    /**
+     * Gets the average time, in milliseconds, an operation waited for the configuration to be durable in pipelined mode.
+     *
+     * @return the average persistence latency
+     */
+    public long getAveragePersistenceLatency() {
+        final PipelinedPersistenceWriter writer = getExistingPipelinedWriter();
+        return writer == null ? 0 : writer.getAverageCommitLatency();
+    }
+
+    /**
+     * Gets the longest time, in milliseconds, an operation waited for the configuration to be durable in pipelined mode.
+     *
+     * @return the maximum persistence latency
+     */
+    public long getMaxPersistenceLatency() {
+        final PipelinedPersistenceWriter writer = getExistingPipelinedWriter();
+        return writer == null ? 0 : writer.getMaxCommitLatency();
+    }
+
+    synchronized PipelinedPersistenceWriter getPipelinedWriter() {
+        if (pipelinedWriter == null) {
+            pipelinedWriter = createPipelinedWriter();
+        }
+        return pipelinedWriter;
+    }
+
+    private synchronized PipelinedPersistenceWriter getExistingPipelinedWriter() {
+        return pipelinedWriter;
+    }
+
+    PipelinedPersistenceWriter createPipelinedWriter() {
+        return new PipelinedPersistenceWriter(fileName.getName(), in -> FilePersistenceResource.write(in, fileName, true));
+    }
+
     /** {@inheritDoc} */
     @Override
     public List<ModelNode> load() throws ConfigurationPersistenceException {
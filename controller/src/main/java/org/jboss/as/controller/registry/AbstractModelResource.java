@@ -259,9 +259,30 @@ public abstract class AbstractModelResource extends ResourceProvider.ResourcePro
         }
     }
 
+    /**
+     * Freezes the children held by the default resource providers. Children of custom providers are left as is,
+     * and will keep being copied by {@link ResourceProvider#clone()}.
+     */
+    void freezeProviders() {
+        synchronized (children) {
+            for (final ResourceProvider provider : children.values()) {
+                if (provider instanceof DefaultResourceProvider) {
+                    ((DefaultResourceProvider) provider).freeze();
+                }
+            }
+        }
+    }
+
+    private static boolean isFrozen(final Resource resource) {
+        return resource instanceof BasicResource && ((BasicResource) resource).isFrozen();
+    }
+
     private static class DefaultResourceProvider implements ResourceProvider {
 
         private final Map<String, Resource> children = new LinkedHashMap<String, Resource>();
+        /** Names of the frozen children that are shared with other resource trees and must be copied before use. */
+        private final Set<String> shared = new HashSet<String>();
+        private volatile boolean frozen;
 
         protected DefaultResourceProvider() {
         }
@@ -283,7 +304,13 @@ public abstract class AbstractModelResource extends ResourceProvider.ResourcePro
         @Override
         public Resource get(String name) {
             synchronized (children) {
-                return children.get(name);
+                Resource resource = children.get(name);
+                if (resource != null && !frozen && shared.remove(name)) {
+                    // Path copying: replace the shared child with our own copy before anyone can modify it
+                    resource = resource.clone();
+                    children.put(name, resource);
+                }
+                return resource;
             }
         }
 
@@ -299,6 +326,9 @@ public abstract class AbstractModelResource extends ResourceProvider.ResourcePro
                     throw ControllerLogger.ROOT_LOGGER.duplicateResource(name);
                 }
                 children.put(name, resource);
+                if (isFrozen(resource)) {
+                    shared.add(name);
+                }
             }
         }
 
@@ -330,13 +360,21 @@ public abstract class AbstractModelResource extends ResourceProvider.ResourcePro
                         }
                     }
                 }
+                if (isFrozen(resource)) {
+                    shared.add(name);
+                }
             }
         }
 
         @Override
         public Resource remove(String name) {
             synchronized (children) {
-                return children.remove(name);
+                final Resource removed = children.remove(name);
+                if (removed != null && shared.remove(name) && !frozen) {
+                    // Don't hand out a resource that is still part of another tree
+                    return removed.clone();
+                }
+                return removed;
             }
         }
 
@@ -345,11 +383,31 @@ public abstract class AbstractModelResource extends ResourceProvider.ResourcePro
             final DefaultResourceProvider provider = new DefaultResourceProvider();
             synchronized (children) {
                 for (final Map.Entry<String, Resource> entry : children.entrySet()) {
-                    provider.register(entry.getKey(), entry.getValue().clone());
+                    final Resource child = entry.getValue();
+                    if (isFrozen(child)) {
+                        // Share the frozen child; it gets copied if the clone navigates to it
+                        provider.children.put(entry.getKey(), child);
+                        provider.shared.add(entry.getKey());
+                    } else {
+                        provider.children.put(entry.getKey(), child.clone());
+                    }
                 }
             }
             return provider;
         }
+
+        void freeze() {
+            synchronized (children) {
+                frozen = true;
+                for (final Map.Entry<String, Resource> entry : children.entrySet()) {
+                    final Resource child = entry.getValue();
+                    if (!shared.contains(entry.getKey()) && child instanceof BasicResource) {
+                        ((BasicResource) child).freeze();
+                    }
+                }
+                shared.clear();
+            }
+        }
     }
 
     abstract static class DelegateResource implements ResourceEntry {
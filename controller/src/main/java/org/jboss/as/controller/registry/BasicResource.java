@@ -33,12 +33,18 @@ import org.jboss.dmr.ModelNode;
  * <p>Concurrency note: if a thread needs to modify a BasicResource, it must use the clone() method to obtain its
  * own copy of the resource. That instance cannot be made visible to other threads until all writes are complete.</p>
  *
+ * <p>Once a resource tree is complete it can be {@link #freeze() frozen}. A frozen resource is shared rather than
+ * copied by the {@code clone()} of any parent, and is only copied when it is navigated to from such a clone. So
+ * modifying a clone of a frozen tree only copies the resources on the path to the modified address.</p>
+ *
  * @author Emanuel Muckenhuber
  */
 class BasicResource extends AbstractModelResource implements Resource {
 
     /** The local model. */
     private final ModelNode model = new ModelNode();
+    /** Whether this resource is part of a completed resource tree and thus can be shared between copies. */
+    private volatile boolean frozen;
 
     protected BasicResource() {
         this(false);
@@ -74,6 +80,27 @@ class BasicResource extends AbstractModelResource implements Resource {
     public boolean isModelDefined() {
         return model.isDefined();
     }
+
+    /**
+     * Gets whether this resource has been {@link #freeze() frozen}.
+     *
+     * @return {@code true} if this resource can be shared by clones of its parent
+     */
+    boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Marks this resource and all of its not yet frozen descendants as frozen. Callers must not modify a frozen
+     * resource; a modifiable copy is obtained by navigating to it from a {@code clone()} of one of its ancestors.
+     */
+    void freeze() {
+        if (!frozen) {
+            frozen = true;
+            freezeProviders();
+        }
+    }
+
     @SuppressWarnings({"CloneDoesntCallSuperClone"})
     @Override
     public Resource clone() {
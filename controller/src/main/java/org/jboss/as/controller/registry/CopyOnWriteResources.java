@@ -0,0 +1,51 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.registry;
+
+/**
+ * Utilities for sharing the unmodified parts of a {@link Resource} tree between the published management model and
+ * the copies of it that write operations modify.
+ * <p>
+ * <strong>This is internal API used by the management kernel and is subject to change.</strong>
+ */
+public final class CopyOnWriteResources {
+
+    private CopyOnWriteResources() {
+    }
+
+    /**
+     * Marks a completed resource tree as immutable. Subsequent {@link Resource#clone() clones} of the tree, or of
+     * any tree containing it, share the frozen resources and only copy those that are navigated to, so the cost of
+     * modifying a clone is proportional to the depth of the modified addresses rather than to the size of the tree.
+     * <p>
+     * Only resources created by {@link Resource.Factory} can be frozen. Other resources, and any resources below
+     * them, are left as is and keep being copied by {@code clone()}.
+     *
+     * @param resource the root of the tree. Cannot be {@code null}
+     */
+    public static void freeze(final Resource resource) {
+        if (resource instanceof BasicResource) {
+            ((BasicResource) resource).freeze();
+        }
+    }
+}
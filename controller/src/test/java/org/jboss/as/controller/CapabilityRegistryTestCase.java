@@ -25,11 +25,16 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RES
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STEPS;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -468,6 +473,44 @@ public class CapabilityRegistryTestCase extends AbstractControllerTestBase {
         Assert.assertEquals(expectedCaps(0), capabilityRegistry.getPossibleCapabilities().size());
     }
 
+    @Test
+    public void testConcurrentRegistration() throws Exception {
+        final int threads = 8;
+        final int capsPerThread = 250;
+        final RuntimeCapability<Void> sharedCapability = RuntimeCapability.Builder.of("org.wildfly.test.shared-capability")
+                .setAllowMultipleRegistrations(true).build();
+        final CapabilityRegistry registry = new CapabilityRegistry(true).createShadowCopy();
+        registry.registerCapability(new RuntimeCapabilityRegistration(ROOT_CAPABILITY, CapabilityScope.GLOBAL, new RegistrationPoint(PathAddress.EMPTY_ADDRESS, null)));
+
+        // Registrations from parallel boot threads only take the shared lock, so they run concurrently
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < capsPerThread; i++) {
+                        PathAddress address = PathAddress.pathAddress("subsystem", "test-" + thread + "-" + i);
+                        RuntimeCapability<Void> capability = RuntimeCapability.Builder.of("org.wildfly.test.concurrent." + thread + "." + i)
+                                .addRequirements(ROOT_CAPABILITY.getName()).build();
+                        registry.registerCapability(new RuntimeCapabilityRegistration(capability, CapabilityScope.GLOBAL, new RegistrationPoint(address, null)));
+                        registry.registerCapability(new RuntimeCapabilityRegistration(sharedCapability, CapabilityScope.GLOBAL, new RegistrationPoint(address, null)));
+                        Assert.assertTrue(registry.hasCapability(capability.getName(), CapabilityScope.GLOBAL));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(threads * capsPerThread + 2, registry.getCapabilities().size());
+        Assert.assertEquals(threads * capsPerThread, registry.getCapability(new CapabilityId(sharedCapability.getName(), CapabilityScope.GLOBAL)).getRegistrationPointCount());
+        Assert.assertTrue(registry.resolveCapabilities(Resource.Factory.create(), false).isValid());
+    }
+
     @Test
     public void testCapabilityPossibleProviders() throws OperationFailedException {
         Set<PathAddress> result = capabilityRegistry.getPossibleProviderPoints(new CapabilityId(TEST_CAPABILITY2.getName(), CapabilityScope.GLOBAL));
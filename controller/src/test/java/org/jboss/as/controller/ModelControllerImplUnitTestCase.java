@@ -164,6 +164,27 @@ public class ModelControllerImplUnitTestCase {
         notificationHandler.validate(0);
     }
 
+    /**
+     * Test that the model generation only changes when a write to the model is kept.
+     */
+    @Test
+    public void testModelGeneration() throws Exception {
+        long generation = controller.getModelGeneration();
+        ModelNode result = controller.execute(getOperation("good", "attr1", 5), null, null, null);
+        assertEquals(SUCCESS, result.get(OUTCOME).asString());
+        assertTrue(controller.getModelGeneration() > generation);
+
+        // Reads, failed writes and rolled back writes leave the generation unchanged
+        generation = controller.getModelGeneration();
+        ModelNode read = new ModelNode();
+        read.get(OP).set(READ_RESOURCE_OPERATION);
+        read.get(OP_ADDR).setEmptyList();
+        assertEquals(SUCCESS, controller.execute(read, null, null, null).get(OUTCOME).asString());
+        assertEquals(FAILED, controller.execute(getOperation("bad", "attr1", 6), null, null, null).get(OUTCOME).asString());
+        controller.execute(getOperation("good", "attr1", 6), null, RollbackTransactionControl.INSTANCE, null);
+        assertEquals(generation, controller.getModelGeneration());
+    }
+
     /**
      * Test successfully updating the model but then having the caller roll back the transaction.
      */
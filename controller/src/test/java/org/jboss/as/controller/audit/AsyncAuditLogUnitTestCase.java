@@ -0,0 +1,184 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.audit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.audit.ManagedAuditLogger.AsyncOverflowPolicy;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.core.security.AccessMechanism;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AsyncAuditLogUnitTestCase {
+
+    private static final String FORMATTER = "formatter";
+    private static final String HANDLER = "handler";
+
+    @Test
+    public void testRingBuffer() {
+        AuditLogRingBuffer<Integer> buffer = new AuditLogRingBuffer<>(3);
+        Assert.assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(buffer.offer(i));
+        }
+        Assert.assertFalse(buffer.offer(4));
+        Assert.assertEquals(4, buffer.size());
+
+        List<Integer> drained = new ArrayList<>();
+        Assert.assertEquals(3, buffer.drainTo(drained, 3));
+        Assert.assertTrue(buffer.offer(4));
+        Assert.assertTrue(buffer.offer(5));
+        Assert.assertEquals(3, buffer.drainTo(drained, 10));
+        Assert.assertTrue(buffer.isEmpty());
+        Assert.assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5), drained);
+    }
+
+    @Test
+    public void testAsyncLogging() throws Exception {
+        RecordingHandler handler = new RecordingHandler(null);
+        ManagedAuditLogger auditLogger = createAuditLogger(handler);
+        auditLogger.setAsync(true, 16, AsyncOverflowPolicy.BLOCK);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 250; j++) {
+                    log(auditLogger);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        // Waits for the queued items to be written
+        auditLogger.setAsync(false, 0, null);
+
+        Assert.assertEquals(1000, handler.getRecords().size());
+        Assert.assertEquals(0, auditLogger.getAsyncQueueDepth());
+        Assert.assertEquals(0, auditLogger.getAsyncDiscardedCount());
+    }
+
+    @Test
+    public void testAsyncDiscard() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler handler = new RecordingHandler(release);
+        ManagedAuditLogger auditLogger = createAuditLogger(handler);
+        auditLogger.setAsync(true, 2, AsyncOverflowPolicy.DISCARD);
+
+        for (int i = 0; i < 10; i++) {
+            log(auditLogger);
+        }
+        Assert.assertTrue(auditLogger.getAsyncQueueDepth() <= 2);
+        Assert.assertTrue(auditLogger.getAsyncDiscardedCount() > 0);
+
+        release.countDown();
+        auditLogger.setAsync(false, 0, null);
+        Assert.assertEquals(10, handler.getRecords().size() + auditLogger.getAsyncDiscardedCount());
+    }
+
+    @Test
+    public void testHandlerRemovalAppliedAfterQueuedItem() throws Exception {
+        RecordingHandler handler = new RecordingHandler(null);
+        ManagedAuditLogger auditLogger = createAuditLogger(handler);
+        auditLogger.setAsync(true, 16, AsyncOverflowPolicy.BLOCK);
+
+        log(auditLogger);
+        auditLogger.getUpdater().removeHandlerReference(PathAddress.pathAddress(PathElement.pathElement("handler", HANDLER)));
+        log(auditLogger);
+        log(auditLogger);
+
+        auditLogger.setAsync(false, 0, null);
+        // The reference is removed once the item logged with it has been written
+        Assert.assertEquals(2, handler.getRecords().size());
+    }
+
+    private static ManagedAuditLogger createAuditLogger(RecordingHandler handler) {
+        ManagedAuditLoggerImpl auditLogger = new ManagedAuditLoggerImpl("test", true);
+        auditLogger.addFormatter(new JsonAuditLogItemFormatter(FORMATTER, false, " - ", "yyyy-MM-dd HH:mm:ss", true, false, false));
+        auditLogger.getUpdater().addHandler(handler);
+        auditLogger.getUpdater().addHandlerReference(PathAddress.pathAddress(PathElement.pathElement("handler", HANDLER)));
+        auditLogger.setLoggerStatus(AuditLogger.Status.LOGGING);
+        auditLogger.bootDone();
+        return auditLogger;
+    }
+
+    private static void log(ManagedAuditLogger auditLogger) {
+        ModelNode operation = Util.createEmptyOperation("test", PathAddress.EMPTY_ADDRESS);
+        auditLogger.log(false, OperationContext.ResultAction.KEEP, "user", null, AccessMechanism.NATIVE, null,
+                Resource.Factory.create(), Collections.singletonList(operation));
+    }
+
+    private static class RecordingHandler extends AuditLogHandler {
+
+        private final CountDownLatch release;
+        private final List<String> records = Collections.synchronizedList(new ArrayList<>());
+
+        RecordingHandler(CountDownLatch release) {
+            super(HANDLER, FORMATTER, 10);
+            this.release = release;
+        }
+
+        List<String> getRecords() {
+            return records;
+        }
+
+        @Override
+        boolean isDifferent(AuditLogHandler other) {
+            return other != this;
+        }
+
+        @Override
+        void initialize() {
+        }
+
+        @Override
+        void stop() {
+        }
+
+        @Override
+        void writeLogItem(String formattedItem) throws IOException {
+            if (release != null) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            records.add(formattedItem);
+        }
+    }
+}
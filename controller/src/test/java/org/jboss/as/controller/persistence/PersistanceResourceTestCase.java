@@ -51,6 +51,8 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.as.controller.PathAddress;
 import org.jboss.dmr.ModelNode;
@@ -865,6 +867,71 @@ public class PersistanceResourceTestCase {
         checkFiles(null, "std", "std", "std", "std");
     }
 
+    @Test
+    public void testPipelinedConfigurationFile() throws Exception {
+        assertFileContents(standardFile, "std");
+        ConfigurationFile configurationFile = new ConfigurationFile(standardDir, "standard.xml", null, true);
+        TestConfigurationFilePersister persister = new TestConfigurationFilePersister(configurationFile);
+        PipelinedPersistenceWriter writer = new PipelinedPersistenceWriter("standard.xml",
+                in -> ConfigurationFilePersistenceResource.write(in, configurationFile, true));
+
+        Assert.assertEquals(standardFile.getCanonicalPath(), configurationFile.getBootFile().getCanonicalPath());
+        configurationFile.successfulBoot();
+        checkFiles(null, "std", "std", "std", "std");
+
+        commit(writer.store(persister, new ModelNode("One")));
+        checkFiles(null, "One", "std", "std", "One", "std");
+
+        ConfigurationPersister.PersistenceResource rolledBack = writer.store(persister, new ModelNode("Rolled back"));
+        rolledBack.rollback();
+        checkFiles(null, "One", "std", "std", "One", "std");
+
+        commit(writer.store(persister, new ModelNode("Two")));
+        checkFiles(null, "Two", "std", "std", "Two", "std", "One");
+        Assert.assertEquals(2, writer.getWriteCount());
+        Assert.assertEquals(0, writer.getCoalescedCommitCount());
+    }
+
+    @Test
+    public void testPipelinedCommitsAreCoalesced() throws Exception {
+        TestFileResourcePersister persister = new TestFileResourcePersister(standardFile);
+        final CountDownLatch writeStarted = new CountDownLatch(1);
+        final CountDownLatch releaseWrite = new CountDownLatch(1);
+        PipelinedPersistenceWriter writer = new PipelinedPersistenceWriter("standard.xml", in -> {
+            writeStarted.countDown();
+            try {
+                releaseWrite.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            FilePersistenceResource.write(in, standardFile, true);
+        });
+
+        // Commits don't wait for the write
+        ConfigurationPersister.PersistenceResource first = writer.store(persister, new ModelNode("One"));
+        first.commit();
+        Assert.assertTrue(writeStarted.await(10, TimeUnit.SECONDS));
+        // Both commits are queued while "One" is being written, and are written together
+        ConfigurationPersister.PersistenceResource second = writer.store(persister, new ModelNode("Two"));
+        second.commit();
+        ConfigurationPersister.PersistenceResource third = writer.store(persister, new ModelNode("Three"));
+        third.commit();
+        releaseWrite.countDown();
+        first.awaitCommitted();
+        second.awaitCommitted();
+        third.awaitCommitted();
+
+        assertFileContents(standardFile, "Three");
+        Assert.assertEquals(2, writer.getWriteCount());
+        Assert.assertEquals(1, writer.getCoalescedCommitCount());
+        Assert.assertTrue(writer.getMaxCommitLatency() >= writer.getAverageCommitLatency());
+    }
+
+    private static void commit(ConfigurationPersister.PersistenceResource resource) {
+        resource.commit();
+        resource.awaitCommitted();
+    }
+
     private String addSuffix(File file, String suffix) throws IOException {
         StringBuilder builder = new StringBuilder(file.getParentFile().getCanonicalPath());
         System.out.println(builder);
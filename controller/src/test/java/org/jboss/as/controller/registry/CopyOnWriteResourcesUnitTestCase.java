@@ -0,0 +1,130 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.dmr.ModelNode;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of {@link CopyOnWriteResources}.
+ */
+public class CopyOnWriteResourcesUnitTestCase {
+
+    private static final int CHILDREN = 1000;
+
+    private Resource root;
+
+    @Before
+    public void setup() {
+        root = Resource.Factory.create();
+        for (int i = 0; i < CHILDREN; i++) {
+            Resource child = Resource.Factory.create();
+            child.getModel().get("value").set(i);
+            Resource grandchild = Resource.Factory.create();
+            grandchild.getModel().get("value").set(i);
+            child.registerChild(PathElement.pathElement("grandchild", "a"), grandchild);
+            root.registerChild(PathElement.pathElement("child", String.valueOf(i)), child);
+        }
+        CopyOnWriteResources.freeze(root);
+    }
+
+    @Test
+    public void testCloneOnlyCopiesModifiedPath() {
+        Resource clone = root.clone();
+        PathAddress address = PathAddress.pathAddress(PathElement.pathElement("child", "5"), PathElement.pathElement("grandchild", "a"));
+        clone.navigate(address).getModel().get("value").set("changed");
+
+        assertEquals(5, root.navigate(address).getModel().get("value").asInt());
+        assertEquals("changed", clone.navigate(address).getModel().get("value").asString());
+
+        // Once frozen the clone hands out the resources it holds without copying them
+        CopyOnWriteResources.freeze(clone);
+        PathElement modified = PathElement.pathElement("child", "5");
+        assertNotSame(root.getChild(modified), clone.getChild(modified));
+        // Siblings that were never navigated to from the clone are still shared
+        PathElement sibling = PathElement.pathElement("child", "6");
+        assertSame(root.getChild(sibling), clone.getChild(sibling));
+    }
+
+    @Test
+    public void testFrozenResourcesAreNotCopiedOnRead() {
+        PathElement element = PathElement.pathElement("child", "1");
+        assertSame(root.getChild(element), root.getChild(element));
+
+        Resource clone = root.clone();
+        CopyOnWriteResources.freeze(clone);
+        Resource copy = clone.getChild(element);
+        assertSame(copy, clone.getChild(element));
+        assertEquals(1, copy.getModel().get("value").asInt());
+    }
+
+    @Test
+    public void testCloneOfModifiedTreeIsIndependent() {
+        Resource clone = root.clone();
+        Resource modified = clone.requireChild(PathElement.pathElement("child", "7"));
+        Resource snapshot = clone.clone();
+        modified.getModel().get("value").set("changed");
+        modified.registerChild(PathElement.pathElement("grandchild", "b"), Resource.Factory.create());
+
+        Resource copied = snapshot.requireChild(PathElement.pathElement("child", "7"));
+        assertEquals(7, copied.getModel().get("value").asInt());
+        assertFalse(copied.hasChild(PathElement.pathElement("grandchild", "b")));
+    }
+
+    @Test
+    public void testRemoveAndAddFrozenResource() {
+        Resource clone = root.clone();
+        PathElement element = PathElement.pathElement("child", "3");
+        Resource removed = clone.removeChild(element);
+        assertFalse(clone.hasChild(element));
+        assertTrue(root.hasChild(element));
+
+        clone.registerChild(element, root.getChild(element));
+        clone.requireChild(element).getModel().get("value").set("changed");
+        assertEquals(3, root.getChild(element).getModel().get("value").asInt());
+        assertEquals(3, removed.getModel().get("value").asInt());
+    }
+
+    @Test
+    public void testPersistenceReadOfFrozenClone() {
+        Resource clone = root.clone();
+        ModelNode changed = new ModelNode();
+        changed.get("value").set("changed");
+        clone.requireChild(PathElement.pathElement("child", "9")).writeModel(changed);
+        CopyOnWriteResources.freeze(clone);
+
+        ModelNode model = Resource.Tools.readModel(clone);
+        assertEquals(CHILDREN, model.get("child").keys().size());
+        assertEquals("changed", model.get("child", "9", "value").asString());
+        assertEquals(9, Resource.Tools.readModel(root).get("child", "9", "value").asInt());
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2026 Red Hat, inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package org.jboss.as.repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Records how the hash of an exploded content was computed, so that the hash of an updated copy of the content can
+ * be computed from the first entry that changed.
+ * <p>
+ * The hash of a directory, as computed by {@link HashUtil#hashPath(MessageDigest, Path)}, digests the names and
+ * contents of its entries in depth first order. It can't be derived from the hashes of the entries, so the manifest
+ * keeps a copy of the digest state every {@link #CHECKPOINT_INTERVAL} hashed bytes. Updating the content then only
+ * rehashes the entries following the checkpoint preceding the first changed entry.
+ * <p>
+ * Instances are immutable.
+ */
+final class ContentHashManifest {
+
+    /**
+     * Number of bytes hashed between two copies of the digest state.
+     */
+    static final long CHECKPOINT_INTERVAL = 1024 * 1024;
+
+    /** The entries relative to the content root, in hashing order, starting with the root itself */
+    private final List<Path> entries;
+    /** The indexes of the entries which are regular files */
+    private final BitSet files;
+    /** The digest states before hashing the entries at the given indexes */
+    private final NavigableMap<Integer, MessageDigest> checkpoints;
+    private final byte[] hash;
+
+    private ContentHashManifest(final List<Path> entries, final BitSet files, final NavigableMap<Integer, MessageDigest> checkpoints,
+                                final byte[] hash) {
+        this.entries = entries;
+        this.files = files;
+        this.checkpoints = checkpoints;
+        this.hash = hash;
+    }
+
+    /**
+     * Hashes a whole directory.
+     *
+     * @param messageDigest a new digest
+     * @param root the directory to hash
+     * @return the manifest of the directory
+     * @throws IOException if the directory can't be read
+     */
+    static ContentHashManifest hash(final MessageDigest messageDigest, final Path root) throws IOException {
+        final List<Path> entries = new ArrayList<>();
+        final BitSet files = new BitSet();
+        listEntries(root, root, entries, files);
+        final NavigableMap<Integer, MessageDigest> checkpoints = new TreeMap<>();
+        final byte[] hash = digest(root, entries, files, 0, messageDigest, checkpoints);
+        return new ContentHashManifest(entries, files, checkpoints, hash);
+    }
+
+    /**
+     * Hashes an updated copy of the directory described by this manifest.
+     *
+     * @param messageDigest a new digest, used if no recorded state can be reused
+     * @param root the updated copy
+     * @param changedFiles the files, relative to {@code root}, whose content may have changed. Added or removed entries
+     *                     don't need to be listed.
+     * @return the manifest of the updated copy
+     * @throws IOException if the directory can't be read
+     */
+    ContentHashManifest rehash(final MessageDigest messageDigest, final Path root, final Set<Path> changedFiles) throws IOException {
+        final List<Path> newEntries = new ArrayList<>();
+        final BitSet newFiles = new BitSet();
+        listEntries(root, root, newEntries, newFiles);
+        final int limit = Math.min(entries.size(), newEntries.size());
+        int firstChange = 0;
+        while (firstChange < limit && entries.get(firstChange).equals(newEntries.get(firstChange))
+                && files.get(firstChange) == newFiles.get(firstChange) && !changedFiles.contains(newEntries.get(firstChange))) {
+            firstChange++;
+        }
+        final NavigableMap<Integer, MessageDigest> newCheckpoints = new TreeMap<>();
+        MessageDigest digest = messageDigest;
+        int start = 0;
+        final Map.Entry<Integer, MessageDigest> checkpoint = checkpoints.floorEntry(firstChange);
+        if (checkpoint != null) {
+            final MessageDigest resumed = copy(checkpoint.getValue());
+            if (resumed != null) {
+                digest = resumed;
+                start = checkpoint.getKey();
+                // The entries before the checkpoint are unchanged, and so are their digest states
+                newCheckpoints.putAll(checkpoints.headMap(start, true));
+            }
+        }
+        final byte[] newHash = digest(root, newEntries, newFiles, start, digest, newCheckpoints);
+        return new ContentHashManifest(newEntries, newFiles, newCheckpoints, newHash);
+    }
+
+    byte[] getHash() {
+        return hash.clone();
+    }
+
+    private static void listEntries(final Path root, final Path directory, final List<Path> entries, final BitSet files) throws IOException {
+        if (directory == root) {
+            entries.add(root.relativize(root));
+        }
+        final List<Path> children;
+        try (Stream<Path> paths = Files.list(directory)) {
+            // Same order as HashUtil.hashPath
+            children = paths.sorted((Path path1, Path path2) -> path1.compareTo(path2)).collect(Collectors.toList());
+        }
+        for (Path child : children) {
+            if (Files.isRegularFile(child)) {
+                files.set(entries.size());
+                entries.add(root.relativize(child));
+            } else if (Files.isDirectory(child)) {
+                entries.add(root.relativize(child));
+                listEntries(root, child, entries, files);
+            }
+        }
+    }
+
+    private static byte[] digest(final Path root, final List<Path> entries, final BitSet files, final int start,
+                                 final MessageDigest digest, final NavigableMap<Integer, MessageDigest> checkpoints) throws IOException {
+        final byte[] buffer = new byte[8192];
+        long sinceCheckpoint = CHECKPOINT_INTERVAL;
+        for (int i = start; i < entries.size(); i++) {
+            if (sinceCheckpoint >= CHECKPOINT_INTERVAL) {
+                final MessageDigest state = copy(digest);
+                if (state == null) {
+                    // Not cloneable, updates will be hashed from scratch
+                    checkpoints.clear();
+                    sinceCheckpoint = Long.MIN_VALUE;
+                } else {
+                    checkpoints.put(i, state);
+                    sinceCheckpoint = 0;
+                }
+            }
+            final Path path = root.resolve(entries.get(i));
+            final byte[] name = path.getFileName().toString().getBytes(StandardCharsets.UTF_8);
+            digest.update(name);
+            sinceCheckpoint += name.length;
+            if (files.get(i)) {
+                try (InputStream in = Files.newInputStream(path)) {
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        digest.update(buffer, 0, read);
+                        sinceCheckpoint += read;
+                    }
+                }
+            }
+        }
+        return digest.digest();
+    }
+
+    private static MessageDigest copy(final MessageDigest digest) {
+        try {
+            return (MessageDigest) digest.clone();
+        } catch (CloneNotSupportedException e) {
+            return null;
+        }
+    }
+}
@@ -162,6 +162,42 @@ public interface ContentRepository {
     default void flush(boolean success) {
     }
 
+    /**
+     * Gets the number of content lock requests that had to wait for another operation to release the lock.
+     *
+     * @return the number of contended lock requests
+     */
+    default long getContendedLockCount() {
+        return 0L;
+    }
+
+    /**
+     * Gets the number of content lock requests that failed because the lock wasn't released within the lock timeout.
+     *
+     * @return the number of timed out lock requests
+     */
+    default long getLockTimeoutCount() {
+        return 0L;
+    }
+
+    /**
+     * Gets the average time contended lock requests waited for a content lock.
+     *
+     * @return the average wait time in milliseconds
+     */
+    default long getAverageLockWaitTime() {
+        return 0L;
+    }
+
+    /**
+     * Gets the longest time a lock request waited for a content lock.
+     *
+     * @return the maximum wait time in milliseconds
+     */
+    default long getMaxLockWaitTime() {
+        return 0L;
+    }
+
     /**
      * Clean content that is not referenced from the repository.
      *
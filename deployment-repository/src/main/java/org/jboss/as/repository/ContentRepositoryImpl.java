@@ -35,6 +35,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
@@ -43,6 +44,7 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -55,7 +57,11 @@ import static org.jboss.as.repository.PathUtil.unzip;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
 import org.wildfly.common.Assert;
 
@@ -67,12 +73,41 @@ import org.wildfly.common.Assert;
 public class ContentRepositoryImpl implements ContentRepository {
 
     protected static final String CONTENT = "content";
+    /**
+     * Max number of exploded contents whose hash manifest is kept.
+     */
+    private static final int MAX_HASH_MANIFESTS = 8;
     private final File repoRoot;
     private final File tmpRoot;
+    /**
+     * The digest defining the hash algorithm. It is never used to hash content directly, use
+     * {@link #createMessageDigest()} instead.
+     */
     protected final MessageDigest messageDigest;
     private final Map<String, Set<ContentReference>> contentHashReferences = new HashMap<>();
-    private final Map<String, ReentrantLock> lockedContents = new HashMap<>();
+    /**
+     * The locks of the contents currently in use. An entry only lives as long as some thread holds or waits for its
+     * lock so the table is bounded by the number of concurrent operations and not by the number of contents.
+     */
+    private final ConcurrentMap<String, ContentLock> lockedContents = new ConcurrentHashMap<>();
+    private final LongAdder contendedLockCount = new LongAdder();
+    private final LongAdder lockTimeoutCount = new LongAdder();
+    private final LongAdder totalLockWaitTime = new LongAdder();
+    private final LongAccumulator maxLockWaitTime = new LongAccumulator(Math::max, 0L);
     private final Map<String, Long> obsoleteContents = new HashMap<>();
+    /**
+     * The hash manifests of the most recently hashed exploded contents, so that updating them doesn't require to hash
+     * the whole content again.
+     */
+    private final Map<String, ContentHashManifest> hashManifests = Collections.synchronizedMap(
+            new LinkedHashMap<String, ContentHashManifest>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ContentHashManifest> eldest) {
+                    return size() > MAX_HASH_MANIFESTS;
+                }
+            });
     private final long obsolescenceTimeout;
     private final long lockTimeout;
     private volatile boolean readWrite = false;
@@ -115,32 +150,45 @@ public class ContentRepositoryImpl implements ContentRepository {
         this.readWrite = false;
     }
 
+    /**
+     * Creates the digest used to hash a single piece of content. Each caller gets its own digest so that content
+     * can be hashed concurrently.
+     *
+     * @return a new digest using the same algorithm as {@link #messageDigest}
+     */
+    protected MessageDigest createMessageDigest() {
+        try {
+            return (MessageDigest) messageDigest.clone();
+        } catch (CloneNotSupportedException e) {
+            try {
+                return MessageDigest.getInstance(messageDigest.getAlgorithm());
+            } catch (NoSuchAlgorithmException ex) {
+                throw DeploymentRepositoryLogger.ROOT_LOGGER.cannotObtainSha1(ex, MessageDigest.class.getSimpleName());
+            }
+        }
+    }
+
     @Override
     public byte[] addContent(InputStream stream) throws IOException {
         byte[] sha1Bytes;
         Path tmp = File.createTempFile(CONTENT, ".tmp", repoRoot).toPath();
+        final MessageDigest digest = createMessageDigest();
         if (stream != null) {
             try (OutputStream fos = Files.newOutputStream(tmp)) {
-                synchronized (messageDigest) {
-                    messageDigest.reset();
-                    DigestOutputStream dos = new DigestOutputStream(fos, messageDigest);
-                    BufferedInputStream bis = new BufferedInputStream(stream);
-                    byte[] bytes = new byte[8192];
-                    int read;
-                    while ((read = bis.read(bytes)) > -1) {
-                        dos.write(bytes, 0, read);
-                    }
-                    fos.flush();
+                DigestOutputStream dos = new DigestOutputStream(fos, digest);
+                BufferedInputStream bis = new BufferedInputStream(stream);
+                byte[] bytes = new byte[8192];
+                int read;
+                while ((read = bis.read(bytes)) > -1) {
+                    dos.write(bytes, 0, read);
                 }
-                sha1Bytes = messageDigest.digest();
+                fos.flush();
             }
+            sha1Bytes = digest.digest();
         } else {//create a directory instead
             Files.delete(tmp);
             Files.createDirectory(tmp);
-            synchronized (messageDigest) {
-                messageDigest.reset();
-                sha1Bytes = HashUtil.hashPath(messageDigest, tmp);
-            }
+            sha1Bytes = HashUtil.hashPath(digest, tmp);
         }
         final Path realFile = getDeploymentContentFile(sha1Bytes, true);
         if (hasContent(sha1Bytes)) {
@@ -239,6 +287,10 @@ public class ContentRepositoryImpl implements ContentRepository {
         Path localTmp = permanentFile.resolveSibling("tmp");
         try {
             Files.move(tmpFile, permanentFile);
+        } catch (FileAlreadyExistsException ex) {
+            // The same content was stored concurrently. As the location is derived from the hash of the content
+            // there is nothing left to do but to clean up
+            DeploymentRepositoryLogger.ROOT_LOGGER.debugf("Content was concurrently added to repository at location %s", permanentFile.toAbsolutePath().toString());
         } catch (IOException ioex) {
             // AS7-3574. Try to avoid writing the permanent file bit by bit in we crash in the middle.
             // Copy tmpFile to another tmpfile in the same dir as the permanent file (and thus same filesystem)
@@ -286,6 +338,7 @@ public class ContentRepositoryImpl implements ContentRepository {
                 contentHashReferences.remove(reference.getHexHash());
             }
         }
+        hashManifests.remove(reference.getHexHash());
         Path contentPath;
         if (!HashUtil.isEachHexHashInTable(reference.getHexHash())) {
             contentPath = Paths.get(reference.getContentIdentifier());
@@ -421,7 +474,7 @@ public class ContentRepositoryImpl implements ContentRepository {
             Path tmp = createTempDirectory(repoRoot.toPath(), CONTENT);
             Path contentDir = Files.createDirectory(tmp.resolve(CONTENT));
             unzip(contentPath, contentDir);
-            byte[] sha1Bytes = HashUtil.hashPath(messageDigest, contentDir);
+            byte[] sha1Bytes = hashExplodedContent(null, contentDir, Collections.emptySet());
             final Path realFile = getDeploymentContentFile(sha1Bytes, true);
             if (hasContent(sha1Bytes)) {
                 // we've already got this content
@@ -464,7 +517,8 @@ public class ContentRepositoryImpl implements ContentRepository {
                     deleteRecursively(targetPath);
                 }
                 unzip(sourcePath, targetPath);
-                byte[] sha1Bytes = HashUtil.hashPath(messageDigest, contentDir);
+                byte[] sha1Bytes = hashExplodedContent(deploymentHash, contentDir,
+                        Collections.singleton(contentDir.normalize().relativize(targetPath)));
                 final Path realFile = getDeploymentContentFile(sha1Bytes, true);
                 if (hasContent(sha1Bytes)) {
                     // we've already got this content
@@ -490,6 +544,28 @@ public class ContentRepositoryImpl implements ContentRepository {
         }
     }
 
+    /**
+     * Hashes an exploded content. If the content is an updated copy of a content whose hash manifest is known, only
+     * the entries following the first change get hashed.
+     *
+     * @param sourceHash the hash of the content that was copied, {@code null} if the content is new
+     * @param contentDir the content to hash
+     * @param changedFiles the files, relative to {@code contentDir}, whose content got replaced
+     * @return the hash of the content
+     */
+    private byte[] hashExplodedContent(byte[] sourceHash, Path contentDir, Set<Path> changedFiles) throws IOException {
+        final ContentHashManifest source = sourceHash == null ? null : hashManifests.get(HashUtil.bytesToHexString(sourceHash));
+        final ContentHashManifest manifest;
+        if (source == null) {
+            manifest = ContentHashManifest.hash(createMessageDigest(), contentDir);
+        } else {
+            manifest = source.rehash(createMessageDigest(), contentDir, changedFiles);
+        }
+        final byte[] sha1Bytes = manifest.getHash();
+        hashManifests.put(HashUtil.bytesToHexString(sha1Bytes), manifest);
+        return sha1Bytes;
+    }
+
     @Override
     public void copyExplodedContent(byte[] deploymentHash, final Path target) throws ExplodedContentException {
         final Path contentPath = getDeploymentContentFile(deploymentHash);
@@ -519,30 +595,99 @@ public class ContentRepositoryImpl implements ContentRepository {
     }
 
     private boolean lock(byte[] hash) throws InterruptedException {
-        String hashHex = HashUtil.bytesToHexString(hash);
-        synchronized(lockedContents) {
-            if(!lockedContents.containsKey(hashHex)) {
-                lockedContents.put(hashHex, new ReentrantLock());
+        final String hashHex = HashUtil.bytesToHexString(hash);
+        // Register as a user of the lock first so that it can't be evicted while we are waiting for it
+        final ContentLock lock = lockedContents.compute(hashHex, (key, existing) -> {
+            ContentLock contentLock = existing == null ? new ContentLock() : existing;
+            contentLock.users++;
+            return contentLock;
+        });
+        boolean locked = false;
+        try {
+            locked = lock.tryLock();
+            if (!locked) {
+                final long start = System.nanoTime();
+                try {
+                    locked = lock.tryLock(lockTimeout, TimeUnit.MILLISECONDS);
+                } finally {
+                    recordLockWait(System.nanoTime() - start, locked);
+                }
+            }
+            return locked;
+        } finally {
+            if (!locked) {
+                release(hashHex);
             }
-            return lockedContents.get(hashHex).tryLock(lockTimeout, TimeUnit.MILLISECONDS);
         }
     }
 
     private void unlock(byte[] hash) {
-        String hashHex = HashUtil.bytesToHexString(hash);
-        synchronized (lockedContents) {
-            if (lockedContents.containsKey(hashHex)) {
-                ReentrantLock lock = lockedContents.get(hashHex);
-                if (lock.isHeldByCurrentThread()) {
-                    lock.unlock();
-                    if (!Files.exists(getDeploymentContentFile(hash))) {
-                        lockedContents.remove(hashHex);
-                    }
-                }
-            }
+        final String hashHex = HashUtil.bytesToHexString(hash);
+        final ContentLock lock = lockedContents.get(hashHex);
+        if (lock != null && lock.isHeldByCurrentThread()) {
+            lock.unlock();
+            release(hashHex);
         }
     }
 
+    private void release(String hashHex) {
+        lockedContents.computeIfPresent(hashHex, (key, lock) -> --lock.users == 0 ? null : lock);
+    }
+
+    private void recordLockWait(long waitTime, boolean locked) {
+        contendedLockCount.increment();
+        totalLockWaitTime.add(waitTime);
+        maxLockWaitTime.accumulate(waitTime);
+        if (!locked) {
+            lockTimeoutCount.increment();
+        }
+    }
+
+    /**
+     * Gets the number of content lock requests that had to wait for another operation to release the lock.
+     *
+     * @return the number of contended lock requests
+     */
+    @Override
+    public long getContendedLockCount() {
+        return contendedLockCount.sum();
+    }
+
+    /**
+     * Gets the number of content lock requests that failed because the lock wasn't released within the lock timeout.
+     *
+     * @return the number of timed out lock requests
+     */
+    @Override
+    public long getLockTimeoutCount() {
+        return lockTimeoutCount.sum();
+    }
+
+    /**
+     * Gets the average time contended lock requests waited for a content lock.
+     *
+     * @return the average wait time in milliseconds
+     */
+    @Override
+    public long getAverageLockWaitTime() {
+        final long count = contendedLockCount.sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLockWaitTime.sum() / count);
+    }
+
+    /**
+     * Gets the longest time a lock request waited for a content lock.
+     *
+     * @return the maximum wait time in milliseconds
+     */
+    @Override
+    public long getMaxLockWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLockWaitTime.get());
+    }
+
+    int getLockTableSize() {
+        return lockedContents.size();
+    }
+
     @Override
     public TypedInputStream readContent(byte[] deploymentHash, String path) throws ExplodedContentException {
         Path tmpDir = null;
@@ -613,8 +758,10 @@ public class ContentRepositoryImpl implements ContentRepository {
                 Path tmp = createTempDirectory(repoRoot.toPath(), CONTENT);
                 Path contentDir = tmp.resolve(CONTENT);
                 copyRecursively(contentPath, contentDir, overwrite);
+                final Set<Path> changedFiles = new HashSet<>();
                 for (ExplodedContent newContent : addFiles) {
                     Path targetFile = resolveSecurely(contentDir, newContent.getRelativePath());
+                    changedFiles.add(contentDir.normalize().relativize(targetFile));
                     if (!Files.exists(targetFile)) {
                         Files.createDirectories(targetFile.getParent());
                     }
@@ -630,7 +777,7 @@ public class ContentRepositoryImpl implements ContentRepository {
                         }
                     }
                 }
-                byte[] sha1Bytes = HashUtil.hashPath(messageDigest, contentDir);
+                byte[] sha1Bytes = hashExplodedContent(deploymentHash, contentDir, changedFiles);
                 final Path realFile = getDeploymentContentFile(sha1Bytes, true);
                 if (hasContent(sha1Bytes)) {
                     // we've already got this content
@@ -667,7 +814,7 @@ public class ContentRepositoryImpl implements ContentRepository {
                     Path targetFile = resolveSecurely(contentDir, path);
                     deleteFileWithEmptyAncestorDirectories(targetFile);
                 }
-                byte[] sha1Bytes = HashUtil.hashPath(messageDigest, contentDir);
+                byte[] sha1Bytes = hashExplodedContent(deploymentHash, contentDir, Collections.emptySet());
                 final Path realFile = getDeploymentContentFile(sha1Bytes, true);
                 if (hasContent(sha1Bytes)) {
                     // we've already got this content
@@ -691,4 +838,13 @@ public class ContentRepositoryImpl implements ContentRepository {
             throw DeploymentRepositoryLogger.ROOT_LOGGER.errorUpdatingDeployment(ex);
         }
     }
+
+    /**
+     * Lock of a content, counting the threads holding or waiting for it.
+     */
+    private static final class ContentLock extends ReentrantLock {
+        private static final long serialVersionUID = 1L;
+        // only accessed from within the atomic operations on lockedContents
+        private int users;
+    }
 }
@@ -39,16 +39,21 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 import org.hamcrest.CoreMatchers;
@@ -125,6 +130,40 @@ public class ContentRepositoryTest {
         }
     }
 
+    /**
+     * Test of concurrent calls to the addContent method, of class ContentRepository.
+     */
+    @Test
+    public void testAddContentConcurrently() throws Exception {
+        byte[] overlay;
+        try (InputStream stream = getResourceAsStream("overlay.xhtml"); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            StreamUtils.copyStream(stream, out);
+            overlay = out.toByteArray();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<byte[]>> sameContent = new ArrayList<>();
+            List<Future<byte[]>> otherContent = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                final byte[] other = ("content " + i).getBytes(StandardCharsets.UTF_8);
+                sameContent.add(executor.submit(() -> repository.addContent(new ByteArrayInputStream(overlay))));
+                otherContent.add(executor.submit(() -> repository.addContent(new ByteArrayInputStream(other))));
+            }
+            for (Future<byte[]> hash : sameContent) {
+                assertThat(HashUtil.bytesToHexString(hash.get()), is("0c40ffacd15b0f66d5081a93407d3ff5e3c65a71"));
+            }
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            for (int i = 0; i < 16; i++) {
+                byte[] expected = digest.digest(("content " + i).getBytes(StandardCharsets.UTF_8));
+                byte[] hash = otherContent.get(i).get();
+                assertThat(HashUtil.bytesToHexString(hash), is(HashUtil.bytesToHexString(expected)));
+                assertTrue(repository.hasContent(hash));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * Test of explodeContent method, of class ContentRepository.
      */
@@ -318,6 +357,55 @@ public class ContentRepositoryTest {
         }
     }
 
+    /**
+     * Test that the hash of an updated exploded content, computed from the first change, is the hash of the whole
+     * content.
+     */
+    @Test
+    public void testIncrementalExplodedContentHash() throws Exception {
+        final int size = (int) (ContentHashManifest.CHECKPOINT_INTERVAL * 3 / 2);
+        byte[] archive;
+        try (ByteArrayOutputStream buffer = new ByteArrayOutputStream()) {
+            try (ZipOutputStream out = new ZipOutputStream(buffer)) {
+                for (String entryName : new String[]{"a/first.bin", "b/second.bin", "c/third.bin"}) {
+                    out.putNextEntry(new ZipEntry(entryName));
+                    byte[] data = new byte[size];
+                    Arrays.fill(data, (byte) entryName.charAt(0));
+                    out.write(data);
+                    out.closeEntry();
+                }
+            }
+            archive = buffer.toByteArray();
+        }
+        try (ByteArrayInputStream stream = new ByteArrayInputStream(archive)) {
+            byte[] hash = repository.explodeContent(repository.addContent(stream));
+            assertThat(HashUtil.bytesToHexString(hash), is(hashContent(hash)));
+            // a change after the first checkpoints
+            hash = repository.addContentToExploded(hash,
+                    Collections.singletonList(new ExplodedContent("c/added.txt",
+                            new ByteArrayInputStream("this is a test".getBytes(StandardCharsets.UTF_8)))),
+                    true);
+            assertThat(HashUtil.bytesToHexString(hash), is(hashContent(hash)));
+            // a file replaced by a content of the same size
+            byte[] data = new byte[size];
+            Arrays.fill(data, (byte) 'z');
+            hash = repository.addContentToExploded(hash,
+                    Collections.singletonList(new ExplodedContent("b/second.bin", new ByteArrayInputStream(data))),
+                    true);
+            assertThat(HashUtil.bytesToHexString(hash), is(hashContent(hash)));
+            // a change before all the checkpoints
+            hash = repository.removeContentFromExploded(hash, Collections.singletonList("a/first.bin"));
+            assertThat(HashUtil.bytesToHexString(hash), is(hashContent(hash)));
+            hash = repository.removeContentFromExploded(hash, Collections.singletonList("c/added.txt"));
+            assertThat(HashUtil.bytesToHexString(hash), is(hashContent(hash)));
+        }
+    }
+
+    private String hashContent(byte[] hash) throws Exception {
+        Path content = repository.getContent(hash).getPhysicalFile().toPath();
+        return HashUtil.bytesToHexString(HashUtil.hashPath(MessageDigest.getInstance("SHA-1"), content));
+    }
+
     @Test
     public void testListContents() throws Exception {
         byte[] archive = createArchive(Collections.singletonList("overlay.xhtml"));
@@ -365,6 +453,8 @@ public class ContentRepositoryTest {
             assertThat(contents, is(notNullValue()));
             assertThat(contents.size(), is(2));
             assertThat(contents, CoreMatchers.hasItems("overlay.xhtml", "test/empty-file.txt"));
+            // content locks are released once no operation uses them anymore
+            assertThat(((ContentRepositoryImpl) repository).getLockTableSize(), is(0));
         }
     }
 
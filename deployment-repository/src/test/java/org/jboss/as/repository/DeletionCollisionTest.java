@@ -116,6 +116,11 @@ public class DeletionCollisionTest {
             } catch(ExecutionException ex) {
                 Assert.assertTrue(ex.getCause().getMessage().contains("WFLYDR0019"));
             }
+            ContentRepositoryImpl impl = (ContentRepositoryImpl) repository;
+            Assert.assertEquals(1L, impl.getLockTimeoutCount());
+            Assert.assertTrue(impl.getContendedLockCount() >= 1L);
+            Assert.assertTrue(impl.getMaxLockWaitTime() >= 1000L);
+            Assert.assertEquals(0, impl.getLockTableSize());
         }
     }
 }
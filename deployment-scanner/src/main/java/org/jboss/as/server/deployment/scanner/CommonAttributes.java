@@ -30,14 +30,19 @@ interface CommonAttributes {
     String AUTO_DEPLOY_ZIPPED = "auto-deploy-zipped";
     String AUTO_DEPLOY_EXPLODED = "auto-deploy-exploded";
     String AUTO_DEPLOY_XML = "auto-deploy-xml";
+    String BATCH_WINDOW = "batch-window";
+    String COALESCED_TASK_COUNT = "coalesced-task-count";
     String DEPLOYMENT_SCANNER = "deployment-scanner";
     String DEPLOYMENT_TIMEOUT = "deployment-timeout";
+    String LAST_SCAN_DURATION = "last-scan-duration";
+    String LAST_SCAN_FILES_EXAMINED = "last-scan-files-examined";
     String NAME = "name";
     String PATH = "path";
     String RELATIVE_TO = "relative-to";
     String SCANNER = "scanner";
     String SCAN_ENABLED = "scan-enabled";
     String SCAN_INTERVAL = "scan-interval";
+    String SCAN_MODE = "scan-mode";
     String RUNTIME_FAILURE_CAUSES_ROLLBACK = "runtime-failure-causes-rollback";
 
 }
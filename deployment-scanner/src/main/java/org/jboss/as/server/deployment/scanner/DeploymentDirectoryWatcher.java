@@ -0,0 +1,146 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.server.deployment.scanner;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Tracks the directories of a deployment directory tree whose entries changed, using the file system's
+ * {@link WatchService}.
+ * <p>
+ * Watch services don't report changes in nested directories so every directory of the tree is registered, except the
+ * subtrees rejected by the {@code descend} predicate. Directories created later on are registered as their creation
+ * gets reported.
+ * <p>
+ * This class is not thread safe, it is meant to be used by the thread performing the scans.
+ *
+ * @see FileSystemDeploymentService
+ */
+class DeploymentDirectoryWatcher implements Closeable {
+
+    private final Path root;
+    private final Predicate<Path> descend;
+    private final WatchService watchService;
+
+    /**
+     * Creates a watcher and registers the directory tree.
+     *
+     * @param root the root of the watched directory tree
+     * @param descend predicate telling whether the subtree of a directory should be watched
+     * @throws IOException if the watch service can't be created or the tree can't be registered
+     */
+    DeploymentDirectoryWatcher(Path root, Predicate<Path> descend) throws IOException {
+        this.root = root;
+        this.descend = descend;
+        this.watchService = root.getFileSystem().newWatchService();
+        try {
+            register(root);
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the directories whose entries changed since the previous call.
+     *
+     * @return the changed directories, or {@code null} if some events were lost and the whole tree must be considered
+     * changed
+     */
+    Set<Path> pollChangedDirectories() {
+        final Set<Path> changed = new HashSet<>();
+        try {
+            WatchKey key;
+            while ((key = watchService.poll()) != null) {
+                final Path directory = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == OVERFLOW) {
+                        key.reset();
+                        return null;
+                    }
+                    changed.add(directory);
+                    if (event.kind() == ENTRY_CREATE) {
+                        final Path child = directory.resolve((Path) event.context());
+                        if (Files.isDirectory(child) && descend.test(child)) {
+                            try {
+                                register(child);
+                            } catch (IOException e) {
+                                // We could miss changes in the new subtree
+                                key.reset();
+                                return null;
+                            }
+                        }
+                    }
+                }
+                if (!key.reset() && directory.equals(root)) {
+                    // The root itself is gone
+                    return null;
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            return null;
+        }
+        return changed;
+    }
+
+    private void register(Path directory) throws IOException {
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (!dir.equals(root) && !descend.test(dir)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+                // The entry may have been removed in the meantime
+                return Files.exists(file) ? super.visitFileFailed(file, exc) : FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
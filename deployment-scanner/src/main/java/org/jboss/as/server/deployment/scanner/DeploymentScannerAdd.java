@@ -29,11 +29,14 @@ import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition
 import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition.AUTO_DEPLOY_EXPLODED;
 import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition.AUTO_DEPLOY_XML;
 import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition.AUTO_DEPLOY_ZIPPED;
+import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition.BATCH_WINDOW;
 import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition.DEPLOYMENT_TIMEOUT;
 import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition.RELATIVE_TO;
 import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition.RUNTIME_FAILURE_CAUSES_ROLLBACK;
 import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition.SCAN_ENABLED;
 import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition.SCAN_INTERVAL;
+import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition.SCAN_MODE;
+import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition.SCAN_MODE_WATCH;
 
 import java.io.File;
 import java.io.IOException;
@@ -112,6 +115,8 @@ class DeploymentScannerAdd implements OperationStepHandler {
             final long deploymentTimeout = DEPLOYMENT_TIMEOUT.resolveModelAttribute(context, operation).asLong();
             final int scanInterval = SCAN_INTERVAL.resolveModelAttribute(context, operation).asInt();
             final boolean rollback = RUNTIME_FAILURE_CAUSES_ROLLBACK.resolveModelAttribute(context, operation).asBoolean();
+            final boolean watch = SCAN_MODE_WATCH.equals(SCAN_MODE.resolveModelAttribute(context, operation).asString());
+            final long batchWindow = BATCH_WINDOW.resolveModelAttribute(context, operation).asLong();
 
             final ScheduledExecutorService scheduledExecutorService = createScannerExecutorService();
 
@@ -130,6 +135,8 @@ class DeploymentScannerAdd implements OperationStepHandler {
                 bootTimeScanner.setDeploymentTimeout(deploymentTimeout);
                 bootTimeScanner.setScanInterval(scanInterval);
                 bootTimeScanner.setRuntimeFailureCausesRollback(rollback);
+                bootTimeScanner.setWatchEnabled(watch);
+                bootTimeScanner.setBatchWindow(batchWindow);
             } else {
                 bootTimeScanner = null;
             }
@@ -252,8 +259,10 @@ class DeploymentScannerAdd implements OperationStepHandler {
         final Boolean autoDeployXml = AUTO_DEPLOY_XML.resolveModelAttribute(context, model).asBoolean();
         final Long deploymentTimeout = DEPLOYMENT_TIMEOUT.resolveModelAttribute(context, model).asLong();
         final Boolean rollback = RUNTIME_FAILURE_CAUSES_ROLLBACK.resolveModelAttribute(context, model).asBoolean();
+        final boolean watch = SCAN_MODE_WATCH.equals(SCAN_MODE.resolveModelAttribute(context, model).asString());
+        final long batchWindow = BATCH_WINDOW.resolveModelAttribute(context, model).asLong();
         DeploymentScannerService.addService(context, address, relativeTo, path, interval, TimeUnit.MILLISECONDS,
-                autoDeployZip, autoDeployExp, autoDeployXml, enabled, deploymentTimeout, rollback, bootTimeScanner, executorService);
+                autoDeployZip, autoDeployExp, autoDeployXml, enabled, deploymentTimeout, rollback, watch, batchWindow, bootTimeScanner, executorService);
 
     }
 
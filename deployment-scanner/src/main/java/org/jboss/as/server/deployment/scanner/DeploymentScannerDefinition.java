@@ -28,6 +28,9 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
+import org.jboss.as.controller.operations.validation.StringAllowedValuesValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.services.path.PathInfoHandler;
@@ -126,7 +129,44 @@ public class DeploymentScannerDefinition extends SimpleResourceDefinition {
                     .setDefaultValue(ModelNode.FALSE)
                     .build();
 
-    protected static final SimpleAttributeDefinition[] ALL_ATTRIBUTES = {PATH,RELATIVE_TO,SCAN_ENABLED,SCAN_INTERVAL,AUTO_DEPLOY_EXPLODED,AUTO_DEPLOY_XML,AUTO_DEPLOY_ZIPPED,DEPLOYMENT_TIMEOUT,RUNTIME_FAILURE_CAUSES_ROLLBACK};
+    static final String SCAN_MODE_POLL = "poll";
+    static final String SCAN_MODE_WATCH = "watch";
+
+    protected static final SimpleAttributeDefinition SCAN_MODE =
+            new SimpleAttributeDefinitionBuilder(CommonAttributes.SCAN_MODE, ModelType.STRING, true)
+                    .setXmlName(CommonAttributes.SCAN_MODE)
+                    .setAllowExpression(true)
+                    .setDefaultValue(new ModelNode(SCAN_MODE_POLL))
+                    .setValidator(new StringAllowedValuesValidator(SCAN_MODE_POLL, SCAN_MODE_WATCH))
+                    .setAllowedValues(SCAN_MODE_POLL, SCAN_MODE_WATCH)
+                    .build();
+
+    protected static final SimpleAttributeDefinition BATCH_WINDOW =
+            new SimpleAttributeDefinitionBuilder(CommonAttributes.BATCH_WINDOW, ModelType.LONG, true)
+                    .setXmlName(CommonAttributes.BATCH_WINDOW)
+                    .setAllowExpression(true)
+                    .setDefaultValue(new ModelNode(0L))
+                    .setValidator(new LongRangeValidator(0L, true))
+                    .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                    .build();
+
+    protected static final SimpleAttributeDefinition LAST_SCAN_DURATION =
+            new SimpleAttributeDefinitionBuilder(CommonAttributes.LAST_SCAN_DURATION, ModelType.LONG)
+                    .setStorageRuntime()
+                    .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                    .build();
+
+    protected static final SimpleAttributeDefinition LAST_SCAN_FILES_EXAMINED =
+            new SimpleAttributeDefinitionBuilder(CommonAttributes.LAST_SCAN_FILES_EXAMINED, ModelType.LONG)
+                    .setStorageRuntime()
+                    .build();
+
+    protected static final SimpleAttributeDefinition COALESCED_TASK_COUNT =
+            new SimpleAttributeDefinitionBuilder(CommonAttributes.COALESCED_TASK_COUNT, ModelType.LONG)
+                    .setStorageRuntime()
+                    .build();
+
+    protected static final SimpleAttributeDefinition[] ALL_ATTRIBUTES = {PATH,RELATIVE_TO,SCAN_ENABLED,SCAN_INTERVAL,AUTO_DEPLOY_EXPLODED,AUTO_DEPLOY_XML,AUTO_DEPLOY_ZIPPED,DEPLOYMENT_TIMEOUT,RUNTIME_FAILURE_CAUSES_ROLLBACK,SCAN_MODE,BATCH_WINDOW};
 
     @Override
     public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
@@ -141,6 +181,11 @@ public class DeploymentScannerDefinition extends SimpleResourceDefinition {
         resourceRegistration.registerReadWriteAttribute(AUTO_DEPLOY_XML, null, commonHandler);
         resourceRegistration.registerReadWriteAttribute(DEPLOYMENT_TIMEOUT, null, commonHandler);
         resourceRegistration.registerReadWriteAttribute(RUNTIME_FAILURE_CAUSES_ROLLBACK, null, commonHandler);
+        resourceRegistration.registerReadWriteAttribute(SCAN_MODE, null, commonHandler);
+        resourceRegistration.registerReadWriteAttribute(BATCH_WINDOW, null, commonHandler);
+        resourceRegistration.registerMetric(LAST_SCAN_DURATION, ScannerMetricsHandler.INSTANCE);
+        resourceRegistration.registerMetric(LAST_SCAN_FILES_EXAMINED, ScannerMetricsHandler.INSTANCE);
+        resourceRegistration.registerMetric(COALESCED_TASK_COUNT, ScannerMetricsHandler.INSTANCE);
     }
 
     @Override
@@ -43,6 +43,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROL
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STEPS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.URL;
+import static java.security.AccessController.doPrivileged;
 import static org.jboss.as.server.deployment.scanner.logging.DeploymentScannerLogger.ROOT_LOGGER;
 
 import java.beans.PropertyChangeEvent;
@@ -57,18 +58,28 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.DirectoryStream.Filter;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.PrivilegedAction;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
@@ -91,6 +102,7 @@ import org.jboss.as.server.deployment.scanner.api.DeploymentScanner;
 import org.jboss.as.server.deployment.scanner.logging.DeploymentScannerLogger;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.Property;
+import org.jboss.threads.JBossThreadFactory;
 
 /**
  * Service that monitors the filesystem for deployment content and if found deploys it.
@@ -123,6 +135,21 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
      */
     static final long DEFAULT_DEPLOYMENT_TIMEOUT = 600;
 
+    /**
+     * Max period between two scans of the whole deployment directory when changes are detected using a watch service
+     */
+    static final long WATCH_FULL_SCAN_INTERVAL = 60000;
+
+    /**
+     * Max number of threads checking whether auto-deploy content is completely copied
+     */
+    static final int MAX_COMPLETION_CHECK_THREADS = 4;
+
+    /**
+     * Interval in ms at which a scan waiting for a completion check verifies whether the scanner was stopped
+     */
+    static final long COMPLETION_CHECK_POLL_INTERVAL = 100;
+
     private File deploymentDir;
     private long scanInterval = 0;
     private volatile boolean scanEnabled = false;
@@ -131,6 +158,7 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
     private ScheduledFuture<?> scanTask;
     private ScheduledFuture<?> rescanIncompleteTask;
     private ScheduledFuture<?> rescanUndeployTask;
+    private ScheduledFuture<?> rescanBatchTask;
     private final Lock scanLock = new ReentrantLock();
 
     private final Map<String, DeploymentMarker> deployed = new HashMap<String, DeploymentMarker>();
@@ -163,6 +191,28 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
     private volatile boolean deploymentDirAccessible = true;
     private volatile boolean lastScanSuccessful = true;
 
+    private volatile boolean watchEnabled;
+    private volatile DeploymentDirectoryWatcher watcher;
+    private boolean watcherFailed;
+    private volatile boolean fullScanRequired = true;
+    private long lastFullScanTime;
+    private final LongAdder filesExamined = new LongAdder();
+    private volatile long lastScanDuration;
+    private volatile long lastScanFilesExamined;
+
+    private volatile long batchWindow;
+    /** Changes held back by the batch window, by deployment file, with the timestamp of their content */
+    private Map<File, Long> heldChanges = Collections.emptyMap();
+    /** Held changes that were detected before the last change, so which are deployed with later ones */
+    private final Set<File> coalescedChanges = new HashSet<>();
+    private long heldChangesTime;
+    private volatile long coalescedTaskCount;
+
+    private ExecutorService completionCheckExecutor;
+    /** Set while the scanner is stopped, so that no completion check executor gets created */
+    private volatile boolean completionChecksStopped;
+    private final Map<File, CompleteContent> completeContents = new ConcurrentHashMap<>();
+
     @Override
     public void handleNotification(Notification notification) {
         if (scanEnabled && acquireScanLock()) {
@@ -310,7 +360,13 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
         if (autoDeployExploded && !this.autoDeployExploded) {
             ROOT_LOGGER.explodedAutoDeploymentContentWarning(DO_DEPLOY, CommonAttributes.AUTO_DEPLOY_EXPLODED);
         }
-        this.autoDeployExploded = autoDeployExploded;
+        if (autoDeployExploded != this.autoDeployExploded) {
+            this.autoDeployExploded = autoDeployExploded;
+            // The content of exploded deployments is only watched if it gets auto-deployed
+            synchronized (this) {
+                stopWatcher();
+            }
+        }
     }
 
     @Override
@@ -342,6 +398,66 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
         startScan();
     }
 
+    /**
+     * Sets whether the directories to scan are found using the file system's watch service instead of scanning the whole
+     * deployment directory.
+     *
+     * @param watchEnabled {@code true} to only scan the directories the watch service reports changes for
+     */
+    @Override
+    public synchronized void setWatchEnabled(boolean watchEnabled) {
+        this.watchEnabled = watchEnabled;
+        this.watcherFailed = false;
+        stopWatcher();
+    }
+
+    boolean isWatchEnabled() {
+        return watchEnabled;
+    }
+
+    /**
+     * Sets the period during which no new change must be detected before the changes found by the scans get deployed.
+     *
+     * @param batchWindow the period in milliseconds, {@code 0} to deploy the changes found by each scan right away
+     */
+    @Override
+    public void setBatchWindow(long batchWindow) {
+        this.batchWindow = batchWindow;
+    }
+
+    long getBatchWindow() {
+        return batchWindow;
+    }
+
+    /**
+     * Gets the number of deployment tasks that were held back by the batch window and then executed together with
+     * the tasks of later scans.
+     *
+     * @return the number of coalesced tasks
+     */
+    long getCoalescedTaskCount() {
+        return coalescedTaskCount;
+    }
+
+    /**
+     * Gets the time spent examining the deployment directory during the last scan, excluding the time spent executing
+     * the resulting deployment operations.
+     *
+     * @return the duration in milliseconds
+     */
+    long getLastScanDuration() {
+        return lastScanDuration;
+    }
+
+    /**
+     * Gets the number of files and directories examined during the last scan.
+     *
+     * @return the number of examined files
+     */
+    long getLastScanFilesExamined() {
+        return lastScanFilesExamined;
+    }
+
     @Override
     public void setDeploymentTimeout(long deploymentTimeout) {
         this.deploymentTimeout = deploymentTimeout;
@@ -369,6 +485,7 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
             return;
         }
         this.scanEnabled = true;
+        this.completionChecksStopped = false;
         startScan();
         ROOT_LOGGER.started(getClass().getSimpleName(), deploymentDir.getAbsolutePath());
     }
@@ -380,6 +497,18 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
     public synchronized void stopScanner() {
         this.scanEnabled = false;
         cancelScan();
+        stopWatcher();
+        completionChecksStopped = true;
+        if (completionCheckExecutor != null) {
+            // Cancel the queued checks so that a scan waiting for them treats the content as incomplete
+            for (Runnable pending : completionCheckExecutor.shutdownNow()) {
+                if (pending instanceof Future) {
+                    ((Future<?>) pending).cancel(false);
+                }
+            }
+            completionCheckExecutor = null;
+        }
+        completeContents.clear();
         safeClose(deploymentOperations);
         this.deploymentOperations = null;
         if (undeployScanTask != null) {
@@ -581,6 +710,10 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
                     lastScanSuccessful = false;
                     ROOT_LOGGER.scanFailed(deploymentDir.getAbsolutePath());
                 }
+                // the directory may have been replaced
+                synchronized (this) {
+                    stopWatcher();
+                }
                 return scheduleRescan;
             }
             // if deployed content list was not established during scanner start (due to inaccessible deployment dir),
@@ -590,6 +723,14 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
                 deployedContentEstablished = true;
             }
 
+            // With a watch service only the directories with reported changes need to be scanned
+            final Set<File> changedDirectories = oneOffScan ? null : getChangedDirectories();
+            if (changedDirectories != null && changedDirectories.isEmpty()) {
+                ROOT_LOGGER.tracef("No changes reported in directory %s", deploymentDir.getAbsolutePath());
+                return scheduleRescan;
+            }
+            final boolean fullScan = changedDirectories == null;
+
             ScanContext scanContext = null;
             try {
                 scanContext = new ScanContext(deploymentOperations);
@@ -601,11 +742,28 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
                 throw ex;
             }
 
-            scanDirectory(deploymentDir, relativePath, scanContext);
+            final long scanStart = System.nanoTime();
+            filesExamined.reset();
+            if (fullScan) {
+                // Forget about the content which is gone
+                completeContents.keySet().removeIf(file -> !file.exists());
+                scanDirectory(deploymentDir, relativePath, scanContext);
+            } else {
+                for (File directory : changedDirectories) {
+                    scanDirectory(directory, getRelativePath(directory), scanContext);
+                }
+                // Only the deployments in the scanned directories can be found missing
+                scanContext.toRemove.values().removeIf(marker -> !isInDirectories(marker.parentFolder, changedDirectories));
+            }
+            lastScanDuration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - scanStart);
+            lastScanFilesExamined = filesExamined.sum();
 
             // WARN about markers with no associated content. Do this first in case any auto-deploy issue
-            // is due to a file that wasn't meant to be auto-deployed, but has a misspelled marker
-            ignoredMissingDeployments.retainAll(scanContext.ignoredMissingDeployments);
+            // is due to a file that wasn't meant to be auto-deployed, but has a misspelled marker.
+            // Only a full scan tells which of the previously reported problems are gone.
+            if (fullScan) {
+                ignoredMissingDeployments.retainAll(scanContext.ignoredMissingDeployments);
+            }
             for (String deploymentName : scanContext.ignoredMissingDeployments) {
                 if (ignoredMissingDeployments.add(deploymentName)) {
                     ROOT_LOGGER.deploymentNotFound(deploymentName);
@@ -613,7 +771,9 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
             }
 
             // Log INFO about non-auto-deploy files that have no marker files
-            noticeLogged.retainAll(scanContext.nonDeployable);
+            if (fullScan) {
+                noticeLogged.retainAll(scanContext.nonDeployable);
+            }
             for (String fileName : scanContext.nonDeployable) {
                 if (noticeLogged.add(fileName)) {
                     ROOT_LOGGER.deploymentTriggered(fileName, DO_DEPLOY);
@@ -621,7 +781,9 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
             }
 
             // Log ERROR about META-INF and WEB-INF dirs outside a deployment
-            illegalDirLogged.retainAll(scanContext.illegalDir);
+            if (fullScan) {
+                illegalDirLogged.retainAll(scanContext.illegalDir);
+            }
             for (String fileName : scanContext.illegalDir) {
                 if (illegalDirLogged.add(fileName)) {
                     ROOT_LOGGER.invalidExplodedDeploymentDirectory(fileName, deploymentDir.getAbsolutePath());
@@ -629,7 +791,9 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
             }
 
             // Log about deleting exploded deployments without first triggering undeploy by deleting .deployed
-            prematureExplodedContentDeletionLogged.retainAll(scanContext.prematureExplodedDeletions);
+            if (fullScan) {
+                prematureExplodedContentDeletionLogged.retainAll(scanContext.prematureExplodedDeletions);
+            }
             for (String fileName : scanContext.prematureExplodedDeletions) {
                 if (prematureExplodedContentDeletionLogged.add(fileName)) {
                     ROOT_LOGGER.explodedDeploymentContentDeleted(fileName, DEPLOYED);
@@ -639,11 +803,21 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
             // Deal with any incomplete or non-scannable auto-deploy content
             ScanStatus status = handleAutoDeployFailures(scanContext);
             if (status != ScanStatus.PROCEED) {
+                // the changes found by this scan still have to be processed
+                fullScanRequired = true;
+                if (!heldChanges.isEmpty()) {
+                    // content still being copied counts as a change for the batch window
+                    heldChangesTime = System.currentTimeMillis();
+                }
                 if (status == ScanStatus.RETRY && scanInterval > 1000) {
                     // schedule a non-repeating task to try again more quickly
                     scheduleRescan = true;
                 }
             } else {
+                if (fullScan) {
+                    fullScanRequired = false;
+                    lastFullScanTime = System.currentTimeMillis();
+                }
 
                 List<ScannerTask> scannerTasks = scanContext.scannerTasks;
 
@@ -652,19 +826,71 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
                 for (Map.Entry<String, DeploymentMarker> missing : scanContext.toRemove.entrySet()) {
                     scannerTasks.add(new UndeployTask(missing.getKey(), missing.getValue().parentFolder, scanContext.scanStartTime, false));
                 }
-                try {
-                    executeScannerTasks(scannerTasks, deploymentOperations, oneOffScan);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
+                if (!oneOffScan && !firstScan && holdScannerTasks(scannerTasks)) {
+                    // the held changes are detected again by the next scans, which must see the whole directory
+                    fullScanRequired = true;
+                    ROOT_LOGGER.tracef("Holding %d deployment tasks for the batch window", scannerTasks.size());
+                } else {
+                    try {
+                        executeScannerTasks(scannerTasks, deploymentOperations, oneOffScan);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    ROOT_LOGGER.tracef("Scan complete");
+                    firstScan = false;
                 }
-                ROOT_LOGGER.tracef("Scan complete");
-                firstScan = false;
             }
         }
 
         return scheduleRescan;
     }
 
+    /**
+     * Tells whether the tasks found by a scan must be held back until no new change was detected for the batch window.
+     * The held tasks are not kept, the following scans detect the same changes again.
+     *
+     * @param scannerTasks the tasks found by the scan
+     * @return {@code true} if the tasks must not be executed yet
+     */
+    private boolean holdScannerTasks(final List<ScannerTask> scannerTasks) {
+        final long batchWindow = this.batchWindow;
+        if (batchWindow <= 0 || scannerTasks.isEmpty()) {
+            heldChanges = Collections.emptyMap();
+            coalescedChanges.clear();
+            return false;
+        }
+        final Map<File, Long> changes = new HashMap<>();
+        for (ScannerTask task : scannerTasks) {
+            changes.put(new File(task.parent, task.deploymentName), task.getChangeTimestamp());
+        }
+        final long now = System.currentTimeMillis();
+        if (!changes.equals(heldChanges)) {
+            for (File held : heldChanges.keySet()) {
+                if (changes.containsKey(held)) {
+                    coalescedChanges.add(held);
+                }
+            }
+            coalescedChanges.retainAll(changes.keySet());
+            heldChanges = changes;
+            heldChangesTime = now;
+        }
+        final long remaining = heldChangesTime + batchWindow - now;
+        if (remaining > 0) {
+            scheduleBatchRescan(remaining);
+            return true;
+        }
+        coalescedTaskCount += coalescedChanges.size();
+        heldChanges = Collections.emptyMap();
+        coalescedChanges.clear();
+        return false;
+    }
+
+    private synchronized void scheduleBatchRescan(final long delay) {
+        if (scanEnabled && (rescanBatchTask == null || rescanBatchTask.isDone())) {
+            rescanBatchTask = scheduledExecutor.schedule(scanRunnable, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
     private void executeScannerTasks(List<ScannerTask> scannerTasks, DeploymentOperations deploymentOperations,
                                      boolean oneOffScan) throws InterruptedException {
         // Process the tasks
@@ -850,6 +1076,7 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
      */
     private void scanDirectory(final File directory, final String relativePath, final ScanContext scanContext) {
         final List<File> children = listDirectoryChildren(directory, filter);
+        final Map<File, Future<Boolean>> completionChecks = startCompletionChecks(children);
         for (File child : children) {
             final String fileName = child.getName();
             if (fileName.endsWith(DEPLOYED)) {
@@ -938,7 +1165,7 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
                         DeploymentMarker marker = deployed.get(fileName);
                         if (marker == null || marker.lastModified != timestamp) {
                             try {
-                                if (isZipComplete(child)) {
+                                if (isZipComplete(child, completionChecks.get(child))) {
                                     final String path = relativeTo == null ? child.getAbsolutePath() : relativePath + fileName;
                                     final boolean archive = child.isFile();
                                     if(firstScan){
@@ -973,7 +1200,7 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
 
                         DeploymentMarker marker = deployed.get(fileName);
                         if (marker == null || marker.lastModified != timestamp) {
-                            if (isXmlComplete(child)) {
+                            if (isXmlComplete(child, completionChecks.get(child))) {
                                 final String path = relativeTo == null ? child.getAbsolutePath() : relativePath + fileName;
                                 if(firstScan){
                                     scanContext.firstScanDeployments.add(fileName);
@@ -1016,9 +1243,239 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
         }
     }
 
+    /**
+     * Gets the directories to scan according to the changes reported by the watch service.
+     *
+     * @return the directories to scan, or {@code null} if the whole deployment directory must be scanned
+     */
+    private Set<File> getChangedDirectories() {
+        final DeploymentDirectoryWatcher watcher = getWatcher();
+        if (watcher == null) {
+            return null;
+        }
+        // Always drain the events, even if we are about to scan everything anyway
+        final Set<Path> changed = watcher.pollChangedDirectories();
+        if (changed == null || fullScanRequired || firstScan || !incompleteDeployments.isEmpty() || !nonscannableLogged.isEmpty()
+                || System.currentTimeMillis() - lastFullScanTime >= WATCH_FULL_SCAN_INTERVAL) {
+            return null;
+        }
+        final Path root = deploymentDir.toPath();
+        final Set<File> directories = new HashSet<>();
+        for (Path directory : changed) {
+            final Path scanRoot = getScanRoot(root, directory);
+            if (scanRoot != null) {
+                directories.add(scanRoot.toFile());
+            }
+        }
+        // Nested directories get scanned along with their parent
+        directories.removeIf(directory -> isInDirectories(directory.getParentFile(), directories));
+        return directories;
+    }
+
+    /**
+     * Gets the directory to scan for a change in the given directory.
+     *
+     * @return the directory to scan, or {@code null} if the changed directory is ignored by the scanner
+     */
+    private Path getScanRoot(Path root, Path directory) {
+        Path current = root;
+        for (Path name : root.relativize(directory)) {
+            if (name.toString().isEmpty()) {
+                continue;
+            }
+            if (isEEArchive(name.toString())) {
+                // A change in an exploded deployment, the directory holding the deployment has to be scanned
+                return current;
+            }
+            current = current.resolve(name);
+            if (!isAccepted(current)) {
+                return null;
+            }
+        }
+        return current;
+    }
+
+    private boolean isInDirectories(File file, Set<File> directories) {
+        for (File current = file; current != null; current = current.getParentFile()) {
+            if (directories.contains(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isWatchedDirectory(Path directory) {
+        return isAccepted(directory) && (autoDeployExploded || !isEEArchive(directory.getFileName().toString()));
+    }
+
+    private boolean isAccepted(Path path) {
+        try {
+            return filter.accept(path);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private String getRelativePath(File directory) {
+        final String relative = deploymentDir.toPath().relativize(directory.toPath()).toString();
+        return relative.isEmpty() ? relativePath : relativePath + relative + File.separator;
+    }
+
+    private synchronized DeploymentDirectoryWatcher getWatcher() {
+        if (watcher == null && watchEnabled && scanEnabled && !watcherFailed) {
+            try {
+                watcher = new DeploymentDirectoryWatcher(deploymentDir.toPath(), this::isWatchedDirectory);
+                fullScanRequired = true;
+            } catch (IOException | RuntimeException e) {
+                watcherFailed = true;
+                ROOT_LOGGER.cannotWatchDeploymentDirectory(e, deploymentDir.getAbsolutePath());
+            }
+        }
+        return watcher;
+    }
+
+    /**
+     * Invoke with the object monitor held
+     */
+    private void stopWatcher() {
+        final DeploymentDirectoryWatcher watcher = this.watcher;
+        this.watcher = null;
+        safeClose(watcher);
+    }
+
+    /**
+     * Starts checking whether the auto-deploy content of a directory is completely copied, using a bounded thread
+     * pool. Exploded content whose deployment is known is left to the scan, as telling whether it changed requires a
+     * walk of its tree.
+     *
+     * @param children the entries of the directory
+     * @return the started checks, by content file
+     */
+    private Map<File, Future<Boolean>> startCompletionChecks(final List<File> children) {
+        final List<File> candidates = new ArrayList<>();
+        for (File child : children) {
+            if (isCompletionCheckCandidate(child)) {
+                candidates.add(child);
+            }
+        }
+        if (candidates.size() < 2) {
+            // Not worth a thread switch
+            return Collections.emptyMap();
+        }
+        final ExecutorService executor = getCompletionCheckExecutor();
+        if (executor == null) {
+            // The scanner is being stopped
+            return Collections.emptyMap();
+        }
+        final Map<File, Future<Boolean>> checks = new HashMap<>();
+        try {
+            for (File candidate : candidates) {
+                if (isXmlFile(candidate.getName())) {
+                    checks.put(candidate, executor.submit(() -> isXmlComplete(candidate)));
+                } else {
+                    checks.put(candidate, executor.submit(() -> isZipComplete(candidate)));
+                }
+            }
+        } catch (RejectedExecutionException e) {
+            // The scanner is being stopped, the remaining content gets checked by the scan itself
+        }
+        return checks;
+    }
+
+    private boolean isCompletionCheckCandidate(final File child) {
+        final String fileName = child.getName();
+        if (isEEArchive(fileName)) {
+            if (!(child.isDirectory() ? autoDeployExploded : autoDeployZip)) {
+                return false;
+            }
+        } else if (!isXmlFile(fileName) || !autoDeployXml) {
+            return false;
+        }
+        if (isAutoDeployDisabled(child)) {
+            return false;
+        }
+        final DeploymentMarker marker = deployed.get(fileName);
+        return marker == null || (child.isFile() && marker.lastModified != child.lastModified());
+    }
+
+    private synchronized ExecutorService getCompletionCheckExecutor() {
+        if (completionCheckExecutor == null && !completionChecksStopped) {
+            final ThreadFactory threadFactory = doPrivileged(new PrivilegedAction<ThreadFactory>() {
+                public ThreadFactory run() {
+                    return new JBossThreadFactory(new ThreadGroup("DeploymentScanner-completion-check-threads"), Boolean.FALSE, null, "%G - %t", null, null);
+                }
+            });
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_COMPLETION_CHECK_THREADS, MAX_COMPLETION_CHECK_THREADS,
+                    60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+            executor.allowCoreThreadTimeOut(true);
+            completionCheckExecutor = executor;
+        }
+        return completionCheckExecutor;
+    }
+
+    /**
+     * Waits for a completion check to finish. The wait is abandoned if the scanner gets stopped, in which case, as
+     * well as when the check was cancelled or the thread interrupted, the content is treated as incomplete; it is
+     * checked again by a later scan.
+     *
+     * @param check the completion check
+     * @return {@code true} if the content is known to be completely copied
+     * @throws ExecutionException if the check failed
+     */
+    private boolean awaitCompletionCheck(final Future<Boolean> check) throws ExecutionException {
+        try {
+            for (;;) {
+                try {
+                    return check.get(COMPLETION_CHECK_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    if (completionChecksStopped) {
+                        check.cancel(true);
+                        return false;
+                    }
+                }
+            }
+        } catch (CancellationException e) {
+            return false;
+        } catch (InterruptedException e) {
+            check.cancel(true);
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static RuntimeException completionCheckFailure(final ExecutionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+    }
+
+    private boolean isXmlComplete(final File xmlFile, final Future<Boolean> check) {
+        if (check == null) {
+            return isXmlComplete(xmlFile);
+        }
+        try {
+            return awaitCompletionCheck(check);
+        } catch (ExecutionException e) {
+            throw completionCheckFailure(e);
+        }
+    }
+
     private boolean isXmlComplete(final File xmlFile) {
+        // Read the attributes first so that a change during the check invalidates the cached result
+        final long size = xmlFile.length();
+        final long lastModified = xmlFile.lastModified();
+        final CompleteContent known = completeContents.get(xmlFile);
+        if (known != null && known.matches(size, lastModified)) {
+            return true;
+        }
         try {
-            return XmlCompletionScanner.isCompleteDocument(xmlFile);
+            if (XmlCompletionScanner.isCompleteDocument(xmlFile)) {
+                completeContents.put(xmlFile, new CompleteContent(size, lastModified, null));
+                return true;
+            }
+            return false;
         } catch (Exception e) {
             ROOT_LOGGER.failedCheckingXMLFile(e, xmlFile.getPath());
             return false;
@@ -1088,6 +1545,20 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
         return undeployedMarker.exists() && timestamp <= undeployedMarker.lastModified();
     }
 
+    private boolean isZipComplete(final File file, final Future<Boolean> check) throws NonScannableZipException {
+        if (check == null) {
+            return isZipComplete(file);
+        }
+        try {
+            return awaitCompletionCheck(check);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof NonScannableZipException) {
+                throw (NonScannableZipException) e.getCause();
+            }
+            throw completionCheckFailure(e);
+        }
+    }
+
     private boolean isZipComplete(File file) throws NonScannableZipException {
         if (file.isDirectory()) {
             for (File child : listDirectoryChildren(file)) {
@@ -1097,8 +1568,25 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
             }
             return true;
         } else if (isEEArchive(file.getName())) {
+            // Read the attributes first so that a change during the check invalidates the cached result
+            final long size = file.length();
+            final long lastModified = file.lastModified();
+            final CompleteContent known = completeContents.get(file);
+            if (known != null && known.matches(size, lastModified)) {
+                if (known.nonScannable != null) {
+                    throw known.nonScannable;
+                }
+                return true;
+            }
             try {
-                return ZipCompletionScanner.isCompleteZip(file);
+                if (ZipCompletionScanner.isCompleteZip(file)) {
+                    completeContents.put(file, new CompleteContent(size, lastModified, null));
+                    return true;
+                }
+                return false;
+            } catch (NonScannableZipException e) {
+                completeContents.put(file, new CompleteContent(size, lastModified, e));
+                throw e;
             } catch (IOException e) {
                 ROOT_LOGGER.failedCheckingZipFile(e, file.getPath());
                 return false;
@@ -1273,6 +1761,10 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
             rescanUndeployTask.cancel(true);
             rescanUndeployTask = null;
         }
+        if (rescanBatchTask != null) {
+            rescanBatchTask.cancel(true);
+            rescanBatchTask = null;
+        }
         if (scanTask != null) {
             scanTask.cancel(true);
             scanTask = null;
@@ -1348,24 +1840,26 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
         }
     }
 
-    private static List<File> listDirectoryChildren(File directory) {
+    private List<File> listDirectoryChildren(File directory) {
         try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory.toPath())) {
             final List<File> result = new ArrayList<>();
             for (Path entry : stream) {
                 result.add(entry.toFile());
             }
+            filesExamined.add(result.size());
             return result;
         } catch (SecurityException | IOException ex) {
             throw DeploymentScannerLogger.ROOT_LOGGER.cannotListDirectoryFiles(ex, directory);
         }
     }
 
-    private static List<File> listDirectoryChildren(File directory, DirectoryStream.Filter<Path> filter) {
+    private List<File> listDirectoryChildren(File directory, DirectoryStream.Filter<Path> filter) {
         try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory.toPath(), filter)) {
             final List<File> result = new ArrayList<>();
             for (Path entry : stream) {
                 result.add(entry.toFile());
             }
+            filesExamined.add(result.size());
             return result;
         } catch (SecurityException | IOException ex) {
             throw DeploymentScannerLogger.ROOT_LOGGER.cannotListDirectoryFiles(ex, directory);
@@ -1396,6 +1890,13 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
 
         protected abstract ModelNode getUpdate();
 
+        /**
+         * Gets the timestamp of the content change this task handles, if any.
+         */
+        protected long getChangeTimestamp() {
+            return 0;
+        }
+
         protected abstract void handleSuccessResult();
 
         protected abstract void handleFailureResult(final ModelNode result);
@@ -1463,6 +1964,11 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
             return content;
         }
 
+        @Override
+        protected long getChangeTimestamp() {
+            return doDeployTimestamp;
+        }
+
         @Override
         protected void handleSuccessResult() {
             final File parentFolder = new File(parent);
@@ -1561,6 +2067,11 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
             return redployOp;
         }
 
+        @Override
+        protected long getChangeTimestamp() {
+            return markerLastModified;
+        }
+
         @Override
         protected void handleSuccessResult() {
 
@@ -1699,6 +2210,26 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
         }
     }
 
+    /**
+     * Content found completely copied, or non-scannable, the last time it was checked. Incomplete content isn't
+     * recorded as the size and last modification time of a file being copied may not change between two scans.
+     */
+    private static class CompleteContent {
+        private final long size;
+        private final long lastModified;
+        private final NonScannableZipException nonScannable;
+
+        CompleteContent(final long size, final long lastModified, final NonScannableZipException nonScannable) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.nonScannable = nonScannable;
+        }
+
+        boolean matches(final long size, final long lastModified) {
+            return this.size == size && this.lastModified == lastModified;
+        }
+    }
+
     private static class IncompleteDeploymentStatus {
         private final long timestamp;
         private final long size;
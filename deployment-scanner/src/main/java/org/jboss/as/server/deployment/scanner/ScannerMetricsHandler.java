@@ -0,0 +1,65 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.server.deployment.scanner;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Reads the metrics of a running {@link FileSystemDeploymentService}.
+ */
+class ScannerMetricsHandler extends AbstractRuntimeOnlyHandler {
+
+    static final ScannerMetricsHandler INSTANCE = new ScannerMetricsHandler();
+
+    private ScannerMetricsHandler() {
+    }
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final String name = context.getCurrentAddressValue();
+        final ServiceController<?> controller = context.getServiceRegistry(false).getService(DeploymentScannerService.getServiceName(name));
+        if (controller != null && controller.getState() == ServiceController.State.UP) {
+            final FileSystemDeploymentService scanner = (FileSystemDeploymentService) controller.getValue();
+            final String attributeName = operation.require(NAME).asString();
+            switch (attributeName) {
+                case CommonAttributes.LAST_SCAN_DURATION:
+                    context.getResult().set(scanner.getLastScanDuration());
+                    break;
+                case CommonAttributes.LAST_SCAN_FILES_EXAMINED:
+                    context.getResult().set(scanner.getLastScanFilesExamined());
+                    break;
+                case CommonAttributes.COALESCED_TASK_COUNT:
+                    context.getResult().set(scanner.getCoalescedTaskCount());
+                    break;
+                default:
+                    // Someone forgot something
+                    throw new IllegalStateException(attributeName);
+            }
+        }
+    }
+}
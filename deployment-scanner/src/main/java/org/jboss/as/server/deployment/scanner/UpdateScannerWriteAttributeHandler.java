@@ -25,10 +25,13 @@ package org.jboss.as.server.deployment.scanner;
 import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition.AUTO_DEPLOY_EXPLODED;
 import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition.AUTO_DEPLOY_XML;
 import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition.AUTO_DEPLOY_ZIPPED;
+import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition.BATCH_WINDOW;
 import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition.DEPLOYMENT_TIMEOUT;
 import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition.RUNTIME_FAILURE_CAUSES_ROLLBACK;
 import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition.SCAN_ENABLED;
 import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition.SCAN_INTERVAL;
+import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition.SCAN_MODE;
+import static org.jboss.as.server.deployment.scanner.DeploymentScannerDefinition.SCAN_MODE_WATCH;
 
 import org.jboss.as.controller.AbstractWriteAttributeHandler;
 import org.jboss.as.controller.AttributeDefinition;
@@ -47,7 +50,7 @@ final class UpdateScannerWriteAttributeHandler extends AbstractWriteAttributeHan
 
     UpdateScannerWriteAttributeHandler() {
         super(AUTO_DEPLOY_EXPLODED, AUTO_DEPLOY_XML, AUTO_DEPLOY_ZIPPED, DEPLOYMENT_TIMEOUT,
-                RUNTIME_FAILURE_CAUSES_ROLLBACK, SCAN_ENABLED, SCAN_INTERVAL);
+                RUNTIME_FAILURE_CAUSES_ROLLBACK, SCAN_ENABLED, SCAN_INTERVAL, SCAN_MODE, BATCH_WINDOW);
     }
 
     @Override
@@ -88,6 +91,10 @@ final class UpdateScannerWriteAttributeHandler extends AbstractWriteAttributeHan
             scanner.setRuntimeFailureCausesRollback(resolvedNewValue.asBoolean());
         } else if (ad == SCAN_INTERVAL) {
             scanner.setScanInterval(resolvedNewValue.asInt());
+        } else if (ad == SCAN_MODE) {
+            scanner.setWatchEnabled(SCAN_MODE_WATCH.equals(resolvedNewValue.asString()));
+        } else if (ad == BATCH_WINDOW) {
+            scanner.setBatchWindow(resolvedNewValue.asLong());
         } else if (ad == SCAN_ENABLED) {
             boolean enable = resolvedNewValue.asBoolean();
             if (enable) {
@@ -140,4 +140,22 @@ public interface DeploymentScanner {
      */
     void setRuntimeFailureCausesRollback(boolean rollback);
 
+    /**
+     * Sets whether the directories to scan are found using the file system's watch service instead of scanning the whole
+     * deployment directory. Scanners which always scan the whole directory ignore this setting.
+     *
+     * @param watchEnabled {@code true} to only scan the directories the watch service reports changes for
+     */
+    default void setWatchEnabled(boolean watchEnabled) {
+    }
+
+    /**
+     * Sets the period during which no new change must be detected before the changes found by the scans get deployed.
+     * Scanners which deploy the changes found by each scan right away ignore this setting.
+     *
+     * @param batchWindow the period in milliseconds, {@code 0} to deploy the changes found by each scan right away
+     */
+    default void setBatchWindow(long batchWindow) {
+    }
+
 }
@@ -38,5 +38,13 @@ public class DeploymentScannerParsingTestCase extends AbstractSubsystemBaseTest
     protected String getSubsystemXml() throws IOException {
         return SUBSYSTEM_XML;
     }
+
+    /**
+     * The 2.0 configuration is marshalled using the current schema.
+     */
+    @Override
+    protected String getComparisonXml() throws IOException {
+        return SUBSYSTEM_XML.replace("urn:jboss:domain:deployment-scanner:2.0", "urn:jboss:domain:deployment-scanner:2.1");
+    }
 }
 
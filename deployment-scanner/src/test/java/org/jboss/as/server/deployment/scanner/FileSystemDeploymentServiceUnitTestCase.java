@@ -251,6 +251,77 @@ public class FileSystemDeploymentServiceUnitTestCase {
         assertTrue(deployed.exists());
     }
 
+    @Test
+    public void testWatchedNestedDeploy() throws Exception {
+        File nestedDir = createDirectory("nested");
+        File otherDir = new File(tmpDir, "other");
+        for (int i = 0; i < 50; i++) {
+            createFile(otherDir, "file" + i);
+        }
+        TesteeSet ts = createTestee();
+        try {
+            ts.testee.setWatchEnabled(true);
+            ts.testee.scan();
+            // The first scan examines the whole tree
+            assertTrue(ts.testee.getLastScanFilesExamined() > 50);
+
+            File war = createFile(nestedDir, "foo.war");
+            File dodeploy = createFile(nestedDir, "foo.war" + FileSystemDeploymentService.DO_DEPLOY);
+            File deployed = new File(nestedDir, "foo.war" + FileSystemDeploymentService.DEPLOYED);
+            ts.controller.addCompositeSuccessResponse(1);
+            // The change notifications are delivered asynchronously
+            long deadline = System.currentTimeMillis() + 10000;
+            while (!deployed.exists() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+                ts.testee.scan();
+            }
+            assertTrue(war.exists());
+            assertFalse(dodeploy.exists());
+            assertTrue(deployed.exists());
+            // Only the directory holding the deployment was examined
+            assertTrue(ts.testee.getLastScanFilesExamined() < 50);
+        } finally {
+            ts.testee.stopScanner();
+        }
+    }
+
+    @Test
+    public void testBatchWindow() throws Exception {
+        TesteeSet ts = createTestee();
+        ts.testee.setBatchWindow(500);
+        // Nothing to deploy, the batch window doesn't apply to the boot scan anyway
+        ts.testee.scan();
+
+        File war1 = createFile("foo.war");
+        File dodeploy1 = createFile("foo.war" + FileSystemDeploymentService.DO_DEPLOY);
+        File deployed1 = new File(tmpDir, "foo.war" + FileSystemDeploymentService.DEPLOYED);
+        File pending1 = new File(tmpDir, "foo.war" + FileSystemDeploymentService.PENDING);
+        ts.testee.scan();
+        assertTrue(pending1.exists());
+        assertFalse(deployed1.exists());
+
+        File war2 = createFile("bar.war");
+        File dodeploy2 = createFile("bar.war" + FileSystemDeploymentService.DO_DEPLOY);
+        File deployed2 = new File(tmpDir, "bar.war" + FileSystemDeploymentService.DEPLOYED);
+        ts.testee.scan();
+        assertFalse(deployed1.exists());
+        assertFalse(deployed2.exists());
+        assertEquals(0, ts.testee.getCoalescedTaskCount());
+
+        Thread.sleep(600);
+        // Both changes get deployed by a single composite operation
+        ts.controller.addCompositeSuccessResponse(2);
+        ts.testee.scan();
+        assertTrue(war1.exists());
+        assertTrue(war2.exists());
+        assertFalse(dodeploy1.exists());
+        assertFalse(dodeploy2.exists());
+        assertFalse(pending1.exists());
+        assertTrue(deployed1.exists());
+        assertTrue(deployed2.exists());
+        assertEquals(1, ts.testee.getCoalescedTaskCount());
+    }
+
     @Test
     public void testTwoFileDeploy() throws Exception {
         File war1 = createFile("foo.war");
@@ -1298,6 +1369,89 @@ public class FileSystemDeploymentServiceUnitTestCase {
 
     }
 
+    /**
+     * Tests the completeness checks of more auto-deploy content than there are threads checking it
+     */
+    @Test
+    public void testConcurrentCompletionChecks() throws Exception {
+
+        final int count = FileSystemDeploymentService.MAX_COMPLETION_CHECK_THREADS * 2;
+        for (int i = 0; i < count; i++) {
+            testSupport.createZip(new File(tmpDir, "complete" + i + ".jar"), 0, false, false, false, false);
+        }
+        File xml = createXmlFile("complete.xml", "<rootElement/>");
+        File incomplete = new File(tmpDir, "foo.war");
+        File pending = new File(tmpDir, "foo.war" + FileSystemDeploymentService.PENDING);
+        testSupport.createZip(incomplete, 0, false, true, true, false);
+        File incompleteXml = createXmlFile("foo.xml", "<rootElement><incomplete>");
+
+        TesteeSet ts = createTestee();
+        ts.testee.setAutoDeployZippedContent(true);
+        ts.testee.setAutoDeployXMLContent(true);
+
+        ts.testee.scan();
+
+        assertTrue(pending.exists());
+        for (int i = 0; i < count; i++) {
+            assertFalse(new File(tmpDir, "complete" + i + ".jar" + FileSystemDeploymentService.DEPLOYED).exists());
+        }
+
+        // The content found complete by the first scan is still complete
+        incomplete.delete();
+        testSupport.createZip(incomplete, 0, false, false, false, false);
+        incompleteXml.delete();
+        createXmlFile("foo.xml", "<rootElement/>");
+
+        ts.controller.addCompositeSuccessResponse(count + 3);
+        ts.testee.scan();
+
+        assertFalse(pending.exists());
+        assertTrue(new File(tmpDir, "foo.war" + FileSystemDeploymentService.DEPLOYED).exists());
+        assertTrue(new File(tmpDir, "foo.xml" + FileSystemDeploymentService.DEPLOYED).exists());
+        assertTrue(new File(tmpDir, "complete.xml" + FileSystemDeploymentService.DEPLOYED).exists());
+        for (int i = 0; i < count; i++) {
+            assertTrue(new File(tmpDir, "complete" + i + ".jar" + FileSystemDeploymentService.DEPLOYED).exists());
+        }
+        assertTrue(xml.exists());
+    }
+
+    /**
+     * Tests that the completeness checks are done again concurrently once a stopped scanner is restarted
+     */
+    @Test
+    public void testCompletionChecksAfterRestart() throws Exception {
+
+        final int count = FileSystemDeploymentService.MAX_COMPLETION_CHECK_THREADS * 2;
+        for (int i = 0; i < count; i++) {
+            testSupport.createZip(new File(tmpDir, "complete" + i + ".jar"), 0, false, false, false, false);
+        }
+        File incomplete = new File(tmpDir, "foo.war");
+        File pending = new File(tmpDir, "foo.war" + FileSystemDeploymentService.PENDING);
+        testSupport.createZip(incomplete, 0, false, true, true, false);
+
+        TesteeSet ts = createTestee();
+        ts.testee.setAutoDeployZippedContent(true);
+        ts.testee.scan();
+        ts.testee.stopScanner();
+        ts.testee.startScanner(ts.controller.create());
+
+        ts.testee.scan();
+
+        assertTrue(pending.exists());
+
+        incomplete.delete();
+        testSupport.createZip(incomplete, 0, false, false, false, false);
+
+        ts.controller.addCompositeSuccessResponse(count + 1);
+        ts.testee.scan();
+
+        assertFalse(pending.exists());
+        assertTrue(new File(tmpDir, "foo.war" + FileSystemDeploymentService.DEPLOYED).exists());
+        for (int i = 0; i < count; i++) {
+            assertTrue(new File(tmpDir, "complete" + i + ".jar" + FileSystemDeploymentService.DEPLOYED).exists());
+        }
+    }
+
     /**
      * Tests that an incomplete deployment that makes no progress gets a .failed marker
      */
@@ -28,6 +28,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DOM
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.EXECUTE_FOR_COORDINATOR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOST;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_RUNTIME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
@@ -49,12 +50,15 @@ import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.TreeSet;
+import java.util.UUID;
 
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
@@ -66,14 +70,17 @@ import io.undertow.util.HexConverter;
 import io.undertow.util.Methods;
 import org.jboss.as.controller.ModelController;
 import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.access.Caller;
 import org.jboss.as.controller.client.OperationBuilder;
 import org.jboss.as.controller.client.OperationMessageHandler;
 import org.jboss.as.controller.client.OperationResponse;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.core.security.AccessMechanism;
 import org.jboss.as.domain.http.server.logging.HttpServerLogger;
+import org.jboss.as.domain.http.server.security.ElytronIdentityHandler;
 import org.jboss.as.protocol.StreamUtils;
 import org.jboss.dmr.ModelNode;
+import org.wildfly.security.auth.server.SecurityIdentity;
 import org.xnio.IoUtils;
 import org.xnio.streams.ChannelInputStream;
 
@@ -94,20 +101,26 @@ class DomainApiHandler implements HttpHandler {
          *  It is essential that the GET requests exposed over the HTTP interface are for read only
          *  operations that do not modify the domain model or update anything server side.
          */
-        RESOURCE(READ_RESOURCE_OPERATION, 0),
-        ATTRIBUTE("read-attribute", 0),
-        RESOURCE_DESCRIPTION(READ_RESOURCE_DESCRIPTION_OPERATION, Common.ONE_WEEK),
-        SNAPSHOTS("list-snapshots", 0),
-        OPERATION_DESCRIPTION(READ_OPERATION_DESCRIPTION_OPERATION, Common.ONE_WEEK),
-        OPERATION_NAMES(READ_OPERATION_NAMES_OPERATION, 0),
-        READ_CONTENT(ModelDescriptionConstants.READ_CONTENT, 0);
+        RESOURCE(READ_RESOURCE_OPERATION, 0, true),
+        ATTRIBUTE("read-attribute", 0, false),
+        RESOURCE_DESCRIPTION(READ_RESOURCE_DESCRIPTION_OPERATION, Common.ONE_WEEK, true),
+        SNAPSHOTS("list-snapshots", 0, false),
+        OPERATION_DESCRIPTION(READ_OPERATION_DESCRIPTION_OPERATION, Common.ONE_WEEK, true),
+        OPERATION_NAMES(READ_OPERATION_NAMES_OPERATION, 0, true),
+        READ_CONTENT(ModelDescriptionConstants.READ_CONTENT, 0, false);
 
         private String realOperation;
         private int maxAge;
+        /*
+         *  Whether the result only depends on the persistent model, unless runtime data is requested, so it doesn't
+         *  change as long as the model generation doesn't.
+         */
+        private boolean modelOnly;
 
-        GetOperation(String realOperation, int maxAge) {
+        GetOperation(String realOperation, int maxAge, boolean modelOnly) {
             this.realOperation = realOperation;
             this.maxAge = maxAge;
+            this.modelOnly = modelOnly;
         }
 
         public String realOperation() {
@@ -120,6 +133,11 @@ class DomainApiHandler implements HttpHandler {
     }
 
     private final ModelController modelController;
+    /*
+     *  Distinguishes the model generations of this handler from those seen before a reload or restart, as the
+     *  generation starts again from 0 in the new model controller.
+     */
+    private final String generationNonce = UUID.randomUUID().toString();
 
     DomainApiHandler(ModelController modelController) {
         this.modelController = modelController;
@@ -130,6 +148,7 @@ class DomainApiHandler implements HttpHandler {
 
         final ModelNode dmr;
         final OperationResponse response;
+        GetOperation getOperation = null;
 
         final HeaderMap requestHeaders = exchange.getRequestHeaders();
         final boolean cachable;
@@ -145,6 +164,7 @@ class DomainApiHandler implements HttpHandler {
                 operationParameterBuilder.maxAge(operation.getMaxAge());
                 dmr = convertGetRequest(exchange, operation);
                 cachable = operation.getMaxAge() > 0;
+                getOperation = operation;
             } else {
                 dmr = convertPostRequest(exchange, encode);
                 cachable = false;
@@ -196,6 +216,25 @@ class DomainApiHandler implements HttpHandler {
             }
         };
 
+        if (getOperation != null && streamIndex < 0) {
+            // Answer polling clients from the model generation, without executing the operation, if nothing changed
+            try {
+                final ETag etag = getGenerationETag(exchange, getOperation, dmr);
+                if (etag != null) {
+                    operationParameterBuilder.etag(etag);
+                    if (!ETagUtils.handleIfNoneMatch(exchange, etag, false)) {
+                        exchange.setStatusCode(304);
+                        DomainUtil.writeCacheHeaders(exchange, 304, operationParameterBuilder.build());
+                        exchange.endExchange();
+                        return;
+                    }
+                }
+            } catch (NoSuchAlgorithmException e) {
+                // Just execute the operation
+                ROOT_LOGGER.debugf(e, "Unable to compute the ETag of %s", dmr);
+            }
+        }
+
         final boolean sendPreparedResponse = sendPreparedResponse(dmr);
         final ModelController.OperationTransactionControl control = sendPreparedResponse
                 ? new EarlyResponseTransactionControl(callback, dmr)
@@ -232,6 +271,52 @@ class DomainApiHandler implements HttpHandler {
         callback.sendResponse(response);
     }
 
+    /**
+     * Computes an ETag which only changes when the model generation does, for the GET operations whose result only
+     * depends on the persistent model of this process.
+     *
+     * @return the ETag, or {@code null} if the result of the operation can't be identified by the model generation
+     */
+    private ETag getGenerationETag(final HttpServerExchange exchange, final GetOperation operation, final ModelNode dmr) throws NoSuchAlgorithmException {
+        final long generation = modelController.getModelGeneration();
+        if (generation < 0 || !operation.modelOnly
+                || (dmr.hasDefined(INCLUDE_RUNTIME) && dmr.get(INCLUDE_RUNTIME).asBoolean(true))) {
+            return null;
+        }
+        // The root and the hosts of a domain include resources proxied to other processes, whose writes don't
+        // advance our generation
+        final PathAddress address = PathAddress.pathAddress(dmr.get(OP_ADDR));
+        if (address.size() == 0 || address.getElement(0).getKey().equals(HOST)) {
+            return null;
+        }
+        // The result depends on the permissions of the caller, so only cache it for an authenticated identity
+        final SecurityIdentity identity = exchange.getAttachment(ElytronIdentityHandler.IDENTITY_KEY);
+        if (identity == null) {
+            return null;
+        }
+        final MessageDigest md = MessageDigest.getInstance("MD5");
+        md.update(generationNonce.getBytes(StandardCharsets.UTF_8));
+        md.update(Long.toString(generation).getBytes(StandardCharsets.UTF_8));
+        // The management roles are mapped from the name, realm and groups of the caller, which can change without
+        // changing the model, e.g. when the groups of a user are changed in its realm
+        final Caller caller = Caller.createCaller(identity);
+        updateDigest(md, caller.getName());
+        updateDigest(md, caller.getRealm());
+        for (String group : new TreeSet<>(caller.getAssociatedGroups())) {
+            updateDigest(md, group);
+        }
+        md.update(dmr.toString().getBytes(StandardCharsets.UTF_8));
+        return new ETag(false, HexConverter.convertToHexString(md.digest()));
+    }
+
+    private static void updateDigest(final MessageDigest md, final String value) {
+        if (value != null) {
+            md.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        // Delimits the value from the next one
+        md.update((byte) 0);
+    }
+
     private GetOperation getOperation(HttpServerExchange exchange) {
         Map<String, Deque<String>> queryParameters = exchange.getQueryParameters();
 
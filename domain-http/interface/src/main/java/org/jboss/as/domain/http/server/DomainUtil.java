@@ -28,9 +28,12 @@ import static io.undertow.util.Headers.HOST;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
 
 import java.io.BufferedOutputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Deque;
@@ -49,6 +52,7 @@ import io.undertow.util.HeaderValues;
 import io.undertow.util.Headers;
 import io.undertow.util.HttpString;
 import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.as.domain.http.server.logging.HttpServerLogger;
 import org.jboss.dmr.ModelNode;
 import org.xnio.IoUtils;
 
@@ -66,6 +70,7 @@ public class DomainUtil {
     private static final String DEFAULT_RESOURCE = "/" + INDEX_HTML;
     private static final String USE_STREAM_AS_RESPONSE = "useStreamAsResponse";
     private static final HttpString USE_STREAM_AS_RESPONSE_HEADER = new HttpString("org.wildfly.useStreamAsResponse");
+    private static final int RESPONSE_BUFFER_SIZE = 8192;
 
     public static void writeResponse(final HttpServerExchange exchange, final int status, ModelNode response,
             OperationParameter operationParameter) {
@@ -83,10 +88,15 @@ public class DomainUtil {
             // is not send as part of the response but expressed with the HTTP status code.
             response = response.get(RESULT);
         }
-        try {
-            byte[] data = getResponseBytes(response, operationParameter);
-            responseHeaders.put(Headers.CONTENT_LENGTH, data.length);
-            exchange.getResponseSender().send(ByteBuffer.wrap(data));
+        // Serialize straight to the exchange rather than to an intermediate String or byte[], so large results, e.g.
+        // a recursive read-resource of a big domain, don't need several copies of the whole response on the heap.
+        // The exchange's stream sends full buffers as chunks, and still sets the Content-Length of responses which
+        // fit in its buffer.
+        if (!exchange.isBlocking()) {
+            exchange.startBlocking();
+        }
+        try (OutputStream out = exchange.getOutputStream()) {
+            writeResponse(response, operationParameter, out);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -169,16 +179,18 @@ public class DomainUtil {
         return "application/octet-stream";
     }
 
-    private static byte[] getResponseBytes(final ModelNode modelNode, final OperationParameter operationParameter) throws IOException {
+    static void writeResponse(final ModelNode modelNode, final OperationParameter operationParameter, final OutputStream out) throws IOException {
         if (operationParameter.isEncode()) {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            BufferedOutputStream out = new BufferedOutputStream(baos);
-            modelNode.writeBase64(out);
-            out.flush();
-            return baos.toByteArray();
+            BufferedOutputStream output = new BufferedOutputStream(out, RESPONSE_BUFFER_SIZE);
+            modelNode.writeBase64(output);
+            output.flush();
         } else {
-            String json = modelNode.toJSONString(!operationParameter.isPretty());
-            return json.getBytes(StandardCharsets.UTF_8);
+            PrintWriter writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), RESPONSE_BUFFER_SIZE));
+            modelNode.writeJSONString(writer, !operationParameter.isPretty());
+            writer.flush();
+            if (writer.checkError()) {
+                throw HttpServerLogger.ROOT_LOGGER.failedToWriteResponse();
+            }
         }
     }
 
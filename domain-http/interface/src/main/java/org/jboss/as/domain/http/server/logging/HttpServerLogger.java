@@ -25,6 +25,7 @@ import static org.jboss.logging.Logger.Level.ERROR;
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.WARN;
 
+import java.io.IOException;
 import java.net.InetAddress;
 
 import org.jboss.logging.BasicLogger;
@@ -107,4 +108,7 @@ public interface HttpServerLogger extends BasicLogger {
             " 'ManagementRealm' and this is already selected by default by the add-user tool.")
     String realmNotReadyForSecuredManagementHandler(String scriptFile);
 
+    @Message(id = 17, value = "Failed to write the operation response")
+    IOException failedToWriteResponse();
+
 }
@@ -0,0 +1,98 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.domain.http.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DomainUtilUnitTestCase {
+
+    @Test
+    public void testWriteJsonResponse() throws Exception {
+        ModelNode model = createLargeModel();
+
+        ChunkRecordingOutputStream compact = new ChunkRecordingOutputStream();
+        DomainUtil.writeResponse(model, new OperationParameter.Builder(true).build(), compact);
+        // The compact form is written by the dmr stream API, whose whitespace differs from toJSONString(true)
+        Assert.assertEquals(model, ModelNode.fromJSONString(new String(compact.toByteArray(), StandardCharsets.UTF_8)));
+        Assert.assertTrue(compact.maxChunk <= 8192);
+
+        ChunkRecordingOutputStream pretty = new ChunkRecordingOutputStream();
+        DomainUtil.writeResponse(model, new OperationParameter.Builder(true).pretty(true).build(), pretty);
+        Assert.assertEquals(model.toJSONString(false), new String(pretty.toByteArray(), StandardCharsets.UTF_8));
+        Assert.assertTrue(pretty.maxChunk <= 8192);
+    }
+
+    @Test
+    public void testWriteEncodedResponse() throws Exception {
+        ModelNode model = createLargeModel();
+
+        ChunkRecordingOutputStream encoded = new ChunkRecordingOutputStream();
+        DomainUtil.writeResponse(model, new OperationParameter.Builder(false).encode(true).build(), encoded);
+        Assert.assertEquals(model, ModelNode.fromBase64(new ByteArrayInputStream(encoded.toByteArray())));
+        Assert.assertTrue(encoded.maxChunk <= 8192);
+    }
+
+    private static ModelNode createLargeModel() {
+        ModelNode model = new ModelNode();
+        for (int i = 0; i < 200; i++) {
+            ModelNode server = model.get("host", "master", "server", "server-" + i);
+            server.get("name").set("server-" + i);
+            server.get("auto-start").set(i % 2 == 0);
+            server.get("port-offset").set(i * 100);
+            server.get("description").set("Server \"" + i + "\" with a non-ASCII name éè");
+            for (int j = 0; j < 20; j++) {
+                server.get("system-property", "property-" + j, "value").set("value-" + j);
+            }
+            server.get("jvm").add("-Xmx512m").add("-Xms64m");
+        }
+        return model;
+    }
+
+    private static class ChunkRecordingOutputStream extends ByteArrayOutputStream {
+
+        private int maxChunk;
+
+        @Override
+        public synchronized void write(int b) {
+            maxChunk = Math.max(maxChunk, 1);
+            super.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            maxChunk = Math.max(maxChunk, len);
+            super.write(b, off, len);
+        }
+
+        @Override
+        public void write(byte[] b) throws IOException {
+            write(b, 0, b.length);
+        }
+    }
+}
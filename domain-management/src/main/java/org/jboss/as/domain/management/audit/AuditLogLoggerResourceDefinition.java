@@ -26,6 +26,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.jboss.as.controller.AbstractRemoveStepHandler;
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AbstractWriteAttributeHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ModelOnlyWriteAttributeHandler;
@@ -42,6 +43,8 @@ import org.jboss.as.controller.audit.AuditLogger;
 import org.jboss.as.controller.audit.ManagedAuditLogger;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.domain.management._private.DomainManagementResolver;
@@ -73,7 +76,33 @@ public class AuditLogLoggerResourceDefinition extends SimpleResourceDefinition {
             .setAllowExpression(true)
             .setDefaultValue(ModelNode.TRUE).build();
 
-    static final List<SimpleAttributeDefinition> ATTRIBUTE_DEFINITIONS = Arrays.asList(LOG_BOOT, LOG_READ_ONLY, ENABLED);
+    public static final SimpleAttributeDefinition ASYNC = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.ASYNC, ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.FALSE).build();
+
+    public static final SimpleAttributeDefinition ASYNC_QUEUE_SIZE = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.ASYNC_QUEUE_SIZE, ModelType.INT, true)
+            .setAllowExpression(true)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setDefaultValue(new ModelNode(1024)).build();
+
+    public static final SimpleAttributeDefinition ASYNC_OVERFLOW_POLICY = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.ASYNC_OVERFLOW_POLICY, ModelType.STRING, true)
+            .setAllowExpression(true)
+            .setValidator(new EnumValidator<>(ManagedAuditLogger.AsyncOverflowPolicy.class, true, true))
+            .setDefaultValue(new ModelNode(ManagedAuditLogger.AsyncOverflowPolicy.BLOCK.name())).build();
+
+    public static final SimpleAttributeDefinition ASYNC_QUEUE_DEPTH = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.ASYNC_QUEUE_DEPTH, ModelType.INT)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .build();
+
+    public static final SimpleAttributeDefinition ASYNC_DISCARDED_COUNT = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.ASYNC_DISCARDED_COUNT, ModelType.LONG)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .build();
+
+    static final List<SimpleAttributeDefinition> ATTRIBUTE_DEFINITIONS = Arrays.asList(LOG_BOOT, LOG_READ_ONLY, ENABLED, ASYNC, ASYNC_QUEUE_SIZE, ASYNC_OVERFLOW_POLICY);
+
+    private static final List<SimpleAttributeDefinition> ASYNC_ATTRIBUTES = Arrays.asList(ASYNC, ASYNC_QUEUE_SIZE, ASYNC_OVERFLOW_POLICY);
 
     private final ManagedAuditLogger auditLogger;
 
@@ -100,6 +129,15 @@ public class AuditLogLoggerResourceDefinition extends SimpleResourceDefinition {
 
         resourceRegistration.registerReadWriteAttribute(LOG_READ_ONLY, null, new AuditLogReadOnlyWriteAttributeHandler(auditLogger));
         resourceRegistration.registerReadWriteAttribute(ENABLED, null, new AuditLogEnabledWriteAttributeHandler(auditLogger));
+        final AuditLogAsyncWriteAttributeHandler asyncWriteHandler = new AuditLogAsyncWriteAttributeHandler(auditLogger);
+        for (AttributeDefinition def : ASYNC_ATTRIBUTES) {
+            resourceRegistration.registerReadWriteAttribute(def, null, asyncWriteHandler);
+        }
+        if (auditLogger != null) {
+            final AuditLogAsyncMetricsHandler metricsHandler = new AuditLogAsyncMetricsHandler(auditLogger);
+            resourceRegistration.registerMetric(ASYNC_QUEUE_DEPTH, metricsHandler);
+            resourceRegistration.registerMetric(ASYNC_DISCARDED_COUNT, metricsHandler);
+        }
     }
 
     @Override
@@ -127,6 +165,12 @@ public class AuditLogLoggerResourceDefinition extends SimpleResourceDefinition {
         return addOp;
     }
 
+    private static void setAsync(OperationContext context, ModelNode model, ManagedAuditLogger auditLogger) throws OperationFailedException {
+        auditLogger.setAsync(ASYNC.resolveModelAttribute(context, model).asBoolean(),
+                ASYNC_QUEUE_SIZE.resolveModelAttribute(context, model).asInt(),
+                ManagedAuditLogger.AsyncOverflowPolicy.valueOf(ASYNC_OVERFLOW_POLICY.resolveModelAttribute(context, model).asString()));
+    }
+
     private static class AuditLogLoggerAddHandler implements OperationStepHandler {
 
         private final ManagedAuditLogger auditLoggerProvider;
@@ -151,6 +195,7 @@ public class AuditLogLoggerResourceDefinition extends SimpleResourceDefinition {
 
                         auditLoggerProvider.setLogBoot(AuditLogLoggerResourceDefinition.LOG_BOOT.resolveModelAttribute(context, model).asBoolean());
                         auditLoggerProvider.setLogReadOnly(AuditLogLoggerResourceDefinition.LOG_READ_ONLY.resolveModelAttribute(context, model).asBoolean());
+                        setAsync(context, model, auditLoggerProvider);
                         boolean enabled = AuditLogLoggerResourceDefinition.ENABLED.resolveModelAttribute(context, model).asBoolean();
                         final AuditLogger.Status status = enabled ? AuditLogger.Status.LOGGING : AuditLogger.Status.DISABLED;
                         context.completeStep((OperationContext.ResultAction resultAction, OperationContext context1, ModelNode operation1) -> {
@@ -158,6 +203,7 @@ public class AuditLogLoggerResourceDefinition extends SimpleResourceDefinition {
                                 auditLoggerProvider.setLoggerStatus(status);
                             } else {
                                 auditLoggerProvider.setLogReadOnly(wasReadOnly);
+                                auditLoggerProvider.setAsync(false, 0, null);
                             }
                         });
                     }
@@ -192,11 +238,16 @@ public class AuditLogLoggerResourceDefinition extends SimpleResourceDefinition {
 
                         auditLogger.setLoggerStatus(AuditLogger.Status.DISABLE_NEXT);
 
-                        context.completeStep(new OperationContext.RollbackHandler() {
+                        context.completeStep(new OperationContext.ResultHandler() {
                             @Override
-                            public void handleRollback(OperationContext context, ModelNode operation) {
-                                auditLogger.setLogReadOnly(wasReadOnly);
-                                auditLogger.setLoggerStatus(oldStatus);
+                            public void handleResult(OperationContext.ResultAction resultAction, OperationContext context, ModelNode operation) {
+                                if (resultAction == OperationContext.ResultAction.KEEP) {
+                                    // Stops the writer thread, once the queued items are written
+                                    auditLogger.setAsync(false, 0, null);
+                                } else {
+                                    auditLogger.setLogReadOnly(wasReadOnly);
+                                    auditLogger.setLoggerStatus(oldStatus);
+                                }
                             }
                         });
                     }
@@ -268,4 +319,54 @@ public class AuditLogLoggerResourceDefinition extends SimpleResourceDefinition {
         }
     }
 
+    private static class AuditLogAsyncWriteAttributeHandler extends AbstractWriteAttributeHandler<Void> {
+
+        private final ManagedAuditLogger auditLogger;
+
+        AuditLogAsyncWriteAttributeHandler(ManagedAuditLogger auditLogger) {
+            super(ASYNC_ATTRIBUTES.toArray(new AttributeDefinition[ASYNC_ATTRIBUTES.size()]));
+            this.auditLogger = auditLogger;
+        }
+
+        @Override
+        protected boolean requiresRuntime(OperationContext context) {
+            return auditLogger != null;
+        }
+
+        @Override
+        protected boolean applyUpdateToRuntime(OperationContext context, ModelNode operation, String attributeName,
+                                               ModelNode resolvedValue, ModelNode currentValue,
+                                               HandbackHolder<Void> handbackHolder) throws OperationFailedException {
+            // The three attributes configure the same writer
+            setAsync(context, context.readResource(PathAddress.EMPTY_ADDRESS).getModel(), auditLogger);
+            return false;
+        }
+
+        @Override
+        protected void revertUpdateToRuntime(OperationContext context, ModelNode operation, String attributeName,
+                                             ModelNode valueToRestore, ModelNode valueToRevert, Void handback) throws OperationFailedException {
+            final ModelNode model = context.readResource(PathAddress.EMPTY_ADDRESS).getModel().clone();
+            model.get(attributeName).set(valueToRestore);
+            setAsync(context, model, auditLogger);
+        }
+    }
+
+    private static class AuditLogAsyncMetricsHandler extends AbstractRuntimeOnlyHandler {
+
+        private final ManagedAuditLogger auditLogger;
+
+        AuditLogAsyncMetricsHandler(ManagedAuditLogger auditLogger) {
+            this.auditLogger = auditLogger;
+        }
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final String attr = operation.require(ModelDescriptionConstants.NAME).asString();
+            if (attr.equals(ASYNC_QUEUE_DEPTH.getName())) {
+                context.getResult().set(auditLogger.getAsyncQueueDepth());
+            } else if (attr.equals(ASYNC_DISCARDED_COUNT.getName())) {
+                context.getResult().set(auditLogger.getAsyncDiscardedCount());
+            }
+        }
+    }
 }
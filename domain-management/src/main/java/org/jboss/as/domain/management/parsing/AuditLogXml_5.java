@@ -587,6 +587,13 @@ final class AuditLogXml_5 implements AuditLogXml {
         }
     }
 
+    private static void requireAsyncNamespace(final XMLExtendedStreamReader reader, final Namespace expectedNs, final int index) throws XMLStreamException {
+        // The async attributes were added in version 12
+        if (expectedNs.getMajorVersion() < 12) {
+            throw unexpectedAttribute(reader, index);
+        }
+    }
+
     private void parseAuditLogConfig(final XMLExtendedStreamReader reader, final ModelNode address, final Namespace expectedNs, final PathElement pathElement, final List<ModelNode> list) throws XMLStreamException {
 
         requireNamespace(reader, expectedNs);
@@ -619,6 +626,21 @@ final class AuditLogXml_5 implements AuditLogXml {
                     AuditLogLoggerResourceDefinition.ENABLED.parseAndSetParameter(value, add, reader);
                     break;
                 }
+                case ASYNC: {
+                    requireAsyncNamespace(reader, expectedNs, i);
+                    AuditLogLoggerResourceDefinition.ASYNC.parseAndSetParameter(value, add, reader);
+                    break;
+                }
+                case ASYNC_QUEUE_SIZE: {
+                    requireAsyncNamespace(reader, expectedNs, i);
+                    AuditLogLoggerResourceDefinition.ASYNC_QUEUE_SIZE.parseAndSetParameter(value, add, reader);
+                    break;
+                }
+                case ASYNC_OVERFLOW_POLICY: {
+                    requireAsyncNamespace(reader, expectedNs, i);
+                    AuditLogLoggerResourceDefinition.ASYNC_OVERFLOW_POLICY.parseAndSetParameter(value, add, reader);
+                    break;
+                }
                 default: {
                     throw unexpectedAttribute(reader, i);
                 }
@@ -778,6 +800,9 @@ final class AuditLogXml_5 implements AuditLogXml {
             AuditLogLoggerResourceDefinition.LOG_BOOT.marshallAsAttribute(config, writer);
             AuditLogLoggerResourceDefinition.LOG_READ_ONLY.marshallAsAttribute(config, writer);
             AuditLogLoggerResourceDefinition.ENABLED.marshallAsAttribute(config, writer);
+            AuditLogLoggerResourceDefinition.ASYNC.marshallAsAttribute(config, writer);
+            AuditLogLoggerResourceDefinition.ASYNC_QUEUE_SIZE.marshallAsAttribute(config, writer);
+            AuditLogLoggerResourceDefinition.ASYNC_OVERFLOW_POLICY.marshallAsAttribute(config, writer);
             if (config.hasDefined(ModelDescriptionConstants.HANDLER) && config.get(ModelDescriptionConstants.HANDLER).keys().size() > 0) {
                 writer.writeStartElement(Element.HANDLERS.getLocalName());
                 for (String name : config.get(ModelDescriptionConstants.HANDLER).keys()) {
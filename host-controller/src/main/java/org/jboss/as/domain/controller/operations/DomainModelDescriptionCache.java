@@ -0,0 +1,168 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.domain.controller.operations;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.logging.ControllerLogger;
+import org.jboss.as.domain.controller.logging.DomainControllerLogger;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Cache of the descriptions of the domain model sent to the slave hosts when they register.
+ * <p>
+ * The description sent to a host only depends on the domain model and on a signature of the host made of its
+ * management version, the versions of its subsystems and the resources it ignores. So when many hosts register at
+ * once, for instance when they reconnect after a restart of the domain controller, the hosts with the same signature
+ * share a single transformation of the domain model: the first one does the work while the others wait for it.
+ * <p>
+ * The cached descriptions are dropped as soon as a registration sees a different domain model. The registrations
+ * hold the shared controller lock, so the domain model cannot change while they are running. Transformation warnings
+ * are only logged for the host which did the transformation.
+ */
+public final class DomainModelDescriptionCache {
+
+    private static final int MAX_SIZE = 16;
+
+    // all the following are protected by this
+    private ModelNode model;
+    private final Map<ModelNode, CompletableFuture<List<ModelNode>>> descriptions = new LinkedHashMap<ModelNode, CompletableFuture<List<ModelNode>>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<ModelNode, CompletableFuture<List<ModelNode>>> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+    private long hits;
+    private long misses;
+
+    /**
+     * Get the description of the domain model for a host, describing it if it is not cached yet.
+     *
+     * @param signature the signature of the host
+     * @param model the untransformed domain model, as read by {@link org.jboss.as.controller.registry.Resource.Tools#readModel(org.jboss.as.controller.registry.Resource)}
+     * @param describer describes the domain model for the host
+     * @return the description, which must not be modified
+     * @throws OperationFailedException if the description failed
+     */
+    List<ModelNode> getDescription(final ModelNode signature, final ModelNode model, final Describer describer) throws OperationFailedException {
+        signature.protect();
+        final CompletableFuture<List<ModelNode>> future;
+        final boolean owner;
+        synchronized (this) {
+            if (this.model == null || !sameModel(this.model, model)) {
+                descriptions.clear();
+                this.model = model;
+            }
+            final CompletableFuture<List<ModelNode>> existing = descriptions.get(signature);
+            if (existing != null) {
+                future = existing;
+                owner = false;
+                hits++;
+            } else {
+                future = new CompletableFuture<>();
+                descriptions.put(signature, future);
+                owner = true;
+                misses++;
+            }
+        }
+        if (owner) {
+            final List<ModelNode> description;
+            try {
+                description = describer.describe();
+            } catch (OperationFailedException | RuntimeException | Error e) {
+                synchronized (this) {
+                    descriptions.remove(signature, future);
+                }
+                future.completeExceptionally(e);
+                throw e;
+            }
+            future.complete(description);
+            return description;
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ControllerLogger.ROOT_LOGGER.operationCancelledAsynchronously();
+        } catch (ExecutionException e) {
+            // report the failure of this host rather than the one of the host which did the work
+            DomainControllerLogger.ROOT_LOGGER.debugf(e.getCause(), "Shared description of the domain model failed, describing it again");
+            return describer.describe();
+        }
+    }
+
+    /**
+     * Get the number of descriptions which were shared with a previous registration.
+     *
+     * @return the number of hits
+     */
+    synchronized long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * Get the number of descriptions which had to be done.
+     *
+     * @return the number of misses
+     */
+    synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Compares two models, also taking the order of the children into account since the order of the ordered child
+     * resources is part of the description.
+     */
+    private static boolean sameModel(final ModelNode a, final ModelNode b) {
+        if (a.getType() != b.getType()) {
+            return false;
+        }
+        if (a.getType() != ModelType.OBJECT) {
+            return a.equals(b);
+        }
+        if (!new ArrayList<>(a.keys()).equals(new ArrayList<>(b.keys()))) {
+            return false;
+        }
+        for (String key : a.keys()) {
+            if (!sameModel(a.get(key), b.get(key))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Describes the domain model for a host.
+     */
+    interface Describer {
+        List<ModelNode> describe() throws OperationFailedException;
+    }
+}
@@ -25,6 +25,7 @@ package org.jboss.as.domain.controller.operations;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.controller.transform.Transformers;
 import org.jboss.dmr.ModelNode;
 
@@ -38,11 +39,20 @@ class ReadDomainModelHandler implements OperationStepHandler {
     private final Transformers transformers;
     private final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry;
     private final boolean lock;
+    private final DomainModelDescriptionCache cache;
+    private final ModelNode signature;
 
     public ReadDomainModelHandler(final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry, final Transformers transformers, final boolean lock) {
+        this(ignoredTransformationRegistry, transformers, lock, null, null);
+    }
+
+    ReadDomainModelHandler(final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry, final Transformers transformers, final boolean lock,
+                           final DomainModelDescriptionCache cache, final ModelNode signature) {
         this.transformers = transformers;
         this.ignoredTransformationRegistry = ignoredTransformationRegistry != null ? ignoredTransformationRegistry : Transformers.DEFAULT;
         this.lock = lock;
+        this.cache = cache;
+        this.signature = signature;
     }
 
     public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
@@ -53,9 +63,15 @@ class ReadDomainModelHandler implements OperationStepHandler {
         }
 
         final Transformers.TransformationInputs transformationInputs = new Transformers.TransformationInputs(context);
-        final ReadMasterDomainModelUtil readUtil = ReadMasterDomainModelUtil.readMasterDomainResourcesForInitialConnect(transformers,
-                transformationInputs, ignoredTransformationRegistry, transformationInputs.getRootResource());
-        context.getResult().set(readUtil.getDescribedResources());
+        final DomainModelDescriptionCache.Describer describer = () -> ReadMasterDomainModelUtil.readMasterDomainResourcesForInitialConnect(transformers,
+                transformationInputs, ignoredTransformationRegistry, transformationInputs.getRootResource()).getDescribedResources();
+        if (cache == null) {
+            context.getResult().set(describer.describe());
+        } else {
+            // the description may be shared with other hosts, setting the result copies it
+            final ModelNode model = Resource.Tools.readModel(transformationInputs.getRootResource());
+            context.getResult().set(cache.getDescription(signature, model, describer));
+        }
     }
 
 }
@@ -45,16 +45,38 @@ public class ReadMasterDomainModelHandler implements OperationStepHandler {
 
     public static final String OPERATION_NAME = "read-master-domain-model";
 
+    private static final String VERSIONS = "versions";
+
     private final HostInfo hostInfo;
     private final Transformers transformers;
     private final ExtensionRegistry extensionRegistry;
     private final boolean lock;
+    private final DomainModelDescriptionCache cache;
+    private final ModelNode versions;
 
     public ReadMasterDomainModelHandler(final HostInfo hostInfo, final Transformers transformers, final ExtensionRegistry extensionRegistry, boolean lock) {
+        this(hostInfo, transformers, extensionRegistry, lock, null, null);
+    }
+
+    /**
+     * Creates a handler sharing the description of the domain model with the other hosts which have the same versions
+     * and ignore the same resources.
+     *
+     * @param hostInfo the host info
+     * @param transformers the transformers for the host
+     * @param extensionRegistry the extension registry
+     * @param lock whether the controller lock has to be acquired
+     * @param cache the cache of the descriptions, or {@code null} to always describe the domain model
+     * @param versions the management version of the host and the versions of its subsystems
+     */
+    public ReadMasterDomainModelHandler(final HostInfo hostInfo, final Transformers transformers, final ExtensionRegistry extensionRegistry, boolean lock,
+                                        final DomainModelDescriptionCache cache, final ModelNode versions) {
         this.hostInfo = hostInfo;
         this.transformers = transformers;
         this.extensionRegistry = extensionRegistry;
         this.lock = lock;
+        this.cache = cache;
+        this.versions = versions;
     }
 
     @Override
@@ -67,14 +89,21 @@ public class ReadMasterDomainModelHandler implements OperationStepHandler {
         final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry;
         final Resource resource = context.readResourceFromRoot(PathAddress.EMPTY_ADDRESS);
         // The host info is only null in the tests
+        ModelNode signature = null;
         if (hostInfo == null) {
             ignoredTransformationRegistry = Transformers.DEFAULT;
         } else {
             final ReadMasterDomainModelUtil.RequiredConfigurationHolder rc = hostInfo.populateRequiredConfigurationHolder(resource, extensionRegistry);
             ignoredTransformationRegistry = ReadMasterDomainModelUtil.createHostIgnoredRegistry(hostInfo, rc);
+            if (cache != null) {
+                signature = hostInfo.createIgnoredResourcesSignature();
+                signature.get(VERSIONS).set(versions);
+            }
         }
 
-        final OperationStepHandler handler = new ReadDomainModelHandler(ignoredTransformationRegistry, transformers, lock);
+        final OperationStepHandler handler = signature != null
+                ? new ReadDomainModelHandler(ignoredTransformationRegistry, transformers, lock, cache, signature)
+                : new ReadDomainModelHandler(ignoredTransformationRegistry, transformers, lock);
         context.addStep(handler, OperationContext.Stage.MODEL);
     }
 
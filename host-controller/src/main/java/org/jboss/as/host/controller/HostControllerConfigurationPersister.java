@@ -168,6 +168,16 @@ public class HostControllerConfigurationPersister implements ExtensibleConfigura
                 }
             }
 
+            @Override
+            public void awaitCommitted() {
+                if (delegates[0] != null) {
+                    delegates[0].awaitCommitted();
+                }
+                if (delegates[1] != null) {
+                    delegates[1].awaitCommitted();
+                }
+            }
+
             @Override
             public void rollback() {
                 if (delegates[0] != null) {
@@ -25,8 +25,12 @@ package org.jboss.as.host.controller.mgmt;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.EXTENSION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT_MAJOR_VERSION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT_MICRO_VERSION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT_MINOR_VERSION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
 import static org.jboss.as.host.controller.logging.HostControllerLogger.DOMAIN_LOGGER;
 import static org.jboss.as.process.protocol.ProtocolUtils.expectHeader;
@@ -65,6 +69,7 @@ import org.jboss.as.domain.controller.HostConnectionInfo;
 import org.jboss.as.domain.controller.HostRegistrations;
 import org.jboss.as.domain.controller.SlaveRegistrationException;
 import org.jboss.as.domain.controller.logging.DomainControllerLogger;
+import org.jboss.as.domain.controller.operations.DomainModelDescriptionCache;
 import org.jboss.as.domain.controller.operations.ReadMasterDomainModelHandler;
 import org.jboss.as.host.controller.logging.HostControllerLogger;
 import org.jboss.as.protocol.StreamUtils;
@@ -114,10 +119,18 @@ public class HostControllerRegistrationHandler implements ManagementRequestHandl
     private final HostRegistrations slaveHostRegistrations;
     private final String address;
     private final DomainHostExcludeRegistry domainHostExcludeRegistry;
+    private final DomainModelDescriptionCache descriptionCache;
 
     public HostControllerRegistrationHandler(ManagementChannelHandler handler, DomainController domainController, OperationExecutor operationExecutor,
                                              Executor registrations, HostRegistrations slaveHostRegistrations,
                                              DomainHostExcludeRegistry domainHostExcludeRegistry) {
+        this(handler, domainController, operationExecutor, registrations, slaveHostRegistrations, domainHostExcludeRegistry, null);
+    }
+
+    public HostControllerRegistrationHandler(ManagementChannelHandler handler, DomainController domainController, OperationExecutor operationExecutor,
+                                             Executor registrations, HostRegistrations slaveHostRegistrations,
+                                             DomainHostExcludeRegistry domainHostExcludeRegistry, DomainModelDescriptionCache descriptionCache) {
+        this.descriptionCache = descriptionCache;
         this.handler = handler;
         this.operationExecutor = operationExecutor;
         this.domainController = domainController;
@@ -367,9 +380,15 @@ public class HostControllerRegistrationHandler implements ManagementRequestHandl
                     throw new OperationFailedException(extensions.toString(), extensions);
                 }
                 // Remotely resolve the subsystem versions and create the transformation
-                registrationContext.processSubsystems(transformers, extensions);
-                // Now run the read-domain model operation
-                final ReadMasterDomainModelHandler handler = new ReadMasterDomainModelHandler(hostInfo, transformers, domainController.getExtensionRegistry(), false);
+                final ModelNode subsystems = registrationContext.processSubsystems(transformers, extensions);
+                // Now run the read-domain model operation, sharing the transformed model with the hosts having the same versions
+                final ModelNode versions = new ModelNode();
+                versions.get(MANAGEMENT_MAJOR_VERSION).set(major);
+                versions.get(MANAGEMENT_MINOR_VERSION).set(minor);
+                versions.get(MANAGEMENT_MICRO_VERSION).set(micro);
+                versions.get(SUBSYSTEM).set(subsystems);
+                final ReadMasterDomainModelHandler handler = new ReadMasterDomainModelHandler(hostInfo, transformers, domainController.getExtensionRegistry(), false,
+                        descriptionCache, versions);
                 context.addStep(READ_DOMAIN_MODEL.getOperation(), handler, OperationContext.Stage.MODEL);
 
                 context.completeStep(new OperationContext.ResultHandler() {
@@ -512,9 +531,10 @@ public class HostControllerRegistrationHandler implements ManagementRequestHandl
          * Create the transformers. This will remotely resolve the subsystem versions.
          *
          * @param extensions the extensions
+         * @return the versions of the subsystems of the host
          * @throws OperationFailedException
          */
-        private void processSubsystems(final Transformers transformers, final ModelNode extensions) throws OperationFailedException {
+        private ModelNode processSubsystems(final Transformers transformers, final ModelNode extensions) throws OperationFailedException {
             this.transformers = transformers;
             final ModelNode subsystems = executeBlocking(new IOTask<ModelNode>() {
                 @Override
@@ -531,6 +551,7 @@ public class HostControllerRegistrationHandler implements ManagementRequestHandl
                 final ModelNode version = subsystem.getValue();
                 target.addSubsystemVersion(subsystemName, ModelVersion.fromString(version.asString()));
             }
+            return subsystems;
         }
 
         protected void setSubsystems(final ModelNode resolved, final ManagementRequestContext<RegistrationContext> responseChannel) {
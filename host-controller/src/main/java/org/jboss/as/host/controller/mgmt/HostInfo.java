@@ -46,6 +46,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
@@ -125,6 +126,7 @@ public class HostInfo implements Transformers.ResourceIgnoredTransformationRegis
     private final String productName;
     private final String productVersion;
     private final Long remoteConnectionId;
+    private final Map<String, IgnoredType> ignoredTypes;
     private final Transformers.ResourceIgnoredTransformationRegistry ignoredResources;
     private final boolean ignoreUnaffectedConfig;
     private final Set<ServerConfigInfo> serverConfigInfos;
@@ -162,7 +164,8 @@ public class HostInfo implements Transformers.ResourceIgnoredTransformationRegis
         }
         this.domainIgnoredExtensions = domainIgnoredExtensions;
 
-        ignoredResources = createIgnoredRegistry(hostInfo, domainIgnoredExtensions);
+        ignoredTypes = processIgnoredResource(hostInfo, domainIgnoredExtensions);
+        ignoredResources = createIgnoredRegistry(ignoredTypes);
 
         hostDeclaredIgnoreUnaffected = hostInfo.hasDefined(IGNORE_UNUSED_CONFIG) && hostInfo.get(IGNORE_UNUSED_CONFIG).asBoolean();
         ignoreUnaffectedConfig = hostDeclaredIgnoreUnaffected || (domainActiveServerGroups != null && !domainActiveServerGroups.isEmpty());
@@ -280,6 +283,42 @@ public class HostInfo implements Transformers.ResourceIgnoredTransformationRegis
         return requiredConfigurationHolder;
     }
 
+    /**
+     * Creates a description of everything that determines which resources of the domain model are ignored for this
+     * host, once {@link #populateRequiredConfigurationHolder(Resource, ExtensionRegistry)} has been called. Hosts
+     * with equal descriptions ignore the same resources of the same domain model.
+     *
+     * @return the description
+     */
+    public synchronized ModelNode createIgnoredResourcesSignature() {
+        final ModelNode signature = new ModelNode();
+        final ModelNode types = signature.get(IGNORED_RESOURCES).setEmptyObject();
+        if (ignoredTypes != null) {
+            for (Map.Entry<String, IgnoredType> entry : ignoredTypes.entrySet()) {
+                final IgnoredType ignoredType = entry.getValue();
+                final ModelNode type = types.get(entry.getKey());
+                type.get(WILDCARD).set(ignoredType.wildcard);
+                if (ignoredType.names != null) {
+                    addSorted(type.get(NAMES), ignoredType.names);
+                }
+            }
+        }
+        signature.get(IGNORE_UNUSED_CONFIG).set(ignoreUnaffectedConfig);
+        if (ignoreUnaffectedConfig && requiredConfigurationHolder != null) {
+            addSorted(signature.get(PROFILE), requiredConfigurationHolder.getProfiles());
+            addSorted(signature.get(SERVER_GROUP), requiredConfigurationHolder.getServerGroups());
+            addSorted(signature.get(SOCKET_BINDING_GROUP), requiredConfigurationHolder.getSocketBindings());
+        }
+        return signature;
+    }
+
+    private static void addSorted(final ModelNode list, final Set<String> names) {
+        list.setEmptyList();
+        for (String name : new TreeSet<>(names)) {
+            list.add(name);
+        }
+    }
+
     private static class IgnoredType {
         private final boolean wildcard;
         private final Set<String> names;
@@ -318,12 +357,10 @@ public class HostInfo implements Transformers.ResourceIgnoredTransformationRegis
     }
 
     public static Transformers.ResourceIgnoredTransformationRegistry createIgnoredRegistry(final ModelNode modelNode) {
-        return createIgnoredRegistry(modelNode, null);
+        return createIgnoredRegistry(processIgnoredResource(modelNode, null));
     }
 
-    private static Transformers.ResourceIgnoredTransformationRegistry createIgnoredRegistry(final ModelNode modelNode,
-                                                                                            Set<String> domainIgnoredExtensions) {
-        final Map<String, IgnoredType> ignoredResources = processIgnoredResource(modelNode, domainIgnoredExtensions);
+    private static Transformers.ResourceIgnoredTransformationRegistry createIgnoredRegistry(final Map<String, IgnoredType> ignoredResources) {
         return new Transformers.ResourceIgnoredTransformationRegistry() {
             @Override
             public boolean isResourceTransformationIgnored(PathAddress address) {
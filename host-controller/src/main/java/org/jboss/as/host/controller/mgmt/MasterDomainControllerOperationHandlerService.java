@@ -46,6 +46,7 @@ import org.jboss.as.controller.remote.ResponseAttachmentInputStreamSupport;
 import org.jboss.as.controller.remote.TransactionalProtocolOperationHandler;
 import org.jboss.as.domain.controller.DomainController;
 import org.jboss.as.domain.controller.HostRegistrations;
+import org.jboss.as.domain.controller.operations.DomainModelDescriptionCache;
 import org.jboss.as.domain.controller.operations.FetchMissingConfigurationHandler;
 import org.jboss.as.domain.controller.operations.coordination.DomainControllerLockIdUtils;
 import org.jboss.as.host.controller.logging.HostControllerLogger;
@@ -77,6 +78,7 @@ public class MasterDomainControllerOperationHandlerService extends AbstractModel
     private final File tempDir;
     private final HostRegistrations slaveHostRegistrations;
     private final DomainHostExcludeRegistry domainHostExcludeRegistry;
+    private final DomainModelDescriptionCache descriptionCache = new DomainModelDescriptionCache();
 
     public MasterDomainControllerOperationHandlerService(
             final Consumer<AbstractModelControllerOperationHandlerFactoryService> serviceConsumer,
@@ -107,7 +109,7 @@ public class MasterDomainControllerOperationHandlerService extends AbstractModel
         handler.getAttachments().attach(ManagementChannelHandler.TEMP_DIR, tempDir);
         // Assemble the request handlers for the domain channel
         handler.addHandlerFactory(new HostControllerRegistrationHandler(handler, domainController, operationExecutor,
-                getExecutor(), slaveHostRegistrations, domainHostExcludeRegistry));
+                getExecutor(), slaveHostRegistrations, domainHostExcludeRegistry, descriptionCache));
         handler.addHandlerFactory(new ModelControllerClientOperationHandler(getController(), handler, getResponseAttachmentSupport(), getClientRequestExecutor()));
         handler.addHandlerFactory(new MasterDomainControllerOperationHandlerImpl(domainController, getExecutor()));
         handler.addHandlerFactory(pongRequestHandler);
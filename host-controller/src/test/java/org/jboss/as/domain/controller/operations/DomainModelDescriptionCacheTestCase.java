@@ -0,0 +1,131 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.domain.controller.operations;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DomainModelDescriptionCacheTestCase {
+
+    private static final int HOSTS = 16;
+
+    @Test
+    public void testConcurrentHostsShareDescription() throws Exception {
+        final DomainModelDescriptionCache cache = new DomainModelDescriptionCache();
+        final AtomicInteger describes = new AtomicInteger();
+        final CountDownLatch describing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(HOSTS);
+        try {
+            final Future<?>[] hosts = new Future<?>[HOSTS];
+            for (int i = 0; i < HOSTS; i++) {
+                hosts[i] = executor.submit(() -> cache.getDescription(signature("1.0.0"), model("a", "b"), () -> {
+                    describes.incrementAndGet();
+                    describing.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return description("shared");
+                }));
+            }
+            Assert.assertTrue(describing.await(10, TimeUnit.SECONDS));
+            release.countDown();
+            for (Future<?> host : hosts) {
+                Assert.assertEquals(description("shared"), host.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(1, describes.get());
+        Assert.assertEquals(1, cache.getMissCount());
+        Assert.assertEquals(HOSTS - 1, cache.getHitCount());
+    }
+
+    @Test
+    public void testSignatures() throws Exception {
+        final DomainModelDescriptionCache cache = new DomainModelDescriptionCache();
+        Assert.assertEquals(description("old"), cache.getDescription(signature("1.0.0"), model("a", "b"), () -> description("old")));
+        Assert.assertEquals(description("new"), cache.getDescription(signature("2.0.0"), model("a", "b"), () -> description("new")));
+        Assert.assertEquals(description("old"), cache.getDescription(signature("1.0.0"), model("a", "b"), () -> description("other")));
+        Assert.assertEquals(2, cache.getMissCount());
+        Assert.assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testModelChange() throws Exception {
+        final DomainModelDescriptionCache cache = new DomainModelDescriptionCache();
+        cache.getDescription(signature("1.0.0"), model("a", "b"), () -> description("first"));
+        Assert.assertEquals(description("changed"), cache.getDescription(signature("1.0.0"), model("a", "c"), () -> description("changed")));
+        // the order of the children is part of the description
+        Assert.assertEquals(description("reordered"), cache.getDescription(signature("1.0.0"), model("c", "a"), () -> description("reordered")));
+        Assert.assertEquals(3, cache.getMissCount());
+        Assert.assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    public void testFailureIsNotCached() throws Exception {
+        final DomainModelDescriptionCache cache = new DomainModelDescriptionCache();
+        try {
+            cache.getDescription(signature("1.0.0"), model("a"), () -> {
+                throw new OperationFailedException("failed");
+            });
+            Assert.fail();
+        } catch (OperationFailedException expected) {
+            // expected
+        }
+        Assert.assertEquals(description("retried"), cache.getDescription(signature("1.0.0"), model("a"), () -> description("retried")));
+    }
+
+    private static ModelNode signature(final String version) {
+        final ModelNode signature = new ModelNode();
+        signature.get("versions", "management").set(version);
+        signature.get("versions", "subsystem", "test").set("1.0.0");
+        return signature;
+    }
+
+    private static ModelNode model(final String... profiles) {
+        final ModelNode model = new ModelNode();
+        for (String profile : profiles) {
+            model.get("profile", profile, "subsystem", "test", "value").set(profile);
+        }
+        return model;
+    }
+
+    private static List<ModelNode> description(final String value) {
+        return Collections.singletonList(new ModelNode(value));
+    }
+}
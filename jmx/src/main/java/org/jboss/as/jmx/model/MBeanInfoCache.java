@@ -0,0 +1,102 @@
+/*
+* JBoss, Home of Professional Open Source.
+* Copyright 2026, Red Hat Middleware LLC, and individual contributors
+* as indicated by the @author tags. See the copyright.txt file in the
+* distribution for a full listing of individual contributors.
+*
+* This is free software; you can redistribute it and/or modify it
+* under the terms of the GNU Lesser General Public License as
+* published by the Free Software Foundation; either version 2.1 of
+* the License, or (at your option) any later version.
+*
+* This software is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+* Lesser General Public License for more details.
+*
+* You should have received a copy of the GNU Lesser General Public
+* License along with this software; if not, write to the Free
+* Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+* 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+*/
+package org.jboss.as.jmx.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.MBeanInfo;
+
+import org.jboss.as.controller.registry.ImmutableManagementResourceRegistration;
+
+/**
+ * Cache of the {@link MBeanInfo}s created by the {@link MBeanInfoFactory}.
+ * <p>
+ * All the resources using the same registration share the same description, so the attribute, operation and
+ * notification infos, whose descriptions are resolved from resource bundles, are only created once per registration
+ * and outcome of the {@link MutabilityChecker} for the resource. The cached infos don't contain the descriptor fields
+ * that depend on the name of the mbean, which are added by the factory for each call.
+ * <p>
+ * A registration may get new attributes, operations or child types when resources are added, e.g. by an extension or
+ * a deployment, so the cache is cleared whenever a resource is added or removed.
+ */
+final class MBeanInfoCache {
+
+    /** The number of entries above which the cache is cleared */
+    private static final int MAX_ENTRIES = 10000;
+
+    private final Map<Key, MBeanInfo> infos = new ConcurrentHashMap<>();
+
+    /**
+     * Gets a cached info.
+     *
+     * @param registration the registration of the resource
+     * @param mutable whether the resource is mutable
+     * @return the info, or {@code null} if it is not cached
+     */
+    MBeanInfo get(final ImmutableManagementResourceRegistration registration, final boolean mutable) {
+        return infos.get(new Key(registration, mutable));
+    }
+
+    void put(final ImmutableManagementResourceRegistration registration, final boolean mutable, final MBeanInfo info) {
+        if (infos.size() >= MAX_ENTRIES) {
+            infos.clear();
+        }
+        infos.put(new Key(registration, mutable), info);
+    }
+
+    /**
+     * Discards all the cached infos, since the registrations may have changed.
+     */
+    void clear() {
+        infos.clear();
+    }
+
+    int size() {
+        return infos.size();
+    }
+
+    private static final class Key {
+        private final ImmutableManagementResourceRegistration registration;
+        private final boolean mutable;
+
+        private Key(final ImmutableManagementResourceRegistration registration, final boolean mutable) {
+            this.registration = registration;
+            this.mutable = mutable;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            // Registrations are compared by identity, as a registration replaced by another one must not match
+            return registration == other.registration && mutable == other.mutable;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(registration) + (mutable ? 1 : 0);
+        }
+    }
+}
@@ -59,9 +59,11 @@ import javax.management.AttributeChangeNotification;
 import javax.management.Descriptor;
 import javax.management.ImmutableDescriptor;
 import javax.management.InstanceNotFoundException;
+import javax.management.MBeanAttributeInfo;
 import javax.management.MBeanInfo;
 import javax.management.MBeanNotificationInfo;
 import javax.management.MBeanOperationInfo;
+import javax.management.MBeanParameterInfo;
 import javax.management.Notification;
 import javax.management.ObjectName;
 import javax.management.openmbean.OpenMBeanAttributeInfo;
@@ -108,29 +110,32 @@ public class MBeanInfoFactory {
     private static final String DESC_EXPRESSIONS_ALLOWED_DESC = "expressions.allowed.description";
 
     private static final OpenMBeanParameterInfo[] EMPTY_PARAMETERS = new OpenMBeanParameterInfo[0];
-    private final ObjectName name;
     private final TypeConverters converters;
-    private final ConfiguredDomains configuredDomains;
     private final MutabilityChecker mutabilityChecker;
     private final ImmutableManagementResourceRegistration resourceRegistration;
     private final ModelNode providedDescription;
     private final PathAddress pathAddress;
-    private final boolean legacy;
 
-    private MBeanInfoFactory(final ObjectName name, final TypeConverters converters, final ConfiguredDomains configuredDomains, final MutabilityChecker mutabilityChecker, final PathAddress address, final ImmutableManagementResourceRegistration resourceRegistration) {
-        this.name = name;
+    private MBeanInfoFactory(final TypeConverters converters, final MutabilityChecker mutabilityChecker, final PathAddress address, final ImmutableManagementResourceRegistration resourceRegistration) {
         this.converters = converters;
-        this.configuredDomains = configuredDomains;
         this.mutabilityChecker = mutabilityChecker;
-        this.legacy = configuredDomains.isLegacyDomain(name);
         this.resourceRegistration = resourceRegistration;
         DescriptionProvider provider = resourceRegistration.getModelDescription(PathAddress.EMPTY_ADDRESS);
         providedDescription = provider != null ? provider.getModelDescription(null) : new ModelNode();
         this.pathAddress = address;
     }
 
-    static MBeanInfo createMBeanInfo(final ObjectName name, final TypeConverters converters, final ConfiguredDomains configuredDomains, final MutabilityChecker mutabilityChecker, final PathAddress address, final ImmutableManagementResourceRegistration resourceRegistration) throws InstanceNotFoundException{
-        return new MBeanInfoFactory(name, converters, configuredDomains, mutabilityChecker, address, resourceRegistration).createMBeanInfo();
+    static MBeanInfo createMBeanInfo(final ObjectName name, final TypeConverters converters, final ConfiguredDomains configuredDomains, final MutabilityChecker mutabilityChecker, final PathAddress address, final ImmutableManagementResourceRegistration resourceRegistration, final MBeanInfoCache cache) throws InstanceNotFoundException{
+        // Everything but the root resource and the child add operations only depends on the registration and on the
+        // mutability of the resource. The root has its own registration, and the child resources of an address
+        // have the same mutability as their parent, except for the children of the root.
+        final boolean mutable = mutabilityChecker.mutable(address);
+        MBeanInfo info = cache.get(resourceRegistration, mutable);
+        if (info == null) {
+            info = new MBeanInfoFactory(converters, mutabilityChecker, address, resourceRegistration).createMBeanInfo();
+            cache.put(resourceRegistration, mutable, info);
+        }
+        return addMBeanExpressionSupport(info, createMBeanExpressionSupportDescriptor(name, configuredDomains));
     }
 
     private MBeanInfo createMBeanInfo() {
@@ -140,7 +145,48 @@ public class MBeanInfoFactory {
                 getConstructors(),
                 getOperations(),
                 getNotifications(),
-                createMBeanDescriptor());
+                ImmutableDescriptor.EMPTY_DESCRIPTOR);
+    }
+
+    /**
+     * Copies a cached info, adding the descriptor fields which depend on the name of the mbean.
+     */
+    private static MBeanInfo addMBeanExpressionSupport(final MBeanInfo info, final Descriptor expressionSupport) {
+        final MBeanAttributeInfo[] attributes = info.getAttributes();
+        final OpenMBeanAttributeInfo[] attributeInfos = new OpenMBeanAttributeInfo[attributes.length];
+        for (int i = 0; i < attributes.length; i++) {
+            final OpenMBeanAttributeInfoSupport attribute = (OpenMBeanAttributeInfoSupport) attributes[i];
+            attributeInfos[i] = new OpenMBeanAttributeInfoSupport(
+                    attribute.getName(),
+                    attribute.getDescription(),
+                    attribute.getOpenType(),
+                    attribute.isReadable(),
+                    attribute.isWritable(),
+                    attribute.isIs(),
+                    ImmutableDescriptor.union(attribute.getDescriptor(), expressionSupport));
+        }
+        final MBeanOperationInfo[] operations = info.getOperations();
+        final OpenMBeanOperationInfo[] operationInfos = new OpenMBeanOperationInfo[operations.length];
+        for (int i = 0; i < operations.length; i++) {
+            final OpenMBeanOperationInfoSupport operation = (OpenMBeanOperationInfoSupport) operations[i];
+            final MBeanParameterInfo[] signature = operation.getSignature();
+            final OpenMBeanParameterInfo[] params = new OpenMBeanParameterInfo[signature.length];
+            System.arraycopy(signature, 0, params, 0, signature.length);
+            operationInfos[i] = new OpenMBeanOperationInfoSupport(
+                    operation.getName(),
+                    operation.getDescription(),
+                    params,
+                    operation.getReturnOpenType(),
+                    operation.getImpact(),
+                    ImmutableDescriptor.union(operation.getDescriptor(), expressionSupport));
+        }
+        return new OpenMBeanInfoSupport(info.getClassName(),
+                info.getDescription(),
+                attributeInfos,
+                null,
+                operationInfos,
+                info.getNotifications(),
+                expressionSupport);
     }
 
 
@@ -371,15 +417,8 @@ public class MBeanInfoFactory {
         return notifications.toArray(new MBeanNotificationInfo[notifications.size()]);
     }
 
-    private Descriptor createMBeanDescriptor() {
-        Map<String, String> descriptions = new HashMap<String, String>();
-        addMBeanExpressionSupport(descriptions);
-        return new ImmutableDescriptor(descriptions);
-    }
-
     private Descriptor createAttributeDescriptor(ModelNode attribute) {
         Map<String, String> descriptions = new HashMap<String, String>();
-        addMBeanExpressionSupport(descriptions);
         Boolean allowExpressions = attribute.hasDefined(EXPRESSIONS_ALLOWED) && attribute.get(EXPRESSIONS_ALLOWED).asBoolean();
         descriptions.put(DESC_EXPRESSIONS_ALLOWED, allowExpressions.toString());
         descriptions.put(DESC_EXPRESSIONS_ALLOWED_DESC, allowExpressions ?
@@ -388,13 +427,12 @@ public class MBeanInfoFactory {
     }
 
     private Descriptor createOperationDescriptor() {
-        Map<String, String> descriptions = new HashMap<String, String>();
-        addMBeanExpressionSupport(descriptions);
-        return new ImmutableDescriptor(descriptions);
+        return ImmutableDescriptor.EMPTY_DESCRIPTOR;
     }
 
-    private void addMBeanExpressionSupport(Map<String, String> descriptions) {
-        if (legacy) {
+    private static Descriptor createMBeanExpressionSupportDescriptor(ObjectName name, ConfiguredDomains configuredDomains) {
+        Map<String, String> descriptions = new HashMap<String, String>();
+        if (configuredDomains.isLegacyDomain(name)) {
             descriptions.put(DESC_MBEAN_EXPR, "true");
             descriptions.put(DESC_MBEAN_EXPR_DESCR, JmxLogger.ROOT_LOGGER.descriptorMBeanExpressionSupportFalse());
             if (configuredDomains.getExprDomain() != null) {
@@ -411,5 +449,6 @@ public class MBeanInfoFactory {
                 descriptions.put(DESC_ALTERNATE_MBEAN_DESCR, JmxLogger.ROOT_LOGGER.descriptorAlternateMBeanLegacy(alternate));
             }
         }
+        return new ImmutableDescriptor(descriptions);
     }
 }
@@ -24,22 +24,28 @@ package org.jboss.as.jmx.model;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS_MECHANISM;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.COMPOSITE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REPLY_PROPERTIES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REQUEST_PROPERTIES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STEPS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -99,6 +105,8 @@ public class ModelControllerMBeanHelper {
     private final ConfiguredDomains configuredDomains;
     private final String domain;
     private final ObjectInstance rootObjectInstance;
+    private final ObjectNameIndex objectNameIndex;
+    private final MBeanInfoCache mbeanInfoCache = new MBeanInfoCache();
     private final ManagementModelIntegration.ManagementModelProvider managementModelProvider;
 
     ModelControllerMBeanHelper(TypeConverters converters, ConfiguredDomains configuredDomains, String domain,
@@ -112,6 +120,7 @@ public class ModelControllerMBeanHelper {
         this.mutabilityChecker = mutabilityChecker;
         this.managementModelProvider = managementModelProvider;
         this.rootObjectInstance = ModelControllerMBeanHelper.createRootObjectInstance(domain);
+        this.objectNameIndex = new ObjectNameIndex(rootObjectInstance.getObjectName());
     }
 
     int getMBeanCount() {
@@ -144,7 +153,9 @@ public class ModelControllerMBeanHelper {
     }
 
     Set<ObjectInstance> queryMBeans(final MBeanServer mbeanServer, final ObjectName name, final QueryExp query) {
-        Set<ObjectInstance> basic = new RootResourceIterator<Set<ObjectInstance>>(accessControlUtil, getRootResourceAndRegistration().getResource(),
+        Set<ObjectInstance> basic = name != null && !name.isPattern()
+                ? lookupMBean(name) == null ? Collections.<ObjectInstance>emptySet() : Collections.singleton(new ObjectInstance(name, CLASS_NAME))
+                : new RootResourceIterator<Set<ObjectInstance>>(accessControlUtil, getRootResourceAndRegistration().getResource(),
                 new ObjectNameMatchResourceAction<Set<ObjectInstance>>(name) {
 
             Set<ObjectInstance> set = new HashSet<ObjectInstance>();
@@ -188,7 +199,9 @@ public class ModelControllerMBeanHelper {
     }
 
     Set<ObjectName> queryNames(MBeanServer mbeanServer, final ObjectName name, final QueryExp query) {
-        Set<ObjectName> basic = new RootResourceIterator<Set<ObjectName>>(accessControlUtil, getRootResourceAndRegistration().getResource(),
+        Set<ObjectName> basic = name != null && !name.isPattern()
+                ? lookupMBean(name) == null ? Collections.<ObjectName>emptySet() : Collections.singleton(name)
+                : new RootResourceIterator<Set<ObjectName>>(accessControlUtil, getRootResourceAndRegistration().getResource(),
                 new ObjectNameMatchResourceAction<Set<ObjectName>>(name) {
 
             Set<ObjectName> set = new HashSet<ObjectName>();
@@ -230,6 +243,27 @@ public class ModelControllerMBeanHelper {
         return result;
     }
 
+    /**
+     * Finds the resource of an mbean that is not a pattern, applying the same checks as the {@link RootResourceIterator}
+     * used to query patterns: neither the resource nor its ancestors may be excluded or not accessible.
+     *
+     * @return the address of the resource, or {@code null} if the query would not find it
+     */
+    private PathAddress lookupMBean(final ObjectName name) {
+        final PathAddress address = resolvePathAddress(name, getRootResourceAndRegistration());
+        if (address == null) {
+            return null;
+        }
+        for (int i = 0; i <= address.size(); i++) {
+            final PathAddress current = address.subAddress(0, i);
+            if (isExcludeAddress(current) || !accessControlUtil.getResourceAccess(current, false).isAccessibleResource()) {
+                return null;
+            }
+        }
+        // The name may use the escaped form of the keys and values, so make sure it's the one used by queries
+        return objectNameIndex.getObjectName(address).equals(name) ? address : null;
+    }
+
     /**  Set the mbean server on the QueryExp and try and pass back any previously set one */
     private static MBeanServer setQueryExpServer(QueryExp query, MBeanServer toSet) {
         // We assume the QueryExp is a QueryEval subclass or uses the QueryEval thread local
@@ -242,11 +276,25 @@ public class ModelControllerMBeanHelper {
 
 
     PathAddress resolvePathAddress(final ObjectName name) {
-        return ObjectNameAddressUtil.resolvePathAddress(rootObjectInstance.getObjectName(), getRootResourceAndRegistration().getResource(), name);
+        return objectNameIndex.resolvePathAddress(getRootResourceAndRegistration().getResource(), name);
     }
 
     private PathAddress resolvePathAddress(final ObjectName name, ManagementModelIntegration.ResourceAndRegistration reg) {
-        return ObjectNameAddressUtil.resolvePathAddress(rootObjectInstance.getObjectName(), reg.getResource(), name);
+        return objectNameIndex.resolvePathAddress(reg.getResource(), name);
+    }
+
+    /**
+     * Gets the index of the ObjectNames of the resources, to be kept up to date with the resource notifications.
+     */
+    ObjectNameIndex getObjectNameIndex() {
+        return objectNameIndex;
+    }
+
+    /**
+     * Gets the cache of the MBeanInfos, to be cleared when resources are added or removed.
+     */
+    MBeanInfoCache getMBeanInfoCache() {
+        return mbeanInfoCache;
     }
 
     /**
@@ -268,7 +316,7 @@ public class ModelControllerMBeanHelper {
         }
         // Ensure the resource is addressable; fail if not
         accessControlUtil.getResourceAccessWithInstanceNotFoundExceptionIfNotAccessible(name, address, true);
-        return MBeanInfoFactory.createMBeanInfo(name, converters, configuredDomains, mutabilityChecker, address, getMBeanRegistration(address, reg));
+        return MBeanInfoFactory.createMBeanInfo(name, converters, configuredDomains, mutabilityChecker, address, getMBeanRegistration(address, reg), mbeanInfoCache);
     }
 
     Object getAttribute(final ObjectName name, final String attribute)  throws AttributeNotFoundException, InstanceNotFoundException, ReflectionException {
@@ -281,6 +329,12 @@ public class ModelControllerMBeanHelper {
         return getAttribute(reg, address, attribute, accessControl);
     }
 
+    /**
+     * Reads the given attributes of a resource. As for {@link javax.management.MBeanServer#getAttributes}, the
+     * attributes which cannot be read, because they are unknown or their read fails, are left out of the returned list,
+     * whatever the number of requested attributes. Attributes the caller is not authorized to read fail the whole call,
+     * as they do for {@link #getAttribute(ObjectName, String)}.
+     */
     AttributeList getAttributes(ObjectName name, String[] attributes) throws InstanceNotFoundException, ReflectionException {
         final ManagementModelIntegration.ResourceAndRegistration reg = getRootResourceAndRegistration();
         final PathAddress address = resolvePathAddress(name, reg);
@@ -288,12 +342,55 @@ public class ModelControllerMBeanHelper {
             throw JmxLogger.ROOT_LOGGER.mbeanNotFound(name);
         }
         final ResourceAccessControl accessControl = accessControlUtil.getResourceAccessWithInstanceNotFoundExceptionIfNotAccessible(name, address, false);
-        AttributeList list = new AttributeList();
+        final ImmutableManagementResourceRegistration registration = getMBeanRegistration(address, reg);
+        final Map<String, AttributeAccess> attributeAccesses = registration.getAttributes(PathAddress.EMPTY_ADDRESS);
+        // the requested attributes which are known, and their names in the model
+        final List<String> requested = new ArrayList<>(attributes.length);
+        final List<String> attributeNames = new ArrayList<>(attributes.length);
         for (String attribute : attributes) {
+            final String attributeName;
+            try {
+                attributeName = findAttributeName(attributeAccesses.keySet(), attribute);
+            } catch (AttributeNotFoundException e) {
+                JmxLogger.ROOT_LOGGER.debugf(e, "Failed to read attribute %s of %s", attribute, name);
+                continue;
+            }
+            if (!accessControl.isReadableAttribute(attributeName)) {
+                throw JmxLogger.ROOT_LOGGER.notAuthorizedToReadAttribute(attributeName);
+            }
+            requested.add(attribute);
+            attributeNames.add(attributeName);
+        }
+
+        final AttributeList list = new AttributeList();
+        if (requested.size() > 1) {
+            // Read all the attributes in a single composite operation, rather than executing an operation per attribute
+            final ModelNode composite = new ModelNode();
+            composite.get(OP).set(COMPOSITE);
+            composite.get(OP_ADDR).setEmptyList();
+            final ModelNode steps = composite.get(STEPS).setEmptyList();
+            for (String attributeName : attributeNames) {
+                ModelNode op = steps.add();
+                op.get(OP).set(READ_ATTRIBUTE_OPERATION);
+                op.get(OP_ADDR).set(address.toModelNode());
+                op.get(NAME).set(attributeName);
+            }
+            final ModelNode result = execute(composite);
+            if (SUCCESS.equals(result.get(OUTCOME).asString())) {
+                for (int i = 0; i < requested.size(); i++) {
+                    final ModelNode stepResult = result.get(RESULT, "step-" + (i + 1));
+                    ModelNode attrDesc = getAttributeDescription(attributeNames.get(i), registration, attributeAccesses);
+                    list.add(new Attribute(requested.get(i), converters.fromModelNode(attrDesc, stepResult.get(RESULT))));
+                }
+                return list;
+            }
+            // A failed step rolls the others back, so read the attributes one by one
+        }
+        for (String attribute : requested) {
             try {
                 list.add(new Attribute(attribute, getAttribute(reg, address, attribute, accessControl)));
             } catch (AttributeNotFoundException e) {
-                throw new ReflectionException(e);
+                JmxLogger.ROOT_LOGGER.debugf(e, "Failed to read attribute %s of %s", attribute, name);
             }
         }
         return list;
@@ -630,7 +727,6 @@ public class ModelControllerMBeanHelper {
         private final Map<String, String> properties;
         private final ObjectName domainOnlyName;
         private final boolean propertyListPattern;
-        private final ObjectNameAddressUtil.ObjectNameCreationContext creationContext = ObjectNameAddressUtil.ObjectNameCreationContext.create();
 
         ObjectNameMatchResourceAction(ObjectName baseName) {
             this.baseName = baseName;
@@ -650,7 +746,7 @@ public class ModelControllerMBeanHelper {
             }
 
             ObjectName result = null;
-            ObjectName toMatch = ObjectNameAddressUtil.createObjectName(domain, address, creationContext);
+            ObjectName toMatch = objectNameIndex.getObjectName(address);
             if (baseName == null) {
                 result = toMatch;
             } else if (address.size() == 0) {
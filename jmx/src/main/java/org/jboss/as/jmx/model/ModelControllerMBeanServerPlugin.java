@@ -95,6 +95,14 @@ public class ModelControllerMBeanServerPlugin extends BaseMBeanServerPlugin {
                 new ModelControllerMBeanHelper(TypeConverters.createExpressionTypeConverters(), configuredDomains,
                         configuredDomains.getExprDomain(), controller, mutabilityChecker, managementModelProvider) : null;
 
+        // Keep the ObjectName indexes and the MBeanInfo caches of the helpers up to date
+        for (ModelControllerMBeanHelper helper : new ModelControllerMBeanHelper[] {legacyHelper, exprHelper}) {
+            if (helper != null) {
+                HelperCacheNotificationHandler handler = new HelperCacheNotificationHandler(helper.getObjectNameIndex(), helper.getMBeanInfoCache());
+                notificationRegistry.registerNotificationHandler(NotificationHandlerRegistration.ANY_ADDRESS, handler, handler);
+            }
+        }
+
         // JMX notifications for MBean registration/unregistration are emitted by the MBeanServerDelegate and not by the
         // MBeans itself. If we have a reference on the delegate, we add a listener for any WildFly resource address
         // that converts the resource-added and resource-removed notifications to MBeanServerNotification and send them
@@ -437,6 +445,33 @@ public class ModelControllerMBeanServerPlugin extends BaseMBeanServerPlugin {
         }
     }
 
+    private static class HelperCacheNotificationHandler implements NotificationHandler, NotificationFilter {
+
+        private final ObjectNameIndex index;
+        private final MBeanInfoCache mbeanInfoCache;
+
+        private HelperCacheNotificationHandler(ObjectNameIndex index, MBeanInfoCache mbeanInfoCache) {
+            this.index = index;
+            this.mbeanInfoCache = mbeanInfoCache;
+        }
+
+        @Override
+        public void handleNotification(Notification notification) {
+            // Adding or removing a resource may have changed the registrations, e.g. for an extension or a deployment
+            mbeanInfoCache.clear();
+            if (notification.getType().equals(RESOURCE_ADDED_NOTIFICATION)) {
+                index.resourceAdded(notification.getSource());
+            } else {
+                index.resourceRemoved(notification.getSource());
+            }
+        }
+
+        @Override
+        public boolean isNotificationEnabled(Notification notification) {
+            return isResourceAddedOrRemovedNotification(notification);
+        }
+    }
+
     private static boolean isResourceAddedOrRemovedNotification(Notification notification) {
         return notification.getType().equals(RESOURCE_ADDED_NOTIFICATION) ||
                 notification.getType().equals(ModelDescriptionConstants.RESOURCE_REMOVED_NOTIFICATION);
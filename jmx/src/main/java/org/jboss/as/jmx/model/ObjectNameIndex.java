@@ -0,0 +1,209 @@
+/*
+* JBoss, Home of Professional Open Source.
+* Copyright 2026, Red Hat Middleware LLC, and individual contributors
+* as indicated by the @author tags. See the copyright.txt file in the
+* distribution for a full listing of individual contributors.
+*
+* This is free software; you can redistribute it and/or modify it
+* under the terms of the GNU Lesser General Public License as
+* published by the Free Software Foundation; either version 2.1 of
+* the License, or (at your option) any later version.
+*
+* This software is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+* Lesser General Public License for more details.
+*
+* You should have received a copy of the GNU Lesser General Public
+* License along with this software; if not, write to the Free
+* Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+* 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+*/
+package org.jboss.as.jmx.model;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.ObjectName;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.registry.Resource;
+
+/**
+ * Index of the conversions between the {@link PathAddress}es of the management resources and the {@link ObjectName}s
+ * of the corresponding mbeans in a JMX domain.
+ * <p>
+ * Converting an address into an {@code ObjectName} means escaping and parsing a string, and converting an
+ * {@code ObjectName} into an address means searching the resource tree for the key properties. The index keeps both
+ * conversions for the resources that have been seen, so that queries and mbean lookups don't redo them on every call.
+ * Entries are added as resources are found, and removed with their descendants when a resource is removed. An address
+ * found in the index is only returned if the resource still exists, so resources removed without a notification only
+ * leave stale entries until they are evicted.
+ * <p>
+ * The index only caches conversions, it does not list the resources: resources can come and go without a
+ * notification, so pattern queries still walk the resource tree, using the index for the names of the addresses they
+ * visit.
+ */
+final class ObjectNameIndex {
+
+    /** The number of entries above which a quarter of the index is evicted, in case removals were missed */
+    private static final int MAX_ENTRIES = 100000;
+
+    private final String domain;
+    private final ObjectName domainRoot;
+    private final int maxEntries;
+    private final Map<PathAddress, ObjectName> objectNames = new ConcurrentHashMap<>();
+    private final Map<ObjectName, PathAddress> addresses = new ConcurrentHashMap<>();
+    /** The indexed addresses and the addresses on their paths, by parent address, to find the entries to remove */
+    private final Map<PathAddress, Set<PathAddress>> children = new ConcurrentHashMap<>();
+
+    ObjectNameIndex(final ObjectName domainRoot) {
+        this(domainRoot, MAX_ENTRIES);
+    }
+
+    ObjectNameIndex(final ObjectName domainRoot, final int maxEntries) {
+        this.domain = domainRoot.getDomain();
+        this.domainRoot = domainRoot;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Gets the ObjectName representation of an address, as created by
+     * {@link ObjectNameAddressUtil#createObjectName(String, PathAddress)}.
+     *
+     * @param address the address. Cannot be {@code null}
+     * @return the ObjectName. Will not return {@code null}
+     */
+    ObjectName getObjectName(final PathAddress address) {
+        ObjectName name = objectNames.get(address);
+        if (name == null) {
+            name = ObjectNameAddressUtil.createObjectName(domain, address);
+            put(address, name, false);
+        }
+        return name;
+    }
+
+    /**
+     * Converts the ObjectName to the address of an existing resource, like
+     * {@link ObjectNameAddressUtil#resolvePathAddress(ObjectName, Resource, ObjectName)}.
+     *
+     * @param rootResource the root resource for the management model
+     * @param name the ObjectName to resolve
+     * @return the PathAddress if it exists in the model, {@code null} otherwise
+     */
+    PathAddress resolvePathAddress(final Resource rootResource, final ObjectName name) {
+        final PathAddress indexed = addresses.get(name);
+        if (indexed != null && exists(rootResource, indexed)) {
+            return indexed;
+        }
+        final PathAddress address = ObjectNameAddressUtil.resolvePathAddress(domainRoot, rootResource, name);
+        if (address != null) {
+            // Replaces any stale entry
+            put(address, name, true);
+        }
+        return address;
+    }
+
+    /**
+     * Records a new resource.
+     *
+     * @param address the address of the resource
+     */
+    void resourceAdded(final PathAddress address) {
+        getObjectName(address);
+    }
+
+    /**
+     * Forgets a removed resource and its descendants.
+     *
+     * @param address the address of the resource
+     */
+    void resourceRemoved(final PathAddress address) {
+        if (address.size() > 0) {
+            final Set<PathAddress> siblings = children.get(address.getParent());
+            if (siblings != null) {
+                siblings.remove(address);
+            }
+        }
+        remove(address);
+    }
+
+    int size() {
+        return objectNames.size();
+    }
+
+    private void put(final PathAddress address, final ObjectName name, final boolean resolved) {
+        if (objectNames.size() >= maxEntries) {
+            evict();
+        }
+        objectNames.put(address, name);
+        link(address);
+        if (resolved) {
+            addresses.put(name, address);
+        } else {
+            // Addresses whose elements only differ in their order share an ObjectName, in which case the
+            // resolved address is kept
+            addresses.putIfAbsent(name, address);
+        }
+    }
+
+    /**
+     * Removes entries, with their descendants, until a quarter of the index is free. The root address is kept, as
+     * removing it would clear the whole index.
+     */
+    private void evict() {
+        final int target = maxEntries - maxEntries / 4;
+        final Iterator<PathAddress> it = objectNames.keySet().iterator();
+        while (objectNames.size() > target && it.hasNext()) {
+            final PathAddress address = it.next();
+            if (address.size() > 0) {
+                resourceRemoved(address);
+            }
+        }
+    }
+
+    /**
+     * Records the address, and the addresses on its path, as children of their parents.
+     */
+    private void link(final PathAddress address) {
+        PathAddress current = address;
+        while (current.size() > 0) {
+            final PathAddress parent = current.getParent();
+            if (!children.computeIfAbsent(parent, key -> ConcurrentHashMap.newKeySet()).add(current)) {
+                // The rest of the path is already recorded
+                return;
+            }
+            current = parent;
+        }
+    }
+
+    /**
+     * Removes the entries of an address and of its descendants.
+     */
+    private void remove(final PathAddress address) {
+        final ObjectName name = objectNames.remove(address);
+        if (name != null) {
+            addresses.remove(name, address);
+        }
+        final Set<PathAddress> removed = children.remove(address);
+        if (removed != null) {
+            for (PathAddress child : removed) {
+                remove(child);
+            }
+        }
+    }
+
+    private static boolean exists(final Resource rootResource, final PathAddress address) {
+        Resource resource = rootResource;
+        for (PathElement element : address) {
+            resource = resource.getChild(element);
+            if (resource == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -79,8 +79,13 @@ import javax.management.remote.JMXConnectorServerFactory;
 import javax.management.remote.JMXServiceURL;
 
 import org.jboss.as.controller.Extension;
+import org.jboss.as.controller.ExtensionContext;
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ProcessType;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SubsystemRegistration;
 import org.jboss.as.controller.capability.registry.RuntimeCapabilityRegistry;
 import org.jboss.as.controller.extension.ExtensionRegistry;
 import org.jboss.as.controller.extension.ExtensionRegistryType;
@@ -844,6 +849,51 @@ public class ModelControllerMBeanTestCase extends AbstractSubsystemTest {
                 Collections.singletonList(109), 110, ModelType.STRING);
     }
 
+    @Test
+    public void testReadAttributeListWithUnknownAttribute() throws Exception {
+        MBeanServerConnection connection = setupAndGetConnection(new MBeanInfoAdditionalInitialization(ProcessType.STANDALONE_SERVER, new TestExtension()));
+
+        ObjectName name = createObjectName(LEGACY_DOMAIN + ":subsystem=test");
+        // The unknown attribute is left out, whatever the number of requested attributes
+        AttributeList list = connection.getAttributes(name, new String[]{"int", "unknown"});
+        Assert.assertEquals(1, list.size());
+        Assert.assertEquals("int", ((Attribute) list.get(0)).getName());
+        Assert.assertTrue(connection.getAttributes(name, new String[]{"unknown"}).isEmpty());
+        Assert.assertTrue(connection.getAttributes(name, new String[0]).isEmpty());
+    }
+
+    @Test
+    public void testReadAttributeListWithFailingAttribute() throws Exception {
+        MBeanServerConnection connection = setupAndGetConnection(new MBeanInfoAdditionalInitialization(ProcessType.STANDALONE_SERVER, new FailingAttributeExtension()));
+
+        ObjectName name = createObjectName(LEGACY_DOMAIN + ":subsystem=test");
+        AttributeList list = connection.getAttributes(name, new String[]{"roInt", "failing", "int"});
+        // The attribute whose read failed is left out
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals("roInt", ((Attribute) list.get(0)).getName());
+        Assert.assertEquals(1, ((Attribute) list.get(0)).getValue());
+        Assert.assertEquals("int", ((Attribute) list.get(1)).getName());
+        Assert.assertEquals(2, ((Attribute) list.get(1)).getValue());
+    }
+
+    @Test
+    public void testReadAttributeListWithGoodAndBadAttributes() throws Exception {
+        MBeanServerConnection connection = setupAndGetConnection(new MBeanInfoAdditionalInitialization(ProcessType.STANDALONE_SERVER, new FailingAttributeExtension()));
+
+        ObjectName name = createObjectName(LEGACY_DOMAIN + ":subsystem=test");
+        // The same bad attributes are left out alone, with one good attribute, or with several
+        Assert.assertTrue(connection.getAttributes(name, new String[]{"failing"}).isEmpty());
+        Assert.assertTrue(connection.getAttributes(name, new String[]{"failing", "unknown"}).isEmpty());
+        AttributeList list = connection.getAttributes(name, new String[]{"unknown", "failing", "int"});
+        Assert.assertEquals(1, list.size());
+        Assert.assertEquals("int", ((Attribute) list.get(0)).getName());
+        Assert.assertEquals(2, ((Attribute) list.get(0)).getValue());
+        list = connection.getAttributes(name, new String[]{"roInt", "unknown", "failing", "int"});
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals("roInt", ((Attribute) list.get(0)).getName());
+        Assert.assertEquals("int", ((Attribute) list.get(1)).getName());
+    }
+
     @Test
     public void testReadWriteAttributeListDomain() throws Exception {
         MBeanServerConnection connection = setupAndGetConnection(new MBeanInfoAdditionalInitialization(ProcessType.DOMAIN_SERVER, new TestExtension()));
@@ -1160,6 +1210,14 @@ public class ModelControllerMBeanTestCase extends AbstractSubsystemTest {
         Assert.assertEquals("remove", op.getDescription());
         Assert.assertEquals(0, op.getSignature().length);
 
+        // The children share their registration, but the descriptors refer to their own mirrored mbean
+        MBeanInfo child1Info = connection.getMBeanInfo(child1ObjectName);
+        Assert.assertEquals(createObjectName(EXPR_DOMAIN + ":subsystem=test,siblings=test1").toString(), child1Info.getDescriptor().getFieldValue("alternate.mbean"));
+        Assert.assertEquals(createObjectName(EXPR_DOMAIN + ":subsystem=test,siblings=test2").toString(), childInfo.getDescriptor().getFieldValue("alternate.mbean"));
+        Assert.assertEquals(childInfo.getDescriptor().getFieldValue("alternate.mbean"), childInfo.getAttributes()[0].getDescriptor().getFieldValue("alternate.mbean"));
+        Assert.assertEquals("false", childInfo.getAttributes()[0].getDescriptor().getFieldValue("expressions.allowed"));
+        Assert.assertEquals(childInfo.getDescriptor().getFieldValue("alternate.mbean"), ((MBeanOperationInfo) findOperation(childInfo.getOperations(), REMOVE)).getDescriptor().getFieldValue("alternate.mbean"));
+
         Assert.assertEquals(123, connection.getAttribute(child1ObjectName, "attr"));
         Assert.assertEquals(456, connection.getAttribute(child2ObjectName, "attr"));
 
@@ -1698,6 +1756,22 @@ public class ModelControllerMBeanTestCase extends AbstractSubsystemTest {
         }
     }
 
+    /**
+     * The test subsystem, with an additional attribute whose read always fails
+     */
+    static class FailingAttributeExtension extends TestExtension {
+        @Override
+        public void initialize(ExtensionContext context) {
+            final SubsystemRegistration subsystem = context.registerSubsystem("test", ModelVersion.create(1));
+            final ManagementResourceRegistration registration = subsystem.registerSubsystemModel(
+                    new ModelControllerResourceDefinition(false, context.getProcessType() == ProcessType.STANDALONE_SERVER));
+            registration.registerReadOnlyAttribute(new SimpleAttributeDefinitionBuilder("failing", ModelType.INT, true).build(),
+                    (ctx, operation) -> {
+                        throw new OperationFailedException("Cannot read the failing attribute");
+                    });
+        }
+    }
+
     static class SubystemWithSingleFixedChildExtension extends SubsystemWithChildrenExtension {
         @Override
         PathElement getChildElement() {
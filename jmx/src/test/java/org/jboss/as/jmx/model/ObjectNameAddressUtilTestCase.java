@@ -59,7 +59,7 @@ public class ObjectNameAddressUtilTestCase {
     static final PathElement BOTTOM_TWO = pathElement(BOTTOM, TWO);
     static final PathElement TOP_COMPLEX_VALUE = pathElement(TOP, COMPLEX_VALUE);
     static final PathElement COMPLEX_KEY_ONE = pathElement(COMPLEX_KEY, ONE);
-    static final ResourceDefinition rootResourceDef = ResourceBuilder.Factory.create(PathElement.pathElement("test"), NonResolvingResourceDescriptionResolver.INSTANCE).build();
+    static final ResourceDefinition rootResourceDef = ResourceBuilder.Factory.create(pathElement("test"), NonResolvingResourceDescriptionResolver.INSTANCE).build();
 
     static final Resource rootResource;
     static{
@@ -117,6 +117,65 @@ public class ObjectNameAddressUtilTestCase {
         Assert.assertEquals(pathAddress, convertedAddress);
     }
 
+    @Test
+    public void testObjectNameIndex() {
+        Resource root = Resource.Factory.create();
+        Resource topOne = Resource.Factory.create();
+        root.registerChild(TOP_ONE, topOne);
+        topOne.registerChild(BOTTOM_TWO, Resource.Factory.create());
+        root.registerChild(TOP_COMPLEX_VALUE, Resource.Factory.create());
+
+        ObjectNameIndex index = new ObjectNameIndex(ModelControllerMBeanHelper.createRootObjectName("jboss.as"));
+        PathAddress bottomTwo = PathAddress.pathAddress(TOP_ONE, BOTTOM_TWO);
+        ObjectName bottomTwoName = index.getObjectName(bottomTwo);
+        Assert.assertEquals(ObjectNameAddressUtil.createObjectName("jboss.as", bottomTwo), bottomTwoName);
+        Assert.assertSame(bottomTwoName, index.getObjectName(bottomTwo));
+        Assert.assertEquals(bottomTwo, index.resolvePathAddress(root, bottomTwoName));
+
+        ObjectName complexName = ObjectNameAddressUtil.createObjectName("jboss.as", PathAddress.pathAddress(TOP_COMPLEX_VALUE));
+        Assert.assertEquals(PathAddress.pathAddress(TOP_COMPLEX_VALUE), index.resolvePathAddress(root, complexName));
+        Assert.assertEquals(PathAddress.EMPTY_ADDRESS, index.resolvePathAddress(root, ModelControllerMBeanHelper.createRootObjectName("jboss.as")));
+        Assert.assertEquals(3, index.size());
+
+        // Removed resources are not resolved, even if the index was not told about the removal
+        topOne.removeChild(BOTTOM_TWO);
+        Assert.assertNull(index.resolvePathAddress(root, bottomTwoName));
+        index.getObjectName(PathAddress.pathAddress(TOP_ONE));
+        index.resourceRemoved(PathAddress.pathAddress(TOP_ONE));
+        Assert.assertEquals(2, index.size());
+
+        // Descendants are removed even if the resources between them and the removed resource are not indexed
+        index.getObjectName(bottomTwo);
+        Assert.assertEquals(3, index.size());
+        index.resourceRemoved(PathAddress.pathAddress(TOP_ONE));
+        Assert.assertEquals(2, index.size());
+        index.resourceRemoved(PathAddress.EMPTY_ADDRESS);
+        Assert.assertEquals(0, index.size());
+    }
+
+    @Test
+    public void testObjectNameIndexEviction() {
+        ObjectNameIndex index = new ObjectNameIndex(ModelControllerMBeanHelper.createRootObjectName("jboss.as"), 100);
+        index.getObjectName(PathAddress.EMPTY_ADDRESS);
+        for (int i = 0; i < 99; i++) {
+            index.getObjectName(PathAddress.pathAddress(pathElement("top", "t" + i)));
+        }
+        Assert.assertEquals(100, index.size());
+
+        // A full index loses a part of its entries rather than all of them
+        PathAddress last = PathAddress.pathAddress(pathElement("top", "last"), pathElement("bottom", "b"));
+        ObjectName lastName = index.getObjectName(last);
+        Assert.assertTrue(String.valueOf(index.size()), index.size() > 50 && index.size() <= 76);
+        Assert.assertSame(lastName, index.getObjectName(last));
+        Assert.assertNotNull(index.getObjectName(PathAddress.EMPTY_ADDRESS));
+
+        // The evicted entries are still converted
+        for (int i = 0; i < 99; i++) {
+            PathAddress address = PathAddress.pathAddress(pathElement("top", "t" + i));
+            Assert.assertEquals(ObjectNameAddressUtil.createObjectName("jboss.as", address), index.getObjectName(address));
+        }
+    }
+
     private static class TestResource implements Resource {
 
         private Map<String, Map<String, Resource>> children = new HashMap<String, Map<String,Resource>>();
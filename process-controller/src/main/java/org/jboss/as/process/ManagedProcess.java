@@ -26,6 +26,7 @@ import static java.lang.Thread.holdsLock;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FilterOutputStream;
 import java.io.IOException;
@@ -33,7 +34,6 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.io.PrintStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -212,10 +212,10 @@ final class ManagedProcess {
         final OutputStream stdin = process.getOutputStream();
         final InputStream stderr = process.getErrorStream();
         final InputStream stdout = process.getInputStream();
-        final Thread stderrThread = new Thread(new ReadTask(stderr, processController.getStderr()));
+        final Thread stderrThread = new Thread(new ReadTask(stderr, processController.getStderrMultiplexer()));
         stderrThread.setName(String.format("stderr for %s", processName));
         stderrThread.start();
-        final Thread stdoutThread = new Thread(new ReadTask(stdout, processController.getStdout()));
+        final Thread stdoutThread = new Thread(new ReadTask(stdout, processController.getStdoutMultiplexer()));
         stdoutThread.setName(String.format("stdout for %s", processName));
         stdoutThread.start();
 
@@ -445,10 +445,13 @@ final class ManagedProcess {
     }
 
     private final class ReadTask implements Runnable {
+        /** The size above which the lines read so far are handed to the multiplexer even if more are available */
+        private static final int MAX_BATCH_SIZE = 8192;
+
         private final InputStream source;
-        private final PrintStream target;
+        private final ProcessOutputMultiplexer target;
 
-        private ReadTask(final InputStream source, final PrintStream target) {
+        private ReadTask(final InputStream source, final ProcessOutputMultiplexer target) {
             this.source = source;
             this.target = target;
         }
@@ -458,7 +461,8 @@ final class ManagedProcess {
             final String processName = ManagedProcess.this.processName;
             try {
                 final BufferedReader reader = new BufferedReader(new InputStreamReader(new BufferedInputStream(source), StandardCharsets.UTF_8));
-                final OutputStreamWriter writer = new OutputStreamWriter(target, StandardCharsets.UTF_8);
+                final ByteArrayOutputStream batch = new ByteArrayOutputStream(MAX_BATCH_SIZE);
+                final OutputStreamWriter writer = new OutputStreamWriter(batch, StandardCharsets.UTF_8);
                 String s;
                 String prevEscape = "";
                 while ((s = reader.readLine()) != null) {
@@ -466,21 +470,25 @@ final class ManagedProcess {
                     int i = s.lastIndexOf('\033');
                     int j = i != -1 ? s.indexOf('m', i) : 0;
 
-                    synchronized (target) {
-                        writer.write('[');
-                        writer.write(processName);
-                        writer.write("] ");
-                        writer.write(prevEscape);
-                        writer.write(s);
+                    writer.write('[');
+                    writer.write(processName);
+                    writer.write("] ");
+                    writer.write(prevEscape);
+                    writer.write(s);
 
-                        // Reset if there was ANSI
-                        if (j != 0 || prevEscape != "") {
-                            writer.write("\033[0m");
-                        }
-                        writer.write('\n');
-                        writer.flush();
+                    // Reset if there was ANSI
+                    if (j != 0 || prevEscape != "") {
+                        writer.write("\033[0m");
+                    }
+                    writer.write('\n');
+
+                    // Hand the lines over once no more output is immediately available, so that a burst of output is
+                    // written and flushed at once
+                    writer.flush();
+                    if (batch.size() >= MAX_BATCH_SIZE || !reader.ready()) {
+                        target.write(batch);
+                        batch.reset();
                     }
-
 
                     // Remember escape code for the next line
                     if (j != 0) {
@@ -492,6 +500,9 @@ final class ManagedProcess {
                         }
                     }
                 }
+                if (batch.size() > 0) {
+                    target.write(batch);
+                }
                 source.close();
             } catch (IOException e) {
                 log.streamProcessingFailed(processName, e);
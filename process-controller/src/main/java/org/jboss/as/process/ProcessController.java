@@ -66,12 +66,12 @@ public final class ProcessController {
     public static final short AUTH_BYTES_LENGTH = 16;
     public static final short AUTH_BYTES_ENCODED_LENGTH = 24;
 
-    private final PrintStream stdout;
-    private final PrintStream stderr;
+    private final ProcessOutputMultiplexer stdoutMultiplexer;
+    private final ProcessOutputMultiplexer stderrMultiplexer;
 
     public ProcessController(final ProtocolServer.Configuration configuration, final PrintStream stdout, final PrintStream stderr) throws IOException {
-        this.stdout = stdout;
-        this.stderr = stderr;
+        stdoutMultiplexer = new ProcessOutputMultiplexer("stdout", stdout, ProcessOutputMultiplexer.DEFAULT_CAPACITY);
+        stderrMultiplexer = new ProcessOutputMultiplexer("stderr", stderr, ProcessOutputMultiplexer.DEFAULT_CAPACITY);
         //noinspection ThisEscapedInObjectConstruction
         configuration.setConnectionHandler(new ProcessControllerServerHandler(this));
         final ProtocolServer server = new ProtocolServer(configuration);
@@ -241,6 +241,8 @@ public final class ProcessController {
                     // ignore
                 }
             }
+            stdoutMultiplexer.close();
+            stderrMultiplexer.close();
             ProcessLogger.ROOT_LOGGER.shutdownComplete();
         }
     }
@@ -404,12 +406,12 @@ public final class ProcessController {
         return server;
     }
 
-    PrintStream getStdout() {
-        return stdout;
+    ProcessOutputMultiplexer getStdoutMultiplexer() {
+        return stdoutMultiplexer;
     }
 
-    PrintStream getStderr() {
-        return stderr;
+    ProcessOutputMultiplexer getStderrMultiplexer() {
+        return stderrMultiplexer;
     }
 
     private static final class Key {
@@ -0,0 +1,297 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.process;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.process.logging.ProcessLogger;
+
+/**
+ * Writes the output of all the managed processes to one of the process controller streams.
+ * <p>
+ * The threads reading the output of the processes append batches of complete lines to a bounded buffer, and a single
+ * writer thread writes everything that was appended since its previous write to the target stream at once, and
+ * flushes it. So the target is flushed once per batch rather than once per line, and the reading threads do not
+ * contend on the target stream. When the buffer is full the reading threads wait for the writer, which in turn makes
+ * the processes block on their output, and the time they waited is recorded. While this goes on the waits are reported
+ * in a warning at most once per {@link #STALL_REPORT_INTERVAL}, so a console or log which cannot keep up with the
+ * processes is visible without flooding the log.
+ */
+final class ProcessOutputMultiplexer {
+
+    /** The default capacity of the buffer, in bytes */
+    static final int DEFAULT_CAPACITY = 256 * 1024;
+
+    /** The minimum time between two reports of the waits for room in the buffer, in nanoseconds */
+    static final long STALL_REPORT_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+
+    /** The time {@link #close()} waits for the writer to write the remaining output, in milliseconds */
+    static final long CLOSE_TIMEOUT = 5000;
+
+    private final String name;
+    private final PrintStream target;
+    private final int capacity;
+    private final Thread writerThread;
+    // all the following are protected by this
+    private ByteArrayOutputStream pending;
+    private ByteArrayOutputStream spare;
+    private boolean writing;
+    private boolean closed;
+    private long writtenBytes;
+    private long appends;
+    private long writes;
+    private long stalls;
+    private long stallTime;
+    private long reportStart;
+    private long reportedStalls;
+    private long reportedStallTime;
+
+    ProcessOutputMultiplexer(final String name, final PrintStream target, final int capacity) {
+        this.name = name;
+        this.target = target;
+        this.capacity = capacity;
+        pending = new ByteArrayOutputStream(8192);
+        spare = new ByteArrayOutputStream(8192);
+        writerThread = new Thread(this::writeLoop);
+        writerThread.setName(String.format("%s writer", name));
+        writerThread.setDaemon(true);
+        reportStart = System.nanoTime();
+        writerThread.start();
+    }
+
+    /**
+     * Appends a batch of complete lines to the buffer, waiting for room if it is full. A batch is never split, so
+     * the output of different processes is interleaved by whole batches only.
+     *
+     * @param batch the lines
+     */
+    void write(final ByteArrayOutputStream batch) {
+        final int size = batch.size();
+        long unreportedStalls = 0;
+        long unreportedStallTime = 0;
+        long reportPeriod = 0;
+        synchronized (this) {
+            if (closed) {
+                // the writer is gone
+                writeDirectly(batch);
+                return;
+            }
+            // a batch larger than the buffer is accepted once the buffer is empty
+            if (pending.size() > 0 && pending.size() + size > capacity) {
+                final long start = System.nanoTime();
+                boolean interrupted = false;
+                while (!closed && pending.size() > 0 && pending.size() + size > capacity) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+                final long now = System.nanoTime();
+                stalls++;
+                stallTime += now - start;
+                if (now - reportStart >= STALL_REPORT_INTERVAL) {
+                    unreportedStalls = stalls - reportedStalls;
+                    unreportedStallTime = stallTime - reportedStallTime;
+                    reportPeriod = now - reportStart;
+                    reportedStalls = stalls;
+                    reportedStallTime = stallTime;
+                    reportStart = now;
+                }
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+                if (closed) {
+                    writeDirectly(batch);
+                    reportStalls(unreportedStalls, unreportedStallTime, reportPeriod);
+                    return;
+                }
+            }
+            try {
+                batch.writeTo(pending);
+            } catch (IOException e) {
+                // cannot happen with a ByteArrayOutputStream
+                throw new IllegalStateException(e);
+            }
+            appends++;
+            notifyAll();
+        }
+        // logged outside the lock, the log may well be written to the target as well
+        reportStalls(unreportedStalls, unreportedStallTime, reportPeriod);
+    }
+
+    private void reportStalls(final long stalls, final long stallTime, final long period) {
+        if (stalls > 0) {
+            ProcessLogger.ROOT_LOGGER.processOutputStalled(stalls, TimeUnit.NANOSECONDS.toMillis(stallTime), name,
+                    TimeUnit.NANOSECONDS.toSeconds(period));
+        }
+    }
+
+    private void writeDirectly(final ByteArrayOutputStream batch) {
+        try {
+            batch.writeTo(target);
+        } catch (IOException e) {
+            // cannot happen with a PrintStream
+        }
+        target.flush();
+    }
+
+    private void writeLoop() {
+        for (;;) {
+            final ByteArrayOutputStream out;
+            synchronized (this) {
+                while (pending.size() == 0 && !closed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        // ignore
+                    }
+                }
+                if (pending.size() == 0) {
+                    // closed and drained
+                    notifyAll();
+                    return;
+                }
+                out = pending;
+                pending = spare;
+                spare = null;
+                writing = true;
+                // there is room in the buffer again
+                notifyAll();
+            }
+            try {
+                out.writeTo(target);
+            } catch (IOException e) {
+                // cannot happen with a PrintStream
+            }
+            target.flush();
+            synchronized (this) {
+                writtenBytes += out.size();
+                writes++;
+                out.reset();
+                spare = out;
+                writing = false;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Writes the remaining output and stops the writer thread. Output appended afterwards is written directly.
+     */
+    void close() {
+        close(CLOSE_TIMEOUT);
+    }
+
+    /**
+     * Writes the remaining output and stops the writer thread. If the writer has not written the remaining output
+     * within the timeout, e.g. because a write to the target blocks, the output which the writer has not taken yet is
+     * written directly, after the write in progress. Output appended afterwards is written directly.
+     *
+     * @param timeout the time to wait for the writer, in milliseconds
+     */
+    void close(final long timeout) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notifyAll();
+        }
+        try {
+            writerThread.join(timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            ProcessLogger.ROOT_LOGGER.processOutputNotDrained(name, timeout);
+            final ByteArrayOutputStream remaining;
+            synchronized (this) {
+                remaining = pending;
+                // the writer finds nothing left to write and stops
+                pending = new ByteArrayOutputStream(0);
+                notifyAll();
+            }
+            writeDirectly(remaining);
+        }
+        ProcessLogger.ROOT_LOGGER.debugf("Output multiplexer %s wrote %d bytes from %d batches of lines in %d writes, and the processes waited %d times for %d ms for room in the buffer",
+                writerThread.getName(), getWrittenBytes(), getAppendCount(), getWriteCount(), getStallCount(), getStallTime() / 1_000_000L);
+    }
+
+    /**
+     * Determine whether all the appended output has been written to the target.
+     *
+     * @return {@code true} if there is no pending output
+     */
+    synchronized boolean isDrained() {
+        return pending.size() == 0 && !writing;
+    }
+
+    /**
+     * Get the number of bytes written to the target.
+     *
+     * @return the number of bytes
+     */
+    synchronized long getWrittenBytes() {
+        return writtenBytes;
+    }
+
+    /**
+     * Get the number of batches of lines appended by the processes.
+     *
+     * @return the number of batches
+     */
+    synchronized long getAppendCount() {
+        return appends;
+    }
+
+    /**
+     * Get the number of writes to the target, each of them followed by a flush.
+     *
+     * @return the number of writes
+     */
+    synchronized long getWriteCount() {
+        return writes;
+    }
+
+    /**
+     * Get the number of times a process had to wait because the buffer was full.
+     *
+     * @return the number of times
+     */
+    synchronized long getStallCount() {
+        return stalls;
+    }
+
+    /**
+     * Get the time the processes waited because the buffer was full.
+     *
+     * @return the time in nanoseconds
+     */
+    synchronized long getStallTime() {
+        return stallTime;
+    }
+}
@@ -821,4 +821,13 @@ public interface ProcessLogger extends BasicLogger {
             "using java.lang.Process.destroyForcibly()")
     void destroyingProcess(String process, long timeout);
 
+    @LogMessage(level = WARN)
+    @Message(id = 68, value = "The managed processes waited %d times for %d ms in total for room in the %s output buffer " +
+            "in the last %d seconds, as their output is produced faster than it can be written")
+    void processOutputStalled(long stalls, long millis, String stream, long seconds);
+
+    @LogMessage(level = WARN)
+    @Message(id = 69, value = "The %s output of the managed processes was not written within %d ms; writing the remaining output directly")
+    void processOutputNotDrained(String stream, long timeout);
+
 }
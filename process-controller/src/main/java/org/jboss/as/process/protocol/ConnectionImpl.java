@@ -22,10 +22,9 @@
 
 package org.jboss.as.process.protocol;
 
-import java.io.BufferedOutputStream;
+import java.io.BufferedInputStream;
 import java.io.Closeable;
 import java.io.FilterInputStream;
-import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InterruptedIOException;
@@ -75,6 +74,9 @@ final class ConnectionImpl implements Connection {
 
     private final ClosedCallback callback;
 
+    // protected by {@link #lock}
+    private FrameOutput frameOutput;
+
     ConnectionImpl(final Socket socket, final MessageHandler handler, final Executor readExecutor, final ClosedCallback callback) {
         this.socket = socket;
         messageHandler = handler;
@@ -99,12 +101,13 @@ final class ConnectionImpl implements Connection {
             }
             boolean ok = false;
             try {
-                MessageOutputStream mos = new MessageOutputStream();
+                MessageOutputStream mos = new MessageOutputStream(getFrameOutput());
                 // Use a PhantomReference instead of overriding finalize() to ensure close gets called
                 // CleanerReference handles ensuring there's a strong ref to itself so we can just construct it and move on
                 new CleanerReference<MessageOutputStream, OutputStreamCloser>(mos, mos.closer, REAPER);
                 sender = mos.closer;
-                os = new BufferedOutputStream(mos);
+                // the message output stream buffers the data in frames itself
+                os = mos;
                 ok = true;
             } finally {
                 if (! ok) {
@@ -116,6 +119,14 @@ final class ConnectionImpl implements Connection {
         return os;
     }
 
+    private FrameOutput getFrameOutput() throws IOException {
+        assert Thread.holdsLock(lock);
+        if (frameOutput == null) {
+            frameOutput = new FrameOutput(socket.getOutputStream(), FrameOutput.DEFAULT_FRAME_SIZE);
+        }
+        return frameOutput;
+    }
+
     @Override
     public void shutdownWrites() throws IOException {
         synchronized (lock) {
@@ -197,8 +208,9 @@ final class ConnectionImpl implements Connection {
                 OutputStream mos = null;
                 try {
                     Pipe pipe = null;
-                    final InputStream is = socket.getInputStream();
                     final int bufferSize = 8192;
+                    // the frame headers are read a byte at a time
+                    final InputStream is = new BufferedInputStream(socket.getInputStream(), bufferSize);
                     final byte[] buffer = new byte[bufferSize];
                     for (;;) {
 
@@ -336,23 +348,22 @@ final class ConnectionImpl implements Connection {
         }
     }
 
-    final class MessageOutputStream extends FilterOutputStream {
+    final class MessageOutputStream extends OutputStream {
 
-        private final byte[] hdr = new byte[5];
+        private final FrameOutput frames;
         private final OutputStreamCloser closer;
 
-        MessageOutputStream() throws IOException {
-            this(socket.getOutputStream());
-        }
-
-        private MessageOutputStream(OutputStream out) {
-            super(out);
-            this.closer = new OutputStreamCloser(out);
+        private MessageOutputStream(final FrameOutput frames) {
+            this.frames = frames;
+            this.closer = new OutputStreamCloser(frames);
         }
 
         @Override
         public void write(final int b) throws IOException {
-            throw new IllegalStateException();
+            synchronized (lock) {
+                checkSender();
+                frames.write(b);
+            }
         }
 
         @Override
@@ -360,21 +371,28 @@ final class ConnectionImpl implements Connection {
             if (len == 0) {
                 return;
             }
-            final byte[] hdr = this.hdr;
-            hdr[0] = (byte) ProtocolConstants.CHUNK_START;
-            hdr[1] = (byte) (len >> 24);
-            hdr[2] = (byte) (len >> 16);
-            hdr[3] = (byte) (len >> 8);
-            hdr[4] = (byte) (len >> 0);
             synchronized (lock) {
-                if (sender != closer || writeDone) {
-                    if (sender == closer) sender = null;
-                    lock.notifyAll();
-                    throw ProcessLogger.ROOT_LOGGER.writeChannelClosed();
+                checkSender();
+                frames.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (lock) {
+                // nothing is buffered once the message is concluded
+                if (sender == closer && !writeDone) {
+                    frames.flush();
                 }
-                ProcessLogger.PROTOCOL_CONNECTION_LOGGER.tracef("Sending data chunk of size %d", Integer.valueOf(len));
-                out.write(hdr);
-                out.write(b, off, len);
+            }
+        }
+
+        private void checkSender() throws IOException {
+            assert Thread.holdsLock(lock);
+            if (sender != closer || writeDone) {
+                if (sender == closer) sender = null;
+                lock.notifyAll();
+                throw ProcessLogger.ROOT_LOGGER.writeChannelClosed();
             }
         }
 
@@ -386,10 +404,10 @@ final class ConnectionImpl implements Connection {
 
     private final class OutputStreamCloser implements Closeable {
 
-        private final OutputStream out;
+        private final FrameOutput frames;
 
-        private OutputStreamCloser(OutputStream out) {
-            this.out = out;
+        private OutputStreamCloser(FrameOutput frames) {
+            this.frames = frames;
         }
 
         @Override
@@ -411,7 +429,7 @@ final class ConnectionImpl implements Connection {
                     });
                 }
                 ProcessLogger.PROTOCOL_CONNECTION_LOGGER.tracef("Sending end of message");
-                out.write(ProtocolConstants.CHUNK_END);
+                frames.writeEnd();
             }
         }
 
@@ -0,0 +1,140 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.process.protocol;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.jboss.as.process.logging.ProcessLogger;
+
+/**
+ * Writes the data of the messages of a connection as {@link ProtocolConstants#CHUNK_START} frames, and the end of the
+ * messages as a {@link ProtocolConstants#CHUNK_END} byte.
+ * <p>
+ * The data is accumulated in a frame buffer which has room for the frame header, so that each frame is sent with a
+ * single write, the end of a message being sent along with its last frame. Data at least as large as a frame is sent
+ * straight from the array of the caller, its frame header being sent along with the data buffered before it. So a
+ * message made of a few small fields followed by a large payload, such as the boot configuration of a server, takes
+ * two writes and the end of the message, rather than two writes per chunk of the buffered stream used before. See
+ * {@code ConnectionFramingTest} for the number of writes and copied bytes of both framings.
+ * <p>
+ * Instances are not thread safe, they are used under the lock of their connection.
+ */
+final class FrameOutput {
+
+    static final int HEADER_SIZE = 5;
+    static final int DEFAULT_FRAME_SIZE = 8192;
+
+    private final OutputStream out;
+    private final int frameSize;
+    // the frame header followed by the data, with room for the end of the message or the header of the next frame
+    private final byte[] frame;
+    private int position = HEADER_SIZE;
+
+    FrameOutput(final OutputStream out, final int frameSize) {
+        this.out = out;
+        this.frameSize = frameSize;
+        frame = new byte[HEADER_SIZE + frameSize + HEADER_SIZE];
+    }
+
+    /**
+     * Appends data to the current message.
+     */
+    void write(final int b) throws IOException {
+        if (position == HEADER_SIZE + frameSize) {
+            flush();
+        }
+        frame[position++] = (byte) b;
+    }
+
+    /**
+     * Appends data to the current message.
+     */
+    void write(final byte[] b, int off, int len) throws IOException {
+        if (len >= frameSize) {
+            // no need to buffer the data, send the buffered data and the header of the data at once
+            int end = 0;
+            if (position > HEADER_SIZE) {
+                end = position;
+                setHeader(0, position - HEADER_SIZE);
+                ProcessLogger.PROTOCOL_CONNECTION_LOGGER.tracef("Sending data chunk of size %d", Integer.valueOf(position - HEADER_SIZE));
+            }
+            setHeader(end, len);
+            ProcessLogger.PROTOCOL_CONNECTION_LOGGER.tracef("Sending data chunk of size %d", Integer.valueOf(len));
+            position = HEADER_SIZE;
+            out.write(frame, 0, end + HEADER_SIZE);
+            out.write(b, off, len);
+            return;
+        }
+        while (len > 0) {
+            final int count = Math.min(len, HEADER_SIZE + frameSize - position);
+            System.arraycopy(b, off, frame, position, count);
+            position += count;
+            off += count;
+            len -= count;
+            if (position == HEADER_SIZE + frameSize) {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * Sends the buffered data of the current message.
+     */
+    void flush() throws IOException {
+        if (position > HEADER_SIZE) {
+            send(false);
+        }
+        out.flush();
+    }
+
+    /**
+     * Sends the buffered data of the current message followed by the end of the message.
+     */
+    void writeEnd() throws IOException {
+        if (position > HEADER_SIZE) {
+            send(true);
+        } else {
+            out.write(ProtocolConstants.CHUNK_END);
+        }
+    }
+
+    private void send(final boolean end) throws IOException {
+        final int len = position - HEADER_SIZE;
+        setHeader(0, len);
+        ProcessLogger.PROTOCOL_CONNECTION_LOGGER.tracef("Sending data chunk of size %d", Integer.valueOf(len));
+        if (end) {
+            frame[position++] = (byte) ProtocolConstants.CHUNK_END;
+        }
+        final int size = position;
+        position = HEADER_SIZE;
+        out.write(frame, 0, size);
+    }
+
+    private void setHeader(final int offset, final int len) {
+        frame[offset] = (byte) ProtocolConstants.CHUNK_START;
+        frame[offset + 1] = (byte) (len >> 24);
+        frame[offset + 2] = (byte) (len >> 16);
+        frame[offset + 3] = (byte) (len >> 8);
+        frame[offset + 4] = (byte) len;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.process;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ProcessOutputMultiplexerTestCase {
+
+    private static final int PROCESSES = 8;
+    private static final int LINES = 1000;
+
+    @Test
+    public void testConcurrentProcesses() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final ProcessOutputMultiplexer multiplexer = new ProcessOutputMultiplexer("test", new PrintStream(output, false, "UTF-8"), 4096);
+        final Thread[] threads = new Thread[PROCESSES];
+        for (int i = 0; i < PROCESSES; i++) {
+            final String name = "process-" + i;
+            threads[i] = new Thread(() -> {
+                final ByteArrayOutputStream batch = new ByteArrayOutputStream();
+                for (int line = 0; line < LINES; line++) {
+                    final byte[] bytes = ("[" + name + "] line " + line + "\n").getBytes(StandardCharsets.UTF_8);
+                    batch.write(bytes, 0, bytes.length);
+                    if (line % 10 == 9) {
+                        multiplexer.write(batch);
+                        batch.reset();
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        multiplexer.close();
+
+        final String[] lines = new String(output.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        Assert.assertEquals(PROCESSES * LINES, lines.length);
+        Assert.assertEquals(PROCESSES * LINES, new HashSet<>(Arrays.asList(lines)).size());
+        // the lines of each process keep their order
+        final int[] next = new int[PROCESSES];
+        for (String line : lines) {
+            final int process = Integer.parseInt(line.substring("[process-".length(), line.indexOf(']')));
+            Assert.assertEquals(line, "[process-" + process + "] line " + next[process]++, line);
+        }
+        Assert.assertEquals(PROCESSES * LINES / 10, multiplexer.getAppendCount());
+        Assert.assertTrue(multiplexer.getWriteCount() <= multiplexer.getAppendCount());
+        Assert.assertEquals(output.size(), multiplexer.getWrittenBytes());
+    }
+
+    @Test
+    public void testBackpressure() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch writing = new CountDownLatch(1);
+        final OutputStream blocking = new OutputStream() {
+            @Override
+            public void write(final int b) throws IOException {
+                write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+        final ProcessOutputMultiplexer multiplexer = new ProcessOutputMultiplexer("test", new PrintStream(blocking), 16);
+        multiplexer.write(batch("0123456789\n"));
+        // the writer is now blocked on the first batch, so the buffer fills up
+        Assert.assertTrue(writing.await(10, TimeUnit.SECONDS));
+        multiplexer.write(batch("abcdefghij\n"));
+        final Thread process = new Thread(() -> multiplexer.write(batch("ABCDEFGHIJ\n")));
+        process.start();
+        process.join(200);
+        Assert.assertTrue("The process should wait for room in the buffer", process.isAlive());
+
+        release.countDown();
+        process.join(10000);
+        Assert.assertFalse(process.isAlive());
+        multiplexer.close();
+        Assert.assertTrue(multiplexer.isDrained());
+        Assert.assertEquals(1, multiplexer.getStallCount());
+        Assert.assertTrue(multiplexer.getStallTime() > 0);
+        Assert.assertEquals(33, multiplexer.getWrittenBytes());
+    }
+
+    @Test
+    public void testCloseWithBlockedWriter() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch writing = new CountDownLatch(1);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final OutputStream blocking = new OutputStream() {
+            @Override
+            public void write(final int b) throws IOException {
+                write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                output.write(b, off, len);
+            }
+        };
+        final ProcessOutputMultiplexer multiplexer = new ProcessOutputMultiplexer("test", new PrintStream(blocking), 1024);
+        multiplexer.write(batch("0123456789\n"));
+        // the writer is now blocked on the first batch, so the second one is left in the buffer
+        Assert.assertTrue(writing.await(10, TimeUnit.SECONDS));
+        multiplexer.write(batch("abcdefghij\n"));
+        final Thread close = new Thread(() -> multiplexer.close(100));
+        close.start();
+        close.join(1000);
+        // the remaining output waits for the write in progress
+        Assert.assertTrue("The remaining output should be written after the blocked write", close.isAlive());
+
+        release.countDown();
+        close.join(10000);
+        Assert.assertFalse(close.isAlive());
+        Assert.assertEquals("0123456789\nabcdefghij\n", new String(output.toByteArray(), StandardCharsets.UTF_8));
+        // the writer only wrote the first batch, if it is done with it yet
+        Assert.assertTrue(multiplexer.getWriteCount() <= 1);
+    }
+
+    private static ByteArrayOutputStream batch(final String lines) {
+        final ByteArrayOutputStream batch = new ByteArrayOutputStream();
+        final byte[] bytes = lines.getBytes(StandardCharsets.UTF_8);
+        batch.write(bytes, 0, bytes.length);
+        return batch;
+    }
+}
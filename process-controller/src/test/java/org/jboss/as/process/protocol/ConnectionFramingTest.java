@@ -0,0 +1,356 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.process.protocol;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.FilterOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ServerSocketFactory;
+import javax.net.SocketFactory;
+
+import org.jboss.logging.Logger;
+import org.junit.Test;
+
+/**
+ * Checks the framing of the messages of the process controller protocol, and measures the writes and the throughput
+ * of large messages, such as the boot configuration of a server. The measurements are logged at INFO level.
+ */
+public final class ConnectionFramingTest {
+
+    private static final Logger log = Logger.getLogger(ConnectionFramingTest.class);
+
+    private static final int BOOT_PAYLOAD_SIZE = 512 * 1024;
+    private static final int MESSAGES = 100;
+
+    @Test
+    public void testStreamFrames() throws Exception {
+        final ByteArrayOutputStream sent = new ByteArrayOutputStream();
+        final FrameOutput frames = new FrameOutput(sent, 16);
+        final byte[] data = random(100);
+        frames.write(data, 0, 10);
+        frames.write(data[10]);
+        frames.write(data, 11, 89);
+        frames.writeEnd();
+        // an empty message
+        frames.writeEnd();
+
+        final byte[] bytes = sent.toByteArray();
+        // the first frame buffers 11 bytes, the 89 remaining bytes are sent without buffering
+        assertEquals(ProtocolConstants.CHUNK_START, bytes[0] & 0xff);
+        assertEquals(11, bytes[4]);
+        assertEquals(ProtocolConstants.CHUNK_START, bytes[5 + 11] & 0xff);
+        assertEquals(89, bytes[5 + 11 + 4]);
+        assertEquals(ProtocolConstants.CHUNK_END, bytes[bytes.length - 2] & 0xff);
+        assertEquals(ProtocolConstants.CHUNK_END, bytes[bytes.length - 1] & 0xff);
+
+        final ChunkyByteInput input = new ChunkyByteInput(new ByteArrayInputStream(bytes));
+        final byte[] received = new byte[100];
+        StreamUtils.readFully(input, received);
+        assertEquals(-1, input.read());
+        assertArrayEquals(data, received);
+    }
+
+    @Test
+    public void testSingleWritePerFrame() throws Exception {
+        final AtomicInteger writes = new AtomicInteger();
+        final ByteArrayOutputStream sent = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(final int b) {
+                writes.incrementAndGet();
+                super.write(b);
+            }
+
+            @Override
+            public synchronized void write(final byte[] b, final int off, final int len) {
+                writes.incrementAndGet();
+                super.write(b, off, len);
+            }
+        };
+        final FrameOutput frames = new FrameOutput(sent, 64);
+        final byte[] data = random(40);
+        frames.write(data[0]);
+        frames.write(data, 1, 9);
+        frames.write(data, 10, 30);
+        frames.writeEnd();
+        // the header, the data and the end of the message
+        assertEquals(1, writes.get());
+        assertEquals(5 + 40 + 1, sent.size());
+
+        frames.write(data, 0, 40);
+        frames.flush();
+        frames.writeEnd();
+        // the frame, then the end of the message on its own
+        assertEquals(3, writes.get());
+    }
+
+    @Test
+    public void testWritesPerMessage() throws Exception {
+        final byte[] payload = random(BOOT_PAYLOAD_SIZE);
+
+        final WireCounter framed = new WireCounter(new ByteArrayOutputStream(), payload);
+        final FrameOutput frames = new FrameOutput(framed, FrameOutput.DEFAULT_FRAME_SIZE);
+        frames.write(1);
+        frames.write(payload, 0, 100);
+        frames.write(payload, 100, payload.length - 100);
+        frames.writeEnd();
+
+        // the framing used before: a buffered stream over a stream writing the header and the data of each chunk
+        final WireCounter legacy = new WireCounter(new ByteArrayOutputStream(), payload);
+        try (OutputStream out = new BufferedOutputStream(new LegacyFrameOutputStream(legacy), FrameOutput.DEFAULT_FRAME_SIZE)) {
+            out.write(1);
+            out.write(payload, 0, 100);
+            out.write(payload, 100, payload.length - 100);
+            out.flush();
+            legacy.write(ProtocolConstants.CHUNK_END);
+        }
+
+        log.infof("Message of %d bytes: %d writes and %d copied bytes with frames, %d writes and %d copied bytes before",
+                payload.length + 1, framed.writes.get(), framed.copiedBytes.get(), legacy.writes.get(), legacy.copiedBytes.get());
+        // the small fields with the header of the payload, the payload, and the end of the message
+        assertEquals(3, framed.writes.get());
+        // a header and a write for each of the small fields and the payload, and the end of the message
+        assertEquals(5, legacy.writes.get());
+        // the headers, the small fields and the end of the message are copied, the payload is not
+        assertEquals(5 + 101 + 5 + 1, framed.copiedBytes.get());
+        assertEquals(legacy.copiedBytes.get(), framed.copiedBytes.get());
+        assertEquals(legacy.bytes.get(), framed.bytes.get());
+    }
+
+    @Test
+    public void testLargeMessages() throws Exception {
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        final BlockingQueue<byte[]> received = new LinkedBlockingQueue<>();
+        final MessageHandler handler = new MessageHandler() {
+            @Override
+            public void handleMessage(final Connection connection, final InputStream dataStream) throws IOException {
+                final ByteArrayOutputStream message = new ByteArrayOutputStream(BOOT_PAYLOAD_SIZE);
+                StreamUtils.copyStream(dataStream, message);
+                received.add(message.toByteArray());
+            }
+
+            @Override
+            public void handleShutdown(final Connection connection) throws IOException {
+                connection.shutdownWrites();
+            }
+
+            @Override
+            public void handleFailure(final Connection connection, final IOException e) throws IOException {
+                connection.close();
+            }
+
+            @Override
+            public void handleFinished(final Connection connection) {
+            }
+        };
+
+        final ProtocolServer.Configuration serverConfiguration = new ProtocolServer.Configuration();
+        serverConfiguration.setBindAddress(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        serverConfiguration.setSocketFactory(ServerSocketFactory.getDefault());
+        serverConfiguration.setThreadFactory(Executors.defaultThreadFactory());
+        serverConfiguration.setReadExecutor(executor);
+        serverConfiguration.setConnectionHandler(connection -> handler);
+        final ProtocolServer server = new ProtocolServer(serverConfiguration);
+        server.start();
+        try {
+            final ProtocolClient.Configuration clientConfiguration = new ProtocolClient.Configuration();
+            clientConfiguration.setServerAddress(server.getBoundAddress());
+            final WireCounter[] counter = new WireCounter[1];
+            final byte[] payload = random(BOOT_PAYLOAD_SIZE);
+            clientConfiguration.setSocketFactory(new CountingSocketFactory(payload, counter));
+            clientConfiguration.setThreadFactory(Executors.defaultThreadFactory());
+            clientConfiguration.setReadExecutor(executor);
+            clientConfiguration.setMessageHandler(MessageHandler.NULL);
+            final Connection connection = new ProtocolClient(clientConfiguration).connect();
+            try {
+                final long start = System.nanoTime();
+                for (int i = 0; i < MESSAGES; i++) {
+                    try (OutputStream out = connection.writeMessage()) {
+                        // a few small fields followed by the payload, as in the messages which add a process
+                        out.write(i);
+                        out.write(payload, 0, 100);
+                        out.write(payload, 100, payload.length - 100);
+                    }
+                }
+                for (int i = 0; i < MESSAGES; i++) {
+                    final byte[] message = received.poll(30, TimeUnit.SECONDS);
+                    assertNotNull(message);
+                    assertEquals(payload.length + 1, message.length);
+                    assertEquals((byte) i, message[0]);
+                    assertArrayEquals(payload, Arrays.copyOfRange(message, 1, message.length));
+                }
+                final long time = System.nanoTime() - start;
+                assertTrue(received.isEmpty());
+                log.infof("%d messages of %d bytes in %d ms, %.0f messages/s, %.1f MB/s, %.1f socket writes and %.0f copied bytes per message",
+                        MESSAGES, BOOT_PAYLOAD_SIZE, TimeUnit.NANOSECONDS.toMillis(time), MESSAGES * 1e9 / time,
+                        (double) MESSAGES * BOOT_PAYLOAD_SIZE * 1e3 / time, (double) counter[0].writes.get() / MESSAGES,
+                        (double) counter[0].copiedBytes.get() / MESSAGES);
+                assertEquals(3L * MESSAGES, counter[0].writes.get());
+            } finally {
+                connection.close();
+            }
+        } finally {
+            server.stop();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Counts the writes to a stream, and the bytes written from another array than the payload of the messages, which
+     * were copied by the framing.
+     */
+    private static final class WireCounter extends FilterOutputStream {
+        private final byte[] payload;
+        final AtomicLong writes = new AtomicLong();
+        final AtomicLong bytes = new AtomicLong();
+        final AtomicLong copiedBytes = new AtomicLong();
+
+        WireCounter(final OutputStream out, final byte[] payload) {
+            super(out);
+            this.payload = payload;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            writes.incrementAndGet();
+            bytes.incrementAndGet();
+            copiedBytes.incrementAndGet();
+            out.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            writes.incrementAndGet();
+            bytes.addAndGet(len);
+            if (b != payload) {
+                copiedBytes.addAndGet(len);
+            }
+            out.write(b, off, len);
+        }
+    }
+
+    /**
+     * The framing of the messages before {@link FrameOutput}, which wrote the header and the data of each chunk.
+     */
+    private static final class LegacyFrameOutputStream extends FilterOutputStream {
+        private final byte[] hdr = new byte[5];
+
+        LegacyFrameOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            hdr[0] = (byte) ProtocolConstants.CHUNK_START;
+            hdr[1] = (byte) (len >> 24);
+            hdr[2] = (byte) (len >> 16);
+            hdr[3] = (byte) (len >> 8);
+            hdr[4] = (byte) len;
+            out.write(hdr);
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+    /**
+     * Creates the client sockets, counting the writes to their output.
+     */
+    private static final class CountingSocketFactory extends SocketFactory {
+        private final byte[] payload;
+        private final WireCounter[] counter;
+
+        CountingSocketFactory(final byte[] payload, final WireCounter[] counter) {
+            this.payload = payload;
+            this.counter = counter;
+        }
+
+        @Override
+        public Socket createSocket() {
+            return new Socket() {
+                @Override
+                public synchronized OutputStream getOutputStream() throws IOException {
+                    if (counter[0] == null) {
+                        counter[0] = new WireCounter(super.getOutputStream(), payload);
+                    }
+                    return counter[0];
+                }
+            };
+        }
+
+        @Override
+        public Socket createSocket(final String host, final int port) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Socket createSocket(final String host, final int port, final InetAddress localHost, final int localPort) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Socket createSocket(final InetAddress host, final int port) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Socket createSocket(final InetAddress address, final int port, final InetAddress localAddress, final int localPort) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static byte[] random(final int size) {
+        final byte[] bytes = new byte[size];
+        new Random(123L).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -30,5 +30,13 @@ package org.wildfly.extension.requestcontroller;
 interface Constants {
     String MAX_REQUESTS = "max-requests";
     String ACTIVE_REQUESTS = "active-requests";
+    String QUEUED_REQUESTS = "queued-requests";
+    String REJECTED_REQUESTS = "rejected-requests";
+    String AVERAGE_QUEUE_WAIT_TIME = "average-queue-wait-time";
+    String MAX_QUEUE_WAIT_TIME = "max-queue-wait-time";
+    String CONTROL_POINTS = "control-points";
+    String DEPLOYMENT = "deployment";
+    String ENTRY_POINT = "entry-point";
+    String PAUSED = "paused";
     String TRACK_INDIVIDUAL_ENDPOINTS = "track-individual-endpoints";
 }
@@ -23,6 +23,7 @@ package org.wildfly.extension.requestcontroller;
 
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
 import org.jboss.as.server.logging.ServerLogger;
 import org.jboss.as.server.suspend.ServerActivityCallback;
 import java.util.concurrent.Executor;
@@ -56,6 +57,16 @@ public class ControlPoint {
     @SuppressWarnings("unused")
     private volatile int activeRequestCount = 0;
 
+    /**
+     * The number of tasks queued via this entry point that have not yet run or timed out
+     */
+    private final LongAdder queuedRequestCount = new LongAdder();
+
+    /**
+     * The number of requests via this entry point that have been rejected
+     */
+    private final LongAdder rejectedRequestCount = new LongAdder();
+
     /**
      * If this entry point is paused
      */
@@ -126,6 +137,7 @@ public class ControlPoint {
      */
     public RunResult beginRequest() throws Exception {
         if (paused) {
+            requestRejected();
             return RunResult.REJECTED;
         }
         if(trackIndividualControlPoints) {
@@ -134,6 +146,7 @@ public class ControlPoint {
         RunResult runResult = controller.beginRequest(false);
         if (runResult == RunResult.REJECTED) {
             decreaseRequestCount();
+            requestRejected();
         }
         return runResult;
     }
@@ -153,7 +166,11 @@ public class ControlPoint {
         if(trackIndividualControlPoints) {
             activeRequestCountUpdater.incrementAndGet(this);
         }
-        return controller.beginRequest(true);
+        RunResult runResult = controller.beginRequest(true);
+        if (runResult == RunResult.REJECTED) {
+            requestRejected();
+        }
+        return runResult;
     }
 
     /**
@@ -175,6 +192,19 @@ public class ControlPoint {
         controller.requestComplete();
     }
 
+    void requestRejected() {
+        rejectedRequestCount.increment();
+        controller.requestRejected();
+    }
+
+    void requestQueued() {
+        queuedRequestCount.increment();
+    }
+
+    void queuedRequestDone() {
+        queuedRequestCount.decrement();
+    }
+
     private void decreaseRequestCount() {
         if (trackIndividualControlPoints) {
             int result = activeRequestCountUpdater.decrementAndGet(this);
@@ -236,6 +266,20 @@ public class ControlPoint {
         return activeRequestCountUpdater.get(this);
     }
 
+    /**
+     * @return The number of tasks queued via this entry point that are waiting to run
+     */
+    public int getQueuedRequestCount() {
+        return queuedRequestCount.intValue();
+    }
+
+    /**
+     * @return The total number of requests via this entry point that have been rejected
+     */
+    public long getRejectedRequestCount() {
+        return rejectedRequestCount.sum();
+    }
+
     synchronized int increaseReferenceCount() {
         return ++referenceCount;
     }
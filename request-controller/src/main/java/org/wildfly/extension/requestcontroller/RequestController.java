@@ -35,16 +35,17 @@ import org.wildfly.extension.requestcontroller.logging.RequestControllerLogger;
 
 import java.util.ArrayList;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * A controller that manages the active requests that are running in the container.
@@ -54,6 +55,11 @@ import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
  * 1) Graceful shutdown - When the number of active request reaches zero then the container can be gracefully shut down
  * 2) Request limiting - This allows the total number of requests that are active to be limited.
  * <p/>
+ * If no limit is set the active requests are counted in a striped {@link LongAdder}, so admitting a request
+ * does not contend on a single counter. Once a limit is set requests are admitted with a compare and set on a
+ * single counter, so the limit is never exceeded. The active request count is the sum of both counters, which
+ * means requests that were admitted before the limit was changed are still accounted for when they complete.
+ * <p/>
  *
  * @author Stuart Douglas
  */
@@ -67,11 +73,34 @@ public class RequestController implements Service<RequestController>, ServerActi
 
     private volatile int maxRequestCount = -1;
 
+    /**
+     * The number of active requests admitted while a request limit is set
+     */
     private volatile int activeRequestCount = 0;
 
+    /**
+     * The number of active requests admitted while no request limit is set
+     */
+    private final LongAdder unlimitedRequestCount = new LongAdder();
+
+    private final LongAdder rejectedRequestCount = new LongAdder();
+
+    /**
+     * The number of queued tasks that have neither run nor timed out. Tasks that timed out may remain in the queues
+     * until they are polled, so the size of the queues can not be used for this.
+     */
+    private final LongAdder queuedTaskCount = new LongAdder();
+
+    /**
+     * The number of queued tasks that have been run, and the total and max time they waited in the queue
+     */
+    private final LongAdder queuedTaskRunCount = new LongAdder();
+    private final LongAdder totalQueueWaitTime = new LongAdder();
+    private final LongAccumulator maxQueueWaitTime = new LongAccumulator(Long::max, 0);
+
     private volatile boolean paused = false;
 
-    private final Map<ControlPointIdentifier, ControlPoint> entryPoints = new HashMap<>();
+    private final Map<ControlPointIdentifier, ControlPoint> entryPoints = new ConcurrentHashMap<>();
 
     private final InjectedValue<SuspendController> shutdownControllerInjectedValue = new InjectedValue<>();
 
@@ -89,10 +118,16 @@ public class RequestController implements Service<RequestController>, ServerActi
         listener.done();
     }
 
-    private Timer timer;
+    private TimeoutWheel timeouts;
 
     private final Deque<QueuedTask> taskQueue = new LinkedBlockingDeque<>();
 
+    /**
+     * Tasks that must run even if the container is suspended. These are kept apart from the other queued tasks so
+     * they can be found without searching the whole queue while suspended.
+     */
+    private final Deque<QueuedTask> forcedTaskQueue = new LinkedBlockingDeque<>();
+
     /**
      * Pause the controller. All existing requests will have a chance to finish, and once all requests are
      * finished the provided listener will be invoked.
@@ -105,7 +140,7 @@ public class RequestController implements Service<RequestController>, ServerActi
         this.paused = true;
         listenerUpdater.set(this, requestCountListener);
 
-        if (activeRequestCountUpdater.get(this) == 0) {
+        if (getActiveRequestCount() == 0) {
             if (listenerUpdater.compareAndSet(this, requestCountListener, null)) {
                 requestCountListener.done();
             }
@@ -122,7 +157,7 @@ public class RequestController implements Service<RequestController>, ServerActi
         if (listener != null) {
             listenerUpdater.compareAndSet(this, listener, null);
         }
-        while (!taskQueue.isEmpty() && (activeRequestCount < maxRequestCount || maxRequestCount < 0)) {
+        while (hasQueuedTasks() && (getActiveRequestCount() < maxRequestCount || maxRequestCount < 0)) {
             runQueuedTask(false);
         }
     }
@@ -203,21 +238,31 @@ public class RequestController implements Service<RequestController>, ServerActi
     public synchronized RequestControllerState getState() {
         final List<RequestControllerState.EntryPointState> eps = new ArrayList<>();
         for (ControlPoint controlPoint : entryPoints.values()) {
-            eps.add(new RequestControllerState.EntryPointState(controlPoint.getDeployment(), controlPoint.getEntryPoint(), controlPoint.isPaused(), controlPoint.getActiveRequestCount()));
+            eps.add(new RequestControllerState.EntryPointState(controlPoint.getDeployment(), controlPoint.getEntryPoint(), controlPoint.isPaused(),
+                    controlPoint.getActiveRequestCount(), controlPoint.getQueuedRequestCount(), controlPoint.getRejectedRequestCount()));
         }
-        return new RequestControllerState(paused, activeRequestCount, maxRequestCount, eps);
+        return new RequestControllerState(paused, getActiveRequestCount(), maxRequestCount, eps);
     }
 
     RunResult beginRequest(boolean force) {
         int maxRequests = maxRequestCount;
-        int active = activeRequestCountUpdater.get(this);
         boolean success = false;
-        while ((maxRequests <= 0 || active < maxRequests) && (!paused || force)) {
-            if (activeRequestCountUpdater.compareAndSet(this, active, active + 1)) {
+        if (maxRequests <= 0) {
+            if (!paused || force) {
+                unlimitedRequestCount.increment();
                 success = true;
-                break;
             }
-            active = activeRequestCountUpdater.get(this);
+        } else {
+            // requests admitted while there was no limit still count towards it
+            long unlimited = unlimitedRequestCount.sum();
+            int active = activeRequestCountUpdater.get(this);
+            while (active + unlimited < maxRequests && (!paused || force)) {
+                if (activeRequestCountUpdater.compareAndSet(this, active, active + 1)) {
+                    success = true;
+                    break;
+                }
+                active = activeRequestCountUpdater.get(this);
+            }
         }
         if (success) {
             //re-check the paused state
@@ -238,11 +283,32 @@ public class RequestController implements Service<RequestController>, ServerActi
         runQueuedTask(true);
     }
 
-    private void decrementRequestCount() {
+    void requestRejected() {
+        rejectedRequestCount.increment();
+    }
 
-        int result = activeRequestCountUpdater.decrementAndGet(this);
+    /**
+     * Releases the permit of a request. A permit can not be traced back to the counter it was taken from, as
+     * completing requests hand theirs over to queued tasks, so it is released from the counter of the limited
+     * admissions while that one holds any, and from the counter of the unlimited admissions otherwise. Since the
+     * permits are interchangeable neither counter goes negative, whatever the max request count was when the request
+     * was admitted.
+     */
+    private void decrementRequestCount() {
+        int active = activeRequestCountUpdater.get(this);
+        boolean released = false;
+        while (active > 0) {
+            if (activeRequestCountUpdater.compareAndSet(this, active, active - 1)) {
+                released = true;
+                break;
+            }
+            active = activeRequestCountUpdater.get(this);
+        }
+        if (!released) {
+            unlimitedRequestCount.decrement();
+        }
         if (paused) {
-            if (paused && result == 0) {
+            if (paused && getActiveRequestCount() == 0) {
                 ServerActivityCallback listener = listenerUpdater.get(this);
                 if (listener != null) {
                     if (listenerUpdater.compareAndSet(this, listener, null)) {
@@ -264,15 +330,15 @@ public class RequestController implements Service<RequestController>, ServerActi
      * @param entryPointName The entry point name
      * @return The entry point, or null if the request controller is disabled
      */
-    public synchronized ControlPoint getControlPoint(final String deploymentName, final String entryPointName) {
+    public ControlPoint getControlPoint(final String deploymentName, final String entryPointName) {
         ControlPointIdentifier id = new ControlPointIdentifier(deploymentName, entryPointName);
-        ControlPoint ep = entryPoints.get(id);
-        if (ep == null) {
-            ep = new ControlPoint(this, deploymentName, entryPointName, trackIndividualControlPoints);
-            entryPoints.put(id, ep);
-        }
-        ep.increaseReferenceCount();
-        return ep;
+        return entryPoints.compute(id, (key, ep) -> {
+            if (ep == null) {
+                ep = new ControlPoint(this, deploymentName, entryPointName, trackIndividualControlPoints);
+            }
+            ep.increaseReferenceCount();
+            return ep;
+        });
     }
 
     /**
@@ -280,11 +346,9 @@ public class RequestController implements Service<RequestController>, ServerActi
      *
      * @param controlPoint The entry point
      */
-    public synchronized void removeControlPoint(ControlPoint controlPoint) {
-        if (controlPoint.decreaseReferenceCount() == 0) {
-            ControlPointIdentifier id = new ControlPointIdentifier(controlPoint.getDeployment(), controlPoint.getEntryPoint());
-            entryPoints.remove(id);
-        }
+    public void removeControlPoint(ControlPoint controlPoint) {
+        ControlPointIdentifier id = new ControlPointIdentifier(controlPoint.getDeployment(), controlPoint.getEntryPoint());
+        entryPoints.computeIfPresent(id, (key, ep) -> ep.decreaseReferenceCount() == 0 ? null : ep);
     }
 
     /**
@@ -304,7 +368,7 @@ public class RequestController implements Service<RequestController>, ServerActi
      */
     public void setMaxRequestCount(int maxRequestCount) {
         this.maxRequestCount = maxRequestCount;
-        while (!taskQueue.isEmpty() && (activeRequestCount < maxRequestCount || maxRequestCount < 0)) {
+        while (hasQueuedTasks() && (getActiveRequestCount() < maxRequestCount || maxRequestCount < 0)) {
             if(!runQueuedTask(false)) {
                 break;
             }
@@ -321,18 +385,24 @@ public class RequestController implements Service<RequestController>, ServerActi
     @Override
     public void start(StartContext startContext) throws StartException {
         shutdownControllerInjectedValue.getValue().registerActivity(this);
-        timer = new Timer();
+        timeouts = new TimeoutWheel("RequestController queued task timeouts");
+        timeouts.start();
     }
 
     @Override
     public void stop(StopContext stopContext) {
         shutdownControllerInjectedValue.getValue().unRegisterActivity(this);
-        timer.cancel();
-        timer = null;
-        while (!taskQueue.isEmpty()) {
-            QueuedTask t = taskQueue.poll();
+        timeouts.stop();
+        timeouts = null;
+        cancelQueuedTasks(forcedTaskQueue);
+        cancelQueuedTasks(taskQueue);
+    }
+
+    private static void cancelQueuedTasks(Deque<QueuedTask> queue) {
+        while (!queue.isEmpty()) {
+            QueuedTask t = queue.poll();
             if(t != null) {
-                t.run();
+                t.expire();
             }
         }
     }
@@ -347,22 +417,69 @@ public class RequestController implements Service<RequestController>, ServerActi
     }
 
     public int getActiveRequestCount() {
-        return activeRequestCount;
+        return (int) (activeRequestCountUpdater.get(this) + unlimitedRequestCount.sum());
+    }
+
+    /**
+     * @return The number of tasks that are currently queued waiting to run
+     */
+    public int getQueuedRequestCount() {
+        return queuedTaskCount.intValue();
+    }
+
+    /**
+     * @return The average time in milliseconds that the queued tasks that have been run waited in the queue
+     */
+    public long getAverageQueueWaitTime() {
+        long count = queuedTaskRunCount.sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalQueueWaitTime.sum() / count);
+    }
+
+    /**
+     * @return The longest time in milliseconds that a queued task that has been run waited in the queue
+     */
+    public long getMaxQueueWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(maxQueueWaitTime.get());
+    }
+
+    private boolean hasQueuedTasks() {
+        return !taskQueue.isEmpty() || !forcedTaskQueue.isEmpty();
+    }
+
+    private void queuedTaskTimedOut() {
+        queuedTaskCount.decrement();
+    }
+
+    private void queuedTaskRun(long waitTime) {
+        queuedTaskCount.decrement();
+        queuedTaskRunCount.increment();
+        totalQueueWaitTime.add(waitTime);
+        maxQueueWaitTime.accumulate(waitTime);
+    }
+
+    /**
+     * @return The total number of requests that have been rejected by all control points
+     */
+    public long getRejectedRequestCount() {
+        return rejectedRequestCount.sum();
     }
 
     void queueTask(ControlPoint controlPoint, Runnable task, Executor taskExecutor, long timeout, Runnable timeoutTask, boolean rejectOnSuspend, boolean forceRun) {
         if(paused) {
             if(rejectOnSuspend && !forceRun) {
+                controlPoint.requestRejected();
                 taskExecutor.execute(timeoutTask);
                 return;
             }
         }
-        QueuedTask queuedTask = new QueuedTask(taskExecutor, task, timeoutTask, controlPoint, forceRun);
-        taskQueue.add(queuedTask);
+        QueuedTask queuedTask = new QueuedTask(this, taskExecutor, task, timeoutTask, controlPoint);
+        controlPoint.requestQueued();
+        queuedTaskCount.increment();
+        (forceRun ? forcedTaskQueue : taskQueue).add(queuedTask);
         runQueuedTask(false);
         if(queuedTask.isQueued()) {
             if(timeout > 0) {
-                timer.schedule(queuedTask, timeout);
+                timeouts.schedule(queuedTask, timeout);
             }
         }
     }
@@ -378,12 +495,10 @@ public class RequestController implements Service<RequestController>, ServerActi
         if (!hasPermit && beginRequest(paused) == RunResult.REJECTED) {
             return false;
         }
-        QueuedTask task = null;
-        if (!paused) {
+        //if the container is suspended we still need to run any force queued tasks
+        QueuedTask task = forcedTaskQueue.poll();
+        if (task == null && !paused) {
             task = taskQueue.poll();
-        } else {
-            //the container is suspended, but we still need to run any force queued tasks
-            task = findForcedTask();
         }
         if (task != null) {
             if(!task.runRequest()) {
@@ -396,23 +511,6 @@ public class RequestController implements Service<RequestController>, ServerActi
         }
     }
 
-    private QueuedTask findForcedTask() {
-        QueuedTask task = null;
-        List<QueuedTask> storage = new ArrayList<>();
-        while (task == null && !taskQueue.isEmpty()) {
-            QueuedTask tmp = taskQueue.poll();
-            if(tmp.forceRun) {
-                task = tmp;
-            } else {
-                storage.add(tmp);
-            }
-        }
-        //this screws the order somewhat, but the container is suspending anyway, and the order
-        //was never guarenteed. if we push them back onto the front we will need to just go through them again
-        taskQueue.addAll(storage);
-        return task;
-    }
-
     private static final class ControlPointIdentifier {
         private final String deployment, name;
 
@@ -448,30 +546,38 @@ public class RequestController implements Service<RequestController>, ServerActi
     }
 
 
-    private static final class QueuedTask extends TimerTask {
+    private static final class QueuedTask extends TimeoutWheel.Timeout {
 
+        private final RequestController controller;
         private final Executor executor;
         private final Runnable task;
         private final Runnable cancelTask;
         private final ControlPoint controlPoint;
-        private final boolean forceRun;
+        private final long queuedTime = System.nanoTime();
 
         //0 == queued
         //1 == run
         //2 == cancelled
         private final AtomicInteger state = new AtomicInteger(0);
 
-        private QueuedTask(Executor executor, Runnable task, Runnable cancelTask, ControlPoint controlPoint, boolean forceRun) {
+        private QueuedTask(RequestController controller, Executor executor, Runnable task, Runnable cancelTask, ControlPoint controlPoint) {
+            this.controller = controller;
             this.executor = executor;
             this.task = task;
             this.cancelTask = cancelTask;
             this.controlPoint = controlPoint;
-            this.forceRun = forceRun;
         }
 
         @Override
-        public void run() {
+        boolean isPending() {
+            return isQueued();
+        }
+
+        @Override
+        void expire() {
             if(state.compareAndSet(0, 2)) {
+                controlPoint.queuedRequestDone();
+                controller.queuedTaskTimedOut();
                 if(cancelTask != null) {
                     try {
                         executor.execute(cancelTask);
@@ -485,7 +591,8 @@ public class RequestController implements Service<RequestController>, ServerActi
 
         public boolean runRequest() {
             if(state.compareAndSet(0, 1)) {
-                cancel();
+                controlPoint.queuedRequestDone();
+                controller.queuedTaskRun(System.nanoTime() - queuedTime);
                 executor.execute(new Runnable() {
                     @Override
                     public void run() {
@@ -30,6 +30,8 @@ import java.util.Collections;
 import java.util.List;
 
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ObjectListAttributeDefinition;
+import org.jboss.as.controller.ObjectTypeAttributeDefinition;
 import org.jboss.as.controller.PersistentResourceDefinition;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
 import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
@@ -37,6 +39,7 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -63,6 +66,53 @@ class RequestControllerRootDefinition extends PersistentResourceDefinition {
     public static final SimpleAttributeDefinition ACTIVE_REQUESTS = SimpleAttributeDefinitionBuilder.create(Constants.ACTIVE_REQUESTS, ModelType.INT, true)
             .setStorageRuntime()
             .build();
+
+    public static final SimpleAttributeDefinition QUEUED_REQUESTS = SimpleAttributeDefinitionBuilder.create(Constants.QUEUED_REQUESTS, ModelType.INT, true)
+            .setStorageRuntime()
+            .build();
+
+    public static final SimpleAttributeDefinition REJECTED_REQUESTS = SimpleAttributeDefinitionBuilder.create(Constants.REJECTED_REQUESTS, ModelType.LONG, true)
+            .setStorageRuntime()
+            .build();
+
+    public static final SimpleAttributeDefinition AVERAGE_QUEUE_WAIT_TIME = SimpleAttributeDefinitionBuilder.create(Constants.AVERAGE_QUEUE_WAIT_TIME, ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setStorageRuntime()
+            .build();
+
+    public static final SimpleAttributeDefinition MAX_QUEUE_WAIT_TIME = SimpleAttributeDefinitionBuilder.create(Constants.MAX_QUEUE_WAIT_TIME, ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setStorageRuntime()
+            .build();
+
+    private static final SimpleAttributeDefinition CONTROL_POINT_DEPLOYMENT = SimpleAttributeDefinitionBuilder.create(Constants.DEPLOYMENT, ModelType.STRING, true)
+            .build();
+
+    private static final SimpleAttributeDefinition CONTROL_POINT_ENTRY_POINT = SimpleAttributeDefinitionBuilder.create(Constants.ENTRY_POINT, ModelType.STRING, true)
+            .build();
+
+    private static final SimpleAttributeDefinition CONTROL_POINT_PAUSED = SimpleAttributeDefinitionBuilder.create(Constants.PAUSED, ModelType.BOOLEAN, true)
+            .build();
+
+    private static final SimpleAttributeDefinition CONTROL_POINT_ACTIVE_REQUESTS = SimpleAttributeDefinitionBuilder.create(Constants.ACTIVE_REQUESTS, ModelType.INT, true)
+            .build();
+
+    private static final SimpleAttributeDefinition CONTROL_POINT_QUEUED_REQUESTS = SimpleAttributeDefinitionBuilder.create(Constants.QUEUED_REQUESTS, ModelType.INT, true)
+            .build();
+
+    private static final SimpleAttributeDefinition CONTROL_POINT_REJECTED_REQUESTS = SimpleAttributeDefinitionBuilder.create(Constants.REJECTED_REQUESTS, ModelType.LONG, true)
+            .build();
+
+    private static final ObjectTypeAttributeDefinition CONTROL_POINT = ObjectTypeAttributeDefinition.Builder.of("control-point", CONTROL_POINT_DEPLOYMENT,
+            CONTROL_POINT_ENTRY_POINT, CONTROL_POINT_PAUSED, CONTROL_POINT_ACTIVE_REQUESTS, CONTROL_POINT_QUEUED_REQUESTS, CONTROL_POINT_REJECTED_REQUESTS)
+            .setStorageRuntime()
+            .build();
+
+    public static final ObjectListAttributeDefinition CONTROL_POINTS = ObjectListAttributeDefinition.Builder.of(Constants.CONTROL_POINTS, CONTROL_POINT)
+            .setRequired(false)
+            .setStorageRuntime()
+            .build();
+
     public static final RequestControllerRootDefinition INSTANCE = new RequestControllerRootDefinition(true);
 
     static final RuntimeCapability<Void> REQUEST_CONTROLLER_CAPABILITY =
@@ -86,7 +136,8 @@ class RequestControllerRootDefinition extends PersistentResourceDefinition {
 
     private static Collection<AttributeDefinition> getAttributeDefinitions(boolean registerRuntimeOnly) {
         if(registerRuntimeOnly) {
-            return Arrays.asList(new AttributeDefinition[]{MAX_REQUESTS, TRACK_INDIVIDUAL_ENDPOINTS, ACTIVE_REQUESTS});
+            return Arrays.asList(new AttributeDefinition[]{MAX_REQUESTS, TRACK_INDIVIDUAL_ENDPOINTS, ACTIVE_REQUESTS, QUEUED_REQUESTS, REJECTED_REQUESTS,
+                    AVERAGE_QUEUE_WAIT_TIME, MAX_QUEUE_WAIT_TIME, CONTROL_POINTS});
         } else {
             return Arrays.asList(new AttributeDefinition[]{MAX_REQUESTS, TRACK_INDIVIDUAL_ENDPOINTS});
         }
@@ -103,7 +154,13 @@ class RequestControllerRootDefinition extends PersistentResourceDefinition {
         resourceRegistration.registerReadWriteAttribute(MAX_REQUESTS, null, handler);
         resourceRegistration.registerReadWriteAttribute(TRACK_INDIVIDUAL_ENDPOINTS, null, new ReloadRequiredWriteAttributeHandler(TRACK_INDIVIDUAL_ENDPOINTS));
         if(registerRuntimeOnly) {
-            resourceRegistration.registerMetric(ACTIVE_REQUESTS, new ActiveRequestsReadHandler());
+            RequestMetricsReadHandler metricsHandler = new RequestMetricsReadHandler();
+            resourceRegistration.registerMetric(ACTIVE_REQUESTS, metricsHandler);
+            resourceRegistration.registerMetric(QUEUED_REQUESTS, metricsHandler);
+            resourceRegistration.registerMetric(REJECTED_REQUESTS, metricsHandler);
+            resourceRegistration.registerMetric(AVERAGE_QUEUE_WAIT_TIME, metricsHandler);
+            resourceRegistration.registerMetric(MAX_QUEUE_WAIT_TIME, metricsHandler);
+            resourceRegistration.registerMetric(CONTROL_POINTS, metricsHandler);
         }
     }
 }
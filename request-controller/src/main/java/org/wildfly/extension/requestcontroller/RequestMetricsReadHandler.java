@@ -0,0 +1,83 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.requestcontroller;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Reads the request metrics of the {@link RequestController}, globally and per control point.
+ *
+ * @author Stuart Douglas
+ */
+class RequestMetricsReadHandler extends AbstractRuntimeOnlyHandler {
+
+    @Override
+    protected boolean requiresRuntime(OperationContext context) {
+        return true; // in WildFly 10 this worked in admin-only and there's no particular reason it shouldn't now
+    }
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        ServiceController<?> service = context.getServiceRegistry(false).getService(RequestController.SERVICE_NAME);
+        if(service != null) {
+            RequestController requestController = (RequestController) service.getService().getValue();
+            switch (operation.require(NAME).asString()) {
+                case Constants.QUEUED_REQUESTS:
+                    context.getResult().set(requestController.getQueuedRequestCount());
+                    break;
+                case Constants.REJECTED_REQUESTS:
+                    context.getResult().set(requestController.getRejectedRequestCount());
+                    break;
+                case Constants.AVERAGE_QUEUE_WAIT_TIME:
+                    context.getResult().set(requestController.getAverageQueueWaitTime());
+                    break;
+                case Constants.MAX_QUEUE_WAIT_TIME:
+                    context.getResult().set(requestController.getMaxQueueWaitTime());
+                    break;
+                case Constants.CONTROL_POINTS:
+                    final ModelNode result = context.getResult().setEmptyList();
+                    for (RequestControllerState.EntryPointState state : requestController.getState().getEntryPoints()) {
+                        final ModelNode controlPoint = new ModelNode();
+                        controlPoint.get(Constants.DEPLOYMENT).set(state.getDeployment());
+                        controlPoint.get(Constants.ENTRY_POINT).set(state.getEndpoint());
+                        controlPoint.get(Constants.PAUSED).set(state.isPaused());
+                        controlPoint.get(Constants.ACTIVE_REQUESTS).set(state.isOutstandingRequests());
+                        controlPoint.get(Constants.QUEUED_REQUESTS).set(state.getQueuedRequests());
+                        controlPoint.get(Constants.REJECTED_REQUESTS).set(state.getRejectedRequests());
+                        result.add(controlPoint);
+                    }
+                    break;
+                default:
+                    context.getResult().set(requestController.getActiveRequestCount());
+            }
+        } else {
+            context.getResult().set(-1);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.extension.requestcontroller;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hashed timing wheel used to time out queued tasks.
+ * <p/>
+ * Scheduling a timeout only adds it to a lock free queue. A single worker thread moves new timeouts into the
+ * bucket of the tick they expire in, and on every tick expires the due timeouts of the current bucket. Timeouts
+ * are never removed when they are cancelled; the worker discards them once it reaches their bucket, so cancelling
+ * is free for the caller. The worker parks without ticking while no timeouts are pending.
+ * <p/>
+ * Timeouts are expired with a precision of one tick.
+ */
+final class TimeoutWheel implements Runnable {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final Queue<Timeout> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Thread worker;
+    private volatile boolean stopped;
+
+    // only accessed by the worker thread
+    @SuppressWarnings("unchecked")
+    private final Queue<Timeout>[] buckets = new Queue[WHEEL_SIZE];
+    private final long startTime = System.nanoTime();
+    private long tick;
+
+    TimeoutWheel(String name) {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        worker = new Thread(this, name);
+        worker.setDaemon(true);
+    }
+
+    void start() {
+        worker.start();
+    }
+
+    /**
+     * Stops the worker thread. Pending timeouts will not expire.
+     */
+    void stop() {
+        stopped = true;
+        LockSupport.unpark(worker);
+    }
+
+    /**
+     * Schedules a timeout to expire after the given delay, unless it is no longer {@link Timeout#isPending() pending}
+     * by then.
+     *
+     * @param timeout the timeout
+     * @param delay   the delay in milliseconds
+     */
+    void schedule(Timeout timeout, long delay) {
+        timeout.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+        incoming.add(timeout);
+        if (pending.getAndIncrement() == 0) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    @Override
+    public void run() {
+        while (!stopped) {
+            if (pending.get() == 0) {
+                LockSupport.park(this);
+                // restart the ticks from now, there is nothing to catch up on
+                tick = (System.nanoTime() - startTime) / TICK_NANOS;
+                continue;
+            }
+            long tickTime = startTime + (tick + 1) * TICK_NANOS;
+            long wait = tickTime - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(this, wait);
+                continue;
+            }
+            transferIncoming();
+            expire(buckets[(int) (tick & WHEEL_MASK)], System.nanoTime());
+            tick++;
+        }
+    }
+
+    private void transferIncoming() {
+        Timeout timeout;
+        while ((timeout = incoming.poll()) != null) {
+            if (!timeout.isPending()) {
+                pending.decrementAndGet();
+                continue;
+            }
+            long expiryTick = Math.max((timeout.deadline - startTime + TICK_NANOS - 1) / TICK_NANOS, tick);
+            buckets[(int) (expiryTick & WHEEL_MASK)].add(timeout);
+        }
+    }
+
+    private void expire(Queue<Timeout> bucket, long now) {
+        for (int i = bucket.size(); i > 0; i--) {
+            Timeout timeout = bucket.poll();
+            if (!timeout.isPending()) {
+                pending.decrementAndGet();
+            } else if (timeout.deadline - now <= 0) {
+                pending.decrementAndGet();
+                timeout.expire();
+            } else {
+                // due in a later round of the wheel
+                bucket.add(timeout);
+            }
+        }
+    }
+
+    /**
+     * A timeout that can be scheduled on the wheel.
+     */
+    abstract static class Timeout {
+
+        // written before the timeout is published to the worker thread through the incoming queue
+        private long deadline;
+
+        /**
+         * @return {@code false} if the timeout has been cancelled and should be discarded
+         */
+        abstract boolean isPending();
+
+        /**
+         * Invoked by the worker thread when the timeout expires while it is still pending.
+         */
+        abstract void expire();
+    }
+}
@@ -27,9 +27,12 @@ package org.wildfly.extension.requestcontroller;
 import static org.jboss.as.server.Services.JBOSS_SUSPEND_CONTROLLER;
 
 import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.RunningMode;
+import org.jboss.as.controller.operations.common.Util;
 import org.jboss.as.controller.notification.NotificationFilter;
 import org.jboss.as.controller.notification.NotificationHandler;
 import org.jboss.as.controller.notification.NotificationHandlerRegistry;
@@ -38,6 +41,7 @@ import org.jboss.as.subsystem.test.AbstractSubsystemBaseTest;
 import org.jboss.as.subsystem.test.AdditionalInitialization;
 import org.jboss.as.subsystem.test.KernelServices;
 import org.jboss.as.subsystem.test.KernelServicesBuilder;
+import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceTarget;
 import org.jboss.msc.value.ImmediateValue;
@@ -74,6 +78,126 @@ public class RequestControllerSubsystemTestCase extends AbstractSubsystemBaseTes
         Assert.assertEquals(100, controller.getMaxRequestCount());
     }
 
+    @Test
+    public void testRequestLimit() throws Exception {
+        RequestController controller = startRequestController();
+        ControlPoint controlPoint = controller.getControlPoint("test.war", "web");
+
+        // a request admitted without a limit still counts once the limit is set
+        controller.setMaxRequestCount(-1);
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        controller.setMaxRequestCount(100);
+        for (int i = 1; i < 100; i++) {
+            Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        }
+        Assert.assertEquals(100, controller.getActiveRequestCount());
+        Assert.assertEquals(RunResult.REJECTED, controlPoint.beginRequest());
+        Assert.assertEquals(1, controlPoint.getRejectedRequestCount());
+        Assert.assertEquals(1, controller.getRejectedRequestCount());
+
+        for (int i = 0; i < 100; i++) {
+            controlPoint.requestComplete();
+        }
+        Assert.assertEquals(0, controller.getActiveRequestCount());
+        Assert.assertSame(controlPoint, controller.getControlPoint("test.war", "web"));
+        controller.removeControlPoint(controlPoint);
+        controller.removeControlPoint(controlPoint);
+        Assert.assertTrue(controller.getState().getEntryPoints().isEmpty());
+    }
+
+    @Test
+    public void testRequestLimitChange() throws Exception {
+        RequestController controller = startRequestController();
+        ControlPoint controlPoint = controller.getControlPoint("test.war", "web");
+
+        // requests admitted with a limit complete once the limit is removed, and the other way round
+        controller.setMaxRequestCount(2);
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        controller.setMaxRequestCount(-1);
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        controlPoint.requestComplete();
+        controlPoint.requestComplete();
+        Assert.assertEquals(1, controller.getActiveRequestCount());
+        controller.setMaxRequestCount(2);
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        Assert.assertEquals(RunResult.REJECTED, controlPoint.beginRequest());
+        controlPoint.requestComplete();
+        controlPoint.requestComplete();
+        Assert.assertEquals(0, controller.getActiveRequestCount());
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        Assert.assertEquals(RunResult.REJECTED, controlPoint.beginRequest());
+    }
+
+    @Test
+    public void testControlPointMetrics() throws Exception {
+        KernelServices services = createKernelServicesBuilder(createAdditionalInitialization())
+                .setSubsystemXml(getSubsystemXml())
+                .build();
+        Assert.assertTrue(services.isSuccessfulBoot());
+        ServiceController<RequestController> serviceController = (ServiceController<RequestController>) services.getContainer().getService(RequestController.SERVICE_NAME);
+        serviceController.setMode(ServiceController.Mode.ACTIVE);
+        RequestController controller = serviceController.awaitValue();
+        controller.resume();
+        ControlPoint controlPoint = controller.getControlPoint("test.war", "web");
+        controlPoint.pause(() -> { });
+        Assert.assertEquals(RunResult.REJECTED, controlPoint.beginRequest());
+
+        ModelNode operation = Util.getReadAttributeOperation(PathAddress.pathAddress(RequestControllerExtension.SUBSYSTEM_PATH), Constants.CONTROL_POINTS);
+        ModelNode result = services.executeForResult(operation);
+        Assert.assertEquals(1, result.asList().size());
+        ModelNode metrics = result.get(0);
+        Assert.assertEquals("test.war", metrics.get(Constants.DEPLOYMENT).asString());
+        Assert.assertEquals("web", metrics.get(Constants.ENTRY_POINT).asString());
+        Assert.assertTrue(metrics.get(Constants.PAUSED).asBoolean());
+        Assert.assertEquals(0, metrics.get(Constants.QUEUED_REQUESTS).asInt());
+        Assert.assertEquals(1, metrics.get(Constants.REJECTED_REQUESTS).asLong());
+    }
+
+    @Test
+    public void testQueuedTasks() throws Exception {
+        RequestController controller = startRequestController();
+        ControlPoint controlPoint = controller.getControlPoint("test.war", "web");
+        controller.setMaxRequestCount(1);
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+
+        CountDownLatch timedOut = new CountDownLatch(1);
+        controlPoint.queueTask(() -> Assert.fail("Task should have timed out"), Runnable::run, 50, timedOut::countDown, false);
+        Assert.assertEquals(1, controlPoint.getQueuedRequestCount());
+        Assert.assertTrue(timedOut.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(0, controlPoint.getQueuedRequestCount());
+
+        CountDownLatch ran = new CountDownLatch(2);
+        controlPoint.queueTask(ran::countDown, Runnable::run, 10000, () -> Assert.fail("Task should have run"), false);
+        // forced tasks run even though the container is suspended
+        controller.suspended(() -> { });
+        controlPoint.forceQueueTask(ran::countDown, Runnable::run);
+        Assert.assertEquals(2, controller.getQueuedRequestCount());
+        controlPoint.requestComplete();
+        Assert.assertEquals(1, ran.getCount());
+        controller.resume();
+        Assert.assertTrue(ran.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(0, controller.getQueuedRequestCount());
+        Assert.assertEquals(0, controller.getActiveRequestCount());
+        Assert.assertTrue(controller.getMaxQueueWaitTime() >= controller.getAverageQueueWaitTime());
+    }
+
+    private RequestController startRequestController() throws Exception {
+        KernelServicesBuilder builder = createKernelServicesBuilder(createAdditionalInitialization())
+                .setSubsystemXml(getSubsystemXml());
+        KernelServices mainServices = builder.build();
+        if (!mainServices.isSuccessfulBoot()) {
+            Assert.fail(mainServices.getBootError().toString());
+        }
+        ServiceController<RequestController> workerServiceController = (ServiceController<RequestController>) mainServices.getContainer().getService(RequestController.SERVICE_NAME);
+        workerServiceController.setMode(ServiceController.Mode.ACTIVE);
+        workerServiceController.awaitValue();
+        RequestController controller = workerServiceController.getService().getValue();
+        controller.resume();
+        return controller;
+    }
+
     @Override
     protected AdditionalInitialization createAdditionalInitialization() {
         return new AdditionalInitialization() {
@@ -44,6 +44,7 @@ import org.jboss.as.server.deployment.RegisteredDeploymentUnitProcessor;
 import org.jboss.as.server.deployment.Services;
 import org.jboss.as.server.logging.ServerLogger;
 import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceName;
 
 /**
  * @author John Bailey
@@ -127,7 +128,18 @@ public class DeployerChainAddHandler implements OperationStepHandler {
                 }
                 finalDeployers.put(phase, new ArrayList<RegisteredDeploymentUnitProcessor>(processorList));
             }
-            DeployerChainsService.addService(context.getServiceTarget(), finalDeployers);
+            // Independent processors of a phase are run concurrently on the server executor. ServerService.addService installs
+            // it before the boot operations run, so it is only missing from processes which do not have one at all,
+            // such as some test harnesses, where the processors of a phase then run on the phase service thread only
+            final ServiceName executorName;
+            if (context.getServiceRegistry(false).getService(org.jboss.as.server.Services.JBOSS_SERVER_EXECUTOR) != null) {
+                executorName = org.jboss.as.server.Services.JBOSS_SERVER_EXECUTOR;
+            } else {
+                executorName = null;
+                ServerLogger.DEPLOYMENT_LOGGER.debugf("No %s service is installed, the deployment unit processors of a phase are run one after the other",
+                        org.jboss.as.server.Services.JBOSS_SERVER_EXECUTOR);
+            }
+            DeployerChainsService.addService(context.getServiceTarget(), finalDeployers, executorName);
 
             context.completeStep(new OperationContext.RollbackHandler() {
                 @Override
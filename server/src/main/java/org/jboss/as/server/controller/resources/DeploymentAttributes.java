@@ -68,6 +68,7 @@ import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.OperationEntry.Flag;
 import org.jboss.as.server.controller.descriptions.ServerDescriptions;
 import org.jboss.as.server.deployment.AbstractDeploymentUnitService;
+import org.jboss.as.server.deployment.DeploymentProcessingTimesHandler;
 import org.jboss.as.server.logging.ServerLogger;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -370,6 +371,11 @@ public class DeploymentAttributes {
             .withFlags(Flag.READ_ONLY)
             .build();
 
+    public static final OperationDefinition READ_PROCESSING_TIMES = SimpleOperationDefinitionBuilder.of(DeploymentProcessingTimesHandler.OPERATION_NAME, DEPLOYMENT_RESOLVER)
+            .setReplyType(ModelType.OBJECT)
+            .withFlags(Flag.READ_ONLY, Flag.RUNTIME_ONLY)
+            .build();
+
     public static final OperationDefinition DEPLOY_DEFINITION = SimpleOperationDefinitionBuilder.of(ModelDescriptionConstants.DEPLOY, DEPLOYMENT_RESOLVER).build();
     public static final OperationDefinition UNDEPLOY_DEFINITION = SimpleOperationDefinitionBuilder.of(ModelDescriptionConstants.UNDEPLOY, DEPLOYMENT_RESOLVER).build();
     public static final OperationDefinition REDEPLOY_DEFINITION = SimpleOperationDefinitionBuilder.of(ModelDescriptionConstants.REDEPLOY, DEPLOYMENT_RESOLVER).build();
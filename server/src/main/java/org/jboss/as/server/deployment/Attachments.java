@@ -80,6 +80,11 @@ public final class Attachments {
      */
     public static final AttachmentKey<Set<String>> REGISTERED_SUBSYSTEMS = AttachmentKey.create(Set.class);
 
+    /**
+     * The time spent in each phase and by each deployment unit processor of the deployment unit.
+     */
+    public static final AttachmentKey<DeploymentTimings> DEPLOYMENT_TIMINGS = AttachmentKey.create(DeploymentTimings.class);
+
     /**
      * The deployments runtime name
      *
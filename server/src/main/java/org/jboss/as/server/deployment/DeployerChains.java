@@ -22,22 +22,146 @@
 
 package org.jboss.as.server.deployment;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 /**
  * The deployer chains service value object.
+ * <p>
+ * For each phase, the chains also hold the graph of the dependencies between the processors which is used to run
+ * independent processors concurrently, see {@link DeploymentUnitProcessor#getReadAttachments()}.
  *
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
  */
 final class DeployerChains {
     private final EnumMap<Phase, List<RegisteredDeploymentUnitProcessor>> phases;
+    private final EnumMap<Phase, ProcessorGraph> graphs;
+    private final DeploymentProcessingStatistics statistics = new DeploymentProcessingStatistics();
+    private volatile Executor executor;
 
     DeployerChains(final EnumMap<Phase, List<RegisteredDeploymentUnitProcessor>> phases) {
         this.phases = phases;
+        this.graphs = new EnumMap<>(Phase.class);
+        for (Map.Entry<Phase, List<RegisteredDeploymentUnitProcessor>> entry : phases.entrySet()) {
+            final ProcessorGraph graph = ProcessorGraph.create(entry.getValue());
+            if (graph != null) {
+                graphs.put(entry.getKey(), graph);
+            }
+        }
     }
 
     List<RegisteredDeploymentUnitProcessor> getChain(Phase phase) {
         return phases.get(phase);
     }
+
+    /**
+     * Get the dependency graph of the processors of a phase.
+     *
+     * @param phase the phase
+     * @return the graph, or {@code null} if each processor of the phase depends on the previous one
+     */
+    ProcessorGraph getGraph(Phase phase) {
+        return graphs.get(phase);
+    }
+
+    /**
+     * Get the executor used to run independent processors concurrently.
+     *
+     * @return the executor, or {@code null} if the processors are run by the phase service thread only
+     */
+    Executor getExecutor() {
+        return executor;
+    }
+
+    void setExecutor(final Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Get the time spent by the phases and the processors of all the deployment units.
+     *
+     * @return the statistics
+     */
+    DeploymentProcessingStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * The dependencies between the processors of a phase, the processors being identified by their position in the
+     * chain. A processor depends on an earlier processor of the chain if either does not declare its attachments, or
+     * if one writes an attachment that the other reads or writes.
+     */
+    static final class ProcessorGraph {
+        private final int[] predecessorCounts;
+        private final int[][] successors;
+
+        private ProcessorGraph(final int[] predecessorCounts, final int[][] successors) {
+            this.predecessorCounts = predecessorCounts;
+            this.successors = successors;
+        }
+
+        static ProcessorGraph create(final List<RegisteredDeploymentUnitProcessor> chain) {
+            final int size = chain.size();
+            final List<Set<AttachmentKey<?>>> read = new ArrayList<>(size);
+            final List<Set<AttachmentKey<?>>> written = new ArrayList<>(size);
+            for (RegisteredDeploymentUnitProcessor processor : chain) {
+                read.add(processor.getProcessor().getReadAttachments());
+                written.add(processor.getProcessor().getWrittenAttachments());
+            }
+            final int[] predecessorCounts = new int[size];
+            final List<List<Integer>> successors = new ArrayList<>(size);
+            boolean serial = true;
+            for (int i = 0; i < size; i++) {
+                successors.add(new ArrayList<>());
+                for (int j = 0; j < i; j++) {
+                    if (dependsOn(read.get(i), written.get(i), read.get(j), written.get(j))) {
+                        predecessorCounts[i]++;
+                        successors.get(j).add(i);
+                    } else if (j == i - 1) {
+                        serial = false;
+                    }
+                }
+            }
+            if (serial) {
+                return null;
+            }
+            final int[][] successorArrays = new int[size][];
+            for (int i = 0; i < size; i++) {
+                successorArrays[i] = successors.get(i).stream().mapToInt(Integer::intValue).toArray();
+            }
+            return new ProcessorGraph(predecessorCounts, successorArrays);
+        }
+
+        private static boolean dependsOn(final Set<AttachmentKey<?>> read, final Set<AttachmentKey<?>> written,
+                                         final Set<AttachmentKey<?>> previousRead, final Set<AttachmentKey<?>> previousWritten) {
+            if (read == null || written == null || previousRead == null || previousWritten == null) {
+                return true;
+            }
+            return !Collections.disjoint(previousWritten, read) || !Collections.disjoint(previousWritten, written)
+                    || !Collections.disjoint(previousRead, written);
+        }
+
+        int size() {
+            return predecessorCounts.length;
+        }
+
+        /**
+         * Get the number of processors a processor depends on.
+         */
+        int getPredecessorCount(final int processor) {
+            return predecessorCounts[processor];
+        }
+
+        /**
+         * Get the processors which depend on a processor.
+         */
+        int[] getSuccessors(final int processor) {
+            return successors[processor];
+        }
+    }
 }
@@ -24,12 +24,16 @@ package org.jboss.as.server.deployment;
 
 import java.util.EnumMap;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceTarget;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
+import org.jboss.msc.value.InjectedValue;
 
 /**
  * Service wrapper for {@link org.jboss.as.server.deployment.DeployerChains}.
@@ -38,11 +42,28 @@ import org.jboss.msc.service.StopContext;
  */
 public class DeployerChainsService implements Service<DeployerChains> {
     private final DeployerChains deployerChains;
+    private final InjectedValue<ExecutorService> executor = new InjectedValue<>();
 
     public static void addService(final ServiceTarget serviceTarget, final EnumMap<Phase, List<RegisteredDeploymentUnitProcessor>> phases) {
-        final DeployerChains deployerChains = new DeployerChains(phases);
-        serviceTarget.addService(Services.JBOSS_DEPLOYMENT_CHAINS, new DeployerChainsService(deployerChains))
-            .install();
+        addService(serviceTarget, phases, null);
+    }
+
+    /**
+     * Install the deployer chains service.
+     *
+     * @param serviceTarget the service target
+     * @param phases the processors of each phase
+     * @param executorName the name of the executor used to run independent processors of a phase concurrently, or
+     *                     {@code null} to run all the processors of a phase on the thread of the phase service
+     */
+    public static void addService(final ServiceTarget serviceTarget, final EnumMap<Phase, List<RegisteredDeploymentUnitProcessor>> phases,
+                                  final ServiceName executorName) {
+        final DeployerChainsService service = new DeployerChainsService(new DeployerChains(phases));
+        final ServiceBuilder<DeployerChains> builder = serviceTarget.addService(Services.JBOSS_DEPLOYMENT_CHAINS, service);
+        if (executorName != null) {
+            builder.addDependency(executorName, ExecutorService.class, service.executor);
+        }
+        builder.install();
     }
 
     public DeployerChainsService(DeployerChains deployerChains) {
@@ -50,9 +71,11 @@ public class DeployerChainsService implements Service<DeployerChains> {
     }
 
     public void start(StartContext context) throws StartException {
+        deployerChains.setExecutor(executor.getOptionalValue());
     }
 
     public void stop(StopContext context) {
+        deployerChains.setExecutor(null);
     }
 
     public DeployerChains getValue() throws IllegalStateException, IllegalArgumentException {
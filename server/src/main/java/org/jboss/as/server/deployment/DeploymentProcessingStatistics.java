@@ -0,0 +1,187 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.deployment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The time spent deploying all the deployment units of the server, aggregated by phase and by deployment unit
+ * processor. The statistics are held by the {@link DeployerChains}, so they cover the deployments since the server
+ * was last started or reloaded.
+ * <p>
+ * This class is thread safe, and recording a time does not block.
+ */
+final class DeploymentProcessingStatistics {
+
+    private final Map<Phase, Histogram> phases;
+    private final Histogram processors = new Histogram();
+    private final ConcurrentMap<RegisteredDeploymentUnitProcessor, ProcessorStatistics> byProcessor = new ConcurrentHashMap<>();
+
+    DeploymentProcessingStatistics() {
+        final Map<Phase, Histogram> phases = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new Histogram());
+        }
+        this.phases = Collections.unmodifiableMap(phases);
+    }
+
+    void recordPhase(final Phase phase, final long nanos) {
+        phases.get(phase).record(nanos);
+    }
+
+    void recordProcessor(final Phase phase, final RegisteredDeploymentUnitProcessor processor, final long nanos) {
+        processors.record(nanos);
+        ProcessorStatistics statistics = byProcessor.get(processor);
+        if (statistics == null) {
+            statistics = byProcessor.computeIfAbsent(processor, p -> new ProcessorStatistics(phase, p));
+        }
+        statistics.record(nanos);
+    }
+
+    /**
+     * Get the histogram of the time spent in a phase by each deployment unit.
+     *
+     * @param phase the phase
+     * @return the histogram
+     */
+    Histogram getPhaseHistogram(final Phase phase) {
+        return phases.get(phase);
+    }
+
+    /**
+     * Get the histogram of the time spent by each call to {@link DeploymentUnitProcessor#deploy(DeploymentPhaseContext)}.
+     *
+     * @return the histogram
+     */
+    Histogram getProcessorHistogram() {
+        return processors;
+    }
+
+    /**
+     * Get the statistics of each processor which has run, the most expensive first.
+     *
+     * @return the statistics
+     */
+    List<ProcessorStatistics> getProcessorStatistics() {
+        final List<ProcessorStatistics> statistics = new ArrayList<>(byProcessor.values());
+        statistics.sort((a, b) -> Long.compare(b.getTotalTime(), a.getTotalTime()));
+        return statistics;
+    }
+
+    /**
+     * A histogram of times with exponential buckets: the first bucket counts the times under one millisecond, each
+     * following bucket counts the times under twice the bound of the previous one, and the last bucket counts the
+     * remaining times.
+     */
+    static final class Histogram {
+        static final int BUCKETS = 20;
+
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+        private final LongAdder total = new LongAdder();
+
+        Histogram() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(final long nanos) {
+            final long millis = nanos / 1_000_000L;
+            final int bucket = millis <= 0 ? 0 : Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(millis));
+            buckets[bucket].increment();
+            total.add(nanos);
+        }
+
+        /**
+         * Get the upper bound of a bucket.
+         *
+         * @param bucket the bucket
+         * @return the exclusive bound in milliseconds, or {@code -1} for the last bucket
+         */
+        static long getBound(final int bucket) {
+            return bucket < BUCKETS - 1 ? 1L << bucket : -1L;
+        }
+
+        long[] getCounts() {
+            final long[] counts = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets[i].sum();
+            }
+            return counts;
+        }
+
+        long getTotalTime() {
+            return total.sum();
+        }
+    }
+
+    /**
+     * The number of calls to a processor and the time spent by these calls.
+     */
+    static final class ProcessorStatistics {
+        private final Phase phase;
+        private final RegisteredDeploymentUnitProcessor processor;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+        ProcessorStatistics(final Phase phase, final RegisteredDeploymentUnitProcessor processor) {
+            this.phase = phase;
+            this.processor = processor;
+        }
+
+        void record(final long nanos) {
+            count.increment();
+            total.add(nanos);
+            max.accumulate(nanos);
+        }
+
+        Phase getPhase() {
+            return phase;
+        }
+
+        RegisteredDeploymentUnitProcessor getProcessor() {
+            return processor;
+        }
+
+        long getCount() {
+            return count.sum();
+        }
+
+        long getTotalTime() {
+            return total.sum();
+        }
+
+        long getMaxTime() {
+            return max.get();
+        }
+    }
+}
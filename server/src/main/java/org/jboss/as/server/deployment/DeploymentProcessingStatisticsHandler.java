@@ -0,0 +1,125 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.deployment;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RUNNING_SERVER;
+import static org.jboss.as.server.deployment.DeploymentProcessingTimesHandler.PHASES;
+import static org.jboss.as.server.deployment.DeploymentProcessingTimesHandler.PROCESSORS;
+import static org.jboss.as.server.deployment.DeploymentProcessingTimesHandler.TOTAL_TIME;
+import static org.jboss.as.server.deployment.DeploymentProcessingTimesHandler.buildProcessorInfo;
+import static org.jboss.as.server.deployment.DeploymentProcessingTimesHandler.toMillis;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.SimpleOperationDefinition;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.server.controller.descriptions.ServerDescriptions;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Handles reading the histograms of the time spent deploying all the deployment units of the server, by phase and by
+ * deployment unit processor, and the time spent by each processor. Times are reported in milliseconds.
+ */
+public class DeploymentProcessingStatisticsHandler implements OperationStepHandler {
+    public static final String OPERATION_NAME = "read-deployment-processing-times";
+
+    public static final SimpleOperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder(OPERATION_NAME,
+                ServerDescriptions.getResourceDescriptionResolver(RUNNING_SERVER))
+            .setReplyType(ModelType.OBJECT)
+            .setReadOnly()
+            .setRuntimeOnly()
+            .build();
+
+    public static final DeploymentProcessingStatisticsHandler INSTANCE = new DeploymentProcessingStatisticsHandler();
+
+    static final String BUCKETS = "buckets";
+    static final String COUNT = "count";
+    static final String LESS_THAN = "less-than";
+    static final String MAX_TIME = "max-time";
+    static final String PHASE = "phase";
+    static final String PROCESSOR_TIMES = "processor-times";
+
+    private DeploymentProcessingStatisticsHandler() {
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        if (context.isNormalServer()) {
+            context.addStep(new OperationStepHandler() {
+                @Override
+                public void execute(OperationContext context, ModelNode operation) {
+                    final ServiceController<?> chainsController = context.getServiceRegistry(false).getService(Services.JBOSS_DEPLOYMENT_CHAINS);
+                    final DeployerChains chains = chainsController == null ? null : (DeployerChains) chainsController.getValue();
+                    if (chains != null) {
+                        context.getResult().set(buildStatisticsInfo(chains.getStatistics()));
+                    }
+                }
+            }, OperationContext.Stage.RUNTIME);
+        }
+    }
+
+    static ModelNode buildStatisticsInfo(final DeploymentProcessingStatistics statistics) {
+        final ModelNode result = new ModelNode();
+        final ModelNode phases = result.get(PHASES).setEmptyObject();
+        for (Phase phase : Phase.values()) {
+            phases.get(phase.name()).set(buildHistogramInfo(statistics.getPhaseHistogram(phase)));
+        }
+        result.get(PROCESSORS).set(buildHistogramInfo(statistics.getProcessorHistogram()));
+        final ModelNode processorTimes = result.get(PROCESSOR_TIMES).setEmptyList();
+        for (DeploymentProcessingStatistics.ProcessorStatistics processorStatistics : statistics.getProcessorStatistics()) {
+            final ModelNode processorData = buildProcessorInfo(processorStatistics.getProcessor());
+            processorData.get(PHASE).set(processorStatistics.getPhase().name());
+            processorData.get(COUNT).set(processorStatistics.getCount());
+            processorData.get(TOTAL_TIME).set(toMillis(processorStatistics.getTotalTime()));
+            processorData.get(MAX_TIME).set(toMillis(processorStatistics.getMaxTime()));
+            processorTimes.add(processorData);
+        }
+        return result;
+    }
+
+    private static ModelNode buildHistogramInfo(final DeploymentProcessingStatistics.Histogram histogram) {
+        final ModelNode histogramData = new ModelNode();
+        final long[] counts = histogram.getCounts();
+        long count = 0;
+        final ModelNode buckets = histogramData.get(BUCKETS).setEmptyList();
+        for (int i = 0; i < counts.length; i++) {
+            count += counts[i];
+            // empty buckets are left out to keep the histograms short
+            if (counts[i] > 0) {
+                final ModelNode bucket = new ModelNode();
+                final long bound = DeploymentProcessingStatistics.Histogram.getBound(i);
+                if (bound > 0) {
+                    bucket.get(LESS_THAN).set(bound);
+                }
+                bucket.get(COUNT).set(counts[i]);
+                buckets.add(bucket);
+            }
+        }
+        histogramData.get(COUNT).set(count);
+        histogramData.get(TOTAL_TIME).set(toMillis(histogram.getTotalTime()));
+        return histogramData;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.deployment;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBDEPLOYMENT;
+import static org.jboss.as.server.controller.resources.DeploymentAttributes.ENABLED;
+import static org.jboss.as.server.controller.resources.DeploymentAttributes.RUNTIME_NAME;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.logging.ControllerLogger;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceRegistry;
+
+/**
+ * Handles reading the time spent in each phase, and by each deployment unit processor, to deploy a deployment or a
+ * sub-deployment. Times are reported in milliseconds.
+ */
+public class DeploymentProcessingTimesHandler implements OperationStepHandler {
+    public static final String OPERATION_NAME = "read-processing-times";
+
+    static final String PHASES = "phases";
+    static final String PROCESSOR = "processor";
+    static final String PROCESSORS = "processors";
+    static final String PRIORITY = "priority";
+    static final String SUBSYSTEM = "subsystem";
+    static final String TIME = "time";
+    static final String TOTAL_TIME = "total-time";
+
+    public DeploymentProcessingTimesHandler() {
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final PathAddress currentAddress = context.getCurrentAddress();
+        final boolean subDeploymentFlag = currentAddress.getLastElement().getKey().equals(SUBDEPLOYMENT);
+        final PathAddress address = subDeploymentFlag ? currentAddress.getParent() : currentAddress;
+
+        final ModelNode model = context.readResourceFromRoot(address, false).getModel();
+        final boolean enabled = ENABLED.resolveModelAttribute(context, model).asBoolean();
+        final String runtimeName = RUNTIME_NAME.resolveModelAttribute(context, model).asString();
+        final String item = context.getCurrentAddressValue();
+
+        if (enabled && context.isNormalServer()) {
+            context.addStep(new OperationStepHandler() {
+                @Override
+                public void execute(OperationContext context, ModelNode operation) {
+                    final ServiceRegistry sr = context.getServiceRegistry(false);
+                    final ServiceController<?> deploymentUnitSc = sr.getService(Services.deploymentUnitName(runtimeName));
+                    final DeploymentUnit deploymentUnit = deploymentUnitSc == null ? null : (DeploymentUnit) deploymentUnitSc.getValue();
+                    if (deploymentUnit == null) {
+                        return;
+                    }
+
+                    DeploymentTimings timings = null;
+                    if (subDeploymentFlag) {
+                        boolean found = false;
+                        for (DeploymentUnit subDeployment : deploymentUnit.getAttachmentList(Attachments.SUB_DEPLOYMENTS)) {
+                            if (subDeployment.getName().equals(item)) {
+                                timings = subDeployment.getAttachment(Attachments.DEPLOYMENT_TIMINGS);
+                                found = true;
+                                break;
+                            }
+                        }
+                        if (!found) {
+                            throw ControllerLogger.ROOT_LOGGER.managementResourceNotFound(currentAddress);
+                        }
+                    } else {
+                        timings = deploymentUnit.getAttachment(Attachments.DEPLOYMENT_TIMINGS);
+                    }
+                    if (timings != null) {
+                        context.getResult().set(buildTimingsInfo(timings));
+                    }
+                }
+            }, OperationContext.Stage.RUNTIME);
+        }
+    }
+
+    static ModelNode buildTimingsInfo(final DeploymentTimings timings) {
+        final List<DeploymentTimings.ProcessorTime> processorTimes = timings.getProcessorTimes();
+        processorTimes.sort(Comparator.comparingLong(DeploymentTimings.ProcessorTime::getTime).reversed());
+
+        final ModelNode result = new ModelNode();
+        long total = 0;
+        final ModelNode phases = result.get(PHASES).setEmptyObject();
+        for (Map.Entry<Phase, Long> entry : timings.getPhaseTimes().entrySet()) {
+            final Phase phase = entry.getKey();
+            final ModelNode phaseData = phases.get(phase.name());
+            phaseData.get(TIME).set(toMillis(entry.getValue()));
+            final ModelNode processors = phaseData.get(PROCESSORS).setEmptyList();
+            for (DeploymentTimings.ProcessorTime processorTime : processorTimes) {
+                if (processorTime.getPhase() == phase) {
+                    final ModelNode processorData = buildProcessorInfo(processorTime.getProcessor());
+                    processorData.get(TIME).set(toMillis(processorTime.getTime()));
+                    processors.add(processorData);
+                }
+            }
+            total += entry.getValue();
+        }
+        result.get(TOTAL_TIME).set(toMillis(total));
+        return result;
+    }
+
+    static ModelNode buildProcessorInfo(final RegisteredDeploymentUnitProcessor processor) {
+        final ModelNode processorData = new ModelNode();
+        processorData.get(PROCESSOR).set(processor.getProcessor().getClass().getName());
+        if (processor.getSubsystemName() != null) {
+            processorData.get(SUBSYSTEM).set(processor.getSubsystemName());
+        }
+        processorData.get(PRIORITY).set(processor.getPriority());
+        return processorData;
+    }
+
+    /**
+     * Converts a time to milliseconds, keeping a microsecond precision.
+     */
+    static double toMillis(final long nanos) {
+        return Math.round(nanos / 1000.0) / 1000.0;
+    }
+}
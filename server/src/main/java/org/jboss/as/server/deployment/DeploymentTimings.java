@@ -0,0 +1,139 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.deployment;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The time spent in each phase of a deployment unit, and by each deployment unit processor of the phases. The times
+ * are recorded by the phase services whether the processors of a phase run one after the other or concurrently, see
+ * {@link Attachments#DEPLOYMENT_TIMINGS}. A phase which runs again replaces the times recorded by its previous run, so
+ * there is at most one time per phase and per processor.
+ * <p>
+ * This class is thread safe.
+ */
+public final class DeploymentTimings {
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final AtomicLongArray phaseTimes = new AtomicLongArray(PHASES.length);
+    @SuppressWarnings("unchecked")
+    private final Map<RegisteredDeploymentUnitProcessor, ProcessorTime>[] processorTimes = new Map[PHASES.length];
+    private final AtomicLong completions = new AtomicLong();
+
+    DeploymentTimings() {
+        for (int i = 0; i < PHASES.length; i++) {
+            phaseTimes.set(i, -1L);
+            processorTimes[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Discard the times recorded by a previous run of a phase which is about to run again.
+     *
+     * @param phase the phase
+     */
+    void startPhase(final Phase phase) {
+        phaseTimes.set(phase.ordinal(), -1L);
+        processorTimes[phase.ordinal()].clear();
+    }
+
+    void recordPhase(final Phase phase, final long nanos) {
+        phaseTimes.set(phase.ordinal(), nanos);
+    }
+
+    void recordProcessor(final Phase phase, final RegisteredDeploymentUnitProcessor processor, final long nanos) {
+        processorTimes[phase.ordinal()].put(processor, new ProcessorTime(phase, processor, nanos, completions.getAndIncrement()));
+    }
+
+    /**
+     * Get the time spent running the processors of each phase which has completed.
+     *
+     * @return the times in nanoseconds, by phase
+     */
+    public Map<Phase, Long> getPhaseTimes() {
+        final Map<Phase, Long> times = new EnumMap<>(Phase.class);
+        for (Phase phase : PHASES) {
+            final long time = phaseTimes.get(phase.ordinal());
+            if (time >= 0) {
+                times.put(phase, time);
+            }
+        }
+        return times;
+    }
+
+    /**
+     * Get the time spent by each processor which has run, in the order in which the processors completed.
+     *
+     * @return the processor times
+     */
+    public List<ProcessorTime> getProcessorTimes() {
+        final List<ProcessorTime> times = new ArrayList<>();
+        for (Map<RegisteredDeploymentUnitProcessor, ProcessorTime> phaseTimes : processorTimes) {
+            times.addAll(phaseTimes.values());
+        }
+        times.sort(Comparator.comparingLong(time -> time.completion));
+        return times;
+    }
+
+    /**
+     * The time spent by a processor to deploy a deployment unit.
+     */
+    public static final class ProcessorTime {
+        private final Phase phase;
+        private final RegisteredDeploymentUnitProcessor processor;
+        private final long time;
+        private final long completion;
+
+        ProcessorTime(final Phase phase, final RegisteredDeploymentUnitProcessor processor, final long time, final long completion) {
+            this.phase = phase;
+            this.processor = processor;
+            this.time = time;
+            this.completion = completion;
+        }
+
+        public Phase getPhase() {
+            return phase;
+        }
+
+        public RegisteredDeploymentUnitProcessor getProcessor() {
+            return processor;
+        }
+
+        /**
+         * Get the time spent in {@link DeploymentUnitProcessor#deploy(DeploymentPhaseContext)}.
+         *
+         * @return the time in nanoseconds
+         */
+        public long getTime() {
+            return time;
+        }
+    }
+}
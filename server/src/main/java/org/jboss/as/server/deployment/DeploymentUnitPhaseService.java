@@ -22,12 +22,15 @@
 
 package org.jboss.as.server.deployment;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
@@ -59,6 +62,9 @@ import org.jboss.msc.value.InjectedValue;
  */
 final class DeploymentUnitPhaseService<T> implements Service<T> {
 
+    /** The maximum number of processors of a phase which are run concurrently */
+    private static final int MAX_CONCURRENT_PROCESSORS = Runtime.getRuntime().availableProcessors();
+
     private final InjectedValue<DeployerChains> deployerChainsInjector = new InjectedValue<DeployerChains>();
     private final DeploymentUnit deploymentUnit;
     private final Phase phase;
@@ -123,7 +129,8 @@ final class DeploymentUnitPhaseService<T> implements Service<T> {
         final ServiceTarget serviceTarget = context.getChildTarget().subTarget();
         final DeploymentUnit parent = deploymentUnit.getParent();
 
-        final List<DeploymentUnitPhaseDependency> dependencies = new LinkedList<>();
+        // processors of the phase may be run concurrently
+        final List<DeploymentUnitPhaseDependency> dependencies = Collections.synchronizedList(new ArrayList<>());
         final DeploymentPhaseContext processorContext = new DeploymentPhaseContextImpl(serviceTarget, new DelegatingServiceRegistry(container), dependencies, deploymentUnit, phase);
 
         // attach any injected values from the last phase
@@ -169,11 +176,24 @@ final class DeploymentUnitPhaseService<T> implements Service<T> {
             }
         }
 
-        while (iterator.hasNext()) {
+        DeploymentTimings timings = deploymentUnit.getAttachment(Attachments.DEPLOYMENT_TIMINGS);
+        if (timings == null) {
+            timings = new DeploymentTimings();
+            deploymentUnit.putAttachment(Attachments.DEPLOYMENT_TIMINGS, timings);
+        } else {
+            timings.startPhase(phase);
+        }
+        final long phaseStart = System.nanoTime();
+        final DeployerChains.ProcessorGraph graph = chains.getGraph(phase);
+        final Executor executor = chains.getExecutor();
+        if (graph != null && executor != null && MAX_CONCURRENT_PROCESSORS > 1) {
+            new ConcurrentPhaseExecution(deploymentUnit, phase, list, graph, processorContext, chains.getStatistics(), timings,
+                    MAX_CONCURRENT_PROCESSORS).execute(executor);
+        } else while (iterator.hasNext()) {
             final RegisteredDeploymentUnitProcessor processor = iterator.next();
             try {
                 if (shouldRun(deploymentUnit, processor)) {
-                    processor.getProcessor().deploy(processorContext);
+                    deploy(phase, processor, processorContext, chains.getStatistics(), timings);
                 }
             } catch (Throwable e) {
                 while (iterator.hasPrevious()) {
@@ -183,6 +203,9 @@ final class DeploymentUnitPhaseService<T> implements Service<T> {
                 throw ServerLogger.ROOT_LOGGER.deploymentPhaseFailed(phase, deploymentUnit, e);
             }
         }
+        final long phaseTime = System.nanoTime() - phaseStart;
+        timings.recordPhase(phase, phaseTime);
+        chains.getStatistics().recordPhase(phase, phaseTime);
 
         final Phase nextPhase = phase.next();
         if (nextPhase != null) {
@@ -239,6 +262,18 @@ final class DeploymentUnitPhaseService<T> implements Service<T> {
         }
     }
 
+    private static void deploy(final Phase phase, final RegisteredDeploymentUnitProcessor processor, final DeploymentPhaseContext processorContext,
+                               final DeploymentProcessingStatistics statistics, final DeploymentTimings timings) throws DeploymentUnitProcessingException {
+        final long start = System.nanoTime();
+        try {
+            processor.getProcessor().deploy(processorContext);
+        } finally {
+            final long time = System.nanoTime() - start;
+            timings.recordProcessor(phase, processor, time);
+            statistics.recordProcessor(phase, processor, time);
+        }
+    }
+
     private static void safeUndeploy(final DeploymentUnit deploymentUnit, final Phase phase, final RegisteredDeploymentUnitProcessor prev) {
         try {
             if (shouldRun(deploymentUnit, prev)) {
@@ -269,4 +304,153 @@ final class DeploymentUnitPhaseService<T> implements Service<T> {
         }
         return !shouldNotRun.contains(deployer.getSubsystemName());
     }
+
+    /**
+     * Runs the processors of a phase following their dependency graph. The phase service thread runs processors as well,
+     * and helper tasks submitted to the executor run the processors which may run concurrently with them.
+     */
+    static final class ConcurrentPhaseExecution implements Runnable {
+        private final DeploymentUnit deploymentUnit;
+        private final Phase phase;
+        private final List<RegisteredDeploymentUnitProcessor> chain;
+        private final DeployerChains.ProcessorGraph graph;
+        private final DeploymentPhaseContext processorContext;
+        private final DeploymentProcessingStatistics statistics;
+        private final DeploymentTimings timings;
+        private final int maxConcurrentProcessors;
+        // all the following are protected by this
+        private final int[] remainingPredecessors;
+        private final boolean[] started;
+        private final ArrayDeque<Integer> ready = new ArrayDeque<>();
+        private int completed;
+        private int running;
+        private Throwable failure;
+
+        ConcurrentPhaseExecution(final DeploymentUnit deploymentUnit, final Phase phase,
+                                 final List<RegisteredDeploymentUnitProcessor> chain, final DeployerChains.ProcessorGraph graph,
+                                 final DeploymentPhaseContext processorContext, final DeploymentProcessingStatistics statistics,
+                                 final DeploymentTimings timings, final int maxConcurrentProcessors) {
+            this.deploymentUnit = deploymentUnit;
+            this.phase = phase;
+            this.chain = chain;
+            this.graph = graph;
+            this.processorContext = processorContext;
+            this.statistics = statistics;
+            this.timings = timings;
+            this.maxConcurrentProcessors = maxConcurrentProcessors;
+            remainingPredecessors = new int[graph.size()];
+            started = new boolean[graph.size()];
+            for (int i = 0; i < graph.size(); i++) {
+                remainingPredecessors[i] = graph.getPredecessorCount(i);
+                if (remainingPredecessors[i] == 0) {
+                    ready.add(i);
+                }
+            }
+        }
+
+        void execute(final Executor executor) throws StartException {
+            final int helpers = Math.min(graph.size(), maxConcurrentProcessors) - 1;
+            for (int i = 0; i < helpers; i++) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    // the phase service thread runs the processors on its own
+                    break;
+                }
+            }
+            run();
+            final Throwable failure;
+            synchronized (this) {
+                boolean interrupted = false;
+                while (running > 0) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+                failure = this.failure;
+            }
+            if (failure != null) {
+                // undeploy the started processors, including the failed ones, in the reverse order of the chain
+                for (int i = chain.size() - 1; i >= 0; i--) {
+                    if (started[i]) {
+                        safeUndeploy(deploymentUnit, phase, chain.get(i));
+                    }
+                }
+                throw ServerLogger.ROOT_LOGGER.deploymentPhaseFailed(phase, deploymentUnit, failure);
+            }
+        }
+
+        @Override
+        public void run() {
+            boolean interrupted = false;
+            try {
+                while (runNext()) {
+                    if (Thread.interrupted()) {
+                        interrupted = true;
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        /**
+         * Runs the next processor whose dependencies are satisfied, waiting for one if needed.
+         *
+         * @return {@code false} if all the processors have completed or one has failed
+         */
+        private boolean runNext() {
+            final int next;
+            synchronized (this) {
+                while (ready.isEmpty() && failure == null && completed < graph.size()) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        // processors which have started are always waited for
+                        Thread.currentThread().interrupt();
+                        return true;
+                    }
+                }
+                if (failure != null || ready.isEmpty()) {
+                    return false;
+                }
+                next = ready.poll();
+                started[next] = true;
+                running++;
+            }
+            Throwable error = null;
+            final RegisteredDeploymentUnitProcessor processor = chain.get(next);
+            try {
+                if (shouldRun(deploymentUnit, processor)) {
+                    deploy(phase, processor, processorContext, statistics, timings);
+                }
+            } catch (Throwable e) {
+                error = e;
+            }
+            synchronized (this) {
+                running--;
+                completed++;
+                if (error != null) {
+                    if (failure == null) {
+                        failure = error;
+                    }
+                } else {
+                    for (int successor : graph.getSuccessors(next)) {
+                        if (--remainingPredecessors[successor] == 0) {
+                            ready.add(successor);
+                        }
+                    }
+                }
+                notifyAll();
+                return failure == null;
+            }
+        }
+    }
 }
@@ -22,6 +22,8 @@
 
 package org.jboss.as.server.deployment;
 
+import java.util.Set;
+
 /**
  * A deployment processor.  Instances of this interface represent a step in the deployer chain.  They may perform
  * a variety of tasks, including (but not limited to):
@@ -59,4 +61,34 @@ public interface DeploymentUnitProcessor {
      * @param context the deployment unit context
      */
     void undeploy(DeploymentUnit context);
+
+    /**
+     * Get the keys of the attachments, of the deployment unit, the phase context or the resource roots, which
+     * {@code deploy()} reads. Attachments whose value is modified rather than only read must be returned by
+     * {@link #getWrittenAttachments()} instead. The markers which are checked through marker classes count as
+     * attachments too, such as {@link SubDeploymentMarker#SUB_DEPLOYMENT_ROOT_MARKER} or
+     * {@link org.jboss.as.server.deployment.module.ModuleRootMarker#MODULE_ROOT_MARKER}. A processor which reads an
+     * attachment whose key it cannot declare must not declare its attachments.
+     * <p>
+     * A processor which declares both the attachments it reads and the attachments it writes may be run concurrently
+     * with the other such processors of the same phase which neither write the attachments it reads or writes nor read
+     * the attachments it writes. A processor which does not declare them is run after all the previous processors of
+     * its phase have completed and before any of the following ones is started.
+     *
+     * @return the keys of the read attachments, or {@code null} if they are not known
+     */
+    default Set<AttachmentKey<?>> getReadAttachments() {
+        return null;
+    }
+
+    /**
+     * Get the keys of the attachments, of the deployment unit, the phase context or the resource roots, which
+     * {@code deploy()} puts, removes, adds to, or whose value it modifies.
+     *
+     * @return the keys of the written attachments, or {@code null} if they are not known
+     * @see #getReadAttachments()
+     */
+    default Set<AttachmentKey<?>> getWrittenAttachments() {
+        return null;
+    }
 }
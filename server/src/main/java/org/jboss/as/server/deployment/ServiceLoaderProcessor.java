@@ -28,9 +28,13 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.jboss.as.server.logging.ServerLogger;
 import org.jboss.as.server.deployment.module.ModuleRootMarker;
@@ -45,6 +49,12 @@ import org.jboss.vfs.VirtualFile;
  */
 public final class ServiceLoaderProcessor implements DeploymentUnitProcessor {
 
+    private static final Set<AttachmentKey<?>> READ_ATTACHMENTS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            Attachments.DEPLOYMENT_ROOT, Attachments.RESOURCE_ROOTS, SubDeploymentMarker.SUB_DEPLOYMENT_ROOT_MARKER,
+            ModuleRootMarker.MODULE_ROOT_MARKER)));
+    private static final Set<AttachmentKey<?>> WRITTEN_ATTACHMENTS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            Attachments.SERVICES)));
+
     /**
      * {@inheritDoc}
      */
@@ -105,4 +115,14 @@ public final class ServiceLoaderProcessor implements DeploymentUnitProcessor {
     public void undeploy(final DeploymentUnit context) {
         context.removeAttachment(Attachments.SERVICES);
     }
+
+    @Override
+    public Set<AttachmentKey<?>> getReadAttachments() {
+        return READ_ATTACHMENTS;
+    }
+
+    @Override
+    public Set<AttachmentKey<?>> getWrittenAttachments() {
+        return WRITTEN_ATTACHMENTS;
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.deployment.annotation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.jboss.as.server.deployment.internal.IndexFileStore;
+import org.jboss.as.server.logging.ServerLogger;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.vfs.VirtualFile;
+
+/**
+ * Persistent cache of the annotation indexes generated for resource roots, so that unchanged resource roots are not
+ * scanned again when they are deployed after a restart.
+ * <p>
+ * The indexes are kept in an {@link IndexFileStore}, keyed by the path of the resource root, the ignored paths, and
+ * the path and content of each indexed class file. A changed class therefore gets a new key, and the index is
+ * generated again, even if it has the same size and timestamp as before, as is the case with reproducible builds.
+ * Hashing the class files is much cheaper than indexing them.
+ */
+class AnnotationIndexCache {
+
+    private final IndexFileStore store;
+
+    AnnotationIndexCache(final Path directory) {
+        this.store = new IndexFileStore(directory);
+    }
+
+    /**
+     * Creates the key of the index of a resource root.
+     *
+     * @param root the resource root
+     * @param classFiles the class files to index
+     * @param indexIgnorePaths the paths which are not indexed, or {@code null}
+     * @return the key
+     * @throws IOException if a class file cannot be read
+     */
+    static String createKey(final VirtualFile root, final List<VirtualFile> classFiles, final Collection<String> indexIgnorePaths) throws IOException {
+        final IndexFileStore.KeyBuilder key = IndexFileStore.keyBuilder();
+        key.add(root.getPathName());
+        if (indexIgnorePaths != null) {
+            for (String path : new TreeSet<>(indexIgnorePaths)) {
+                key.add(path);
+            }
+        }
+        // The order of the children of a directory depends on the file system
+        final List<VirtualFile> sorted = new ArrayList<>(classFiles);
+        sorted.sort(Comparator.comparing(VirtualFile::getPathName));
+        for (VirtualFile classFile : sorted) {
+            key.add(classFile.getPathNameRelativeTo(root));
+            try (InputStream in = classFile.openStream()) {
+                key.addContent(in);
+            }
+        }
+        return key.build();
+    }
+
+    /**
+     * Reads a cached index.
+     *
+     * @param key the key of the index
+     * @return the index, or {@code null} if it is not cached or cannot be read
+     */
+    Index read(final String key) {
+        try {
+            return store.read(key, in -> new IndexReader(in).read());
+        } catch (Exception e) {
+            ServerLogger.DEPLOYMENT_LOGGER.cannotLoadAnnotationIndex(store.getFile(key).toString(), e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Stores an index. Failures are only logged, as the index can be generated again.
+     *
+     * @param key the key of the index
+     * @param index the index
+     */
+    void write(final String key, final Index index) {
+        try {
+            store.write(key, out -> new IndexWriter(out).write(index));
+        } catch (IOException e) {
+            ServerLogger.DEPLOYMENT_LOGGER.debugf(e, "Could not store annotation index %s", store.getFile(key));
+        }
+    }
+}
@@ -22,12 +22,25 @@
 
 package org.jboss.as.server.deployment.annotation;
 
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jboss.as.server.deployment.Attachments;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.as.server.deployment.DeploymentUnitProcessor;
 import org.jboss.as.server.deployment.DeploymentUtils;
 import org.jboss.as.server.deployment.module.ResourceRoot;
+import org.jboss.as.server.logging.ServerLogger;
 
 /**
  * Deployment unit processor responsible for creating and attaching an annotation index for a resource root
@@ -37,6 +50,27 @@ import org.jboss.as.server.deployment.module.ResourceRoot;
  */
 public class AnnotationIndexProcessor implements DeploymentUnitProcessor {
 
+    /** The maximum number of resource roots of a deployment indexed concurrently */
+    private static final int MAX_CONCURRENT_ROOTS = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+    private final AnnotationIndexCache cache;
+    private final Executor executor;
+
+    public AnnotationIndexProcessor() {
+        this(null, null);
+    }
+
+    /**
+     * Creates a processor indexing the resource roots of a deployment concurrently, and storing the generated indexes.
+     *
+     * @param cacheDirectory the directory where the generated indexes are stored, or {@code null} if they are not stored
+     * @param executor the executor used to index the resource roots, or {@code null} to index them serially
+     */
+    public AnnotationIndexProcessor(final Path cacheDirectory, final Executor executor) {
+        this.cache = cacheDirectory != null ? new AnnotationIndexCache(cacheDirectory) : null;
+        this.executor = executor;
+    }
+
     /**
      * Process this deployment for annotations.  This will use an annotation indexer to create an index of all annotations
      * found in this deployment and attach it to the deployment unit context.
@@ -47,8 +81,59 @@ public class AnnotationIndexProcessor implements DeploymentUnitProcessor {
      */
     public void deploy(DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
         final DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
+        final Set<ResourceRoot> resourceRoots = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Queue<ResourceRoot> queue = new ConcurrentLinkedQueue<>();
         for (ResourceRoot resourceRoot : DeploymentUtils.allResourceRoots(deploymentUnit)) {
-            ResourceRootIndexer.indexResourceRoot(resourceRoot);
+            if (resourceRoots.add(resourceRoot) && resourceRoot.getAttachment(Attachments.ANNOTATION_INDEX) == null) {
+                queue.add(resourceRoot);
+            }
+        }
+        final int helpers = executor == null ? 0 : Math.min(queue.size(), MAX_CONCURRENT_ROOTS) - 1;
+        if (helpers <= 0) {
+            for (ResourceRoot resourceRoot : queue) {
+                ResourceRootIndexer.indexResourceRoot(resourceRoot, cache);
+            }
+            return;
+        }
+
+        // The helpers and this thread take the roots from the same queue, so the roots not taken by a helper, e.g.
+        // because the executor is busy, are indexed by this thread
+        final CountDownLatch done = new CountDownLatch(queue.size());
+        final AtomicReference<DeploymentUnitProcessingException> failure = new AtomicReference<>();
+        final Runnable task = () -> indexQueuedRoots(queue, done, failure);
+        for (int i = 0; i < helpers; i++) {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+        task.run();
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ServerLogger.ROOT_LOGGER.deploymentIndexingFailed(e);
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    private void indexQueuedRoots(final Queue<ResourceRoot> queue, final CountDownLatch done, final AtomicReference<DeploymentUnitProcessingException> failure) {
+        ResourceRoot resourceRoot;
+        while ((resourceRoot = queue.poll()) != null) {
+            try {
+                if (failure.get() == null) {
+                    ResourceRootIndexer.indexResourceRoot(resourceRoot, cache);
+                }
+            } catch (DeploymentUnitProcessingException e) {
+                failure.compareAndSet(null, e);
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, ServerLogger.ROOT_LOGGER.deploymentIndexingFailed(e));
+            } finally {
+                done.countDown();
+            }
         }
     }
 
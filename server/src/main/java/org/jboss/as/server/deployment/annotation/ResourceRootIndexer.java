@@ -22,6 +22,7 @@
 
 package org.jboss.as.server.deployment.annotation;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashSet;
 import java.util.List;
@@ -50,6 +51,17 @@ public class ResourceRootIndexer {
      * Creates and attaches the annotation index to a resource root, if it has not already been attached
      */
     public static void indexResourceRoot(final ResourceRoot resourceRoot) throws DeploymentUnitProcessingException {
+        indexResourceRoot(resourceRoot, null);
+    }
+
+    /**
+     * Creates and attaches the annotation index to a resource root, if it has not already been attached. The index is
+     * read from the cache if the classes of the resource root have not changed since it was stored.
+     *
+     * @param resourceRoot the resource root
+     * @param cache the cache of the generated indexes, or {@code null} if they are not cached
+     */
+    static void indexResourceRoot(final ResourceRoot resourceRoot, final AnnotationIndexCache cache) throws DeploymentUnitProcessingException {
         if (resourceRoot.getAttachment(Attachments.ANNOTATION_INDEX) != null) {
             return;
         }
@@ -92,6 +104,23 @@ public class ResourceRootIndexer {
             });
 
             final List<VirtualFile> classChildren = virtualFile.getChildren(new SuffixMatchFilter(".class", visitorAttributes));
+            String cacheKey = null;
+            if (cache != null) {
+                try {
+                    cacheKey = AnnotationIndexCache.createKey(virtualFile, classChildren, indexIgnorePaths);
+                } catch (IOException e) {
+                    // The unreadable class is reported when indexing it
+                    ServerLogger.DEPLOYMENT_LOGGER.debugf(e, "Could not create the cache key of the index of %s", virtualFile);
+                }
+            }
+            if (cacheKey != null) {
+                final Index cached = cache.read(cacheKey);
+                if (cached != null) {
+                    resourceRoot.putAttachment(Attachments.ANNOTATION_INDEX, cached);
+                    ServerLogger.DEPLOYMENT_LOGGER.tracef("Read cached index for archive %s", virtualFile);
+                    return;
+                }
+            }
             for (VirtualFile classFile : classChildren) {
                 InputStream inputStream = null;
                 try {
@@ -104,6 +133,9 @@ public class ResourceRootIndexer {
                 }
             }
             final Index index = indexer.complete();
+            if (cacheKey != null) {
+                cache.write(cacheKey, index);
+            }
             resourceRoot.putAttachment(Attachments.ANNOTATION_INDEX, index);
             ServerLogger.DEPLOYMENT_LOGGER.tracef("Generated index for archive %s", virtualFile);
         } catch (Throwable t) {
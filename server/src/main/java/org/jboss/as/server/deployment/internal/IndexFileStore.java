@@ -0,0 +1,235 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.server.deployment.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.jboss.as.controller.HashUtil;
+
+/**
+ * Directory of files holding the indexes generated for deployment content, so that content which is deployed again,
+ * e.g. after a restart, is not indexed again.
+ * <p>
+ * The indexes are keyed by a SHA-1 hash of the content they were generated from, created with a {@link KeyBuilder}.
+ * They are written to a temporary file which is then moved into place, so that concurrent deployments of the same
+ * content can write the same index. Reading an index updates the modification time of its file, and the least
+ * recently used indexes are deleted once the directory holds more than {@link #MAX_INDEXES} of them. The store counts
+ * the indexes it adds, so the directory is only listed when it is first written to and when the count passes the
+ * limit.
+ * <p>
+ * This class is an implementation detail of the deployment index caches, and is not part of the public API.
+ */
+public final class IndexFileStore {
+
+    public static final int MAX_INDEXES = 1000;
+    private static final String SUFFIX = ".idx";
+
+    /**
+     * Reads an index from its file.
+     *
+     * @param <T> the type of the index
+     */
+    @FunctionalInterface
+    public interface IndexReader<T> {
+        T read(InputStream in) throws IOException;
+    }
+
+    /**
+     * Writes an index to its file.
+     */
+    @FunctionalInterface
+    public interface IndexWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    private final Path directory;
+    /** The number of indexes in the directory, or -1 before it is first listed */
+    private final AtomicInteger count = new AtomicInteger(-1);
+
+    public IndexFileStore(final Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Creates a builder of the key of an index.
+     *
+     * @return the key builder
+     */
+    public static KeyBuilder keyBuilder() {
+        return new KeyBuilder();
+    }
+
+    /**
+     * Gets the file of an index.
+     *
+     * @param key the key of the index
+     * @return the file, which may not exist
+     */
+    public Path getFile(final String key) {
+        return directory.resolve(key + SUFFIX);
+    }
+
+    /**
+     * Reads a stored index.
+     *
+     * @param key the key of the index
+     * @param reader the reader of the index
+     * @param <T> the type of the index
+     * @return the index, or {@code null} if it is not stored
+     * @throws IOException if the index cannot be read
+     */
+    public <T> T read(final String key, final IndexReader<T> reader) throws IOException {
+        final Path file = getFile(key);
+        try (InputStream in = Files.newInputStream(file)) {
+            final T index = reader.read(in);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return index;
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stores an index, replacing any index stored with the same key.
+     *
+     * @param key the key of the index
+     * @param writer the writer of the index
+     * @throws IOException if the index cannot be stored
+     */
+    public void write(final String key, final IndexWriter writer) throws IOException {
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, key, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                writer.write(out);
+            }
+            final Path file = getFile(key);
+            final boolean added = !Files.exists(file);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            tmp = null;
+            if (count.get() < 0 || (added && count.incrementAndGet() > MAX_INDEXES)) {
+                trim();
+            }
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                    // ignored
+                }
+            }
+        }
+    }
+
+    /**
+     * Lists the indexes, deletes the least recently used ones above the limit, and resets the count. The count can be
+     * off when concurrent writes store the same index or the directory is changed by others, which the listing fixes.
+     */
+    private synchronized void trim() throws IOException {
+        final List<Path> indexes = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> path.getFileName().toString().endsWith(SUFFIX)).forEach(indexes::add);
+        }
+        if (indexes.size() > MAX_INDEXES) {
+            indexes.sort(Comparator.comparing(IndexFileStore::getLastModifiedTime));
+            for (Path index : indexes.subList(0, indexes.size() - MAX_INDEXES)) {
+                Files.deleteIfExists(index);
+            }
+        }
+        count.set(Math.min(indexes.size(), MAX_INDEXES));
+    }
+
+    private static FileTime getLastModifiedTime(final Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    /**
+     * Builds the key of an index from the values and content it was generated from.
+     */
+    public static final class KeyBuilder {
+
+        private final MessageDigest digest;
+
+        private KeyBuilder() {
+            try {
+                digest = MessageDigest.getInstance("SHA-1");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        public KeyBuilder add(final String value) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            return this;
+        }
+
+        public KeyBuilder add(final long value) {
+            return add(Long.toString(value));
+        }
+
+        /**
+         * Adds the content of a stream, which is read to its end but not closed.
+         *
+         * @param in the content
+         * @return this builder
+         * @throws IOException if the content cannot be read
+         */
+        public KeyBuilder addContent(final InputStream in) throws IOException {
+            final byte[] buffer = new byte[8192];
+            long length = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+                length += read;
+            }
+            // Delimits the content from the next value
+            return add(length);
+        }
+
+        public String build() {
+            return HashUtil.bytesToHexString(digest.digest());
+        }
+    }
+}
@@ -31,11 +31,16 @@ import static java.util.jar.Attributes.Name.SPECIFICATION_VERSION;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.jar.Attributes;
 import java.util.jar.Manifest;
 
 import org.jboss.as.server.logging.ServerLogger;
+import org.jboss.as.server.deployment.AttachmentKey;
 import org.jboss.as.server.deployment.Attachments;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
@@ -52,6 +57,11 @@ import org.jboss.as.server.deployment.Services;
  */
 public final class ManifestExtensionListProcessor implements DeploymentUnitProcessor {
 
+    private static final Set<AttachmentKey<?>> READ_ATTACHMENTS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            Attachments.DEPLOYMENT_ROOT, Attachments.RESOURCE_ROOTS, Attachments.MANIFEST)));
+    private static final Set<AttachmentKey<?>> WRITTEN_ATTACHMENTS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            Attachments.EXTENSION_LIST_ENTRIES, Attachments.NEXT_PHASE_DEPS)));
+
     /** {@inheritDoc} */
     public void deploy(final DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
         final DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
@@ -104,4 +114,14 @@ public final class ManifestExtensionListProcessor implements DeploymentUnitProce
     /** {@inheritDoc} */
     public void undeploy(final DeploymentUnit context) {
     }
+
+    @Override
+    public Set<AttachmentKey<?>> getReadAttachments() {
+        return READ_ATTACHMENTS;
+    }
+
+    @Override
+    public Set<AttachmentKey<?>> getWrittenAttachments() {
+        return WRITTEN_ATTACHMENTS;
+    }
 }
@@ -30,7 +30,11 @@ import org.jboss.as.server.deployment.AttachmentKey;
  *
  */
 public class ModuleRootMarker {
-    private static final AttachmentKey<Boolean> MODULE_ROOT_MARKER = AttachmentKey.create(Boolean.class);
+    /**
+     * The key of the marker, which processors reading or writing the marker declare, see
+     * {@link org.jboss.as.server.deployment.DeploymentUnitProcessor#getReadAttachments()}.
+     */
+    public static final AttachmentKey<Boolean> MODULE_ROOT_MARKER = AttachmentKey.create(Boolean.class);
 
     public static void mark(ResourceRoot attachable) {
         attachable.putAttachment(MODULE_ROOT_MARKER, true);
@@ -22,7 +22,9 @@
 
 package org.jboss.as.server.deployment.module;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.security.Permission;
 import java.security.Permissions;
 import java.util.ArrayList;
@@ -30,13 +32,17 @@ import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.PropertyPermission;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.as.server.deployment.Attachments;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.as.server.deployment.DeploymentUnitProcessor;
+import org.jboss.as.server.deployment.DeploymentUtils;
+import org.jboss.as.server.deployment.MountedDeploymentOverlay;
 import org.jboss.as.server.deployment.SubDeploymentMarker;
 import org.jboss.as.server.logging.ServerLogger;
 import org.jboss.as.server.moduleservice.ModuleDefinition;
@@ -75,6 +81,22 @@ public class ModuleSpecProcessor implements DeploymentUnitProcessor {
 
     private static final ServerLogger logger = ServerLogger.DEPLOYMENT_LOGGER;
 
+    private final VFSResourceIndexCache resourceIndexCache;
+
+    public ModuleSpecProcessor() {
+        this(null);
+    }
+
+    /**
+     * Construct a new instance which stores the indexes of the paths of mounted archives, so that they are not walked
+     * again when the same content is deployed.
+     *
+     * @param resourceIndexDirectory the directory in which the indexes are stored, or {@code null} not to store them
+     */
+    public ModuleSpecProcessor(final Path resourceIndexDirectory) {
+        this.resourceIndexCache = resourceIndexDirectory == null ? null : new VFSResourceIndexCache(resourceIndexDirectory);
+    }
+
     @Override
     public void deploy(final DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
         final DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
@@ -231,7 +253,7 @@ public class ModuleSpecProcessor implements DeploymentUnitProcessor {
 
         for (final ResourceRoot resourceRoot : resourceRoots) {
             logger.debugf("Adding resource %s to module %s", resourceRoot.getRoot(), moduleIdentifier);
-            addResourceRoot(specBuilder, resourceRoot, permFactories);
+            addResourceRoot(deploymentUnit, specBuilder, resourceRoot, permFactories);
         }
 
         createDependencies(specBuilder, dependencies, false);
@@ -352,20 +374,20 @@ public class ModuleSpecProcessor implements DeploymentUnitProcessor {
         }
     }
 
-    private void addResourceRoot(final ModuleSpec.Builder specBuilder, final ResourceRoot resource, final List<PermissionFactory> permFactories)
-            throws DeploymentUnitProcessingException {
+    private void addResourceRoot(final DeploymentUnit deploymentUnit, final ModuleSpec.Builder specBuilder, final ResourceRoot resource,
+            final List<PermissionFactory> permFactories) throws DeploymentUnitProcessingException {
         try {
             final VirtualFile root = resource.getRoot();
+            final VFSResourceLoader loader = new VFSResourceLoader(resource.getRootName(), root, resource.isUsePhysicalCodeSource(),
+                    getResourceIndex(deploymentUnit, resource));
             if (resource.getExportFilters().isEmpty()) {
-                specBuilder.addResourceRoot(ResourceLoaderSpec.createResourceLoaderSpec(new VFSResourceLoader(resource
-                        .getRootName(), root, resource.isUsePhysicalCodeSource())));
+                specBuilder.addResourceRoot(ResourceLoaderSpec.createResourceLoaderSpec(loader));
             } else {
                 final MultiplePathFilterBuilder filterBuilder = PathFilters.multiplePathFilterBuilder(true);
                 for (final FilterSpecification filter : resource.getExportFilters()) {
                     filterBuilder.addFilter(filter.getPathFilter(), filter.isInclude());
                 }
-                specBuilder.addResourceRoot(ResourceLoaderSpec.createResourceLoaderSpec(new VFSResourceLoader(resource
-                        .getRootName(), root, resource.isUsePhysicalCodeSource()), filterBuilder.create()));
+                specBuilder.addResourceRoot(ResourceLoaderSpec.createResourceLoaderSpec(loader, filterBuilder.create()));
             }
             // start with the root
             permFactories.add(new ImmediatePermissionFactory(
@@ -378,4 +400,45 @@ public class ModuleSpecProcessor implements DeploymentUnitProcessor {
         }
     }
 
+
+    /**
+     * Gets the index of the paths of a resource root mounted from an archive, which cannot change while it is deployed.
+     * Other roots, e.g. exploded deployments, are not indexed, and their loaders look up the file system.
+     */
+    private VFSResourceIndex getResourceIndex(final DeploymentUnit deploymentUnit, final ResourceRoot resource) {
+        if (resourceIndexCache == null || resource.getMountHandle() == null) {
+            return null;
+        }
+        final File mountSource = resource.getMountHandle().getMountSource();
+        if (mountSource == null || !mountSource.isFile()) {
+            return null;
+        }
+        final VirtualFile root = resource.getRoot();
+        final List<String> overlayPaths = new ArrayList<>();
+        final Map<String, MountedDeploymentOverlay> overlays = DeploymentUtils.getTopDeploymentUnit(deploymentUnit).getAttachment(Attachments.DEPLOYMENT_OVERLAY_LOCATIONS);
+        if (overlays != null) {
+            overlayPaths.addAll(overlays.keySet());
+        }
+        final String key;
+        try {
+            key = VFSResourceIndexCache.createKey(root, mountSource, overlayPaths);
+        } catch (IOException e) {
+            logger.debugf(e, "Could not read the entries of %s", mountSource);
+            return null;
+        }
+        VFSResourceIndex index = resourceIndexCache.read(key);
+        if (index == null) {
+            final long start = System.nanoTime();
+            try {
+                index = VFSResourceIndex.create(root);
+            } catch (IOException e) {
+                logger.debugf(e, "Could not index resource root %s", root);
+                return null;
+            }
+            logger.debugf("Indexed resource root %s (%d entries) in %d ms", root, index.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            resourceIndexCache.write(key, index);
+        }
+        return index;
+    }
 }
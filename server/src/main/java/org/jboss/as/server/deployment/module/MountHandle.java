@@ -23,6 +23,7 @@
 package org.jboss.as.server.deployment.module;
 
 import java.io.Closeable;
+import java.io.File;
 
 import org.jboss.vfs.VFSUtils;
 import org.wildfly.common.ref.CleanerReference;
@@ -72,6 +73,15 @@ public class MountHandle implements Closeable {
         this.handle = handle;
     }
 
+    /**
+     * Get the file mounted by this handle.
+     *
+     * @return the mounted file, or {@code null} if nothing was mounted or the source is unknown
+     */
+    File getMountSource() {
+        return handle == null ? null : VFSUtils.getMountSource(handle);
+    }
+
     /**
      * Forcefully close this handle. Use with caution.
      */
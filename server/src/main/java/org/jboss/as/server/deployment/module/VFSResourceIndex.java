@@ -0,0 +1,135 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.deployment.module;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.vfs.VirtualFile;
+
+/**
+ * Index of the directories and entries of a resource root which does not change while it is deployed, such as a
+ * mounted archive. It lets a {@link VFSResourceLoader} list the paths of the root and look up its resources without
+ * walking or probing the virtual file system.
+ */
+final class VFSResourceIndex {
+
+    private static final int VERSION = 1;
+
+    private final List<String> paths;
+    private final Set<String> entries;
+
+    private VFSResourceIndex(final List<String> paths, final Set<String> entries) {
+        this.paths = paths;
+        this.entries = entries;
+    }
+
+    /**
+     * Indexes a resource root.
+     *
+     * @param root the resource root
+     * @return the index
+     * @throws IOException if the root cannot be visited
+     */
+    static VFSResourceIndex create(final VirtualFile root) throws IOException {
+        final List<String> paths = new ArrayList<>();
+        final Set<String> entries = new HashSet<>();
+        paths.add("");
+        for (VirtualFile child : root.getChildrenRecursively()) {
+            final String path = child.getPathNameRelativeTo(root);
+            if (child.isDirectory()) {
+                paths.add(path);
+            }
+            entries.add(path);
+        }
+        return new VFSResourceIndex(Collections.unmodifiableList(paths), entries);
+    }
+
+    /**
+     * Get the directories of the root, including the root itself as the empty path.
+     *
+     * @return the directories
+     */
+    Collection<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * Determine whether the root has an entry, file or directory, with the given canonical path.
+     *
+     * @param path the path relative to the root, leading and trailing slashes being ignored
+     * @return {@code true} if the entry exists
+     */
+    boolean contains(final String path) {
+        int start = 0;
+        int end = path.length();
+        while (start < end && path.charAt(start) == '/') {
+            start++;
+        }
+        while (end > start && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return start == end || entries.contains(path.substring(start, end));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    void writeTo(final DataOutput output) throws IOException {
+        output.writeInt(VERSION);
+        output.writeInt(paths.size());
+        for (String path : paths) {
+            output.writeUTF(path);
+        }
+        output.writeInt(entries.size());
+        for (String entry : entries) {
+            output.writeUTF(entry);
+        }
+    }
+
+    static VFSResourceIndex readFrom(final DataInput input) throws IOException {
+        final int version = input.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported resource index version " + version);
+        }
+        final int pathCount = input.readInt();
+        final List<String> paths = new ArrayList<>(pathCount);
+        for (int i = 0; i < pathCount; i++) {
+            paths.add(input.readUTF());
+        }
+        final int entryCount = input.readInt();
+        final Set<String> entries = new HashSet<>(entryCount * 4 / 3 + 1);
+        for (int i = 0; i < entryCount; i++) {
+            entries.add(input.readUTF());
+        }
+        return new VFSResourceIndex(Collections.unmodifiableList(paths), entries);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.deployment.module;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.jboss.as.server.deployment.internal.IndexFileStore;
+import org.jboss.as.server.logging.ServerLogger;
+import org.jboss.vfs.VirtualFile;
+
+/**
+ * Persistent cache of the {@link VFSResourceIndex}es of mounted archives, so that an archive which is deployed again,
+ * e.g. after a restart or a redeployment, is not walked again.
+ * <p>
+ * The indexes are kept in an {@link IndexFileStore}, keyed by the name, CRC and size of each entry of the mounted
+ * archive, by the path of the resource root, and by the paths of the overlays of the deployment, which may add entries
+ * to the root. The entries are read from the central directory of the archive, so the key changes with the content of
+ * the archive, and not with its timestamp, without the archive being read as a whole.
+ */
+class VFSResourceIndexCache {
+
+    private final IndexFileStore store;
+
+    VFSResourceIndexCache(final Path directory) {
+        this.store = new IndexFileStore(directory);
+    }
+
+    /**
+     * Creates the key of the index of a resource root.
+     *
+     * @param root the resource root
+     * @param mountSource the archive mounted as the resource root
+     * @param overlayPaths the paths of the overlays of the deployment
+     * @return the key
+     * @throws IOException if the archive cannot be read
+     */
+    static String createKey(final VirtualFile root, final File mountSource, final Collection<String> overlayPaths) throws IOException {
+        final IndexFileStore.KeyBuilder key = IndexFileStore.keyBuilder();
+        try (ZipFile zipFile = new ZipFile(mountSource)) {
+            final Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                final ZipEntry entry = entries.nextElement();
+                key.add(entry.getName()).add(entry.getCrc()).add(entry.getSize());
+            }
+        }
+        key.add(root.getPathName());
+        for (String path : new TreeSet<>(overlayPaths)) {
+            key.add(path);
+        }
+        return key.build();
+    }
+
+    /**
+     * Reads a cached index.
+     *
+     * @param key the key of the index
+     * @return the index, or {@code null} if it is not cached or cannot be read
+     */
+    VFSResourceIndex read(final String key) {
+        try {
+            return store.read(key, in -> VFSResourceIndex.readFrom(new DataInputStream(new BufferedInputStream(in))));
+        } catch (IOException e) {
+            ServerLogger.DEPLOYMENT_LOGGER.debugf(e, "Could not read resource index %s", store.getFile(key));
+            return null;
+        }
+    }
+
+    /**
+     * Stores an index. Failures are only logged, as the index can be created again.
+     *
+     * @param key the key of the index
+     * @param index the index
+     */
+    void write(final String key, final VFSResourceIndex index) {
+        try {
+            store.write(key, out -> {
+                final DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+                index.writeTo(data);
+                data.flush();
+            });
+        } catch (IOException e) {
+            ServerLogger.DEPLOYMENT_LOGGER.debugf(e, "Could not store resource index %s", store.getFile(key));
+        }
+    }
+}
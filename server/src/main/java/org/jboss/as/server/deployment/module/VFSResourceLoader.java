@@ -95,6 +95,7 @@ public class VFSResourceLoader extends AbstractResourceLoader implements Iterabl
     private final Manifest manifest;
     private final URL rootUrl;
     private final boolean multiRelease;
+    private final VFSResourceIndex index;
 
     // protected by {@code this}
     private final Map<CodeSigners, CodeSource> codeSources = new HashMap<>();
@@ -119,6 +120,20 @@ public class VFSResourceLoader extends AbstractResourceLoader implements Iterabl
      * @throws IOException if the manifest could not be read or the root URL is invalid
      */
     public VFSResourceLoader(final String rootName, final VirtualFile root, final boolean usePhysicalCodeSource) throws IOException {
+        this(rootName, root, usePhysicalCodeSource, null);
+    }
+
+    /**
+     * Construct new instance.
+     *
+     * @param rootName The module root name
+     * @param root The root virtual file
+     * @param usePhysicalCodeSource {@code true} to use the physical root URL for code sources, {@code false} to use the VFS URL
+     * @param index the index of the paths and entries of the root, or {@code null} to look them up in the root. An
+     *              index must only be given for a root which cannot change, such as a mounted archive
+     * @throws IOException if the manifest could not be read or the root URL is invalid
+     */
+    VFSResourceLoader(final String rootName, final VirtualFile root, final boolean usePhysicalCodeSource, final VFSResourceIndex index) throws IOException {
         final SecurityManager sm = System.getSecurityManager();
         final boolean checking = WildFlySecurityManager.isChecking();
         if (checking) {
@@ -126,6 +141,7 @@ public class VFSResourceLoader extends AbstractResourceLoader implements Iterabl
         }
         this.root = root;
         this.rootName = rootName;
+        this.index = index;
         try {
             manifest = checking ? doPrivileged(new PrivilegedExceptionAction<Manifest>() {
                 public Manifest run() throws IOException {
@@ -151,13 +167,20 @@ public class VFSResourceLoader extends AbstractResourceLoader implements Iterabl
         VirtualFile file;
         int version = RELEASE;
         if (multiRelease) while (version >= 9) {
-            file = root.getChild(MR_PREFIX + version + "/" + name);
-            if (file.exists()) {
+            file = getExistentChild(MR_PREFIX + version + "/" + name);
+            if (file != null) {
                 return file;
             }
             version --;
         }
-        file = root.getChild(name);
+        return getExistentChild(name);
+    }
+
+    private VirtualFile getExistentChild(final String path) {
+        if (index != null) {
+            return index.contains(path) ? root.getChild(path) : null;
+        }
+        final VirtualFile file = root.getChild(path);
         return file.exists() ? file : null;
     }
 
@@ -283,6 +306,10 @@ public class VFSResourceLoader extends AbstractResourceLoader implements Iterabl
             }
         }
 
+        if (this.index != null) {
+            return this.index.getPaths();
+        }
+
         FilterVirtualFileVisitor visitor = new FilterVirtualFileVisitor(new VirtualFileFilter() {
             @Override
             public boolean accepts(VirtualFile file) {
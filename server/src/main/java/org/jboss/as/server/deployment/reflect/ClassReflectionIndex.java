@@ -22,11 +22,14 @@
 
 package org.jboss.as.server.deployment.reflect;
 
+import org.jboss.as.server.logging.ServerLogger;
 import org.jboss.invocation.proxy.MethodIdentifier;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -44,7 +47,9 @@ import static java.lang.reflect.Modifier.STATIC;
 /**
  * A short-lived index of all the declared fields and methods of a class.
  * <p/>
- * The ClassReflectionIndex is only available during the deployment.
+ * The ClassReflectionIndex is only available during the deployment. The members of the class are indexed on the first
+ * lookup, so a class whose members cannot be resolved, e.g. because a type they refer to cannot be loaded, fails on
+ * that lookup rather than when the index is obtained. The failure is kept and reported again on every later lookup.
  *
  * @param <?> the type being indexed
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
@@ -52,11 +57,21 @@ import static java.lang.reflect.Modifier.STATIC;
 public final class ClassReflectionIndex {
     private final DeploymentReflectionIndex deploymentReflectionIndex;
     private final Class<?> indexedClass;
-    private final Map<String, Field> fields;
-    private final Map<ParamList, Constructor<?>> constructors;
-    private final Map<ParamNameList, Constructor<?>> constructorsByTypeName;
-    private final Map<String, Map<ParamList, Map<Class<?>, Method>>> methods;
-    private final Map<String, Map<ParamNameList, Map<String, Method>>> methodsByTypeName;
+
+    /**
+     * The members of the class, which are only indexed on the first lookup of a field, method or constructor. They are
+     * indexed under the lock of this object, as each call to {@code Class.getDeclared*()} returns new reflective
+     * objects, and all the callers must get the same, canonical, ones.
+     */
+    private volatile Map<String, Field> fields;
+    private volatile Methods methods;
+    private volatile Constructors constructors;
+
+    /**
+     * The cause of the failure to index the members of the class, if any, which is reported again rather than retried
+     * on later lookups. Protected by this.
+     */
+    private Throwable failure;
 
     /**
      * Identity map of all methods defined by this class and its superclasses (including default methods)
@@ -64,47 +79,97 @@ public final class ClassReflectionIndex {
      */
     private volatile Set<Method> classMethods;
 
-    @SuppressWarnings({"unchecked"})
     ClassReflectionIndex(final Class<?> indexedClass, final DeploymentReflectionIndex deploymentReflectionIndex) {
         this.deploymentReflectionIndex = deploymentReflectionIndex;
         this.indexedClass = indexedClass;
-        // -- fields --
-        final Field[] declaredFields = indexedClass.getDeclaredFields();
-        final Map<String, Field> fields = new HashMap<String, Field>();
-        for (Field field : declaredFields) {
-            field.setAccessible(true);
-            fields.put(field.getName(), field);
-        }
-        this.fields = fields;
-        // -- methods --
-        final Method[] declaredMethods = indexedClass.getDeclaredMethods();
-        final Map<String, Map<ParamList, Map<Class<?>, Method>>> methods = new HashMap<String, Map<ParamList, Map<Class<?>, Method>>>();
-        final Map<String, Map<ParamNameList, Map<String, Method>>> methodsByTypeName = new HashMap<String, Map<ParamNameList, Map<String, Method>>>();
-        for (Method method : declaredMethods) {
-            // Ignore setting the accessible flag as Object.class comes from the java.base module in Java 9+. Really the
-            // only method that causes a warning and eventual failure is finalize(), but there's no reason for the
-            // overhead of the change.
-            if (method.getDeclaringClass() != Object.class) {
-                method.setAccessible(true);
+    }
+
+    private Map<String, Field> fields() {
+        Map<String, Field> fields = this.fields;
+        if (fields == null) {
+            synchronized (this) {
+                fields = this.fields;
+                if (fields == null) {
+                    this.fields = fields = index(() -> {
+                        final Field[] declaredFields = indexedClass.getDeclaredFields();
+                        final Map<String, Field> map = new HashMap<String, Field>();
+                        for (Field field : declaredFields) {
+                            field.setAccessible(true);
+                            map.put(field.getName(), field);
+                        }
+                        return map;
+                    });
+                }
             }
-            addMethod(methods, method);
-            addMethodByTypeName(methodsByTypeName, method);
         }
+        return fields;
+    }
 
-        this.methods = methods;
-        this.methodsByTypeName = methodsByTypeName;
-        // -- constructors --
-        final Constructor<?>[] declaredConstructors = (Constructor<?>[]) indexedClass.getDeclaredConstructors();
-        final Map<ParamNameList, Constructor<?>> constructorsByTypeName = new HashMap<ParamNameList, Constructor<?>>();
-        final Map<ParamList, Constructor<?>> constructors = new HashMap<ParamList, Constructor<?>>();
-        for (Constructor<?> constructor : declaredConstructors) {
-            constructor.setAccessible(true);
-            Class<?>[] parameterTypes = constructor.getParameterTypes();
-            constructors.put(createParamList(parameterTypes), constructor);
-            constructorsByTypeName.put(createParamNameList(parameterTypes), constructor);
+    private Methods methods() {
+        Methods methods = this.methods;
+        if (methods == null) {
+            synchronized (this) {
+                methods = this.methods;
+                if (methods == null) {
+                    this.methods = methods = index(() -> {
+                        final Method[] declaredMethods = indexedClass.getDeclaredMethods();
+                        final Methods result = new Methods();
+                        for (Method method : declaredMethods) {
+                            // Ignore setting the accessible flag as Object.class comes from the java.base module in Java 9+. Really the
+                            // only method that causes a warning and eventual failure is finalize(), but there's no reason for the
+                            // overhead of the change.
+                            if (method.getDeclaringClass() != Object.class) {
+                                method.setAccessible(true);
+                            }
+                            addMethod(result.byType, method);
+                            addMethodByTypeName(result.byTypeName, method);
+                        }
+                        return result;
+                    });
+                }
+            }
         }
-        this.constructorsByTypeName = constructorsByTypeName;
-        this.constructors = constructors;
+        return methods;
+    }
+
+    private Constructors constructors() {
+        Constructors constructors = this.constructors;
+        if (constructors == null) {
+            synchronized (this) {
+                constructors = this.constructors;
+                if (constructors == null) {
+                    this.constructors = constructors = index(() -> {
+                        final Constructor<?>[] declaredConstructors = indexedClass.getDeclaredConstructors();
+                        final Constructors result = new Constructors();
+                        for (Constructor<?> constructor : declaredConstructors) {
+                            constructor.setAccessible(true);
+                            Class<?>[] parameterTypes = constructor.getParameterTypes();
+                            result.byType.put(createParamList(parameterTypes), constructor);
+                            result.byTypeName.put(createParamNameList(parameterTypes), constructor);
+                        }
+                        return result;
+                    });
+                }
+            }
+        }
+        return constructors;
+    }
+
+    /**
+     * Indexes members with the permissions of the deployment reflection index, which is how the members were indexed
+     * when the class index was created.
+     */
+    private <T> T index(final PrivilegedAction<T> action) {
+        assert Thread.holdsLock(this);
+        if (failure == null) {
+            try {
+                return System.getSecurityManager() == null ? action.run() : AccessController.doPrivileged(action);
+            } catch (Throwable e) {
+                failure = e;
+            }
+        }
+        // a new exception for each lookup, only the cause is shared
+        throw ServerLogger.ROOT_LOGGER.errorGettingReflectiveInformation(indexedClass, indexedClass.getClassLoader(), failure);
     }
 
     private static final ParamList EMPTY = new ParamList(new Class<?>[0]);
@@ -180,18 +245,20 @@ public final class ClassReflectionIndex {
      *
      * @param name the field name
      * @return the field, or {@code null} if no field of that name exists
+     * @throws RuntimeException if the members of the class cannot be indexed
      */
     public Field getField(String name) {
-        return fields.get(name);
+        return fields().get(name);
     }
 
     /**
      * Get a collection of fields declared on this object.
      *
      * @return The (possibly empty) collection of all declared fields on this object
+     * @throws RuntimeException if the members of the class cannot be indexed
      */
     public Collection<Field> getFields() {
-        return Collections.unmodifiableCollection(fields.values());
+        return Collections.unmodifiableCollection(fields().values());
     }
 
     /**
@@ -201,9 +268,10 @@ public final class ClassReflectionIndex {
      * @param name       the name of the method
      * @param paramTypes the parameter types of the method
      * @return the method, or {@code null} if no method of that description exists
+     * @throws RuntimeException if the members of the class cannot be indexed
      */
     public Method getMethod(Class<?> returnType, String name, Class<?>... paramTypes) {
-        final Map<ParamList, Map<Class<?>, Method>> nameMap = methods.get(name);
+        final Map<ParamList, Map<Class<?>, Method>> nameMap = methods().byType.get(name);
         if (nameMap == null) {
             return null;
         }
@@ -219,6 +287,7 @@ public final class ClassReflectionIndex {
      *
      * @param method the method to look up
      * @return the canonical method object, or {@code null} if no matching method exists
+     * @throws RuntimeException if the members of the class cannot be indexed
      */
     public Method getMethod(Method method) {
         return getMethod(method.getReturnType(), method.getName(), method.getParameterTypes());
@@ -231,9 +300,10 @@ public final class ClassReflectionIndex {
      * @param name           the name of the method
      * @param paramTypeNames the parameter type names of the method
      * @return the method, or {@code null} if no method of that description exists
+     * @throws RuntimeException if the members of the class cannot be indexed
      */
     public Method getMethod(String returnType, String name, String... paramTypeNames) {
-        final Map<ParamNameList, Map<String, Method>> nameMap = methodsByTypeName.get(name);
+        final Map<ParamNameList, Map<String, Method>> nameMap = methods().byTypeName.get(name);
         if (nameMap == null) {
             return null;
         }
@@ -249,9 +319,10 @@ public final class ClassReflectionIndex {
      *
      * @param methodIdentifier the method identifier
      * @return the method, or {@code null} if no method of that description exists
+     * @throws RuntimeException if the members of the class cannot be indexed
      */
     public Method getMethod(MethodIdentifier methodIdentifier) {
-        final Map<ParamNameList, Map<String, Method>> nameMap = methodsByTypeName.get(methodIdentifier.getName());
+        final Map<ParamNameList, Map<String, Method>> nameMap = methods().byTypeName.get(methodIdentifier.getName());
         if (nameMap == null) {
             return null;
         }
@@ -268,9 +339,10 @@ public final class ClassReflectionIndex {
      * @param name       the name of the method
      * @param paramTypes the parameter types of the method
      * @return the (possibly empty) collection of methods matching the description
+     * @throws RuntimeException if the members of the class cannot be indexed
      */
     public Collection<Method> getMethods(String name, Class<?>... paramTypes) {
-        final Map<ParamList, Map<Class<?>, Method>> nameMap = methods.get(name);
+        final Map<ParamList, Map<Class<?>, Method>> nameMap = methods().byType.get(name);
         if (nameMap == null) {
             return Collections.emptySet();
         }
@@ -287,9 +359,10 @@ public final class ClassReflectionIndex {
      * @param name           the name of the method
      * @param paramTypeNames the parameter type names of the method
      * @return the (possibly empty) collection of methods matching the description
+     * @throws RuntimeException if the members of the class cannot be indexed
      */
     public Collection<Method> getMethods(String name, String... paramTypeNames) {
-        final Map<ParamNameList, Map<String, Method>> nameMap = methodsByTypeName.get(name);
+        final Map<ParamNameList, Map<String, Method>> nameMap = methods().byTypeName.get(name);
         if (nameMap == null) {
             return Collections.emptySet();
         }
@@ -305,9 +378,10 @@ public final class ClassReflectionIndex {
      *
      * @param name the name of the method
      * @return the (possibly empty) collection of methods with the given name
+     * @throws RuntimeException if the members of the class cannot be indexed
      */
     public Collection<Method> getAllMethods(String name) {
-        final Map<ParamList, Map<Class<?>, Method>> nameMap = methods.get(name);
+        final Map<ParamList, Map<Class<?>, Method>> nameMap = methods().byType.get(name);
         if (nameMap == null) {
             return Collections.emptySet();
         }
@@ -324,9 +398,10 @@ public final class ClassReflectionIndex {
      * @param name       the name of the method
      * @param paramCount the number of parameters
      * @return the (possibly empty) collection of methods with the given name and parameter count
+     * @throws RuntimeException if the members of the class cannot be indexed
      */
     public Collection<Method> getAllMethods(String name, int paramCount) {
-        final Map<ParamList, Map<Class<?>, Method>> nameMap = methods.get(name);
+        final Map<ParamList, Map<Class<?>, Method>> nameMap = methods().byType.get(name);
         if (nameMap == null) {
             return Collections.emptySet();
         }
@@ -345,10 +420,11 @@ public final class ClassReflectionIndex {
      * Get a collection of methods declared on this object.
      *
      * @return the (possibly empty) collection of all declared methods
+     * @throws RuntimeException if the members of the class cannot be indexed
      */
     public Collection<Method> getMethods() {
         final Collection<Method> methods = new ArrayList<Method>();
-        for (Map.Entry<String, Map<ParamList, Map<Class<?>, Method>>> entry : this.methods.entrySet()) {
+        for (Map.Entry<String, Map<ParamList, Map<Class<?>, Method>>> entry : methods().byType.entrySet()) {
             final Map<ParamList, Map<Class<?>, Method>> nameMap = entry.getValue();
             for (Map<Class<?>, Method> map : nameMap.values()) {
                 methods.addAll(map.values());
@@ -361,9 +437,10 @@ public final class ClassReflectionIndex {
      * Get the full collection of constructors declared on this object.
      *
      * @return the constructors
+     * @throws RuntimeException if the members of the class cannot be indexed
      */
     public Collection<Constructor<?>> getConstructors() {
-        return Collections.unmodifiableCollection(constructors.values());
+        return Collections.unmodifiableCollection(constructors().byType.values());
     }
 
     /**
@@ -371,9 +448,10 @@ public final class ClassReflectionIndex {
      *
      * @param paramTypes the constructor argument types
      * @return the constructor, or {@code null} of no such constructor exists
+     * @throws RuntimeException if the members of the class cannot be indexed
      */
     public Constructor<?> getConstructor(Class<?>... paramTypes) {
-        return constructors.get(createParamList(paramTypes));
+        return constructors().byType.get(createParamList(paramTypes));
     }
 
     /**
@@ -381,9 +459,10 @@ public final class ClassReflectionIndex {
      *
      * @param paramTypeNames the constructor argument type names
      * @return the constructor, or {@code null} of no such constructor exists
+     * @throws RuntimeException if the members of the class cannot be indexed
      */
     public Constructor<?> getConstructor(String... paramTypeNames) {
-        return constructorsByTypeName.get(createParamNameList(paramTypeNames));
+        return constructors().byTypeName.get(createParamNameList(paramTypeNames));
     }
 
     public Set<Method> getClassMethods() {
@@ -439,6 +518,16 @@ public final class ClassReflectionIndex {
     }
 
 
+    private static final class Methods {
+        final Map<String, Map<ParamList, Map<Class<?>, Method>>> byType = new HashMap<String, Map<ParamList, Map<Class<?>, Method>>>();
+        final Map<String, Map<ParamNameList, Map<String, Method>>> byTypeName = new HashMap<String, Map<ParamNameList, Map<String, Method>>>();
+    }
+
+    private static final class Constructors {
+        final Map<ParamList, Constructor<?>> byType = new HashMap<ParamList, Constructor<?>>();
+        final Map<ParamNameList, Constructor<?>> byTypeName = new HashMap<ParamNameList, Constructor<?>>();
+    }
+
     private static final class ParamList {
         private final Class<?>[] types;
         private final int hashCode;
@@ -22,21 +22,22 @@
 
 package org.jboss.as.server.deployment.reflect;
 
-import java.security.AccessController;
-import java.security.PrivilegedAction;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.as.server.logging.ServerLogger;
 import org.jboss.as.server.security.ServerPermission;
 
 /**
  * A reflection index for a deployment.
+ * <p/>
+ * The index can be used concurrently. Creating a {@link ClassReflectionIndex} is cheap, as its members are only
+ * indexed when they are first looked up.
  *
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
  */
 public final class DeploymentReflectionIndex {
-    private final Map<Class<?>, ClassReflectionIndex> classes = new HashMap<Class<?>, ClassReflectionIndex>();
+    private final Map<Class<?>, ClassReflectionIndex> classes = new ConcurrentHashMap<>();
 
     DeploymentReflectionIndex() {
     }
@@ -61,17 +62,11 @@ public final class DeploymentReflectionIndex {
      * @return the index
      */
     @SuppressWarnings({"unchecked"})
-    public synchronized ClassReflectionIndex getClassIndex(Class clazz) {
+    public ClassReflectionIndex getClassIndex(Class clazz) {
         try {
             ClassReflectionIndex index = classes.get(clazz);
             if (index == null) {
-                final SecurityManager sm = System.getSecurityManager();
-                if (sm == null) {
-                    index = new ClassReflectionIndex(clazz, this);
-                } else {
-                    index = AccessController.doPrivileged((PrivilegedAction<ClassReflectionIndex>) () -> new ClassReflectionIndex(clazz, this));
-                }
-                classes.put(clazz, index);
+                index = classes.computeIfAbsent(clazz, c -> new ClassReflectionIndex(c, this));
             }
             return index;
         } catch (Throwable e) {
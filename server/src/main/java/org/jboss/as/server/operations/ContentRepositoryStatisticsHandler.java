@@ -0,0 +1,90 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.server.operations;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CONTENT;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleOperationDefinition;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.repository.ContentRepository;
+import org.jboss.as.server.controller.descriptions.ServerDescriptions;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Handler reading the statistics of the locks of the contents of the content repository.
+ */
+public class ContentRepositoryStatisticsHandler implements OperationStepHandler {
+
+    public static final String OPERATION_NAME = "read-content-repository-statistics";
+
+    static final String CONTENDED_LOCK_REQUESTS = "contended-lock-requests";
+    static final String LOCK_TIMEOUTS = "lock-timeouts";
+    static final String AVERAGE_LOCK_WAIT_TIME = "average-lock-wait-time";
+    static final String MAX_LOCK_WAIT_TIME = "max-lock-wait-time";
+
+    private static final AttributeDefinition CONTENDED_LOCK_REQUESTS_DEFINITION = new SimpleAttributeDefinitionBuilder(CONTENDED_LOCK_REQUESTS, ModelType.LONG)
+            .build();
+    private static final AttributeDefinition LOCK_TIMEOUTS_DEFINITION = new SimpleAttributeDefinitionBuilder(LOCK_TIMEOUTS, ModelType.LONG)
+            .build();
+    private static final AttributeDefinition AVERAGE_LOCK_WAIT_TIME_DEFINITION = new SimpleAttributeDefinitionBuilder(AVERAGE_LOCK_WAIT_TIME, ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .build();
+    private static final AttributeDefinition MAX_LOCK_WAIT_TIME_DEFINITION = new SimpleAttributeDefinitionBuilder(MAX_LOCK_WAIT_TIME, ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .build();
+
+    public static final SimpleOperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder(OPERATION_NAME,
+                ServerDescriptions.getResourceDescriptionResolver(CONTENT))
+                .setReadOnly()
+                .setRuntimeOnly()
+                .setReplyType(ModelType.OBJECT)
+                .setReplyParameters(CONTENDED_LOCK_REQUESTS_DEFINITION, LOCK_TIMEOUTS_DEFINITION, AVERAGE_LOCK_WAIT_TIME_DEFINITION, MAX_LOCK_WAIT_TIME_DEFINITION)
+                .build();
+
+    private final ContentRepository contentRepository;
+
+    public static ContentRepositoryStatisticsHandler createOperation(final ContentRepository contentRepository) {
+        return new ContentRepositoryStatisticsHandler(contentRepository);
+    }
+
+    private ContentRepositoryStatisticsHandler(final ContentRepository contentRepository) {
+        this.contentRepository = contentRepository;
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final ModelNode result = context.getResult();
+        result.get(CONTENDED_LOCK_REQUESTS).set(contentRepository.getContendedLockCount());
+        result.get(LOCK_TIMEOUTS).set(contentRepository.getLockTimeoutCount());
+        result.get(AVERAGE_LOCK_WAIT_TIME).set(contentRepository.getAverageLockWaitTime());
+        result.get(MAX_LOCK_WAIT_TIME).set(contentRepository.getMaxLockWaitTime());
+    }
+}
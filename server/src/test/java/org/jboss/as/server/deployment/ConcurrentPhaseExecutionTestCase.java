@@ -0,0 +1,221 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.server.deployment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.jboss.msc.service.StartException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Runs the processors of a phase with {@link DeploymentUnitPhaseService.ConcurrentPhaseExecution} on a real executor.
+ */
+public class ConcurrentPhaseExecutionTestCase {
+
+    private static final int THREADS = 4;
+
+    private static final AttachmentKey<String> A = AttachmentKey.create(String.class);
+    private static final AttachmentKey<String> B = AttachmentKey.create(String.class);
+    private static final AttachmentKey<String> C = AttachmentKey.create(String.class);
+    private static final AttachmentKey<String> D = AttachmentKey.create(String.class);
+
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+    private ExecutorService executor;
+
+    @Before
+    public void createExecutor() {
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @After
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testIndependentProcessorsRunConcurrently() throws Exception {
+        // each processor waits for all the others to have started, which only happens if they run concurrently
+        final CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        final TestProcessor[] processors = new TestProcessor[THREADS];
+        final AttachmentKey<?>[] written = {A, B, C, D};
+        for (int i = 0; i < THREADS; i++) {
+            processors[i] = new TestProcessor(i, keys(), keys(written[i])) {
+                @Override
+                void run() throws Exception {
+                    barrier.await(10, TimeUnit.SECONDS);
+                }
+            };
+        }
+        execute(processors);
+        Assert.assertEquals(2 * THREADS, events.size());
+    }
+
+    @Test
+    public void testDependencyOrder() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            events.clear();
+            execute(new TestProcessor(0, keys(), keys(A)),
+                    new TestProcessor(1, keys(A), keys(B)),
+                    new TestProcessor(2, keys(A), keys(C)),
+                    new TestProcessor(3, null, null),
+                    new TestProcessor(4, keys(B), keys()),
+                    new TestProcessor(5, keys(C), keys()),
+                    new TestProcessor(6, keys(), keys(B)));
+            Assert.assertEquals(14, events.size());
+            assertBefore(0, 1);
+            assertBefore(0, 2);
+            assertBefore(1, 3);
+            assertBefore(2, 3);
+            assertBefore(3, 4);
+            assertBefore(3, 5);
+            assertBefore(4, 6);
+            assertBefore(1, 6);
+        }
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        // the failing processor depends on the two first ones, so they have run when it fails
+        final TestProcessor failing = new TestProcessor(2, keys(A, B), keys(C)) {
+            @Override
+            void run() throws Exception {
+                throw new DeploymentUnitProcessingException("failed");
+            }
+        };
+        try {
+            execute(new TestProcessor(0, keys(), keys(A)),
+                    new TestProcessor(1, keys(), keys(B)),
+                    failing,
+                    new TestProcessor(3, keys(C), keys()),
+                    new TestProcessor(4, null, null));
+            Assert.fail("The phase should have failed");
+        } catch (StartException expected) {
+            Assert.assertTrue(expected.getCause() instanceof DeploymentUnitProcessingException);
+        }
+        // nothing is started after the failure
+        Assert.assertFalse(events.contains("deploy 3"));
+        Assert.assertFalse(events.contains("deploy 4"));
+        // the started processors, including the failed one, are undeployed in the reverse order of the chain
+        final List<String> undeployed = new ArrayList<>();
+        for (String event : events) {
+            if (event.startsWith("undeploy")) {
+                undeployed.add(event);
+            }
+        }
+        Assert.assertEquals(Arrays.asList("undeploy 2", "undeploy 1", "undeploy 0"), undeployed);
+    }
+
+    private void execute(final TestProcessor... processors) throws StartException {
+        final EnumMap<Phase, List<RegisteredDeploymentUnitProcessor>> phases = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, Collections.emptyList());
+        }
+        final List<RegisteredDeploymentUnitProcessor> chain = new ArrayList<>();
+        for (int i = 0; i < processors.length; i++) {
+            chain.add(new RegisteredDeploymentUnitProcessor(i, processors[i], "test"));
+        }
+        phases.put(Phase.PARSE, chain);
+        final DeployerChains chains = new DeployerChains(phases);
+        final DeployerChains.ProcessorGraph graph = chains.getGraph(Phase.PARSE);
+        Assert.assertNotNull(graph);
+        final DeploymentUnit deploymentUnit = new DeploymentUnitImpl(null, "test.jar", null);
+        new DeploymentUnitPhaseService.ConcurrentPhaseExecution(deploymentUnit, Phase.PARSE, chain, graph, null,
+                chains.getStatistics(), new DeploymentTimings(), THREADS).execute(executor);
+    }
+
+    /**
+     * Checks that the first processor completed before the second one started.
+     */
+    private void assertBefore(final int first, final int second) {
+        final int end = events.indexOf("end " + first);
+        final int start = events.indexOf("deploy " + second);
+        Assert.assertTrue(events.toString(), end >= 0 && start >= 0 && end < start);
+    }
+
+    private static Set<AttachmentKey<?>> keys(final AttachmentKey<?>... keys) {
+        return new HashSet<>(Arrays.asList(keys));
+    }
+
+    private class TestProcessor implements DeploymentUnitProcessor {
+        private final int index;
+        private final Set<AttachmentKey<?>> read;
+        private final Set<AttachmentKey<?>> written;
+
+        TestProcessor(final int index, final Set<AttachmentKey<?>> read, final Set<AttachmentKey<?>> written) {
+            this.index = index;
+            this.read = read;
+            this.written = written;
+        }
+
+        void run() throws Exception {
+            // give the processors which should not run concurrently a chance to do so
+            Thread.sleep(1);
+        }
+
+        @Override
+        public void deploy(final DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
+            events.add("deploy " + index);
+            try {
+                run();
+            } catch (DeploymentUnitProcessingException e) {
+                throw e;
+            } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+                throw new DeploymentUnitProcessingException(e);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            events.add("end " + index);
+        }
+
+        @Override
+        public void undeploy(final DeploymentUnit context) {
+            events.add("undeploy " + index);
+        }
+
+        @Override
+        public Set<AttachmentKey<?>> getReadAttachments() {
+            return read;
+        }
+
+        @Override
+        public Set<AttachmentKey<?>> getWrittenAttachments() {
+            return written;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.deployment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.as.server.deployment.module.ManifestExtensionListProcessor;
+import org.jboss.as.server.deployment.module.ManifestExtensionNameProcessor;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DeployerChainsTestCase {
+
+    private static final AttachmentKey<String> A = AttachmentKey.create(String.class);
+    private static final AttachmentKey<String> B = AttachmentKey.create(String.class);
+    private static final AttachmentKey<String> C = AttachmentKey.create(String.class);
+
+    @Test
+    public void testUndeclaredProcessorsAreSerial() {
+        final DeployerChains chains = createChains(new TestProcessor(null, null), new TestProcessor(null, null), new TestProcessor(null, null));
+        Assert.assertNull(chains.getGraph(Phase.PARSE));
+        Assert.assertNull(chains.getGraph(Phase.STRUCTURE));
+    }
+
+    @Test
+    public void testDependencies() {
+        final DeployerChains chains = createChains(
+                new TestProcessor(keys(), keys(A)),      // 0 writes A
+                new TestProcessor(keys(A), keys(B)),     // 1 reads A, so depends on 0
+                new TestProcessor(keys(A), keys(C)),     // 2 reads A, so depends on 0, but not on 1
+                new TestProcessor(null, null),           // 3 undeclared, depends on all the previous ones
+                new TestProcessor(keys(B), keys()),      // 4 reads B, so depends on 1 and 3
+                new TestProcessor(keys(C), keys()),      // 5 reads C, so depends on 2 and 3, but not on 4
+                new TestProcessor(keys(), keys(B)));     // 6 writes B, so depends on 1, 3 and 4
+        final DeployerChains.ProcessorGraph graph = chains.getGraph(Phase.PARSE);
+        Assert.assertNotNull(graph);
+        Assert.assertEquals(7, graph.size());
+        Assert.assertArrayEquals(new int[] {0, 1, 1, 3, 2, 2, 3}, predecessorCounts(graph));
+        Assert.assertArrayEquals(new int[] {1, 2, 3}, graph.getSuccessors(0));
+        Assert.assertArrayEquals(new int[] {3, 4, 6}, graph.getSuccessors(1));
+        Assert.assertArrayEquals(new int[] {3, 5}, graph.getSuccessors(2));
+        Assert.assertArrayEquals(new int[] {4, 5, 6}, graph.getSuccessors(3));
+        Assert.assertArrayEquals(new int[] {6}, graph.getSuccessors(4));
+        Assert.assertArrayEquals(new int[0], graph.getSuccessors(5));
+        Assert.assertArrayEquals(new int[0], graph.getSuccessors(6));
+    }
+
+    @Test
+    public void testServerProcessors() {
+        final DeployerChains chains = createChains(new ManifestExtensionListProcessor(), new ManifestExtensionNameProcessor(), new ServiceLoaderProcessor());
+        final DeployerChains.ProcessorGraph graph = chains.getGraph(Phase.PARSE);
+        Assert.assertNotNull(graph);
+        // Both manifest processors add next phase dependencies, but the service loader processor is independent
+        Assert.assertArrayEquals(new int[] {0, 1, 0}, predecessorCounts(graph));
+    }
+
+    private static DeployerChains createChains(final DeploymentUnitProcessor... processors) {
+        final EnumMap<Phase, List<RegisteredDeploymentUnitProcessor>> phases = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, Collections.emptyList());
+        }
+        final List<RegisteredDeploymentUnitProcessor> chain = new ArrayList<>();
+        for (int i = 0; i < processors.length; i++) {
+            chain.add(new RegisteredDeploymentUnitProcessor(i, processors[i], "test"));
+        }
+        phases.put(Phase.PARSE, chain);
+        return new DeployerChains(phases);
+    }
+
+    private static int[] predecessorCounts(final DeployerChains.ProcessorGraph graph) {
+        final int[] counts = new int[graph.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = graph.getPredecessorCount(i);
+        }
+        return counts;
+    }
+
+    private static Set<AttachmentKey<?>> keys(final AttachmentKey<?>... keys) {
+        return new HashSet<>(Arrays.asList(keys));
+    }
+
+    private static final class TestProcessor implements DeploymentUnitProcessor {
+        private final Set<AttachmentKey<?>> read;
+        private final Set<AttachmentKey<?>> written;
+
+        TestProcessor(final Set<AttachmentKey<?>> read, final Set<AttachmentKey<?>> written) {
+            this.read = read;
+            this.written = written;
+        }
+
+        @Override
+        public void deploy(final DeploymentPhaseContext phaseContext) {
+        }
+
+        @Override
+        public void undeploy(final DeploymentUnit context) {
+        }
+
+        @Override
+        public Set<AttachmentKey<?>> getReadAttachments() {
+            return read;
+        }
+
+        @Override
+        public Set<AttachmentKey<?>> getWrittenAttachments() {
+            return written;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.deployment;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DeploymentProcessingStatisticsTestCase {
+
+    private static final RegisteredDeploymentUnitProcessor FAST = new RegisteredDeploymentUnitProcessor(1, new ServiceLoaderProcessor(), "fast");
+    private static final RegisteredDeploymentUnitProcessor SLOW = new RegisteredDeploymentUnitProcessor(2, new ServiceLoaderProcessor(), "slow");
+
+    @Test
+    public void testHistogram() {
+        final DeploymentProcessingStatistics.Histogram histogram = new DeploymentProcessingStatistics.Histogram();
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(500));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(3));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(4));
+        histogram.record(TimeUnit.HOURS.toNanos(1));
+
+        final long[] counts = histogram.getCounts();
+        Assert.assertEquals(1, counts[0]); // < 1 ms
+        Assert.assertEquals(1, counts[1]); // < 2 ms
+        Assert.assertEquals(1, counts[2]); // < 4 ms
+        Assert.assertEquals(1, counts[3]); // < 8 ms
+        Assert.assertEquals(1, counts[DeploymentProcessingStatistics.Histogram.BUCKETS - 1]);
+        Assert.assertEquals(4, DeploymentProcessingStatistics.Histogram.getBound(2));
+        Assert.assertEquals(-1, DeploymentProcessingStatistics.Histogram.getBound(DeploymentProcessingStatistics.Histogram.BUCKETS - 1));
+    }
+
+    @Test
+    public void testStatistics() {
+        final DeploymentProcessingStatistics statistics = new DeploymentProcessingStatistics();
+        statistics.recordProcessor(Phase.PARSE, FAST, TimeUnit.MILLISECONDS.toNanos(1));
+        statistics.recordProcessor(Phase.PARSE, SLOW, TimeUnit.MILLISECONDS.toNanos(10));
+        statistics.recordProcessor(Phase.PARSE, FAST, TimeUnit.MILLISECONDS.toNanos(2));
+        statistics.recordPhase(Phase.PARSE, TimeUnit.MILLISECONDS.toNanos(13));
+
+        final List<DeploymentProcessingStatistics.ProcessorStatistics> processors = statistics.getProcessorStatistics();
+        Assert.assertEquals(2, processors.size());
+        Assert.assertSame(SLOW, processors.get(0).getProcessor());
+        Assert.assertSame(FAST, processors.get(1).getProcessor());
+        Assert.assertEquals(2, processors.get(1).getCount());
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(3), processors.get(1).getTotalTime());
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(2), processors.get(1).getMaxTime());
+
+        final ModelNode result = DeploymentProcessingStatisticsHandler.buildStatisticsInfo(statistics);
+        Assert.assertEquals(1, result.get("phases", Phase.PARSE.name(), "count").asLong());
+        Assert.assertEquals(13.0, result.get("phases", Phase.PARSE.name(), "total-time").asDouble(), 0.0);
+        Assert.assertEquals(0, result.get("phases", Phase.INSTALL.name(), "count").asLong());
+        Assert.assertEquals(3, result.get("processors", "count").asLong());
+        final ModelNode slow = result.get("processor-times").get(0);
+        Assert.assertEquals("slow", slow.get("subsystem").asString());
+        Assert.assertEquals(Phase.PARSE.name(), slow.get("phase").asString());
+        Assert.assertEquals(10.0, slow.get("max-time").asDouble(), 0.0);
+    }
+
+    @Test
+    public void testDeploymentTimings() {
+        final DeploymentTimings timings = new DeploymentTimings();
+        timings.recordProcessor(Phase.STRUCTURE, FAST, TimeUnit.MICROSECONDS.toNanos(1500));
+        timings.recordPhase(Phase.STRUCTURE, TimeUnit.MILLISECONDS.toNanos(2));
+        timings.recordProcessor(Phase.PARSE, FAST, TimeUnit.MILLISECONDS.toNanos(1));
+        timings.recordProcessor(Phase.PARSE, SLOW, TimeUnit.MILLISECONDS.toNanos(5));
+        timings.recordPhase(Phase.PARSE, TimeUnit.MILLISECONDS.toNanos(6));
+
+        Assert.assertEquals(2, timings.getPhaseTimes().size());
+        Assert.assertFalse(timings.getPhaseTimes().containsKey(Phase.INSTALL));
+
+        final ModelNode result = DeploymentProcessingTimesHandler.buildTimingsInfo(timings);
+        Assert.assertEquals(8.0, result.get("total-time").asDouble(), 0.0);
+        Assert.assertEquals(1.5, result.get("phases", Phase.STRUCTURE.name(), "processors").get(0).get("time").asDouble(), 0.0);
+        final List<ModelNode> parse = result.get("phases", Phase.PARSE.name(), "processors").asList();
+        Assert.assertEquals(2, parse.size());
+        Assert.assertEquals("slow", parse.get(0).get("subsystem").asString());
+        Assert.assertEquals(2, parse.get(0).get("priority").asInt());
+        Assert.assertEquals(ServiceLoaderProcessor.class.getName(), parse.get(0).get("processor").asString());
+        Assert.assertFalse(result.get("phases").has(Phase.INSTALL.name()));
+    }
+
+    @Test
+    public void testDeploymentTimingsOfRestartedPhase() {
+        final DeploymentTimings timings = new DeploymentTimings();
+        timings.recordProcessor(Phase.STRUCTURE, FAST, TimeUnit.MILLISECONDS.toNanos(1));
+        timings.recordPhase(Phase.STRUCTURE, TimeUnit.MILLISECONDS.toNanos(1));
+        for (int i = 1; i <= 3; i++) {
+            timings.startPhase(Phase.PARSE);
+            Assert.assertFalse(timings.getPhaseTimes().containsKey(Phase.PARSE));
+            timings.recordProcessor(Phase.PARSE, FAST, TimeUnit.MILLISECONDS.toNanos(i));
+            timings.recordProcessor(Phase.PARSE, SLOW, TimeUnit.MILLISECONDS.toNanos(i));
+            timings.recordPhase(Phase.PARSE, TimeUnit.MILLISECONDS.toNanos(2 * i));
+        }
+
+        final List<DeploymentTimings.ProcessorTime> processorTimes = timings.getProcessorTimes();
+        Assert.assertEquals(3, processorTimes.size());
+        Assert.assertEquals(Phase.STRUCTURE, processorTimes.get(0).getPhase());
+        Assert.assertSame(FAST, processorTimes.get(1).getProcessor());
+        Assert.assertSame(SLOW, processorTimes.get(2).getProcessor());
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(3), processorTimes.get(2).getTime());
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(6), timings.getPhaseTimes().get(Phase.PARSE).longValue());
+    }
+}
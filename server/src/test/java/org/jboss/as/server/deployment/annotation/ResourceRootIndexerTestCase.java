@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.deployment.annotation;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.as.server.deployment.Attachments;
+import org.jboss.as.server.deployment.module.ResourceRoot;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.vfs.VFS;
+import org.jboss.vfs.VFSUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ResourceRootIndexerTestCase {
+
+    private Path root;
+    private Path cacheDirectory;
+
+    @Before
+    public void setup() throws Exception {
+        root = Files.createTempDirectory("resource-root");
+        cacheDirectory = Files.createTempDirectory("annotation-index");
+        Path classFile = root.resolve(ResourceRootIndexerTestCase.class.getName().replace('.', '/') + ".class");
+        Files.createDirectories(classFile.getParent());
+        try (InputStream in = ResourceRootIndexerTestCase.class.getResourceAsStream(ResourceRootIndexerTestCase.class.getSimpleName() + ".class")) {
+            Files.copy(in, classFile);
+        }
+    }
+
+    @After
+    public void cleanup() throws Exception {
+        VFSUtils.recursiveDelete(root.toFile());
+        VFSUtils.recursiveDelete(cacheDirectory.toFile());
+    }
+
+    @Test
+    public void testCachedIndex() throws Exception {
+        AnnotationIndexCache cache = new AnnotationIndexCache(cacheDirectory);
+
+        Index generated = index(cache);
+        Assert.assertNotNull(generated.getClassByName(DotName.createSimple(ResourceRootIndexerTestCase.class.getName())));
+        List<Path> cached = listCache();
+        Assert.assertEquals(1, cached.size());
+
+        // Reading the same root again uses the stored index
+        Index read = index(cache);
+        Assert.assertNotSame(generated, read);
+        Assert.assertNotNull(read.getClassByName(DotName.createSimple(ResourceRootIndexerTestCase.class.getName())));
+        Assert.assertEquals(cached, listCache());
+
+        // A class rebuilt with the same content keeps its index
+        Path classFile = root.resolve(ResourceRootIndexerTestCase.class.getName().replace('.', '/') + ".class");
+        FileTime lastModified = Files.getLastModifiedTime(classFile);
+        Files.setLastModifiedTime(classFile, FileTime.fromMillis(lastModified.toMillis() - 60000));
+        index(cache);
+        Assert.assertEquals(cached, listCache());
+
+        // A modified class gets a new index, even with the same size and timestamp
+        byte[] bytes = Files.readAllBytes(classFile);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(classFile, bytes);
+        Files.setLastModifiedTime(classFile, lastModified);
+        index(cache);
+        Assert.assertEquals(2, listCache().size());
+    }
+
+    @Test
+    public void testUnreadableCachedIndex() throws Exception {
+        AnnotationIndexCache cache = new AnnotationIndexCache(cacheDirectory);
+        index(cache);
+        Path cached = listCache().get(0);
+        Files.write(cached, new byte[] {1, 2, 3});
+
+        Index index = index(cache);
+        Assert.assertNotNull(index.getClassByName(DotName.createSimple(ResourceRootIndexerTestCase.class.getName())));
+    }
+
+    private Index index(AnnotationIndexCache cache) throws Exception {
+        ResourceRoot resourceRoot = new ResourceRoot(VFS.getChild(root.toUri()), null);
+        ResourceRootIndexer.indexResourceRoot(resourceRoot, cache);
+        return resourceRoot.getAttachment(Attachments.ANNOTATION_INDEX);
+    }
+
+    private List<Path> listCache() throws Exception {
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            List<Path> result = files.collect(Collectors.toList());
+            Collections.sort(result);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.server.deployment.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
+import org.jboss.vfs.VFSUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IndexFileStoreTestCase {
+
+    private Path directory;
+
+    @Before
+    public void setup() throws Exception {
+        directory = Files.createTempDirectory("index-store");
+    }
+
+    @After
+    public void cleanup() throws Exception {
+        VFSUtils.recursiveDelete(directory.toFile());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIndexesAreDeleted() throws Exception {
+        IndexFileStore store = new IndexFileStore(directory);
+        for (int i = 0; i < IndexFileStore.MAX_INDEXES; i++) {
+            write(store, "index" + i);
+            Files.setLastModifiedTime(store.getFile("index" + i), FileTime.fromMillis(1000L * (i + 1)));
+        }
+        Assert.assertEquals(IndexFileStore.MAX_INDEXES, countIndexes());
+
+        // Replacing an index does not add one
+        write(store, "index1");
+        Assert.assertEquals(IndexFileStore.MAX_INDEXES, countIndexes());
+        Files.setLastModifiedTime(store.getFile("index1"), FileTime.fromMillis(1000L * (IndexFileStore.MAX_INDEXES + 1)));
+
+        // Reading an index makes it the most recently used
+        Assert.assertEquals("index0", store.read("index0", in -> new String(readAll(in), StandardCharsets.UTF_8)));
+
+        write(store, "added");
+        Assert.assertEquals(IndexFileStore.MAX_INDEXES, countIndexes());
+        Assert.assertTrue(Files.exists(store.getFile("index0")));
+        Assert.assertTrue(Files.exists(store.getFile("index1")));
+        Assert.assertTrue(Files.exists(store.getFile("added")));
+        Assert.assertFalse(Files.exists(store.getFile("index2")));
+        Assert.assertNull(store.read("index2", in -> "index2"));
+    }
+
+    @Test
+    public void testExistingIndexesAreCounted() throws Exception {
+        IndexFileStore store = new IndexFileStore(directory);
+        for (int i = 0; i < IndexFileStore.MAX_INDEXES; i++) {
+            write(store, "index" + i);
+            Files.setLastModifiedTime(store.getFile("index" + i), FileTime.fromMillis(1000L * (i + 1)));
+        }
+
+        // A new store lists the directory on its first write
+        store = new IndexFileStore(directory);
+        write(store, "added");
+        Assert.assertEquals(IndexFileStore.MAX_INDEXES, countIndexes());
+        Assert.assertTrue(Files.exists(store.getFile("added")));
+        Assert.assertFalse(Files.exists(store.getFile("index0")));
+    }
+
+    private static void write(IndexFileStore store, String key) throws Exception {
+        store.write(key, out -> out.write(key.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        VFSUtils.copyStream(in, out);
+        return out.toByteArray();
+    }
+
+    private long countIndexes() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
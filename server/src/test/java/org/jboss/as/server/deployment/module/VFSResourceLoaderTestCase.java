@@ -0,0 +1,128 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.deployment.module;
+
+import java.io.Closeable;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.jboss.vfs.TempFileProvider;
+import org.jboss.vfs.VFS;
+import org.jboss.vfs.VFSUtils;
+import org.jboss.vfs.VirtualFile;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class VFSResourceLoaderTestCase {
+
+    private Path directory;
+    private ScheduledExecutorService executor;
+    private TempFileProvider tempFileProvider;
+    private Closeable mount;
+    private VirtualFile root;
+    private File archive;
+
+    @Before
+    public void setup() throws Exception {
+        directory = Files.createTempDirectory("resource-loader");
+        archive = directory.resolve("test.jar").toFile();
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(archive.toPath()))) {
+            addEntry(out, "META-INF/MANIFEST.MF", "Manifest-Version: 1.0\n");
+            addEntry(out, "org/example/Foo.class", "foo");
+            addEntry(out, "org/example/impl/Bar.class", "bar");
+            addEntry(out, "config.properties", "a=b");
+        }
+        executor = Executors.newSingleThreadScheduledExecutor();
+        tempFileProvider = TempFileProvider.create("test", executor, true);
+        root = VFS.getChild(directory.resolve("mount").toUri());
+        mount = VFS.mountZip(archive, root, tempFileProvider);
+    }
+
+    @After
+    public void cleanup() throws Exception {
+        VFSUtils.safeClose(mount);
+        VFSUtils.safeClose(tempFileProvider);
+        executor.shutdownNow();
+        VFSUtils.recursiveDelete(directory.toFile());
+    }
+
+    @Test
+    public void testIndexedLoader() throws Exception {
+        final VFSResourceLoader plain = new VFSResourceLoader("test", root);
+        final VFSResourceLoader indexed = new VFSResourceLoader("test", root, false, VFSResourceIndex.create(root));
+
+        Assert.assertEquals(new HashSet<>(plain.getPaths()), new HashSet<>(indexed.getPaths()));
+        Assert.assertTrue(indexed.getPaths().contains("org/example/impl"));
+
+        for (String name : new String[] {"config.properties", "/config.properties", "org/example/Foo.class", "org/example", "missing.txt"}) {
+            Assert.assertEquals(name, plain.getResource(name) == null, indexed.getResource(name) == null);
+        }
+        Assert.assertEquals("config.properties", indexed.getResource("config.properties").getName());
+        Assert.assertNull(indexed.getClassSpec("org/example/Missing.class"));
+        Assert.assertArrayEquals("bar".getBytes(StandardCharsets.UTF_8), indexed.getClassSpec("org/example/impl/Bar.class").getBytes());
+    }
+
+    @Test
+    public void testCachedIndex() throws Exception {
+        final VFSResourceIndexCache cache = new VFSResourceIndexCache(directory.resolve("cache"));
+        final String key = VFSResourceIndexCache.createKey(root, archive, Collections.emptySet());
+        Assert.assertNull(cache.read(key));
+
+        final VFSResourceIndex index = VFSResourceIndex.create(root);
+        cache.write(key, index);
+        final VFSResourceIndex read = cache.read(key);
+        Assert.assertNotNull(read);
+        Assert.assertEquals(index.getPaths(), read.getPaths());
+        Assert.assertEquals(index.size(), read.size());
+        Assert.assertTrue(read.contains("org/example/Foo.class"));
+
+        // Overlays and changed archives get their own index, while the timestamp of the archive doesn't matter
+        Assert.assertNotEquals(key, VFSResourceIndexCache.createKey(root, archive, Collections.singleton("config.properties")));
+        Assert.assertTrue(archive.setLastModified(archive.lastModified() - 60000));
+        Assert.assertEquals(key, VFSResourceIndexCache.createKey(root, archive, Collections.emptySet()));
+        final File changed = directory.resolve("changed.jar").toFile();
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(changed.toPath()))) {
+            addEntry(out, "META-INF/MANIFEST.MF", "Manifest-Version: 1.0\n");
+            addEntry(out, "org/example/Foo.class", "foo");
+            addEntry(out, "org/example/impl/Bar.class", "baz");
+            addEntry(out, "config.properties", "a=b");
+        }
+        Assert.assertNotEquals(key, VFSResourceIndexCache.createKey(root, changed, Collections.emptySet()));
+    }
+
+    private static void addEntry(final ZipOutputStream out, final String name, final String content) throws Exception {
+        out.putNextEntry(new ZipEntry(name));
+        out.write(content.getBytes(StandardCharsets.UTF_8));
+        out.closeEntry();
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.deployment.reflect;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.server.ServerEnvironment;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DeploymentReflectionIndexTestCase {
+
+    private static final int THREADS = 8;
+    private static final int CLASSES = 300;
+    private static final int ITERATIONS = 20;
+
+    @Test
+    public void testConcurrentLookups() throws Exception {
+        final List<Class<?>> classes = collectClasses();
+        final DeploymentReflectionIndex index = new DeploymentReflectionIndex();
+        final CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<Map<Class<?>, ClassReflectionIndex>>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                final int offset = i * (classes.size() / THREADS);
+                futures.add(executor.submit((Callable<Map<Class<?>, ClassReflectionIndex>>) () -> {
+                    final Map<Class<?>, ClassReflectionIndex> seen = new IdentityHashMap<>();
+                    barrier.await();
+                    for (int j = 0; j < ITERATIONS; j++) {
+                        for (int k = 0; k < classes.size(); k++) {
+                            final Class<?> clazz = classes.get((offset + k) % classes.size());
+                            final ClassReflectionIndex classIndex = index.getClassIndex(clazz);
+                            classIndex.getMethods();
+                            classIndex.getFields();
+                            final ClassReflectionIndex previous = seen.put(clazz, classIndex);
+                            Assert.assertTrue(previous == null || previous == classIndex);
+                        }
+                    }
+                    return seen;
+                }));
+            }
+            final List<Map<Class<?>, ClassReflectionIndex>> results = new ArrayList<>();
+            for (Future<Map<Class<?>, ClassReflectionIndex>> future : futures) {
+                results.add(future.get(1, TimeUnit.MINUTES));
+            }
+
+            // All the threads must have got the same index for a class
+            for (Class<?> clazz : classes) {
+                final ClassReflectionIndex classIndex = index.getClassIndex(clazz);
+                for (Map<Class<?>, ClassReflectionIndex> result : results) {
+                    Assert.assertSame(clazz.getName(), classIndex, result.get(clazz));
+                }
+                Assert.assertEquals(clazz.getName(), clazz.getDeclaredFields().length, classIndex.getFields().size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testLookups() throws Exception {
+        final DeploymentReflectionIndex index = new DeploymentReflectionIndex();
+        final ClassReflectionIndex classIndex = index.getClassIndex(Sample.class);
+        Assert.assertSame(Sample.class, classIndex.getIndexedClass());
+
+        final Field field = classIndex.getField("value");
+        Assert.assertNotNull(field);
+        Assert.assertTrue(field.isAccessible());
+        Assert.assertNull(classIndex.getField("missing"));
+
+        final Method method = classIndex.getMethod(int.class, "add", int.class);
+        Assert.assertNotNull(method);
+        Assert.assertTrue(method.isAccessible());
+        Assert.assertSame(method, classIndex.getMethod("int", "add", "int"));
+        Assert.assertSame(method, classIndex.getMethod(method));
+        Assert.assertEquals(2, classIndex.getAllMethods("add").size());
+        Assert.assertEquals(1, classIndex.getAllMethods("add", 2).size());
+
+        Assert.assertEquals(2, classIndex.getConstructors().size());
+        Assert.assertNotNull(classIndex.getConstructor(int.class));
+        Assert.assertNotNull(classIndex.getConstructor("int"));
+        Assert.assertNull(classIndex.getConstructor(String.class));
+
+        final Set<Method> classMethods = classIndex.getClassMethods();
+        Assert.assertTrue(classMethods.contains(method));
+        Assert.assertTrue(classMethods.contains(index.getClassIndex(Object.class).getMethod(String.class, "toString")));
+    }
+
+    @Test
+    public void testIndexingFailureIsKept() throws Exception {
+        final Class<?> clazz = new HidingClassLoader().loadClass(Referrer.class.getName());
+        final DeploymentReflectionIndex index = new DeploymentReflectionIndex();
+        final ClassReflectionIndex classIndex = index.getClassIndex(clazz);
+        Assert.assertSame(clazz, classIndex.getIndexedClass());
+        Assert.assertNotNull(classIndex.getFields());
+
+        RuntimeException failure = null;
+        try {
+            classIndex.getMethods();
+            Assert.fail("Indexing the methods of " + clazz + " should have failed");
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getCause() instanceof NoClassDefFoundError);
+            failure = e;
+        }
+        try {
+            classIndex.getMethod(Hidden.class, "get");
+            Assert.fail("Indexing the methods of " + clazz + " should have failed");
+        } catch (RuntimeException e) {
+            // a new exception for each lookup, with the same cause
+            Assert.assertNotSame(failure, e);
+            Assert.assertSame(failure.getCause(), e.getCause());
+        }
+    }
+
+    @Test
+    public void testConcurrentFirstLookups() throws Exception {
+        final Method add = Sample.class.getDeclaredMethod("add", int.class);
+        final Field value = Sample.class.getDeclaredField("value");
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int i = 0; i < ITERATIONS; i++) {
+                final ClassReflectionIndex classIndex = new DeploymentReflectionIndex().getClassIndex(Sample.class);
+                final CyclicBarrier barrier = new CyclicBarrier(THREADS);
+                final List<Future<Object[]>> futures = new ArrayList<>();
+                for (int j = 0; j < THREADS; j++) {
+                    futures.add(executor.submit(() -> {
+                        barrier.await();
+                        return new Object[] {classIndex.getMethod(add), classIndex.getField("value"), classIndex.getConstructor(int.class)};
+                    }));
+                }
+                final Object[] first = futures.get(0).get(1, TimeUnit.MINUTES);
+                Assert.assertEquals(add, first[0]);
+                Assert.assertEquals(value, first[1]);
+                for (Future<Object[]> future : futures) {
+                    final Object[] members = future.get(1, TimeUnit.MINUTES);
+                    // all the threads must get the canonical members
+                    for (int k = 0; k < members.length; k++) {
+                        Assert.assertSame(first[k], members[k]);
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Collects the classes reachable from the signatures of a few classes of the server, skipping the JDK classes whose
+     * members cannot be made accessible.
+     */
+    private static List<Class<?>> collectClasses() {
+        final Set<Class<?>> classes = new LinkedHashSet<>();
+        final Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(DeploymentUnit.class);
+        queue.add(ServerEnvironment.class);
+        queue.add(OperationContext.class);
+        while (!queue.isEmpty() && classes.size() < CLASSES) {
+            final Class<?> clazz = queue.poll();
+            if (clazz.isPrimitive() || clazz.isArray() || clazz.getClassLoader() == null || !classes.add(clazz)) {
+                continue;
+            }
+            for (Method method : clazz.getMethods()) {
+                queue.add(method.getReturnType());
+                for (Class<?> type : method.getParameterTypes()) {
+                    queue.add(type);
+                }
+            }
+        }
+        return new ArrayList<>(classes);
+    }
+
+    /**
+     * Loads {@link Referrer} itself and fails to load {@link Hidden}, so the methods of the loaded class cannot be
+     * resolved.
+     */
+    private static class HidingClassLoader extends ClassLoader {
+        HidingClassLoader() {
+            super(DeploymentReflectionIndexTestCase.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            if (name.equals(Hidden.class.getName())) {
+                throw new ClassNotFoundException(name);
+            }
+            if (!name.equals(Referrer.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> clazz = findLoadedClass(name);
+                if (clazz == null) {
+                    final String resource = name.replace('.', '/') + ".class";
+                    try (InputStream in = getParent().getResourceAsStream(resource)) {
+                        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        final byte[] buffer = new byte[4096];
+                        int read;
+                        while ((read = in.read(buffer)) != -1) {
+                            out.write(buffer, 0, read);
+                        }
+                        final byte[] bytes = out.toByteArray();
+                        clazz = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+                return clazz;
+            }
+        }
+    }
+
+    public static class Hidden {
+    }
+
+    @SuppressWarnings("unused")
+    public static class Referrer {
+        private int value;
+
+        public Hidden get() {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Sample {
+        private int value;
+
+        Sample() {
+        }
+
+        Sample(final int value) {
+            this.value = value;
+        }
+
+        int add(final int i) {
+            return value + i;
+        }
+
+        int add(final int i, final int j) {
+            return value + i + j;
+        }
+    }
+}